@@ -11,4 +11,6 @@ dependencies {
     implementation(catalog.findLibrary("spring-tx").get())
     implementation(catalog.findLibrary("spring-context-support").get())
     implementation(catalog.findLibrary("angus-mail").get())
+    implementation(catalog.findLibrary("micrometer-core").get())
+    implementation(catalog.findLibrary("caffeine").get())
 }
@@ -1,24 +1,131 @@
 package me.chan99k.learningmanager.authentication;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * BCrypt 해싱과 검증을 전용 스레드 풀에서 실행하는 PasswordEncoder.
+ * <p>
+ * BCrypt 는 의도적으로 CPU 를 오래 쓰므로 요청 스레드에서 바로 돌리면 로그인이 몰릴 때 모든 코어를 점유해 다른 API 까지 느려진다.
+ * 동시 실행 수를 기본적으로 코어 수로 제한하고 대기열도 고정 크기로 두어, 대기열이 가득 차면 기다리지 않고
+ * RejectedExecutionException 을 던진다(API 에서는 503 으로 응답된다). 대기열에서 기다린 시간은 lm.password.hash.wait 로 기록한다.
+ * <p>
+ * 저장된 해시의 작업 비용(cost)이 설정값과 다르면 upgradeEncoding 이 true 를 돌려주어, 로그인 성공 시 다시 해싱하도록 한다.
+ */
 @Component
-public class BcryptPasswordEncoderAdapter implements PasswordEncoder {
+public class BcryptPasswordEncoderAdapter implements PasswordEncoder, DisposableBean {
+
+	private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$.{53}\\z");
 
 	private final BCryptPasswordEncoder delegate;
+	private final int strength;
+	private final ThreadPoolExecutor executor;
+	private final Counter rejectedCounter;
+	private final Timer encodeWaitTimer;
+	private final Timer matchesWaitTimer;
 
-	public BcryptPasswordEncoderAdapter() {
-		this.delegate = new BCryptPasswordEncoder();
+	public BcryptPasswordEncoderAdapter(
+		MeterRegistry meterRegistry,
+		@Value("${auth.password.bcrypt.strength:10}") int strength,
+		@Value("${auth.password.hashing.threads:0}") int threads,
+		@Value("${auth.password.hashing.queue-capacity:64}") int queueCapacity
+	) {
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		this.delegate = new BCryptPasswordEncoder(strength);
+		this.strength = strength;
+		this.executor = new ThreadPoolExecutor(
+			poolSize, poolSize,
+			0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			Thread.ofPlatform().name("password-hash-", 0).daemon().factory(),
+			new ThreadPoolExecutor.AbortPolicy()
+		);
+		this.rejectedCounter = Counter.builder("lm.password.hash.rejected")
+			.description("해싱 실행기가 포화 상태라 거절된 요청 수")
+			.register(meterRegistry);
+		this.encodeWaitTimer = waitTimer(meterRegistry, "encode");
+		this.matchesWaitTimer = waitTimer(meterRegistry, "matches");
+		Gauge.builder("lm.password.hash.queued", executor, pool -> pool.getQueue().size())
+			.description("해싱 실행기 대기열에 쌓인 요청 수")
+			.register(meterRegistry);
 	}
 
 	@Override
 	public String encode(String rawPassword) {
-		return delegate.encode(rawPassword);
+		return execute(encodeWaitTimer, () -> delegate.encode(rawPassword));
 	}
 
 	@Override
 	public boolean matches(String rawPassword, String encodedPassword) {
-		return delegate.matches(rawPassword, encodedPassword);
+		return execute(matchesWaitTimer, () -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		if (encodedPassword == null) {
+			return false;
+		}
+		Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+		if (!matcher.matches()) {
+			return false;
+		}
+		return Integer.parseInt(matcher.group(1)) != strength;
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdown();
+	}
+
+	private static Timer waitTimer(MeterRegistry meterRegistry, String operation) {
+		return Timer.builder("lm.password.hash.wait")
+			.description("해싱 요청이 실행기 대기열에서 기다린 시간")
+			.tag("operation", operation)
+			.register(meterRegistry);
+	}
+
+	private <T> T execute(Timer waitTimer, Supplier<T> task) {
+		long submittedAt = System.nanoTime();
+
+		Future<T> future;
+		try {
+			future = executor.submit(() -> {
+				waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+				return task.get();
+			});
+		} catch (RejectedExecutionException e) {
+			rejectedCounter.increment();
+			throw new RejectedExecutionException("[System] 비밀번호 해싱 요청이 많아 처리할 수 없습니다.", e);
+		}
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("[System] 비밀번호 해싱 중 인터럽트되었습니다.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException("[System] 비밀번호 해싱에 실패했습니다.", e.getCause());
+		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,296 @@
+package me.chan99k.learningmanager.authentication;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * 만료 시각이 있는 토큰을 보관하고, 계층형 타이밍 휠로 만료된 토큰을 정리하는 저장소.
+ * <p>
+ * 각 항목은 만료 시각이 속한 틱의 버킷(이중 연결 리스트)에 들어가므로 등록과 삭제가 O(1) 이다.
+ * 최하위 휠의 범위를 넘는 만료 시각은 틱이 wheelSize 배씩 커지는 상위 휠에 두었다가, 그 버킷의 시작 시각이 되면
+ * 하위 휠로 내린다. 시간이 흐를 때는 도래한 버킷만 비우므로 정리 비용은 전체 항목 수가 아니라 만료되는 항목 수에 비례한다.
+ * <p>
+ * 조회는 잠금 없이 맵에서 읽고, 휠을 건드리는 변경은 모두 이 객체로 동기화한다. 만료 여부의 최종 판단은 각 저장소가 하며,
+ * 이 저장소는 만료된 항목이 메모리에 남지 않게 하는 역할만 한다. 최대 크기에 닿으면 만료된 항목을 먼저 정리하고,
+ * 그래도 가득 차 있으면 가장 먼저 만료될 버킷의 항목을 내보낸다.
+ */
+public final class ExpiringTokenStore<V> {
+
+	private final String name;
+	private final Clock clock;
+	private final int wheelSize;
+	private final int maxSize;
+	private final BiConsumer<String, V> expiryListener;
+	private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+	private final List<Wheel<V>> wheels = new ArrayList<>();
+	private final AtomicLong expiredCount = new AtomicLong();
+	private final AtomicLong evictedCount = new AtomicLong();
+
+	ExpiringTokenStore(String name, Clock clock, long tickMillis, int wheelSize, int maxSize,
+		BiConsumer<String, V> expiryListener) {
+		if (tickMillis <= 0 || wheelSize <= 1 || maxSize <= 0) {
+			throw new IllegalArgumentException(
+				"[System] 토큰 저장소 설정이 올바르지 않습니다. tickMillis=" + tickMillis
+					+ ", wheelSize=" + wheelSize + ", maxSize=" + maxSize);
+		}
+		this.name = name;
+		this.clock = clock;
+		this.wheelSize = wheelSize;
+		this.maxSize = maxSize;
+		this.expiryListener = expiryListener;
+		this.wheels.add(new Wheel<>(tickMillis, wheelSize, clock.millis() / tickMillis));
+	}
+
+	public V get(String key) {
+		Entry<V> entry = entries.get(key);
+		return entry == null ? null : entry.value;
+	}
+
+	public synchronized void put(String key, V value, Instant expiresAt) {
+		Entry<V> previous = entries.remove(key);
+		if (previous != null) {
+			previous.unlink();
+		} else if (entries.size() >= maxSize) {
+			makeRoom();
+		}
+
+		Entry<V> entry = new Entry<>(key, value, expiresAt.toEpochMilli());
+		place(entry);
+		entries.put(key, entry);
+	}
+
+	public synchronized V remove(String key) {
+		Entry<V> entry = entries.remove(key);
+		if (entry == null) {
+			return null;
+		}
+		entry.unlink();
+		return entry.value;
+	}
+
+	/**
+	 * 현재 시각까지 도래한 버킷을 비우고, 만료되어 제거한 항목 수를 돌려준다.
+	 */
+	public synchronized int expireNow() {
+		long now = clock.millis();
+		List<Entry<V>> due = new ArrayList<>();
+		List<Entry<V>> cascaded = new ArrayList<>();
+
+		// 최하위 휠: 틱 구간 전체가 현재 시각 이전인 버킷은 모두 만료
+		Wheel<V> lowest = wheels.get(0);
+		long lowestTarget = now / lowest.tickMillis;
+		if (lowestTarget > lowest.currentTick) {
+			lowest.drain(lowest.currentTick, lowestTarget - 1, due);
+			lowest.currentTick = lowestTarget;
+		}
+
+		// 상위 휠: 시작 시각이 지난 버킷은 하위 휠로 내린다
+		for (int level = 1; level < wheels.size(); level++) {
+			Wheel<V> wheel = wheels.get(level);
+			long target = now / wheel.tickMillis;
+			if (target > wheel.currentTick) {
+				wheel.drain(wheel.currentTick + 1, target, cascaded);
+				wheel.currentTick = target;
+			}
+		}
+		for (Entry<V> entry : cascaded) {
+			if (entry.isExpired(now)) {
+				due.add(entry);
+			} else {
+				place(entry);
+			}
+		}
+
+		// 현재 틱 버킷에서는 이미 만료 시각이 지난 항목만 골라낸다
+		lowest.bucket(lowest.currentTick).drainExpired(now, due);
+
+		int expired = 0;
+		for (Entry<V> entry : due) {
+			if (entries.remove(entry.key, entry)) {
+				expiryListener.accept(entry.key, entry.value);
+				expired++;
+			}
+		}
+		expiredCount.addAndGet(expired);
+		return expired;
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public String name() {
+		return name;
+	}
+
+	long expiredCount() {
+		return expiredCount.get();
+	}
+
+	long evictedCount() {
+		return evictedCount.get();
+	}
+
+	private void makeRoom() {
+		expireNow();
+		if (entries.size() < maxSize) {
+			return;
+		}
+
+		for (Wheel<V> wheel : wheels) {
+			Entry<V> victim = wheel.first();
+			if (victim != null) {
+				victim.unlink();
+				entries.remove(victim.key, victim);
+				expiryListener.accept(victim.key, victim.value);
+				evictedCount.incrementAndGet();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 만료 시각을 담을 수 있는 가장 낮은 휠에 넣는다. 필요하면 상위 휠을 만든다.
+	 */
+	private void place(Entry<V> entry) {
+		for (int level = 0; ; level++) {
+			if (level == wheels.size()) {
+				Wheel<V> top = wheels.get(level - 1);
+				wheels.add(new Wheel<>(top.tickMillis * wheelSize, wheelSize, top.currentTick / wheelSize));
+			}
+
+			Wheel<V> wheel = wheels.get(level);
+			long tick = entry.expiresAtMillis / wheel.tickMillis;
+			if (level == 0 && tick < wheel.currentTick) {
+				// 이미 지난 만료 시각은 다음 정리 때 바로 처리되도록 현재 틱 버킷에 둔다
+				wheel.bucket(wheel.currentTick).add(entry);
+				return;
+			}
+			if (tick < wheel.currentTick + wheelSize) {
+				wheel.bucket(tick).add(entry);
+				return;
+			}
+		}
+	}
+
+	private static final class Wheel<V> {
+
+		private final long tickMillis;
+		private final List<Bucket<V>> buckets;
+		private long currentTick;
+
+		private Wheel(long tickMillis, int wheelSize, long currentTick) {
+			this.tickMillis = tickMillis;
+			this.currentTick = currentTick;
+			this.buckets = new ArrayList<>(wheelSize);
+			for (int i = 0; i < wheelSize; i++) {
+				buckets.add(new Bucket<>());
+			}
+		}
+
+		private Bucket<V> bucket(long tick) {
+			return buckets.get(Math.floorMod(tick, buckets.size()));
+		}
+
+		/**
+		 * fromTick 부터 toTick 까지(포함) 버킷을 비운다. 한 바퀴를 넘는 구간이면 모든 버킷을 한 번씩만 비운다.
+		 */
+		private void drain(long fromTick, long toTick, List<Entry<V>> out) {
+			long count = Math.min(toTick - fromTick + 1, buckets.size());
+			for (long tick = fromTick; tick < fromTick + count; tick++) {
+				bucket(tick).drainTo(out);
+			}
+		}
+
+		private Entry<V> first() {
+			for (int offset = 0; offset < buckets.size(); offset++) {
+				Entry<V> entry = bucket(currentTick + offset).first();
+				if (entry != null) {
+					return entry;
+				}
+			}
+			return null;
+		}
+	}
+
+	private static final class Bucket<V> {
+
+		private final Entry<V> head = new Entry<>(null, null, 0);
+
+		private Bucket() {
+			head.prev = head;
+			head.next = head;
+		}
+
+		private void add(Entry<V> entry) {
+			entry.bucket = this;
+			entry.prev = head.prev;
+			entry.next = head;
+			head.prev.next = entry;
+			head.prev = entry;
+		}
+
+		private Entry<V> first() {
+			return head.next == head ? null : head.next;
+		}
+
+		private void drainTo(List<Entry<V>> out) {
+			Entry<V> entry = head.next;
+			while (entry != head) {
+				Entry<V> next = entry.next;
+				entry.unlink();
+				out.add(entry);
+				entry = next;
+			}
+		}
+
+		private void drainExpired(long now, List<Entry<V>> out) {
+			Entry<V> entry = head.next;
+			while (entry != head) {
+				Entry<V> next = entry.next;
+				if (entry.isExpired(now)) {
+					entry.unlink();
+					out.add(entry);
+				}
+				entry = next;
+			}
+		}
+	}
+
+	private static final class Entry<V> {
+
+		private final String key;
+		private final V value;
+		private final long expiresAtMillis;
+		private Bucket<V> bucket;
+		private Entry<V> prev;
+		private Entry<V> next;
+
+		private Entry(String key, V value, long expiresAtMillis) {
+			this.key = key;
+			this.value = value;
+			this.expiresAtMillis = expiresAtMillis;
+		}
+
+		private boolean isExpired(long now) {
+			return now > expiresAtMillis;
+		}
+
+		private void unlink() {
+			if (bucket == null) {
+				return;
+			}
+			prev.next = next;
+			next.prev = prev;
+			prev = null;
+			next = null;
+			bucket = null;
+		}
+	}
+}
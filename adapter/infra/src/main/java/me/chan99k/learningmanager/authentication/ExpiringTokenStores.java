@@ -0,0 +1,80 @@
+package me.chan99k.learningmanager.authentication;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 인메모리 토큰 저장소들이 공유하는 ExpiringTokenStore 를 만들고, 한 스케줄러로 모두의 타이밍 휠을 진행시킨다.
+ * <p>
+ * 저장소마다 보관 중인 토큰 수(live)와 만료/용량 초과로 제거된 누적 수(expired, evicted)를 store 태그로 노출한다.
+ */
+@Component
+public class ExpiringTokenStores {
+
+	private static final String METRIC = "lm.authentication.token-store";
+
+	private final Clock clock;
+	private final MeterRegistry meterRegistry;
+	private final long tickMillis;
+	private final int wheelSize;
+	private final int maxSize;
+	private final List<ExpiringTokenStore<?>> stores = new CopyOnWriteArrayList<>();
+
+	public ExpiringTokenStores(
+		Clock clock,
+		MeterRegistry meterRegistry,
+		@Value("${auth.token-store.tick-millis:1000}") long tickMillis,
+		@Value("${auth.token-store.wheel-size:64}") int wheelSize,
+		@Value("${auth.token-store.max-size:100000}") int maxSize
+	) {
+		this.clock = clock;
+		this.meterRegistry = meterRegistry;
+		this.tickMillis = tickMillis;
+		this.wheelSize = wheelSize;
+		this.maxSize = maxSize;
+	}
+
+	public <V> ExpiringTokenStore<V> create(String name) {
+		return create(name, (token, value) -> {
+		});
+	}
+
+	/**
+	 * @param expiryListener 만료되거나 용량 초과로 밀려난 토큰마다 호출된다. 저장소의 잠금 안에서 호출되므로 짧게 유지해야 한다.
+	 */
+	public <V> ExpiringTokenStore<V> create(String name, BiConsumer<String, V> expiryListener) {
+		ExpiringTokenStore<V> store = new ExpiringTokenStore<>(
+			name, clock, tickMillis, wheelSize, maxSize, expiryListener);
+
+		Gauge.builder(METRIC + ".live", store, ExpiringTokenStore::size)
+			.tag("store", name)
+			.description("보관 중인 토큰 수")
+			.register(meterRegistry);
+		FunctionCounter.builder(METRIC + ".expired", store, ExpiringTokenStore::expiredCount)
+			.tag("store", name)
+			.description("만료되어 제거된 토큰 수")
+			.register(meterRegistry);
+		FunctionCounter.builder(METRIC + ".evicted", store, ExpiringTokenStore::evictedCount)
+			.tag("store", name)
+			.description("최대 크기에 닿아 만료 전에 제거된 토큰 수")
+			.register(meterRegistry);
+
+		stores.add(store);
+		return store;
+	}
+
+	@Scheduled(fixedDelayString = "${auth.token-store.tick-millis:1000}")
+	public void expireAll() {
+		stores.forEach(ExpiringTokenStore::expireNow);
+	}
+}
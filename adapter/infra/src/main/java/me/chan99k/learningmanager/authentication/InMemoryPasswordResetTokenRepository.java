@@ -2,7 +2,6 @@ package me.chan99k.learningmanager.authentication;
 
 import java.time.Instant;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
@@ -12,18 +11,20 @@ import me.chan99k.learningmanager.member.Email;
 @Repository
 public class InMemoryPasswordResetTokenRepository {
 
-	private final ConcurrentHashMap<String, TokenData> tokenStore = new ConcurrentHashMap<>();
+	private final ExpiringTokenStore<TokenData> tokenStore;
 	private final long validityInSeconds;
 
 	public InMemoryPasswordResetTokenRepository(
-		@Value("${auth.password-reset-token.validity-in-seconds:1500}") long validityInSeconds
+		@Value("${auth.password-reset-token.validity-in-seconds:1500}") long validityInSeconds,
+		ExpiringTokenStores expiringTokenStores
 	) {
 		this.validityInSeconds = validityInSeconds;
+		this.tokenStore = expiringTokenStores.create("password-reset-token");
 	}
 
 	public void save(String token, Email email) {
 		Instant expiresAt = Instant.now().plusSeconds(validityInSeconds);
-		tokenStore.put(token, new TokenData(email.address(), expiresAt));
+		tokenStore.put(token, new TokenData(email.address(), expiresAt), expiresAt);
 	}
 
 	public Optional<String> findEmailByToken(String token) {
@@ -2,23 +2,40 @@ package me.chan99k.learningmanager.authentication;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
+/**
+ * 단일 인스턴스용 Refresh Token 저장소. 여러 인스턴스가 토큰을 공유해야 하면 lm-refresh-token-db 프로파일로 DB 저장소를 쓴다.
+ * <p>
+ * 만료된 토큰은 ExpiringTokenStore 의 타이밍 휠이 정리하고, 폐기된 토큰은 별도 집합으로 추적해 deleteExpiredTokens 에서 지운다.
+ */
 @Repository
+@Profile("!lm-refresh-token-db")
 public class InMemoryRefreshTokenRepository implements RefreshTokenRepository {
-	private final Map<String, RefreshToken> tokenStore = new ConcurrentHashMap<>();
+	private final ExpiringTokenStore<RefreshToken> tokenStore;
 	private final Map<Long, String> memberTokenIndex = new ConcurrentHashMap<>();
+	private final Set<String> revokedTokens = ConcurrentHashMap.newKeySet();
+
+	public InMemoryRefreshTokenRepository(ExpiringTokenStores expiringTokenStores) {
+		this.tokenStore = expiringTokenStores.create("refresh-token", (token, refreshToken) -> {
+			memberTokenIndex.remove(refreshToken.getMemberId(), token);
+			revokedTokens.remove(token);
+		});
+	}
 
 	@Override
 	public RefreshToken save(RefreshToken refreshToken) {
 		String existingToken = memberTokenIndex.get(refreshToken.getMemberId());
 		if (existingToken != null) {
 			tokenStore.remove(existingToken);
+			revokedTokens.remove(existingToken);
 		}
 
-		tokenStore.put(refreshToken.getToken(), refreshToken);
+		tokenStore.put(refreshToken.getToken(), refreshToken, refreshToken.getExpiresAt());
 		memberTokenIndex.put(refreshToken.getMemberId(), refreshToken.getToken());
 
 		return refreshToken;
@@ -29,39 +46,56 @@ public class InMemoryRefreshTokenRepository implements RefreshTokenRepository {
 		return Optional.ofNullable(tokenStore.get(token));
 	}
 
+	@Override
+	public boolean rotate(String currentToken, RefreshToken next) {
+		RefreshToken current = tokenStore.get(currentToken);
+		if (current == null || !current.isUsable() || !current.getMemberId().equals(next.getMemberId())) {
+			return false;
+		}
+
+		// 회원 인덱스를 CAS 로 교체해 같은 토큰으로 동시에 들어온 갱신 요청 중 하나만 성공시킨다
+		if (!memberTokenIndex.replace(current.getMemberId(), currentToken, next.getToken())) {
+			return false;
+		}
+		tokenStore.put(next.getToken(), next, next.getExpiresAt());
+		tokenStore.remove(currentToken);
+		return true;
+	}
+
 	@Override
 	public void revokeAllByMemberId(Long memberId) {
 		String token = memberTokenIndex.remove(memberId);
 		if (token != null) {
-			RefreshToken refreshToken = tokenStore.get(token);
-			if (refreshToken != null) {
-				refreshToken.revoke();
-			}
+			revoke(token);
 		}
 	}
 
 	@Override
 	public void revokeByToken(String token) {
-		RefreshToken refreshToken = tokenStore.get(token);
+		RefreshToken refreshToken = revoke(token);
 		if (refreshToken != null) {
-			refreshToken.revoke();
 			memberTokenIndex.remove(refreshToken.getMemberId());
 		}
 	}
 
 	@Override
 	public int deleteExpiredTokens() {
-		int count = 0;
-		var iterator = tokenStore.entrySet().iterator();
-		while (iterator.hasNext()) {
-			var entry = iterator.next();
-			RefreshToken token = entry.getValue();
-			if (token.isExpired() || token.isRevoked()) {
-				memberTokenIndex.remove(token.getMemberId());
-				iterator.remove();
+		int count = tokenStore.expireNow();
+		for (String token : revokedTokens) {
+			revokedTokens.remove(token);
+			if (tokenStore.remove(token) != null) {
 				count++;
 			}
 		}
 		return count;
 	}
+
+	private RefreshToken revoke(String token) {
+		RefreshToken refreshToken = tokenStore.get(token);
+		if (refreshToken != null) {
+			refreshToken.revoke();
+			revokedTokens.add(token);
+		}
+		return refreshToken;
+	}
 }
@@ -2,25 +2,26 @@ package me.chan99k.learningmanager.authentication;
 
 import java.time.Instant;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class InMemorySignUpConfirmTokenRepository {
-	private final ConcurrentHashMap<String, TokenData> tokenStore = new ConcurrentHashMap<>();
+	private final ExpiringTokenStore<TokenData> tokenStore;
 	private final long validityInSeconds;
 
 	public InMemorySignUpConfirmTokenRepository(
-		@Value("${auth.signup-confirm-token.validity-in-seconds:1500}") long validityInSeconds
+		@Value("${auth.signup-confirm-token.validity-in-seconds:1500}") long validityInSeconds,
+		ExpiringTokenStores expiringTokenStores
 	) {
 		this.validityInSeconds = validityInSeconds;
+		this.tokenStore = expiringTokenStores.create("signup-confirm-token");
 	}
 
 	public void save(String token, String email) {
 		Instant expiresAt = Instant.now().plusSeconds(validityInSeconds);
-		tokenStore.put(token, new TokenData(email, expiresAt));
+		tokenStore.put(token, new TokenData(email, expiresAt), expiresAt);
 	}
 
 	public Optional<String> findEmailByToken(String token) {
@@ -1,5 +1,6 @@
 package me.chan99k.learningmanager.authentication;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.Date;
 import java.util.UUID;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -20,15 +22,20 @@ import me.chan99k.learningmanager.exception.DomainException;
 public class JwtProviderAdapter implements JwtProvider {
 
 	private final SecretKey secretKey;
+	private final JwtParser parser; // 불변 & thread-safe 이므로 요청마다 새로 만들지 않고 재사용
+	private final VerifiedTokenCache verifiedTokenCache;
 	private final long accessTokenExpirationSeconds;
 	private final String issuer;
 
 	public JwtProviderAdapter(
 		@Value("${auth.jwt.secret}") String secret,
 		@Value("${auth.jwt.access-token.expiration-seconds}") long accessTokenExpirationSeconds,
-		@Value("${auth.jwt.access-token.issuer}") String issuer
+		@Value("${auth.jwt.access-token.issuer}") String issuer,
+		@Value("${auth.jwt.verified-token-cache.max-size:10000}") int verifiedTokenCacheMaxSize
 	) {
 		this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+		this.parser = Jwts.parser().verifyWith(secretKey).build();
+		this.verifiedTokenCache = new VerifiedTokenCache(verifiedTokenCacheMaxSize, Clock.systemUTC());
 		this.accessTokenExpirationSeconds = accessTokenExpirationSeconds;
 		this.issuer = issuer;
 	}
@@ -53,36 +60,46 @@ public class JwtProviderAdapter implements JwtProvider {
 
 	@Override
 	public Claims validateAndGetClaims(String token) {
-		try {
-			var claims = Jwts.parser()
-				.verifyWith(secretKey)
-				.build()
-				.parseSignedClaims(token)
-				.getPayload();
-
-			Long memberId = claims.get("member_id", Long.class);
-			String email = claims.get("email", String.class);
-			Instant expiresAt = claims.getExpiration().toInstant();
-
-			return new Claims(memberId, email, expiresAt);
-
-		} catch (ExpiredJwtException e) {
-			throw new DomainException(AuthProblemCode.EXPIRED_TOKEN);
-		} catch (JwtException e) {
-			throw new DomainException(AuthProblemCode.INVALID_TOKEN);
+		VerificationResult result = verify(token);
+		if (!result.isVerified()) {
+			throw new DomainException(result.failure());
 		}
+		return result.claims();
 	}
 
 	@Override
 	public boolean isValid(String token) {
+		return verify(token).isVerified();
+	}
+
+	@Override
+	public VerificationResult verify(String token) {
+		Claims cached = verifiedTokenCache.get(token);
+		if (cached != null) {
+			return VerificationResult.verified(cached);
+		}
+
 		try {
-			Jwts.parser()
-				.verifyWith(secretKey)
-				.build()
-				.parseSignedClaims(token);
-			return true;
-		} catch (JwtException e) {
-			return false;
+			var payload = parser.parseSignedClaims(token).getPayload();
+
+			Date expiration = payload.getExpiration();
+			if (expiration == null) {
+				return VerificationResult.rejected(AuthProblemCode.INVALID_TOKEN);
+			}
+
+			Claims claims = new Claims(
+				payload.get("member_id", Long.class),
+				payload.get("email", String.class),
+				expiration.toInstant()
+			);
+			verifiedTokenCache.put(token, claims);
+
+			return VerificationResult.verified(claims);
+
+		} catch (ExpiredJwtException e) {
+			return VerificationResult.rejected(AuthProblemCode.EXPIRED_TOKEN);
+		} catch (JwtException | IllegalArgumentException e) {
+			return VerificationResult.rejected(AuthProblemCode.INVALID_TOKEN);
 		}
 	}
 
@@ -0,0 +1,91 @@
+package me.chan99k.learningmanager.authentication;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * 서명 검증을 통과한 Access Token 의 클레임을 만료 시각(exp)까지 보관하는 캐시.
+ * <p>
+ * 토큰 원문 대신 SHA-256 해시를 키로 사용한다. 항목마다 토큰의 exp 에 맞춰 만료되고, 최대 크기를 넘으면
+ * Caffeine 이 자주 쓰이지 않는 항목부터 내보낸다 (검증은 캐시에 없으면 정상 수행되므로 정확성에는 영향 없음).
+ */
+final class VerifiedTokenCache {
+
+	private final Cache<String, JwtProvider.Claims> entries;
+	private final boolean enabled;
+	private final Clock clock;
+
+	VerifiedTokenCache(int maxSize, Clock clock) {
+		this.enabled = maxSize > 0;
+		this.clock = clock;
+		this.entries = Caffeine.newBuilder()
+			.maximumSize(Math.max(maxSize, 0))
+			.expireAfter(new UntilTokenExpiry())
+			.ticker(() -> toNanos(clock.instant()))
+			.executor(Runnable::run)
+			.build();
+	}
+
+	JwtProvider.Claims get(String token) {
+		if (!enabled) {
+			return null;
+		}
+		return entries.getIfPresent(hash(token));
+	}
+
+	void put(String token, JwtProvider.Claims claims) {
+		if (!enabled || !claims.expiresAt().isAfter(clock.instant())) {
+			return;
+		}
+		entries.put(hash(token), claims);
+	}
+
+	int size() {
+		entries.cleanUp();
+		return (int)entries.estimatedSize();
+	}
+
+	private String hash(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("[System] SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
+
+	private static long toNanos(Instant instant) {
+		return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+	}
+
+	/**
+	 * ticker 가 Clock 기준 epoch 나노초를 돌려주므로, 남은 수명은 exp 를 같은 단위로 바꿔 빼면 된다.
+	 */
+	private static final class UntilTokenExpiry implements Expiry<String, JwtProvider.Claims> {
+
+		@Override
+		public long expireAfterCreate(String key, JwtProvider.Claims claims, long currentTime) {
+			return Math.max(0, toNanos(claims.expiresAt()) - currentTime);
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, JwtProvider.Claims claims, long currentTime,
+			long currentDuration) {
+			return expireAfterCreate(key, claims, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, JwtProvider.Claims claims, long currentTime,
+			long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
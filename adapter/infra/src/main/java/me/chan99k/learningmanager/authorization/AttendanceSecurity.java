@@ -1,6 +1,6 @@
 package me.chan99k.learningmanager.authorization;
 
-import java.util.List;
+import java.util.EnumSet;
 import java.util.Optional;
 import java.util.Set;
 
@@ -8,37 +8,36 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import me.chan99k.learningmanager.attendance.Attendance;
-import me.chan99k.learningmanager.attendance.AttendanceQueryRepository;
+import me.chan99k.learningmanager.attendance.AttendanceLookupMemo;
 import me.chan99k.learningmanager.attendance.CorrectionRequested;
 import me.chan99k.learningmanager.course.CourseRole;
 import me.chan99k.learningmanager.member.SystemRole;
 import me.chan99k.learningmanager.session.Session;
-import me.chan99k.learningmanager.session.SessionQueryRepository;
 
 @Service("attendanceSecurity")
 @Transactional(readOnly = true)
 public class AttendanceSecurity implements AttendanceSecurityPort {
 
-	private final AttendanceQueryRepository attendanceQueryRepository;
-	private final SessionQueryRepository sessionQueryRepository;
+	private static final Set<CourseRole> CORRECTION_REQUESTER_ROLES =
+		EnumSet.of(CourseRole.MENTOR, CourseRole.MANAGER, CourseRole.LEAD_MANAGER);
+
+	private final AttendanceLookupMemo attendanceLookupMemo;
 	private final SystemAuthorizationPort systemAuthorizationPort;
 	private final CourseAuthorizationPort courseAuthorizationPort;
 
 	public AttendanceSecurity(
-		AttendanceQueryRepository attendanceQueryRepository,
-		SessionQueryRepository sessionQueryRepository,
+		AttendanceLookupMemo attendanceLookupMemo,
 		SystemAuthorizationPort systemAuthorizationPort,
 		CourseAuthorizationPort courseAuthorizationPort
 	) {
-		this.attendanceQueryRepository = attendanceQueryRepository;
-		this.sessionQueryRepository = sessionQueryRepository;
+		this.attendanceLookupMemo = attendanceLookupMemo;
 		this.systemAuthorizationPort = systemAuthorizationPort;
 		this.courseAuthorizationPort = courseAuthorizationPort;
 	}
 
 	@Override
 	public boolean canRequestCorrection(String attendanceId, Long memberId) {
-		Optional<Attendance> foundAttendance = attendanceQueryRepository.findById(attendanceId);
+		Optional<Attendance> foundAttendance = attendanceLookupMemo.findAttendanceById(attendanceId);
 		if (foundAttendance.isEmpty()) {
 			return false;
 		}
@@ -49,7 +48,7 @@ public class AttendanceSecurity implements AttendanceSecurityPort {
 		}
 
 		var attendance = foundAttendance.get();
-		Optional<Session> foundSession = sessionQueryRepository.findById(attendance.getSessionId());
+		Optional<Session> foundSession = attendanceLookupMemo.findSessionById(attendance.getSessionId());
 		if (foundSession.isEmpty()) {
 			return false;
 		}
@@ -60,16 +59,13 @@ public class AttendanceSecurity implements AttendanceSecurityPort {
 		}
 
 		// CourseRole 확인
-		return courseAuthorizationPort.hasAnyRole(
-			memberId,
-			courseId,
-			List.of(CourseRole.MENTOR, CourseRole.MANAGER, CourseRole.LEAD_MANAGER)
-		);
+		Set<CourseRole> roles = courseAuthorizationPort.getRoles(memberId, courseId);
+		return roles.stream().anyMatch(CORRECTION_REQUESTER_ROLES::contains);
 	}
 
 	@Override
 	public boolean canApproveCorrection(String attendanceId, Long memberId) {
-		Optional<Attendance> foundAttendance = attendanceQueryRepository.findById(attendanceId);
+		Optional<Attendance> foundAttendance = attendanceLookupMemo.findAttendanceById(attendanceId);
 		if (foundAttendance.isEmpty()) {
 			return false;
 		}
@@ -87,7 +83,7 @@ public class AttendanceSecurity implements AttendanceSecurityPort {
 			return true;
 		}
 
-		Optional<Session> foundSession = sessionQueryRepository.findById(attendance.getSessionId());
+		Optional<Session> foundSession = attendanceLookupMemo.findSessionById(attendance.getSessionId());
 		if (foundSession.isEmpty()) {
 			return false;
 		}
@@ -97,8 +93,8 @@ public class AttendanceSecurity implements AttendanceSecurityPort {
 			return false; // 독립 세션은 시스템 권한으로만 승인 가능 (위에서 이미 처리됨)
 		}
 
-		boolean isLeadManager = courseAuthorizationPort.hasRole(memberId, courseId, CourseRole.LEAD_MANAGER);
-		if (isLeadManager) {
+		Set<CourseRole> approverRoles = courseAuthorizationPort.getRoles(memberId, courseId);
+		if (approverRoles.contains(CourseRole.LEAD_MANAGER)) {
 			return true; // 본인의 수정 요청 포함 모두 승인 가능
 		}
 
@@ -106,26 +102,17 @@ public class AttendanceSecurity implements AttendanceSecurityPort {
 			return false; // 본인의 수정 요청을 스스로 승인하는 것을 방지
 		}
 
-		return hasHigherCourseRoleThan(memberId, pending.requestedBy(), courseId);
+		Set<CourseRole> requesterRoles = courseAuthorizationPort.getRoles(pending.requestedBy(), courseId);
+		return hasHigherCourseRoleThan(approverRoles, requesterRoles);
 	}
 
-	private boolean hasHigherCourseRoleThan(Long approverId, Long requesterId, Long courseId) {
-		boolean requesterIsMentor = courseAuthorizationPort
-			.hasRole(requesterId, courseId, CourseRole.MENTOR);
-		boolean requesterIsManager = courseAuthorizationPort
-			.hasRole(requesterId, courseId, CourseRole.MANAGER);
-
-		if (requesterIsMentor) {
-			return courseAuthorizationPort.hasAnyRole(
-				approverId, courseId,
-				List.of(CourseRole.MANAGER, CourseRole.LEAD_MANAGER)
-			);
+	private boolean hasHigherCourseRoleThan(Set<CourseRole> approverRoles, Set<CourseRole> requesterRoles) {
+		if (requesterRoles.contains(CourseRole.MENTOR)) {
+			return approverRoles.contains(CourseRole.MANAGER) || approverRoles.contains(CourseRole.LEAD_MANAGER);
 		}
 
-		if (requesterIsManager) {
-			return courseAuthorizationPort.hasRole(
-				approverId, courseId, CourseRole.LEAD_MANAGER
-			);
+		if (requesterRoles.contains(CourseRole.MANAGER)) {
+			return approverRoles.contains(CourseRole.LEAD_MANAGER);
 		}
 
 		return false;
@@ -0,0 +1,367 @@
+package me.chan99k.learningmanager.email;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * 메일을 대기열에 모았다가 한 번의 SMTP 연결로 묶어서 보내는 전송기.
+ * <p>
+ * JavaMailSender.send(MimeMessage...) 는 전달받은 메시지를 연결 하나(TLS 핸드셰이크 한 번)로 모두 보내므로,
+ * 전용 발송 스레드가 대기열에서 최대 batch-size 개씩 꺼내 한 번에 넘긴다. 500 명에게 초대 메일을 보내도
+ * 연결은 배치 수만큼만 열린다.
+ * <p>
+ * 수신 도메인마다 초당 발송 수를 제한해, 한 도메인(예: gmail.com)으로 몰리는 메일이 상대 서버의 속도 제한에
+ * 걸리지 않게 한다. 한도를 넘은 메일은 버리지 않고 보류했다가 다음 배치에서 다시 시도한다.
+ * 발송 스레드만 pending 과 도메인별 발송 수를 다루며, 요청 스레드는 대기열에 넣기만 한다.
+ * <p>
+ * 종료할 때는 shutdown-timeout 동안 남은 메일을 도메인 한도를 지키며 계속 보낸다. 그 안에 보내지 못한 메일은
+ * 실패로 완료해, 결과를 기다리던 아웃박스 발송기가 다음에 다시 시도하게 한다.
+ * <p>
+ * submit 이 돌려준 Future 를 취소하면 그 메일은 보내지 않고 버린다. 배치에 담긴 뒤에는 취소할 수 없으므로,
+ * 취소에 성공한 메일은 절대 발송되지 않는다. 결과를 기다리다 포기한 쪽이 다시 시도해도 같은 메일이 두 번 가지 않는다.
+ */
+@Component
+public class PooledMailTransport implements SmartLifecycle {
+
+	private static final Logger log = LoggerFactory.getLogger(PooledMailTransport.class);
+
+	private final JavaMailSender mailSender;
+	private final Clock clock;
+	private final int batchSize;
+	private final int queueCapacity;
+	private final int perDomainPerSecond;
+	private final long idleWaitMillis;
+	private final Duration shutdownTimeout;
+	private final BlockingQueue<OutgoingMail> queue;
+	private final Deque<OutgoingMail> pending = new ArrayDeque<>();
+	private final Map<String, DomainWindow> domainWindows = new HashMap<>();
+
+	private final Timer sendTimer;
+	private final DistributionSummary batchSizeSummary;
+	private final Counter throttledCounter;
+	private final Counter failedCounter;
+	private final Counter rejectedCounter;
+	private final Counter cancelledCounter;
+
+	private volatile boolean running;
+	private Thread dispatcher;
+
+	public PooledMailTransport(
+		JavaMailSender mailSender,
+		Clock clock,
+		MeterRegistry meterRegistry,
+		@Value("${email.transport.batch-size:50}") int batchSize,
+		@Value("${email.transport.queue-capacity:10000}") int queueCapacity,
+		@Value("${email.transport.per-domain-per-second:20}") int perDomainPerSecond,
+		@Value("${email.transport.idle-wait-millis:200}") long idleWaitMillis,
+		@Value("${email.transport.shutdown-timeout-seconds:30}") long shutdownTimeoutSeconds
+	) {
+		if (batchSize <= 0 || queueCapacity <= 0 || perDomainPerSecond <= 0 || idleWaitMillis <= 0
+			|| shutdownTimeoutSeconds < 0) {
+			throw new IllegalArgumentException(
+				"[System] 메일 전송 설정이 올바르지 않습니다. batchSize=" + batchSize + ", queueCapacity=" + queueCapacity
+					+ ", perDomainPerSecond=" + perDomainPerSecond + ", idleWaitMillis=" + idleWaitMillis
+					+ ", shutdownTimeoutSeconds=" + shutdownTimeoutSeconds);
+		}
+		this.mailSender = mailSender;
+		this.clock = clock;
+		this.batchSize = batchSize;
+		this.queueCapacity = queueCapacity;
+		this.perDomainPerSecond = perDomainPerSecond;
+		this.idleWaitMillis = idleWaitMillis;
+		this.shutdownTimeout = Duration.ofSeconds(shutdownTimeoutSeconds);
+		this.queue = new LinkedBlockingQueue<>(queueCapacity);
+
+		this.sendTimer = Timer.builder("lm.email.send")
+			.description("배치 하나를 SMTP 연결 하나로 보내는 데 걸린 시간")
+			.register(meterRegistry);
+		this.batchSizeSummary = DistributionSummary.builder("lm.email.batch.size")
+			.description("SMTP 연결 하나로 보낸 메일 수")
+			.register(meterRegistry);
+		this.throttledCounter = Counter.builder("lm.email.throttled")
+			.description("수신 도메인별 발송 한도로 보류된 횟수")
+			.register(meterRegistry);
+		this.failedCounter = Counter.builder("lm.email.failed")
+			.description("발송에 실패한 메일 수")
+			.register(meterRegistry);
+		this.rejectedCounter = Counter.builder("lm.email.rejected")
+			.description("대기열이 가득 차 받지 못한 메일 수")
+			.register(meterRegistry);
+		this.cancelledCounter = Counter.builder("lm.email.cancelled")
+			.description("배치에 담기기 전에 취소되어 보내지 않은 메일 수")
+			.register(meterRegistry);
+		Gauge.builder("lm.email.queued", queue, BlockingQueue::size)
+			.description("발송을 기다리는 메일 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 메일을 발송 대기열에 넣는다. 대기열이 가득 차면 RejectedExecutionException 을 던진다.
+	 *
+	 * @return 메일이 속한 배치를 보내고 나면 완료되는 Future. 발송에 실패하면 그 예외로 완료된다.
+	 * 배치에 담기기 전에 취소하면 발송하지 않으며, 이미 배치에 담겼으면 cancel 이 false 를 돌려준다
+	 */
+	public CompletableFuture<Void> submit(MimeMessage message, String recipient) {
+		OutgoingMail mail = new OutgoingMail(message, recipient, domainOf(recipient), new MailResult());
+		if (!queue.offer(mail)) {
+			rejectedCounter.increment();
+			throw new RejectedExecutionException("[System] 메일 발송 대기열이 가득 찼습니다. 수신자: " + recipient);
+		}
+		return mail.result();
+	}
+
+	/**
+	 * 대기 중이던 메일과 새로 들어온 메일 중 도메인 한도 안에 드는 것을 최대 batchSize 개 모아 한 연결로 보내고,
+	 * 보낸 메일 수를 돌려준다. 취소된 메일은 도메인 한도를 쓰지 않고 버린다.
+	 */
+	synchronized int flush() {
+		long currentSecond = clock.millis() / 1000;
+		domainWindows.values().removeIf(window -> window.second != currentSecond);
+
+		List<OutgoingMail> batch = new ArrayList<>(batchSize);
+		Iterator<OutgoingMail> held = pending.iterator();
+		while (held.hasNext() && batch.size() < batchSize) {
+			OutgoingMail mail = held.next();
+			if (mail.result().isCancelled()) {
+				held.remove();
+				cancelledCounter.increment();
+			} else if (tryAcquire(mail.domain(), currentSecond)) {
+				held.remove();
+				addToBatch(batch, mail);
+			}
+		}
+
+		OutgoingMail mail;
+		while (batch.size() < batchSize && pending.size() < queueCapacity && (mail = queue.poll()) != null) {
+			if (mail.result().isCancelled()) {
+				cancelledCounter.increment();
+			} else if (tryAcquire(mail.domain(), currentSecond)) {
+				addToBatch(batch, mail);
+			} else {
+				throttledCounter.increment();
+				pending.addLast(mail);
+			}
+		}
+
+		if (!batch.isEmpty()) {
+			send(batch);
+		}
+		return batch.size();
+	}
+
+	/**
+	 * 배치에 담는 순간부터는 취소할 수 없게 한다. 한도 확인과 담기 사이에 취소되었으면 버린다.
+	 */
+	private void addToBatch(List<OutgoingMail> batch, OutgoingMail mail) {
+		if (mail.result().claim()) {
+			batch.add(mail);
+		} else {
+			cancelledCounter.increment();
+		}
+	}
+
+	@Override
+	public void start() {
+		running = true;
+		dispatcher = Thread.ofPlatform().name("email-transport").daemon().unstarted(this::dispatch);
+		dispatcher.start();
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		Thread current = dispatcher;
+		if (current == null) {
+			return;
+		}
+		try {
+			// 마지막 배치가 SMTP 타임아웃 안에 끝날 여유를 더해 기다린다
+			current.join(shutdownTimeout.plusSeconds(15).toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	private void dispatch() {
+		while (running) {
+			try {
+				if (flush() == 0) {
+					awaitMail();
+				}
+			} catch (RuntimeException e) {
+				log.error("[System] 메일 배치 발송 중 예기치 못한 오류가 발생했습니다.", e);
+			}
+		}
+
+		drain(shutdownTimeout);
+	}
+
+	/**
+	 * 대기열과 보류 중인 메일이 모두 빠지거나 timeout 이 지날 때까지 보낸다. 도메인 한도에 걸려 보낼 메일이 없으면
+	 * 다음 초의 한도를 기다렸다가 다시 시도하고, timeout 이 지나도 남은 메일은 실패로 완료한다.
+	 */
+	void drain(Duration timeout) {
+		long deadline = System.nanoTime() + timeout.toNanos();
+		while (hasUnsent() && System.nanoTime() - deadline < 0) {
+			try {
+				if (flush() == 0 && !pauseUntil(deadline)) {
+					break;
+				}
+			} catch (RuntimeException e) {
+				log.error("[System] 종료 중 메일 배치 발송에 실패했습니다.", e);
+			}
+		}
+		failUnsent();
+	}
+
+	private synchronized boolean hasUnsent() {
+		return !pending.isEmpty() || !queue.isEmpty();
+	}
+
+	private boolean pauseUntil(long deadline) {
+		long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+		try {
+			Thread.sleep(Math.max(1, Math.min(idleWaitMillis, remainingMillis)));
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private synchronized void failUnsent() {
+		queue.drainTo(pending);
+		if (pending.isEmpty()) {
+			return;
+		}
+
+		log.warn("[System] 종료 시점까지 보내지 못한 메일이 {}건 있습니다.", pending.size());
+		failedCounter.increment(pending.size());
+		IllegalStateException cause = new IllegalStateException("[System] 메일 전송기가 종료되어 발송하지 못했습니다.");
+		pending.forEach(mail -> mail.result().completeExceptionally(cause));
+		pending.clear();
+	}
+
+	/**
+	 * 보낼 메일이 없거나 모두 도메인 한도에 걸렸을 때, 새 메일이 들어오거나 idleWaitMillis 가 지날 때까지 기다린다.
+	 */
+	private void awaitMail() {
+		try {
+			OutgoingMail next = queue.poll(idleWaitMillis, TimeUnit.MILLISECONDS);
+			if (next != null) {
+				synchronized (this) {
+					pending.addLast(next);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			running = false;
+		}
+	}
+
+	private void send(List<OutgoingMail> batch) {
+		MimeMessage[] messages = batch.stream().map(OutgoingMail::message).toArray(MimeMessage[]::new);
+		batchSizeSummary.record(messages.length);
+
+		Timer.Sample sample = Timer.start();
+		try {
+			mailSender.send(messages);
+			batch.forEach(mail -> mail.result().complete(null));
+		} catch (MailSendException e) {
+			Map<Object, Exception> failed = e.getFailedMessages();
+			failedCounter.increment(failed.isEmpty() ? messages.length : failed.size());
+			log.error("[System] 메일 배치 중 일부 발송 실패: batch={}, failed={}", messages.length, failed.size(), e);
+			for (OutgoingMail mail : batch) {
+				if (failed.isEmpty() || failed.containsKey(mail.message())) {
+					mail.result().completeExceptionally(failed.getOrDefault(mail.message(), e));
+				} else {
+					mail.result().complete(null);
+				}
+			}
+		} catch (RuntimeException e) {
+			failedCounter.increment(messages.length);
+			log.error("[System] 메일 배치 발송 실패: batch={}", messages.length, e);
+			batch.forEach(mail -> mail.result().completeExceptionally(e));
+		} finally {
+			sample.stop(sendTimer);
+		}
+	}
+
+	private boolean tryAcquire(String domain, long currentSecond) {
+		DomainWindow window = domainWindows.computeIfAbsent(domain, key -> new DomainWindow(currentSecond));
+		if (window.count >= perDomainPerSecond) {
+			return false;
+		}
+		window.count++;
+		return true;
+	}
+
+	private static String domainOf(String recipient) {
+		int at = recipient.lastIndexOf('@');
+		return at < 0 ? "" : recipient.substring(at + 1).toLowerCase(Locale.ROOT);
+	}
+
+	private record OutgoingMail(MimeMessage message, String recipient, String domain, MailResult result) {
+	}
+
+	/**
+	 * 발송 스레드가 배치에 담기(claim)와 호출자의 취소(cancel) 중 먼저 일어난 쪽만 성공하는 Future.
+	 */
+	private static final class MailResult extends CompletableFuture<Void> {
+
+		private final AtomicBoolean claimed = new AtomicBoolean();
+
+		private boolean claim() {
+			return claimed.compareAndSet(false, true);
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			return claimed.compareAndSet(false, true) && super.cancel(mayInterruptIfRunning);
+		}
+	}
+
+	private static final class DomainWindow {
+
+		private final long second;
+		private int count;
+
+		private DomainWindow(long second) {
+			this.second = second;
+		}
+	}
+}
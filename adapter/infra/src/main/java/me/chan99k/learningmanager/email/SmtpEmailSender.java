@@ -1,59 +1,122 @@
 package me.chan99k.learningmanager.email;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
-import me.chan99k.learningmanager.member.EmailSender;
+import me.chan99k.learningmanager.member.EmailDelivery;
+import me.chan99k.learningmanager.member.EmailOutboxMessage;
+import me.chan99k.learningmanager.member.EmailOutboxType;
 
+/**
+ * 아웃박스에서 꺼낸 메일의 본문을 만들어 PooledMailTransport 대기열에 넣고, 메일이 속한 배치가 끝날 때까지 기다려
+ * 건별 결과를 돌려주는 EmailDelivery.
+ * <p>
+ * 서비스가 쓰는 EmailSender 는 OutboxEmailSender 하나뿐이다. 메일은 항상 아웃박스를 거쳐 이 클래스로 보내지므로,
+ * 결과를 확인하지 않고 대기열에 바로 넣는 발송 경로는 두지 않는다.
+ */
 @Component
-public class SmtpEmailSender implements EmailSender {
+public class SmtpEmailSender implements EmailDelivery {
 
 	private static final Logger log = LoggerFactory.getLogger(SmtpEmailSender.class);
 
 	private final JavaMailSender mailSender;
+	private final PooledMailTransport mailTransport;
 	private final String fromEmail;
 	private final String baseUrl;
+	private final Duration deliveryTimeout;
 
 	public SmtpEmailSender(
 		JavaMailSender mailSender,
+		PooledMailTransport mailTransport,
 		@Value("${email.from}") String fromEmail,
-		@Value("${email.base-url}") String baseUrl
+		@Value("${email.base-url}") String baseUrl,
+		@Value("${email.outbox.delivery-timeout-seconds:60}") long deliveryTimeoutSeconds
 	) {
 		this.mailSender = mailSender;
+		this.mailTransport = mailTransport;
 		this.fromEmail = fromEmail;
 		this.baseUrl = baseUrl;
+		this.deliveryTimeout = Duration.ofSeconds(deliveryTimeoutSeconds);
 	}
 
+	/**
+	 * 모든 메일을 전송기에 넣은 뒤, deliveryTimeout 안에 끝나지 않은 메일은 취소하고 실패로 돌려준다.
+	 * 취소된 메일은 전송기가 보내지 않으므로 다시 시도해도 두 번 가지 않는다.
+	 */
 	@Override
-	@Async("emailTaskExecutor")
-	public void sendSignUpConfirmEmail(String email, String token) {
-		String activateUrl = baseUrl + "/api/v1/members/activate?token=" + token;
-		String subject = "[Learning Manager] 회원가입 인증";
-		String content = buildSignUpConfirmEmailContent(activateUrl);
-
-		sendEmail(email, subject, content);
-		log.info("회원가입 인증 이메일 발송 완료: {}", email);
+	public Map<Long, String> deliver(List<EmailOutboxMessage> messages) {
+		Map<Long, String> failures = new LinkedHashMap<>();
+		Map<Long, CompletableFuture<Void>> submitted = new LinkedHashMap<>();
+		for (EmailOutboxMessage message : messages) {
+			try {
+				MimeMessage mimeMessage = createMessage(message.type(), message.recipient(), message.token());
+				submitted.put(message.id(), mailTransport.submit(mimeMessage, message.recipient()));
+			} catch (RuntimeException e) {
+				failures.put(message.id(), e.getMessage());
+			}
+		}
+
+		long deadline = System.nanoTime() + deliveryTimeout.toNanos();
+		for (Map.Entry<Long, CompletableFuture<Void>> entry : submitted.entrySet()) {
+			String failure = await(entry.getValue(), deadline);
+			if (failure != null) {
+				failures.put(entry.getKey(), failure);
+			}
+		}
+		return failures;
 	}
 
-	@Override
-	@Async("emailTaskExecutor")
-	public void sendPasswordResetEmail(String email, String token) {
-		String resetUrl = baseUrl + "/api/v1/members/reset-password?token=" + token;
-		String subject = "[Learning Manager] 비밀번호 재설정";
-		String content = buildPasswordResetEmailContent(resetUrl);
-
-		sendEmail(email, subject, content);
-		log.info("비밀번호 재설정 이메일 발송 완료: {}", email);
+	/**
+	 * 이미 배치에 담겨 SMTP 로 보내는 중이라 취소하지 못한 메일은, 실패로 돌려주면 다시 시도할 때 두 번 가므로
+	 * 결과가 나올 때까지 기다린다. 이 대기는 SMTP 연결/응답 타임아웃으로 제한된다.
+	 *
+	 * @return 실패 사유. 발송에 성공했으면 null
+	 */
+	private String await(CompletableFuture<Void> result, long deadline) {
+		try {
+			try {
+				result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+			} catch (TimeoutException e) {
+				if (result.cancel(false)) {
+					return "발송 대기 시간 초과";
+				}
+				result.get();
+			}
+			return null;
+		} catch (ExecutionException e) {
+			return e.getCause().getMessage();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			result.cancel(false);
+			return "발송 대기 중 인터럽트";
+		}
+	}
+
+	private MimeMessage createMessage(EmailOutboxType type, String to, String token) {
+		return switch (type) {
+			case SIGN_UP_CONFIRM -> createMessage(to, "[Learning Manager] 회원가입 인증",
+				buildSignUpConfirmEmailContent(baseUrl + "/api/v1/members/activate?token=" + token));
+			case PASSWORD_RESET -> createMessage(to, "[Learning Manager] 비밀번호 재설정",
+				buildPasswordResetEmailContent(baseUrl + "/api/v1/members/reset-password?token=" + token));
+		};
 	}
 
-	private void sendEmail(String to, String subject, String htmlContent) {
+	private MimeMessage createMessage(String to, String subject, String htmlContent) {
 		try {
 			MimeMessage message = mailSender.createMimeMessage();
 			MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
@@ -63,10 +126,10 @@ public class SmtpEmailSender implements EmailSender {
 			helper.setSubject(subject);
 			helper.setText(htmlContent, true);  // true = HTML
 
-			mailSender.send(message);
+			return message;
 		} catch (MessagingException e) {
-			log.error("이메일 발송 실패: to={}, subject={}", to, subject, e);
-			throw new RuntimeException("이메일 발송에 실패했습니다.", e);
+			log.error("이메일 생성 실패: to={}, subject={}", to, subject, e);
+			throw new RuntimeException("이메일 생성에 실패했습니다.", e);
 		}
 	}
 
@@ -2,21 +2,39 @@ package me.chan99k.learningmanager.authentication;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class BcryptPasswordEncoderAdapterTest {
 
 	private static final String RAW_PASSWORD = "Password123!";
 	private static final String WRONG_PASSWORD = "WrongPassword123!";
+	private static final int STRENGTH = 4;
 
+	MeterRegistry meterRegistry;
 	BcryptPasswordEncoderAdapter passwordEncoder;
 
 	@BeforeEach
 	void setUp() {
-		passwordEncoder = new BcryptPasswordEncoderAdapter();
+		meterRegistry = new SimpleMeterRegistry();
+		passwordEncoder = new BcryptPasswordEncoderAdapter(meterRegistry, STRENGTH, 2, 8);
+	}
+
+	@AfterEach
+	void tearDown() {
+		passwordEncoder.destroy();
 	}
 
 	@Nested
@@ -84,4 +102,80 @@ class BcryptPasswordEncoderAdapterTest {
 			assertThat(passwordEncoder.matches(RAW_PASSWORD, encoded2)).isTrue();
 		}
 	}
+
+	@Nested
+	@DisplayName("upgradeEncoding 메서드")
+	class UpgradeEncodingTest {
+
+		@Test
+		@DisplayName("설정과 다른 작업 비용으로 만든 해시는 다시 해싱 대상이다")
+		void returns_true_when_cost_differs() {
+			BcryptPasswordEncoderAdapter stronger = new BcryptPasswordEncoderAdapter(new SimpleMeterRegistry(), 5, 1, 1);
+			try {
+				String encoded = stronger.encode(RAW_PASSWORD);
+
+				assertThat(passwordEncoder.upgradeEncoding(encoded)).isTrue();
+			} finally {
+				stronger.destroy();
+			}
+		}
+
+		@Test
+		@DisplayName("설정과 같은 작업 비용으로 만든 해시는 다시 해싱하지 않는다")
+		void returns_false_when_cost_matches() {
+			String encoded = passwordEncoder.encode(RAW_PASSWORD);
+
+			assertThat(passwordEncoder.upgradeEncoding(encoded)).isFalse();
+		}
+
+		@Test
+		@DisplayName("BCrypt 형식이 아닌 값은 다시 해싱 대상이 아니다")
+		void returns_false_for_non_bcrypt_value() {
+			assertThat(passwordEncoder.upgradeEncoding("plain-text")).isFalse();
+			assertThat(passwordEncoder.upgradeEncoding(null)).isFalse();
+		}
+	}
+
+	@Nested
+	@DisplayName("해싱 실행기")
+	class HashingExecutorTest {
+
+		@Test
+		@DisplayName("대기 시간을 작업별 메트릭으로 기록한다")
+		void records_queue_wait_time() {
+			String encoded = passwordEncoder.encode(RAW_PASSWORD);
+			passwordEncoder.matches(RAW_PASSWORD, encoded);
+
+			assertThat(meterRegistry.get("lm.password.hash.wait").tag("operation", "encode").timer().count())
+				.isEqualTo(1);
+			assertThat(meterRegistry.get("lm.password.hash.wait").tag("operation", "matches").timer().count())
+				.isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("실행 중인 작업과 대기열이 가득 차면 기다리지 않고 거절한다")
+		void rejects_when_saturated() throws InterruptedException {
+			BcryptPasswordEncoderAdapter saturated = new BcryptPasswordEncoderAdapter(meterRegistry, 14, 1, 1);
+			ExecutorService callers = Executors.newFixedThreadPool(2);
+			CountDownLatch submitted = new CountDownLatch(2);
+			try {
+				for (int i = 0; i < 2; i++) {
+					callers.submit(() -> {
+						submitted.countDown();
+						return saturated.encode(RAW_PASSWORD);
+					});
+				}
+				submitted.await();
+				Thread.sleep(100);
+
+				assertThatThrownBy(() -> saturated.encode(RAW_PASSWORD))
+					.isInstanceOf(RejectedExecutionException.class);
+				assertThat(meterRegistry.get("lm.password.hash.rejected").counter().count()).isEqualTo(1);
+			} finally {
+				callers.shutdownNow();
+				saturated.destroy();
+				callers.awaitTermination(5, TimeUnit.SECONDS);
+			}
+		}
+	}
 }
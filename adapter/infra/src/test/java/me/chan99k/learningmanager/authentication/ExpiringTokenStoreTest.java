@@ -0,0 +1,202 @@
+package me.chan99k.learningmanager.authentication;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("ExpiringTokenStore 테스트")
+class ExpiringTokenStoreTest {
+
+	private static final Instant NOW = Instant.parse("2025-03-10T00:00:00.300Z");
+	private static final int WHEEL_SIZE = 4;
+	private static final int MAX_SIZE = 3;
+
+	private MutableClock clock;
+	private MeterRegistry meterRegistry;
+	private List<String> expiredTokens;
+	private ExpiringTokenStore<String> store;
+
+	@BeforeEach
+	void setUp() {
+		clock = new MutableClock(NOW);
+		meterRegistry = new SimpleMeterRegistry();
+		expiredTokens = new ArrayList<>();
+		ExpiringTokenStores stores = new ExpiringTokenStores(clock, meterRegistry, 1000, WHEEL_SIZE, MAX_SIZE);
+		store = stores.create("test", (token, value) -> expiredTokens.add(token));
+	}
+
+	@Nested
+	@DisplayName("만료 정리")
+	class ExpirationTests {
+
+		@Test
+		@DisplayName("[Success] 만료 시각이 지난 토큰만 정리하고 만료 리스너를 호출한다")
+		void test01() {
+			store.put("short", "a", NOW.plusSeconds(2));
+			store.put("long", "b", NOW.plusSeconds(10));
+
+			clock.set(NOW.plusSeconds(3));
+			int expired = store.expireNow();
+
+			assertThat(expired).isEqualTo(1);
+			assertThat(store.get("short")).isNull();
+			assertThat(store.get("long")).isEqualTo("b");
+			assertThat(expiredTokens).containsExactly("short");
+		}
+
+		@Test
+		@DisplayName("[Success] 같은 틱 안에서도 만료 시각이 지나면 바로 정리한다")
+		void test02() {
+			store.put("token", "a", NOW.plusMillis(100));
+
+			clock.set(NOW.plusMillis(101));
+
+			assertThat(store.expireNow()).isEqualTo(1);
+			assertThat(store.size()).isZero();
+		}
+
+		@Test
+		@DisplayName("[Success] 휠 범위를 넘는 만료 시각은 상위 휠에 두었다가 만료 시각이 되어야 정리한다")
+		void test03() {
+			store.put("day", "a", NOW.plus(Duration.ofDays(1)));
+			store.put("hour", "b", NOW.plus(Duration.ofHours(1)));
+
+			clock.set(NOW.plus(Duration.ofHours(1)).minusMillis(1));
+			assertThat(store.expireNow()).isZero();
+
+			clock.set(NOW.plus(Duration.ofHours(1)).plusMillis(1));
+			assertThat(store.expireNow()).isEqualTo(1);
+
+			clock.set(NOW.plus(Duration.ofDays(1)).minusMillis(1));
+			assertThat(store.expireNow()).isZero();
+			assertThat(store.get("day")).isEqualTo("a");
+
+			clock.set(NOW.plus(Duration.ofDays(1)).plusMillis(1));
+			assertThat(store.expireNow()).isEqualTo(1);
+			assertThat(expiredTokens).containsExactly("hour", "day");
+		}
+
+		@Test
+		@DisplayName("[Success] 이미 지난 만료 시각으로 저장한 토큰은 다음 정리 때 제거한다")
+		void test04() {
+			store.put("stale", "a", NOW.minusSeconds(60));
+
+			assertThat(store.get("stale")).isEqualTo("a");
+			assertThat(store.expireNow()).isEqualTo(1);
+			assertThat(store.get("stale")).isNull();
+		}
+
+		@Test
+		@DisplayName("[Success] 직접 삭제하거나 다시 저장한 토큰은 이전 만료 시각으로 정리하지 않는다")
+		void test05() {
+			store.put("removed", "a", NOW.plusSeconds(1));
+			store.put("renewed", "b", NOW.plusSeconds(1));
+			store.remove("removed");
+			store.put("renewed", "c", NOW.plusSeconds(30));
+
+			clock.set(NOW.plusSeconds(5));
+
+			assertThat(store.expireNow()).isZero();
+			assertThat(store.get("renewed")).isEqualTo("c");
+			assertThat(expiredTokens).isEmpty();
+		}
+	}
+
+	@Nested
+	@DisplayName("최대 크기")
+	class CapacityTests {
+
+		@Test
+		@DisplayName("[Success] 가득 차면 만료된 토큰을 먼저 정리해 자리를 만든다")
+		void test01() {
+			store.put("t1", "a", NOW.plusSeconds(1));
+			store.put("t2", "b", NOW.plusSeconds(60));
+			store.put("t3", "c", NOW.plusSeconds(60));
+			clock.set(NOW.plusSeconds(2));
+
+			store.put("t4", "d", NOW.plusSeconds(60));
+
+			assertThat(store.size()).isEqualTo(MAX_SIZE);
+			assertThat(store.get("t1")).isNull();
+			assertThat(meterRegistry.get("lm.authentication.token-store.evicted").functionCounter().count())
+				.isZero();
+		}
+
+		@Test
+		@DisplayName("[Success] 만료된 토큰이 없으면 가장 먼저 만료될 토큰을 내보낸다")
+		void test02() {
+			store.put("late", "a", NOW.plus(Duration.ofHours(2)));
+			store.put("soon", "b", NOW.plusSeconds(2));
+			store.put("later", "c", NOW.plus(Duration.ofHours(3)));
+
+			store.put("new", "d", NOW.plus(Duration.ofHours(1)));
+
+			assertThat(store.size()).isEqualTo(MAX_SIZE);
+			assertThat(store.get("soon")).isNull();
+			assertThat(expiredTokens).containsExactly("soon");
+			assertThat(meterRegistry.get("lm.authentication.token-store.evicted").functionCounter().count())
+				.isEqualTo(1.0);
+		}
+	}
+
+	@Nested
+	@DisplayName("메트릭")
+	class MetricTests {
+
+		@Test
+		@DisplayName("[Success] 보관 중인 토큰 수와 만료된 누적 수를 저장소 태그로 노출한다")
+		void test01() {
+			store.put("t1", "a", NOW.plusSeconds(1));
+			store.put("t2", "b", NOW.plusSeconds(60));
+			clock.set(NOW.plusSeconds(2));
+			store.expireNow();
+
+			assertThat(meterRegistry.get("lm.authentication.token-store.live").tag("store", "test").gauge().value())
+				.isEqualTo(1.0);
+			assertThat(meterRegistry.get("lm.authentication.token-store.expired").tag("store", "test")
+				.functionCounter().count()).isEqualTo(1.0);
+		}
+	}
+
+	private static class MutableClock extends Clock {
+
+		private Instant instant;
+
+		MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		void set(Instant instant) {
+			this.instant = instant;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
@@ -2,6 +2,7 @@ package me.chan99k.learningmanager.authentication;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Clock;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import me.chan99k.learningmanager.member.Email;
 
 class InMemoryPasswordResetTokenRepositoryTest {
@@ -17,11 +19,13 @@ class InMemoryPasswordResetTokenRepositoryTest {
 	private static final String TEST_TOKEN = "reset-token-123";
 	private static final long VALIDITY_SECONDS = 300L;
 
+	ExpiringTokenStores expiringTokenStores =
+		new ExpiringTokenStores(Clock.systemUTC(), new SimpleMeterRegistry(), 1000, 64, 1000);
 	InMemoryPasswordResetTokenRepository repository;
 
 	@BeforeEach
 	void setUp() {
-		repository = new InMemoryPasswordResetTokenRepository(VALIDITY_SECONDS);
+		repository = new InMemoryPasswordResetTokenRepository(VALIDITY_SECONDS, expiringTokenStores);
 	}
 
 	@Nested
@@ -65,7 +69,7 @@ class InMemoryPasswordResetTokenRepositoryTest {
 		@DisplayName("만료된 토큰은 빈 Optional을 반환한다")
 		void returns_empty_for_expired_token() {
 			InMemoryPasswordResetTokenRepository shortLivedRepo =
-				new InMemoryPasswordResetTokenRepository(0L);
+				new InMemoryPasswordResetTokenRepository(0L, expiringTokenStores);
 			shortLivedRepo.save(TEST_TOKEN, Email.of(TEST_EMAIL));
 
 			Optional<String> result = shortLivedRepo.findEmailByToken(TEST_TOKEN);
@@ -100,7 +104,7 @@ class InMemoryPasswordResetTokenRepositoryTest {
 		@DisplayName("만료된 토큰은 false를 반환한다")
 		void returns_false_for_expired_token() {
 			InMemoryPasswordResetTokenRepository shortLivedRepo =
-				new InMemoryPasswordResetTokenRepository(0L);
+				new InMemoryPasswordResetTokenRepository(0L, expiringTokenStores);
 			shortLivedRepo.save(TEST_TOKEN, Email.of(TEST_EMAIL));
 
 			boolean result = shortLivedRepo.existsAndNotExpired(TEST_TOKEN);
@@ -2,6 +2,7 @@ package me.chan99k.learningmanager.authentication;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
@@ -11,6 +12,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class InMemoryRefreshTokenRepositoryTest {
 
 	private static final Long MEMBER_ID = 1L;
@@ -19,11 +22,13 @@ class InMemoryRefreshTokenRepositoryTest {
 	private static final String TOKEN_VALUE_2 = "test-refresh-token-2";
 	private static final Duration TTL = Duration.ofHours(24);
 
+	ExpiringTokenStores expiringTokenStores =
+		new ExpiringTokenStores(Clock.systemUTC(), new SimpleMeterRegistry(), 1000, 64, 1000);
 	InMemoryRefreshTokenRepository repository;
 
 	@BeforeEach
 	void setUp() {
-		repository = new InMemoryRefreshTokenRepository();
+		repository = new InMemoryRefreshTokenRepository(expiringTokenStores);
 	}
 
 	private RefreshToken createValidToken(Long memberId, String tokenValue) {
@@ -103,6 +108,46 @@ class InMemoryRefreshTokenRepositoryTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("rotate 메서드")
+	class RotateTest {
+
+		@Test
+		@DisplayName("유효한 토큰을 새 토큰으로 교체한다")
+		void rotates_usable_token() {
+			repository.save(createValidToken(MEMBER_ID, TOKEN_VALUE));
+
+			boolean rotated = repository.rotate(TOKEN_VALUE, createValidToken(MEMBER_ID, TOKEN_VALUE_2));
+
+			assertThat(rotated).isTrue();
+			assertThat(repository.findByToken(TOKEN_VALUE)).isEmpty();
+			assertThat(repository.findByToken(TOKEN_VALUE_2)).isPresent();
+		}
+
+		@Test
+		@DisplayName("이미 교체된 토큰으로 다시 교체하면 실패한다")
+		void fails_when_token_already_rotated() {
+			repository.save(createValidToken(MEMBER_ID, TOKEN_VALUE));
+			repository.rotate(TOKEN_VALUE, createValidToken(MEMBER_ID, TOKEN_VALUE_2));
+
+			boolean rotated = repository.rotate(TOKEN_VALUE, createValidToken(MEMBER_ID, "test-refresh-token-3"));
+
+			assertThat(rotated).isFalse();
+			assertThat(repository.findByToken("test-refresh-token-3")).isEmpty();
+		}
+
+		@Test
+		@DisplayName("폐기되었거나 만료된 토큰은 교체하지 않는다")
+		void fails_for_revoked_or_expired_token() {
+			repository.save(createValidToken(MEMBER_ID, TOKEN_VALUE));
+			repository.revokeByToken(TOKEN_VALUE);
+			repository.save(createExpiredToken(MEMBER_ID_2, "expired-token"));
+
+			assertThat(repository.rotate(TOKEN_VALUE, createValidToken(MEMBER_ID, TOKEN_VALUE_2))).isFalse();
+			assertThat(repository.rotate("expired-token", createValidToken(MEMBER_ID_2, TOKEN_VALUE_2))).isFalse();
+		}
+	}
+
 	@Nested
 	@DisplayName("revokeByToken 메서드")
 	class RevokeByTokenTest {
@@ -2,6 +2,7 @@ package me.chan99k.learningmanager.authentication;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Clock;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -9,16 +10,20 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class InMemorySignUpConfirmTokenRepositoryTest {
 
 	private static final String TEST_EMAIL = "test@example.com";
 	private static final String TEST_TOKEN = "test-token-123";
 
+	ExpiringTokenStores expiringTokenStores =
+		new ExpiringTokenStores(Clock.systemUTC(), new SimpleMeterRegistry(), 1000, 64, 1000);
 	InMemorySignUpConfirmTokenRepository repository;
 
 	@BeforeEach
 	void setUp() {
-		repository = new InMemorySignUpConfirmTokenRepository(3600L);
+		repository = new InMemorySignUpConfirmTokenRepository(3600L, expiringTokenStores);
 	}
 
 	@Nested
@@ -106,7 +111,7 @@ class InMemorySignUpConfirmTokenRepositoryTest {
 		@DisplayName("[Success] 만료된 토큰은 조회 시 빈 Optional을 반환한다")
 		void expired_returnsEmpty() {
 			InMemorySignUpConfirmTokenRepository shortLivedRepo =
-				new InMemorySignUpConfirmTokenRepository(0L);
+				new InMemorySignUpConfirmTokenRepository(0L, expiringTokenStores);
 			shortLivedRepo.save(TEST_TOKEN, TEST_EMAIL);
 
 			Optional<String> result = shortLivedRepo.findEmailByToken(TEST_TOKEN);
@@ -118,7 +123,7 @@ class InMemorySignUpConfirmTokenRepositoryTest {
 		@DisplayName("[Success] 만료된 토큰은 isExpired가 true를 반환한다")
 		void expired_isExpiredReturnsTrue() {
 			InMemorySignUpConfirmTokenRepository shortLivedRepo =
-				new InMemorySignUpConfirmTokenRepository(0L);
+				new InMemorySignUpConfirmTokenRepository(0L, expiringTokenStores);
 			shortLivedRepo.save(TEST_TOKEN, TEST_EMAIL);
 
 			boolean result = shortLivedRepo.isExpired(TEST_TOKEN);
@@ -17,6 +17,7 @@ class JwtProviderAdapterTest {
 	private static final String EMAIL = "test@example.com";
 	private static final long EXPIRATION_SECONDS = 3600L;
 	private static final String ISSUER = "test-issuer";
+	private static final int CACHE_MAX_SIZE = 100;
 
 	private static final String SECRET = Base64.getEncoder().encodeToString(
 		"test-secret-key-for-jwt-signing-must-be-256-bits-long".getBytes()
@@ -30,7 +31,7 @@ class JwtProviderAdapterTest {
 
 	@BeforeEach
 	void setUp() {
-		jwtProvider = new JwtProviderAdapter(SECRET, EXPIRATION_SECONDS, ISSUER);
+		jwtProvider = new JwtProviderAdapter(SECRET, EXPIRATION_SECONDS, ISSUER, CACHE_MAX_SIZE);
 	}
 
 	@Nested
@@ -84,7 +85,7 @@ class JwtProviderAdapterTest {
 		@Test
 		@DisplayName("만료된 토큰은 EXPIRED_TOKEN 예외를 던진다")
 		void throws_expired_token_exception() {
-			JwtProviderAdapter shortLivedProvider = new JwtProviderAdapter(SECRET, 0L, ISSUER);
+			JwtProviderAdapter shortLivedProvider = new JwtProviderAdapter(SECRET, 0L, ISSUER, CACHE_MAX_SIZE);
 			String expiredToken = shortLivedProvider.createAccessToken(MEMBER_ID, EMAIL);
 
 			assertThatThrownBy(() -> jwtProvider.validateAndGetClaims(expiredToken))
@@ -108,7 +109,7 @@ class JwtProviderAdapterTest {
 		@DisplayName("서명이 다른 토큰은 INVALID_TOKEN 예외를 던진다")
 		void throws_invalid_token_for_wrong_signature() {
 			JwtProviderAdapter differentProvider = new JwtProviderAdapter(
-				DIFFERENT_SECRET, EXPIRATION_SECONDS, ISSUER
+				DIFFERENT_SECRET, EXPIRATION_SECONDS, ISSUER, CACHE_MAX_SIZE
 			);
 			String tokenWithDifferentSignature = differentProvider.createAccessToken(MEMBER_ID, EMAIL);
 
@@ -136,7 +137,7 @@ class JwtProviderAdapterTest {
 		@Test
 		@DisplayName("만료된 토큰은 false를 반환한다")
 		void returns_false_for_expired_token() {
-			JwtProviderAdapter shortLivedProvider = new JwtProviderAdapter(SECRET, 0L, ISSUER);
+			JwtProviderAdapter shortLivedProvider = new JwtProviderAdapter(SECRET, 0L, ISSUER, CACHE_MAX_SIZE);
 			String expiredToken = shortLivedProvider.createAccessToken(MEMBER_ID, EMAIL);
 
 			boolean result = jwtProvider.isValid(expiredToken);
@@ -156,7 +157,7 @@ class JwtProviderAdapterTest {
 		@DisplayName("서명이 다른 토큰은 false를 반환한다")
 		void returns_false_for_wrong_signature() {
 			JwtProviderAdapter differentProvider = new JwtProviderAdapter(
-				DIFFERENT_SECRET, EXPIRATION_SECONDS, ISSUER
+				DIFFERENT_SECRET, EXPIRATION_SECONDS, ISSUER, CACHE_MAX_SIZE
 			);
 			String tokenWithDifferentSignature = differentProvider.createAccessToken(MEMBER_ID, EMAIL);
 
@@ -166,6 +167,73 @@ class JwtProviderAdapterTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("verify 메서드")
+	class VerifyTest {
+
+		@Test
+		@DisplayName("유효한 토큰은 클레임을 담은 성공 결과를 반환한다")
+		void returns_verified_result_with_claims() {
+			String token = jwtProvider.createAccessToken(MEMBER_ID, EMAIL);
+
+			JwtProvider.VerificationResult result = jwtProvider.verify(token);
+
+			assertThat(result.isVerified()).isTrue();
+			assertThat(result.claims().memberId()).isEqualTo(MEMBER_ID);
+			assertThat(result.claims().email()).isEqualTo(EMAIL);
+			assertThat(result.failure()).isNull();
+		}
+
+		@Test
+		@DisplayName("같은 토큰을 다시 검증하면 캐시된 클레임을 반환한다")
+		void returns_cached_claims_for_same_token() {
+			String token = jwtProvider.createAccessToken(MEMBER_ID, EMAIL);
+
+			JwtProvider.VerificationResult first = jwtProvider.verify(token);
+			JwtProvider.VerificationResult second = jwtProvider.verify(token);
+
+			assertThat(second.claims()).isSameAs(first.claims());
+		}
+
+		@Test
+		@DisplayName("캐시를 비활성화해도 동일한 클레임을 반환한다")
+		void returns_equal_claims_when_cache_disabled() {
+			JwtProviderAdapter noCacheProvider = new JwtProviderAdapter(SECRET, EXPIRATION_SECONDS, ISSUER, 0);
+			String token = noCacheProvider.createAccessToken(MEMBER_ID, EMAIL);
+
+			JwtProvider.VerificationResult first = noCacheProvider.verify(token);
+			JwtProvider.VerificationResult second = noCacheProvider.verify(token);
+
+			assertThat(second.claims()).isEqualTo(first.claims()).isNotSameAs(first.claims());
+		}
+
+		@Test
+		@DisplayName("만료된 토큰은 EXPIRED_TOKEN 실패 결과를 반환한다")
+		void returns_expired_failure() {
+			JwtProviderAdapter shortLivedProvider = new JwtProviderAdapter(SECRET, 0L, ISSUER, CACHE_MAX_SIZE);
+			String expiredToken = shortLivedProvider.createAccessToken(MEMBER_ID, EMAIL);
+
+			JwtProvider.VerificationResult result = jwtProvider.verify(expiredToken);
+
+			assertThat(result.isVerified()).isFalse();
+			assertThat(result.failure()).isEqualTo(AuthProblemCode.EXPIRED_TOKEN);
+		}
+
+		@Test
+		@DisplayName("서명이 다른 토큰은 INVALID_TOKEN 실패 결과를 반환한다")
+		void returns_invalid_failure_for_wrong_signature() {
+			JwtProviderAdapter differentProvider = new JwtProviderAdapter(
+				DIFFERENT_SECRET, EXPIRATION_SECONDS, ISSUER, CACHE_MAX_SIZE
+			);
+			String tokenWithDifferentSignature = differentProvider.createAccessToken(MEMBER_ID, EMAIL);
+
+			JwtProvider.VerificationResult result = jwtProvider.verify(tokenWithDifferentSignature);
+
+			assertThat(result.isVerified()).isFalse();
+			assertThat(result.failure()).isEqualTo(AuthProblemCode.INVALID_TOKEN);
+		}
+	}
+
 	@Nested
 	@DisplayName("getAccessTokenExpirationSeconds 메서드")
 	class GetAccessTokenExpirationSecondsTest {
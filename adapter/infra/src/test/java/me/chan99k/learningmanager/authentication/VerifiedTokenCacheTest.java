@@ -0,0 +1,80 @@
+package me.chan99k.learningmanager.authentication;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+	private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+	private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+	private JwtProvider.Claims claimsExpiringAt(Instant expiresAt) {
+		return new JwtProvider.Claims(1L, "test@example.com", expiresAt);
+	}
+
+	@Test
+	@DisplayName("저장한 토큰의 클레임을 반환한다")
+	void returns_stored_claims() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(10, CLOCK);
+		JwtProvider.Claims claims = claimsExpiringAt(NOW.plusSeconds(60));
+
+		cache.put("token", claims);
+
+		assertThat(cache.get("token")).isSameAs(claims);
+		assertThat(cache.get("other-token")).isNull();
+	}
+
+	@Test
+	@DisplayName("만료 시각이 지난 항목은 반환하지 않고 제거한다")
+	void evicts_expired_entry_on_get() {
+		Clock clock = mock(Clock.class);
+		given(clock.instant()).willReturn(NOW);
+		VerifiedTokenCache cache = new VerifiedTokenCache(10, clock);
+		cache.put("token", claimsExpiringAt(NOW.plusSeconds(60)));
+
+		given(clock.instant()).willReturn(NOW.plusSeconds(120));
+
+		assertThat(cache.get("token")).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("이미 만료된 클레임은 저장하지 않는다")
+	void does_not_store_expired_claims() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(10, CLOCK);
+
+		cache.put("token", claimsExpiringAt(NOW));
+
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("최대 크기를 넘으면 일부 항목을 내보내 크기를 유지한다")
+	void does_not_exceed_max_size() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(2, CLOCK);
+
+		cache.put("token-1", claimsExpiringAt(NOW.plusSeconds(60)));
+		cache.put("token-2", claimsExpiringAt(NOW.plusSeconds(60)));
+		cache.put("token-3", claimsExpiringAt(NOW.plusSeconds(60)));
+
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("최대 크기가 0 이하이면 캐시를 사용하지 않는다")
+	void disabled_when_max_size_is_zero() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(0, CLOCK);
+
+		cache.put("token", claimsExpiringAt(NOW.plusSeconds(60)));
+
+		assertThat(cache.get("token")).isNull();
+		assertThat(cache.size()).isZero();
+	}
+}
@@ -3,6 +3,7 @@ package me.chan99k.learningmanager.authorization;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -21,12 +22,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import me.chan99k.learningmanager.attendance.Attendance;
-import me.chan99k.learningmanager.attendance.AttendanceQueryRepository;
+import me.chan99k.learningmanager.attendance.AttendanceLookupMemo;
 import me.chan99k.learningmanager.attendance.CorrectionRequested;
 import me.chan99k.learningmanager.course.CourseRole;
 import me.chan99k.learningmanager.member.SystemRole;
 import me.chan99k.learningmanager.session.Session;
-import me.chan99k.learningmanager.session.SessionQueryRepository;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("AttendanceSecurity 테스트")
@@ -42,10 +42,7 @@ class AttendanceSecurityTest {
 	private AttendanceSecurity attendanceSecurity;
 
 	@Mock
-	private AttendanceQueryRepository attendanceQueryRepository;
-
-	@Mock
-	private SessionQueryRepository sessionQueryRepository;
+	private AttendanceLookupMemo attendanceLookupMemo;
 
 	@Mock
 	private SystemAuthorizationPort systemAuthorizationPort;
@@ -77,7 +74,7 @@ class AttendanceSecurityTest {
 
 	// 출석 정보 존재 설정
 	private void givenAttendanceExists() {
-		when(attendanceQueryRepository.findById(ATTENDANCE_ID)).thenReturn(Optional.of(attendance));
+		when(attendanceLookupMemo.findAttendanceById(ATTENDANCE_ID)).thenReturn(Optional.of(attendance));
 	}
 
 	// 시스템 권한(ADMIN/REGISTRAR) 보유 설정
@@ -93,7 +90,7 @@ class AttendanceSecurityTest {
 
 	// 세션 정보 존재 설정
 	private void givenSessionExists() {
-		when(sessionQueryRepository.findById(SESSION_ID)).thenReturn(Optional.of(session));
+		when(attendanceLookupMemo.findSessionById(SESSION_ID)).thenReturn(Optional.of(session));
 	}
 
 	// 과정 세션 설정 (courseId 존재)
@@ -106,6 +103,12 @@ class AttendanceSecurityTest {
 		when(session.getCourseId()).thenReturn(null);
 	}
 
+	// 과정 내 역할 설정
+	private void givenCourseRoles(Long memberId, CourseRole... roles) {
+		when(courseAuthorizationPort.getRoles(memberId, COURSE_ID))
+			.thenReturn(roles.length == 0 ? EnumSet.noneOf(CourseRole.class) : EnumSet.copyOf(List.of(roles)));
+	}
+
 	// 대기중인 수정 요청 존재 설정
 	private void givenPendingRequestExists() {
 		when(attendance.getPendingRequest()).thenReturn(pendingRequest);
@@ -131,7 +134,7 @@ class AttendanceSecurityTest {
 	@MethodSource("allSecurityMethods")
 	@DisplayName("[Failure] 출석 정보가 없으면 false를 반환한다")
 	void test01(String methodName, BiFunction<AttendanceSecurity, Object[], Boolean> method) {
-		when(attendanceQueryRepository.findById(ATTENDANCE_ID)).thenReturn(Optional.empty());
+		when(attendanceLookupMemo.findAttendanceById(ATTENDANCE_ID)).thenReturn(Optional.empty());
 
 		boolean result = method.apply(attendanceSecurity, new Object[] {ATTENDANCE_ID, MEMBER_ID});
 
@@ -157,7 +160,7 @@ class AttendanceSecurityTest {
 	void test03(String methodName, BiFunction<AttendanceSecurity, Object[], Boolean> method) {
 		givenBasicSetupWithoutSystemRole();
 		lenient().when(attendance.getPendingRequest()).thenReturn(pendingRequest);
-		when(sessionQueryRepository.findById(SESSION_ID)).thenReturn(Optional.empty());
+		when(attendanceLookupMemo.findSessionById(SESSION_ID)).thenReturn(Optional.empty());
 
 		boolean result = method.apply(attendanceSecurity, new Object[] {ATTENDANCE_ID, MEMBER_ID});
 
@@ -188,9 +191,7 @@ class AttendanceSecurityTest {
 		@DisplayName("[Success] MENTOR/MANAGER/LEAD_MANAGER 권한이 있으면 true를 반환한다")
 		void test01() {
 			givenFullCourseSessionSetup();
-			when(courseAuthorizationPort.hasAnyRole(
-				MEMBER_ID, COURSE_ID, List.of(CourseRole.MENTOR, CourseRole.MANAGER, CourseRole.LEAD_MANAGER)
-			)).thenReturn(true);
+			givenCourseRoles(MEMBER_ID, CourseRole.MENTOR);
 
 			boolean result = attendanceSecurity.canRequestCorrection(ATTENDANCE_ID, MEMBER_ID);
 
@@ -201,9 +202,7 @@ class AttendanceSecurityTest {
 		@DisplayName("[Failure] CourseRole이 없으면 false를 반환한다")
 		void test02() {
 			givenFullCourseSessionSetup();
-			when(courseAuthorizationPort.hasAnyRole(
-				MEMBER_ID, COURSE_ID, List.of(CourseRole.MENTOR, CourseRole.MANAGER, CourseRole.LEAD_MANAGER)
-			)).thenReturn(false);
+			givenCourseRoles(MEMBER_ID, CourseRole.MENTEE);
 
 			boolean result = attendanceSecurity.canRequestCorrection(ATTENDANCE_ID, MEMBER_ID);
 
@@ -238,11 +237,12 @@ class AttendanceSecurityTest {
 		void test01() {
 			givenFullCourseSessionSetup();
 			givenPendingRequestExists();
-			when(courseAuthorizationPort.hasRole(MEMBER_ID, COURSE_ID, CourseRole.LEAD_MANAGER)).thenReturn(true);
+			givenCourseRoles(MEMBER_ID, CourseRole.LEAD_MANAGER);
 
 			boolean result = attendanceSecurity.canApproveCorrection(ATTENDANCE_ID, MEMBER_ID);
 
 			assertThat(result).isTrue();
+			verify(courseAuthorizationPort, never()).getRoles(REQUESTER_ID, COURSE_ID);
 		}
 
 		@Test
@@ -250,7 +250,7 @@ class AttendanceSecurityTest {
 		void test02() {
 			givenFullCourseSessionSetup();
 			givenPendingRequestExists();
-			when(courseAuthorizationPort.hasRole(MEMBER_ID, COURSE_ID, CourseRole.LEAD_MANAGER)).thenReturn(false);
+			givenCourseRoles(MEMBER_ID, CourseRole.MANAGER);
 			when(pendingRequest.requestedBy()).thenReturn(MEMBER_ID);
 
 			boolean result = attendanceSecurity.canApproveCorrection(ATTENDANCE_ID, MEMBER_ID);
@@ -263,14 +263,9 @@ class AttendanceSecurityTest {
 		void test03() {
 			givenFullCourseSessionSetup();
 			givenPendingRequestExists();
-			when(courseAuthorizationPort.hasRole(MEMBER_ID, COURSE_ID, CourseRole.LEAD_MANAGER)).thenReturn(false);
+			givenCourseRoles(MEMBER_ID, CourseRole.MANAGER);
 			when(pendingRequest.requestedBy()).thenReturn(REQUESTER_ID);
-			// 요청자가 MENTOR
-			when(courseAuthorizationPort.hasRole(REQUESTER_ID, COURSE_ID, CourseRole.MENTOR)).thenReturn(true);
-			// 승인자가 MANAGER 또는 LEAD_MANAGER
-			when(courseAuthorizationPort.hasAnyRole(
-				MEMBER_ID, COURSE_ID, List.of(CourseRole.MANAGER, CourseRole.LEAD_MANAGER)
-			)).thenReturn(true);
+			givenCourseRoles(REQUESTER_ID, CourseRole.MENTOR);
 
 			boolean result = attendanceSecurity.canApproveCorrection(ATTENDANCE_ID, MEMBER_ID);
 
@@ -278,22 +273,17 @@ class AttendanceSecurityTest {
 		}
 
 		@Test
-		@DisplayName("[Success] MANAGER의 요청을 LEAD_MANAGER가 승인할 수 있다")
+		@DisplayName("[Failure] MANAGER의 요청을 다른 MANAGER가 승인할 수 없다")
 		void test04() {
 			givenFullCourseSessionSetup();
 			givenPendingRequestExists();
-			// 첫 번째 호출(isLeadManager)에서 false, 두 번째 호출(hasHigherCourseRoleThan)에서 true 반환
-			when(courseAuthorizationPort.hasRole(MEMBER_ID, COURSE_ID, CourseRole.LEAD_MANAGER))
-				.thenReturn(false, true);
+			givenCourseRoles(MEMBER_ID, CourseRole.MANAGER);
 			when(pendingRequest.requestedBy()).thenReturn(REQUESTER_ID);
-			// 요청자가 MENTOR 아님
-			when(courseAuthorizationPort.hasRole(REQUESTER_ID, COURSE_ID, CourseRole.MENTOR)).thenReturn(false);
-			// 요청자가 MANAGER
-			when(courseAuthorizationPort.hasRole(REQUESTER_ID, COURSE_ID, CourseRole.MANAGER)).thenReturn(true);
+			givenCourseRoles(REQUESTER_ID, CourseRole.MANAGER);
 
 			boolean result = attendanceSecurity.canApproveCorrection(ATTENDANCE_ID, MEMBER_ID);
 
-			assertThat(result).isTrue();
+			assertThat(result).isFalse();
 		}
 
 		@Test
@@ -301,15 +291,30 @@ class AttendanceSecurityTest {
 		void test05() {
 			givenFullCourseSessionSetup();
 			givenPendingRequestExists();
-			when(courseAuthorizationPort.hasRole(MEMBER_ID, COURSE_ID, CourseRole.LEAD_MANAGER)).thenReturn(false);
+			givenCourseRoles(MEMBER_ID, CourseRole.MENTOR);
 			when(pendingRequest.requestedBy()).thenReturn(REQUESTER_ID);
 			// 요청자가 MENTOR도 MANAGER도 아님
-			when(courseAuthorizationPort.hasRole(REQUESTER_ID, COURSE_ID, CourseRole.MENTOR)).thenReturn(false);
-			when(courseAuthorizationPort.hasRole(REQUESTER_ID, COURSE_ID, CourseRole.MANAGER)).thenReturn(false);
+			givenCourseRoles(REQUESTER_ID, CourseRole.MENTEE);
 
 			boolean result = attendanceSecurity.canApproveCorrection(ATTENDANCE_ID, MEMBER_ID);
 
 			assertThat(result).isFalse();
 		}
+
+		@Test
+		@DisplayName("[Success] 역할 확인은 승인자와 요청자 각각 한 번씩만 조회한다")
+		void test06() {
+			givenFullCourseSessionSetup();
+			givenPendingRequestExists();
+			givenCourseRoles(MEMBER_ID, CourseRole.MANAGER);
+			when(pendingRequest.requestedBy()).thenReturn(REQUESTER_ID);
+			givenCourseRoles(REQUESTER_ID, CourseRole.MENTOR);
+
+			attendanceSecurity.canApproveCorrection(ATTENDANCE_ID, MEMBER_ID);
+
+			verify(courseAuthorizationPort).getRoles(MEMBER_ID, COURSE_ID);
+			verify(courseAuthorizationPort).getRoles(REQUESTER_ID, COURSE_ID);
+			verifyNoMoreInteractions(courseAuthorizationPort);
+		}
 	}
 }
@@ -2,7 +2,6 @@ package me.chan99k.learningmanager.email;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Async;
 
 import me.chan99k.learningmanager.member.EmailSender;
 
@@ -11,7 +10,6 @@ public class ConsoleEmailSender implements EmailSender {
 	private static final Logger log = LoggerFactory.getLogger(ConsoleEmailSender.class);
 
 	@Override
-	@Async("emailTaskExecutor")
 	public void sendSignUpConfirmEmail(String email, String token) {
 		var activateURL = "http://localhost:8080/api/v1/members/activate?token=" + token;
 		log.info("====== 회원가입 인증 이메일 ======");
@@ -0,0 +1,235 @@
+package me.chan99k.learningmanager.email;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PooledMailTransport 테스트")
+class PooledMailTransportTest {
+
+	private static final Instant NOW = Instant.parse("2025-03-10T00:00:00.100Z");
+	private static final int BATCH_SIZE = 3;
+	private static final int QUEUE_CAPACITY = 5;
+	private static final int PER_DOMAIN_PER_SECOND = 2;
+
+	@Mock
+	JavaMailSender mailSender;
+
+	private MutableClock clock;
+	private MeterRegistry meterRegistry;
+	private PooledMailTransport transport;
+
+	@BeforeEach
+	void setUp() {
+		clock = new MutableClock(NOW);
+		meterRegistry = new SimpleMeterRegistry();
+		transport = new PooledMailTransport(mailSender, clock, meterRegistry,
+			BATCH_SIZE, QUEUE_CAPACITY, PER_DOMAIN_PER_SECOND, 100, 30);
+	}
+
+	private MimeMessage submit(String recipient) {
+		MimeMessage message = mock(MimeMessage.class);
+		transport.submit(message, recipient);
+		return message;
+	}
+
+	@Nested
+	@DisplayName("배치 발송")
+	class BatchTests {
+
+		@Test
+		@DisplayName("[Success] 쌓인 메일을 batchSize 개씩 한 번의 send 호출로 보낸다")
+		void test01() {
+			MimeMessage first = submit("a@one.com");
+			MimeMessage second = submit("b@two.com");
+			MimeMessage third = submit("c@three.com");
+			MimeMessage fourth = submit("d@four.com");
+
+			assertThat(transport.flush()).isEqualTo(3);
+			assertThat(transport.flush()).isEqualTo(1);
+			assertThat(transport.flush()).isZero();
+
+			ArgumentCaptor<MimeMessage[]> captor = ArgumentCaptor.forClass(MimeMessage[].class);
+			then(mailSender).should(times(2)).send(captor.capture());
+			assertThat(captor.getAllValues().get(0)).containsExactly(first, second, third);
+			assertThat(captor.getAllValues().get(1)).containsExactly(fourth);
+			assertThat(meterRegistry.get("lm.email.batch.size").summary().max()).isEqualTo(3.0);
+			assertThat(meterRegistry.get("lm.email.send").timer().count()).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("[Failure] 배치 일부가 실패하면 실패한 메일의 Future 만 예외로 완료한다")
+		void test02() {
+			MimeMessage failed = mock(MimeMessage.class);
+			CompletableFuture<Void> failedResult = transport.submit(failed, "a@one.com");
+			CompletableFuture<Void> sentResult = transport.submit(mock(MimeMessage.class), "b@two.com");
+			willThrow(new MailSendException(Map.of(failed, new RuntimeException("수신 거부"))))
+				.given(mailSender).send(any(MimeMessage[].class));
+
+			assertThat(transport.flush()).isEqualTo(2);
+			assertThat(failedResult).isCompletedExceptionally();
+			assertThat(sentResult).isCompleted().isNotCompletedExceptionally();
+			assertThat(meterRegistry.get("lm.email.failed").counter().count()).isEqualTo(1.0);
+		}
+
+		@Test
+		@DisplayName("[Failure] 대기열이 가득 차면 RejectedExecutionException 을 던진다")
+		void test03() {
+			for (int i = 0; i < QUEUE_CAPACITY; i++) {
+				submit("user" + i + "@example.com");
+			}
+
+			assertThatThrownBy(() -> submit("overflow@example.com"))
+				.isInstanceOf(RejectedExecutionException.class);
+			assertThat(meterRegistry.get("lm.email.rejected").counter().count()).isEqualTo(1.0);
+		}
+
+		@Test
+		@DisplayName("[Success] 배치에 담기기 전에 취소된 메일은 보내지 않는다")
+		void test04() {
+			CompletableFuture<Void> cancelled = transport.submit(mock(MimeMessage.class), "a@one.com");
+			MimeMessage sent = submit("b@two.com");
+
+			assertThat(cancelled.cancel(false)).isTrue();
+			assertThat(transport.flush()).isEqualTo(1);
+
+			ArgumentCaptor<MimeMessage[]> captor = ArgumentCaptor.forClass(MimeMessage[].class);
+			then(mailSender).should().send(captor.capture());
+			assertThat(captor.getValue()).containsExactly(sent);
+			assertThat(meterRegistry.get("lm.email.cancelled").counter().count()).isEqualTo(1.0);
+		}
+
+		@Test
+		@DisplayName("[Failure] 배치에 담겨 보내는 중인 메일은 취소할 수 없다")
+		void test05() {
+			CompletableFuture<Void> result = transport.submit(mock(MimeMessage.class), "a@one.com");
+			AtomicBoolean cancelledWhileSending = new AtomicBoolean(true);
+			willAnswer(invocation -> {
+				cancelledWhileSending.set(result.cancel(false));
+				return null;
+			}).given(mailSender).send(any(MimeMessage[].class));
+
+			assertThat(transport.flush()).isEqualTo(1);
+
+			assertThat(cancelledWhileSending).isFalse();
+			assertThat(result).isCompleted().isNotCompletedExceptionally();
+		}
+	}
+
+	@Nested
+	@DisplayName("수신 도메인별 발송 한도")
+	class ThrottleTests {
+
+		@Test
+		@DisplayName("[Success] 한 도메인의 초당 한도를 넘는 메일은 보류하고 다른 도메인 메일을 먼저 보낸다")
+		void test01() {
+			MimeMessage first = submit("a@gmail.com");
+			MimeMessage second = submit("b@GMAIL.com");
+			MimeMessage held = submit("c@gmail.com");
+			MimeMessage other = submit("d@naver.com");
+
+			assertThat(transport.flush()).isEqualTo(3);
+
+			ArgumentCaptor<MimeMessage[]> captor = ArgumentCaptor.forClass(MimeMessage[].class);
+			then(mailSender).should().send(captor.capture());
+			assertThat(captor.getValue()).containsExactly(first, second, other);
+			assertThat(meterRegistry.get("lm.email.throttled").counter().count()).isEqualTo(1.0);
+
+			assertThat(transport.flush()).isZero();
+
+			clock.set(NOW.plusSeconds(1));
+			assertThat(transport.flush()).isEqualTo(1);
+			then(mailSender).should(times(2)).send(captor.capture());
+			assertThat(captor.getValue()).containsExactly(held);
+		}
+	}
+
+	@Nested
+	@DisplayName("종료")
+	class ShutdownTests {
+
+		@Test
+		@DisplayName("[Success] 도메인 한도에 걸린 메일도 다음 초를 기다려 모두 보낸다")
+		void test01() {
+			submit("a@gmail.com");
+			submit("b@gmail.com");
+			CompletableFuture<Void> held = transport.submit(mock(MimeMessage.class), "c@gmail.com");
+			willAnswer(invocation -> {
+				clock.set(clock.instant().plusSeconds(1));
+				return null;
+			}).given(mailSender).send(any(MimeMessage[].class));
+
+			transport.drain(Duration.ofSeconds(5));
+
+			then(mailSender).should(times(2)).send(any(MimeMessage[].class));
+			assertThat(held).isCompleted().isNotCompletedExceptionally();
+		}
+
+		@Test
+		@DisplayName("[Failure] 제한 시간 안에 보내지 못한 메일은 실패로 완료한다")
+		void test02() {
+			submit("a@gmail.com");
+			submit("b@gmail.com");
+			CompletableFuture<Void> held = transport.submit(mock(MimeMessage.class), "c@gmail.com");
+
+			transport.drain(Duration.ofMillis(300));
+
+			then(mailSender).should().send(any(MimeMessage[].class));
+			assertThat(held).isCompletedExceptionally();
+			assertThat(meterRegistry.get("lm.email.failed").counter().count()).isEqualTo(1.0);
+		}
+	}
+
+	private static class MutableClock extends Clock {
+
+		private Instant instant;
+
+		MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		void set(Instant instant) {
+			this.instant = instant;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
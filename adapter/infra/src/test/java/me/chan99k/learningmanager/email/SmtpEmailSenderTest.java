@@ -3,6 +3,12 @@ package me.chan99k.learningmanager.email;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,6 +19,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mail.javamail.JavaMailSender;
 
 import jakarta.mail.internet.MimeMessage;
+import me.chan99k.learningmanager.member.EmailOutboxMessage;
+import me.chan99k.learningmanager.member.EmailOutboxType;
 
 @ExtendWith(MockitoExtension.class)
 class SmtpEmailSenderTest {
@@ -25,6 +33,9 @@ class SmtpEmailSenderTest {
 	@Mock
 	JavaMailSender mailSender;
 
+	@Mock
+	PooledMailTransport mailTransport;
+
 	@Mock
 	MimeMessage mimeMessage;
 
@@ -33,67 +44,80 @@ class SmtpEmailSenderTest {
 	@BeforeEach
 	void setUp() {
 		given(mailSender.createMimeMessage()).willReturn(mimeMessage);
-		emailSender = new SmtpEmailSender(mailSender, FROM_EMAIL, BASE_URL);
+		emailSender = new SmtpEmailSender(mailSender, mailTransport, FROM_EMAIL, BASE_URL, 1);
 	}
 
 	@Nested
-	@DisplayName("sendSignUpConfirmEmail 메서드")
-	class SendSignUpConfirmEmailTest {
+	@DisplayName("deliver 메서드")
+	class DeliverTest {
+
+		private EmailOutboxMessage outboxMessage(Long id) {
+			return new EmailOutboxMessage(id, EmailOutboxType.SIGN_UP_CONFIRM, TEST_EMAIL, TEST_TOKEN, 1, Instant.now());
+		}
 
 		@Test
-		@DisplayName("[Success] 회원가입 인증 이메일을 발송한다")
-		void sends_signup_confirm_email() {
-			emailSender.sendSignUpConfirmEmail(TEST_EMAIL, TEST_TOKEN);
+		@DisplayName("[Success] 전송기가 발송을 마치면 실패 없이 돌려준다")
+		void returns_no_failure_when_sent() {
+			given(mailTransport.submit(mimeMessage, TEST_EMAIL)).willReturn(CompletableFuture.completedFuture(null));
 
-			then(mailSender).should().createMimeMessage();
-			then(mailSender).should().send(mimeMessage);
+			Map<Long, String> failures = emailSender.deliver(List.of(outboxMessage(1L), outboxMessage(2L)));
+
+			assertThat(failures).isEmpty();
+			then(mailTransport).should(times(2)).submit(mimeMessage, TEST_EMAIL);
 		}
 
 		@Test
-		@DisplayName("[Success] MimeMessage를 생성하고 JavaMailSender로 발송한다")
-		void creates_and_sends_mime_message() {
-			emailSender.sendSignUpConfirmEmail(TEST_EMAIL, TEST_TOKEN);
+		@DisplayName("[Failure] 발송에 실패하거나 대기열에 넣지 못한 메일만 실패로 돌려준다")
+		void returns_failed_messages() {
+			given(mailTransport.submit(mimeMessage, TEST_EMAIL))
+				.willReturn(CompletableFuture.failedFuture(new RuntimeException("수신 거부")))
+				.willThrow(new RejectedExecutionException("대기열 가득 참"))
+				.willReturn(CompletableFuture.completedFuture(null));
 
-			then(mailSender).should(times(1)).createMimeMessage();
-			then(mailSender).should(times(1)).send(any(MimeMessage.class));
-		}
-	}
+			Map<Long, String> failures = emailSender.deliver(
+				List.of(outboxMessage(1L), outboxMessage(2L), outboxMessage(3L)));
 
-	@Nested
-	@DisplayName("sendPasswordResetEmail 메서드")
-	class SendPasswordResetEmailTest {
+			assertThat(failures).containsOnlyKeys(1L, 2L);
+		}
 
 		@Test
-		@DisplayName("[Success] 비밀번호 재설정 이메일을 발송한다")
-		void sends_password_reset_email() {
-			emailSender.sendPasswordResetEmail(TEST_EMAIL, TEST_TOKEN);
+		@DisplayName("[Failure] 메일 본문을 만들지 못한 메일은 전송기에 넣지 않고 실패로 돌려준다")
+		void returns_creation_failure_as_failure() {
+			given(mailSender.createMimeMessage()).willThrow(new RuntimeException("메시지 생성 실패"));
 
-			then(mailSender).should().createMimeMessage();
-			then(mailSender).should().send(mimeMessage);
-		}
-	}
+			Map<Long, String> failures = emailSender.deliver(List.of(outboxMessage(1L)));
 
-	@Nested
-	@DisplayName("이메일 발송 실패")
-	class EmailSendFailureTest {
+			assertThat(failures).containsOnlyKeys(1L);
+			then(mailTransport).shouldHaveNoInteractions();
+		}
 
 		@Test
-		@DisplayName("[Failure] 메일 발송 실패 시 RuntimeException을 던진다")
-		void throws_exception_on_send_failure() {
-			willThrow(new RuntimeException("SMTP 연결 실패"))
-				.given(mailSender).send(any(MimeMessage.class));
+		@DisplayName("[Failure] 제한 시간 안에 끝나지 않은 메일은 취소해 보내지 않고 실패로 돌려준다")
+		void returns_timeout_as_failure() {
+			CompletableFuture<Void> result = new CompletableFuture<>();
+			given(mailTransport.submit(mimeMessage, TEST_EMAIL)).willReturn(result);
+
+			Map<Long, String> failures = emailSender.deliver(List.of(outboxMessage(1L)));
 
-			assertThatThrownBy(() -> emailSender.sendSignUpConfirmEmail(TEST_EMAIL, TEST_TOKEN))
-				.isInstanceOf(RuntimeException.class);
+			assertThat(failures).containsOnlyKeys(1L);
+			assertThat(result).isCancelled();
 		}
 
 		@Test
-		@DisplayName("[Failure] MimeMessage 생성 실패 시에도 예외가 전파된다")
-		void throws_exception_on_message_creation_failure() {
-			given(mailSender.createMimeMessage()).willThrow(new RuntimeException("메시지 생성 실패"));
-
-			assertThatThrownBy(() -> emailSender.sendSignUpConfirmEmail(TEST_EMAIL, TEST_TOKEN))
-				.isInstanceOf(RuntimeException.class);
+		@DisplayName("[Success] 제한 시간이 지났어도 이미 보내는 중이라 취소하지 못한 메일은 결과를 기다린다")
+		void waits_for_in_flight_mail() {
+			CompletableFuture<Void> inFlight = new CompletableFuture<>() {
+				@Override
+				public boolean cancel(boolean mayInterruptIfRunning) {
+					complete(null);
+					return false;
+				}
+			};
+			given(mailTransport.submit(mimeMessage, TEST_EMAIL)).willReturn(inFlight);
+
+			Map<Long, String> failures = emailSender.deliver(List.of(outboxMessage(1L)));
+
+			assertThat(failures).isEmpty();
 		}
 	}
 }
@@ -1,35 +1,321 @@
 package me.chan99k.learningmanager.adapter.persistence.attendance;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import org.bson.types.ObjectId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Repository;
 
+import me.chan99k.learningmanager.adapter.persistence.attendance.CustomAttendanceMemberStatsMongoRepository.StatusChange;
+import me.chan99k.learningmanager.adapter.persistence.attendance.CustomAttendanceMongoRepository.BulkCheckInResult;
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceCourseStatsDocument;
 import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceDocument;
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceEventDocument;
 import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceReservationDocument;
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceSnapshotDocument;
 import me.chan99k.learningmanager.attendance.Attendance;
 import me.chan99k.learningmanager.attendance.AttendanceCommandRepository;
+import me.chan99k.learningmanager.attendance.AttendanceProblemCode;
+import me.chan99k.learningmanager.attendance.AttendanceStatus;
+import me.chan99k.learningmanager.attendance.CheckedIn;
+import me.chan99k.learningmanager.attendance.CheckedOut;
 
+/**
+ * 체크인/체크아웃은 기본적으로 (sessionId, memberId) 유니크 인덱스를 이용한 단일 findAndModify 로 반영한다.
+ * <p>
+ * attendance.write.reservation-enabled=true 이면 기존 예약(attendance_reservations) 프로토콜로 되돌아가,
+ * 조회 후 도메인 로직을 적용하고 예약 생성/커밋/정리와 함께 저장한다.
+ * <p>
+ * 이미 저장된 출석은 문서 전체를 다시 쓰지 않고, 새로 추가된 이벤트와 갱신된 스냅샷만 기록한다.
+ * <p>
+ * courseId 가 주어진 쓰기는 출석 문서를 쓴 직후 같은 호출 안에서 과정-회원별 출석 통계(attendance_member_stats)에
+ * 최종 상태 변화를 반영한다. 두 컬렉션을 하나의 트랜잭션으로 묶지 않으므로, 통계 반영에 실패하면
+ * 해당 과정을 재집계 대상으로 되돌려 백그라운드 재집계가 출석 문서로부터 다시 맞추게 한다.
+ */
 @Repository
 public class AttendanceCommandAdapter implements AttendanceCommandRepository {
 
 	private static final Logger log = LoggerFactory.getLogger(AttendanceCommandAdapter.class);
+	private static final int STATS_REBUILD_ATTEMPTS = 3;
+	private static final Duration STATS_WRITE_ABANDON_AFTER = Duration.ofMinutes(5);
 
 	private final AttendanceMongoRepository attendanceRepository;
 	private final AttendanceReservationMongoRepository reservationRepository;
+	private final AttendanceMemberStatsMongoRepository memberStatsRepository;
+	private final boolean reservationEnabled;
 
 	public AttendanceCommandAdapter(
 		AttendanceMongoRepository attendanceRepository,
-		AttendanceReservationMongoRepository reservationRepository
+		AttendanceReservationMongoRepository reservationRepository,
+		AttendanceMemberStatsMongoRepository memberStatsRepository,
+		@Value("${attendance.write.reservation-enabled:false}") boolean reservationEnabled
 	) {
 		this.attendanceRepository = attendanceRepository;
 		this.reservationRepository = reservationRepository;
+		this.memberStatsRepository = memberStatsRepository;
+		this.reservationEnabled = reservationEnabled;
 	}
 
 	@Override
 	public Attendance save(Attendance attendance) {
+		return save(attendance, null);
+	}
+
+	@Override
+	public Attendance save(Attendance attendance, Long courseId) {
+		AttendanceStatus before = attendance.getId() != null ? attendance.getPersistedFinalStatus() : null;
+
+		Attendance saved;
+		if (reservationEnabled) {
+			saved = saveWithReservation(attendance);
+		} else if (attendance.getId() == null) {
+			saved = attendanceRepository.save(AttendanceDocument.from(attendance)).toDomain();
+		} else {
+			saved = appendPendingEvents(attendance);
+		}
+
+		recordStatusChanges(courseId, List.of(new StatusChange(saved.getMemberId(), before, saved.getFinalStatus())));
+		return saved;
+	}
+
+	@Override
+	public Attendance appendCheckIn(Long courseId, Long sessionId, Long memberId, CheckedIn event) {
+		if (reservationEnabled) {
+			Attendance attendance = attendanceRepository.findBySessionIdAndMemberId(sessionId, memberId)
+				.map(AttendanceDocument::toDomain)
+				.orElseGet(() -> Attendance.create(sessionId, memberId));
+			attendance.checkIn(fixedAt(event.timestamp()));
+			return save(attendance, courseId);
+		}
+
+		ObjectId newId = new ObjectId();
+		AttendanceEventDocument eventDocument = AttendanceEventDocument.from(event);
+		AttendanceDocument previous;
+		try {
+			previous = attendanceRepository.upsertCheckIn(newId, sessionId, memberId, eventDocument);
+		} catch (DuplicateKeyException e) {
+			// 마지막 이벤트가 CheckedIn 이라 조건에 맞는 문서가 없고, upsert 가 유니크 인덱스에 막힌 경우
+			throw new IllegalStateException(AttendanceProblemCode.ALREADY_CHECKED_IN.getMessage());
+		}
+
+		if (previous == null) {
+			recordStatusChanges(courseId, List.of(StatusChange.created(memberId, AttendanceStatus.PRESENT)));
+			return Attendance.restore(newId.toHexString(), sessionId, memberId, List.of(event));
+		}
+
+		ObjectId id = previous.get_id();
+		Attendance attendance = previous.toDomainAppending(eventDocument, () -> attendanceRepository.findEventsById(id));
+		recordStatusChanges(courseId,
+			List.of(new StatusChange(memberId, previous.getFinalStatus(), attendance.getFinalStatus())));
+		return attendance;
+	}
+
+	@Override
+	public Attendance appendCheckOut(Long sessionId, Long memberId, CheckedOut event) {
+		if (reservationEnabled) {
+			Attendance attendance = attendanceRepository.findBySessionIdAndMemberId(sessionId, memberId)
+				.map(AttendanceDocument::toDomain)
+				.orElseThrow(() -> new IllegalArgumentException("[System] 출석 정보가 없습니다."));
+			attendance.checkOut(fixedAt(event.timestamp()));
+			return saveWithReservation(attendance);
+		}
+
+		AttendanceDocument updated = attendanceRepository.appendCheckOut(
+			sessionId, memberId, AttendanceEventDocument.from(event));
+
+		if (updated == null) {
+			// 실패한 경우에만 원인을 구분하기 위해 한 번 더 조회한다
+			if (!attendanceRepository.existsBySessionIdAndMemberId(sessionId, memberId)) {
+				throw new IllegalArgumentException("[System] 출석 정보가 없습니다.");
+			}
+			throw new IllegalStateException(AttendanceProblemCode.NOT_CHECKED_IN.getMessage());
+		}
+		return toDomain(updated);
+	}
+
+	@Override
+	public CheckInBatchResult appendCheckIns(
+		Long courseId, Long sessionId, Collection<Long> memberIds, CheckedIn event
+	) {
+		Map<Long, Attendance> appended = new HashMap<>();
+		if (memberIds.isEmpty()) {
+			return new CheckInBatchResult(appended, Map.of());
+		}
+
+		if (reservationEnabled) {
+			for (Long memberId : memberIds) {
+				tryAppendCheckIn(courseId, sessionId, memberId, event, appended);
+			}
+			return new CheckInBatchResult(appended, Map.of());
+		}
+
+		BulkCheckInResult result = attendanceRepository.bulkUpsertCheckIns(
+			sessionId, memberIds, AttendanceEventDocument.from(event));
+		recordStatusChanges(courseId, result.created().stream()
+			.map(memberId -> StatusChange.created(memberId, AttendanceStatus.PRESENT))
+			.toList());
+
+		Map<Long, RuntimeException> failed = new HashMap<>();
+		result.failed().forEach((memberId, error) -> {
+			log.warn("[System] 배치 체크인 쓰기 실패: sessionId={}, memberId={}, error={}", sessionId, memberId, error);
+			failed.put(memberId, new IllegalStateException("[System] 출석 체크인 저장에 실패했습니다."));
+		});
+
+		List<Long> accepted = memberIds.stream()
+			.filter(memberId -> !result.conflicted().contains(memberId) && !failed.containsKey(memberId))
+			.toList();
+		if (!accepted.isEmpty()) {
+			// bulkWrite 는 갱신된 문서를 돌려주지 않으므로 반영된 회원의 출석을 한 번에 다시 읽는다
+			for (AttendanceDocument doc : attendanceRepository.findLatestBySessionIdAndMemberIdIn(sessionId,
+				accepted)) {
+				appended.put(doc.getMemberId(), toDomain(doc));
+			}
+		}
+
+		// 이미 체크인했거나 정정으로 최종 상태가 바뀐 회원은 이전 상태를 돌려받는 단건 경로로 구분한다
+		for (Long memberId : result.conflicted()) {
+			tryAppendCheckIn(courseId, sessionId, memberId, event, appended);
+		}
+		return new CheckInBatchResult(appended, failed);
+	}
+
+	@Override
+	public void invalidateCourseStats(Long courseId) {
+		memberStatsRepository.invalidate(courseId);
+	}
+
+	/**
+	 * 집계 전에 generation, 카운터 쓰기 횟수, 카운터 version 을 먼저 읽는다.
+	 * 덮어쓰기 전에 반영된 $inc 는 version 조건이 막고, 덮어쓰기 이후에 도착한 $inc 는 카운터 쓰기 횟수가 바뀌므로
+	 * completeRebuild 가 받아들이지 않아 과정이 STALE 로 남고 다음 주기에 다시 집계된다.
+	 * 시작할 때 진행 중인 카운터 쓰기가 있으면 그 출석이 집계에 담겼는지 알 수 없으므로 다음 주기로 미루며,
+	 * STATS_WRITE_ABANDON_AFTER 가 지나도록 끝나지 않은 쓰기는 끝난 것으로 보고 진행한다.
+	 * 덮어쓰지 못한 회원은 version 을 다시 읽고 해당 회원만 다시 집계해 최대 STATS_REBUILD_ATTEMPTS 번까지 재시도한다.
+	 */
+	@Override
+	public boolean rebuildCourseStats(Long courseId, List<Long> sessionIds) {
+		AttendanceCourseStatsDocument courseStats = memberStatsRepository.findStaleStats(courseId);
+		if (courseStats == null) {
+			return true;
+		}
+		long writes = courseStats.getWritesStarted();
+		if (courseStats.hasWritesInFlight() && !abandonStaleWrites(courseStats)) {
+			log.debug("[System] 진행 중인 출석 통계 쓰기가 있어 재집계를 다음 주기로 미룹니다: courseId={}", courseId);
+			return false;
+		}
+
+		Map<Long, Long> versions = memberStatsRepository.findVersions(courseId, null);
+		List<AttendanceMongoRepository.MemberAttendanceAggregationInfo> aggregated = sessionIds.isEmpty()
+			? List.of()
+			: attendanceRepository.aggregateAttendanceBySessions(sessionIds);
+		Set<Long> conflicted = memberStatsRepository.replaceStats(courseId, aggregated, versions);
+
+		for (int attempt = 1; attempt < STATS_REBUILD_ATTEMPTS && !conflicted.isEmpty(); attempt++) {
+			List<Long> memberIds = List.copyOf(conflicted);
+			versions = memberStatsRepository.findVersions(courseId, memberIds);
+			aggregated = sessionIds.isEmpty()
+				? List.of()
+				: attendanceRepository.aggregateAllMembersAttendance(sessionIds, memberIds);
+			conflicted = memberStatsRepository.replaceStats(courseId, aggregated, versions);
+		}
+
+		if (!conflicted.isEmpty()) {
+			log.warn("[System] 출석 통계 재집계 중 경합이 계속되어 다음 주기로 미룹니다: courseId={}, members={}",
+				courseId, conflicted.size());
+			return false;
+		}
+		return memberStatsRepository.completeRebuild(courseId, courseStats.getGeneration(), writes, Instant.now());
+	}
+
+	private boolean abandonStaleWrites(AttendanceCourseStatsDocument courseStats) {
+		Instant lastWriteStartedAt = courseStats.getLastWriteStartedAt();
+		if (lastWriteStartedAt != null
+			&& lastWriteStartedAt.plus(STATS_WRITE_ABANDON_AFTER).isAfter(Instant.now())) {
+			return false;
+		}
+		log.warn("[System] 끝나지 않은 출석 통계 쓰기를 끝난 것으로 보고 재집계합니다: courseId={}, writes={}",
+			courseStats.getCourseId(), courseStats.getWritesStarted() - courseStats.getWritesFinished());
+		return memberStatsRepository.abandonWritesInFlight(courseStats.getCourseId(), courseStats.getWritesStarted());
+	}
+
+	private void tryAppendCheckIn(
+		Long courseId, Long sessionId, Long memberId, CheckedIn event, Map<Long, Attendance> appended
+	) {
+		try {
+			appended.put(memberId, appendCheckIn(courseId, sessionId, memberId, event));
+		} catch (IllegalStateException e) {
+			log.debug("[System] 이미 체크인된 회원 제외: sessionId={}, memberId={}", sessionId, memberId);
+		}
+	}
+
+	/**
+	 * 출석 문서는 이미 기록되었으므로 통계 반영 실패로 요청을 실패시키지 않고, 과정 통계를 재집계 대상으로 되돌린다.
+	 */
+	private void recordStatusChanges(Long courseId, List<StatusChange> changes) {
+		if (courseId == null || changes.isEmpty()) {
+			return;
+		}
+
+		try {
+			memberStatsRepository.applyStatusChanges(courseId, changes);
+		} catch (RuntimeException e) {
+			log.warn("[System] 출석 통계 반영 실패 - 재집계 대상으로 표시합니다: courseId={}", courseId, e);
+			try {
+				memberStatsRepository.invalidate(courseId);
+			} catch (RuntimeException invalidateError) {
+				log.error("[System] 출석 통계 재집계 표시 실패: courseId={}, error={}",
+					courseId, invalidateError.getMessage());
+			}
+		}
+	}
+
+	private Attendance appendPendingEvents(Attendance attendance) {
+		List<AttendanceEventDocument> pendingEvents = attendance.getPendingEvents().stream()
+			.map(AttendanceEventDocument::from)
+			.toList();
+		if (pendingEvents.isEmpty()) {
+			return attendance;
+		}
+
+		AttendanceDocument updated = attendanceRepository.appendEvents(
+			new ObjectId(attendance.getId()),
+			attendance.getPersistedEventCount(),
+			pendingEvents,
+			AttendanceSnapshotDocument.from(attendance.getSnapshot()),
+			attendance.getFinalStatus());
+
+		if (updated == null) {
+			// 조회 이후 다른 요청이 이벤트를 추가했다면 그 결과를 덮어쓰지 않도록 거부한다
+			throw new IllegalStateException("[System] 다른 요청이 출석 정보를 먼저 변경하였습니다. 다시 시도해 주세요.");
+		}
+		return toDomain(updated);
+	}
+
+	/**
+	 * 쓰기 결과와 findLatest* 결과는 스냅샷 이후의 이벤트만 담고 있으므로, 전체 이력은 필요할 때 따로 읽는다.
+	 */
+	private Attendance toDomain(AttendanceDocument document) {
+		ObjectId id = document.get_id();
+		return document.toDomain(() -> attendanceRepository.findEventsById(id));
+	}
+
+	private Clock fixedAt(Instant timestamp) {
+		return Clock.fixed(timestamp, ZoneOffset.UTC);
+	}
+
+	private Attendance saveWithReservation(Attendance attendance) {
 		String sessionMemberKey = attendance.getSessionId() + ":" + attendance.getMemberId();
 
 		// 출석에 대한 예약 생성 또는 재사용
@@ -0,0 +1,15 @@
+package me.chan99k.learningmanager.adapter.persistence.attendance;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceMemberStatsDocument;
+
+public interface AttendanceMemberStatsMongoRepository
+	extends MongoRepository<AttendanceMemberStatsDocument, ObjectId>, CustomAttendanceMemberStatsMongoRepository {
+
+	List<AttendanceMemberStatsDocument> findByCourseIdAndMemberIdIn(Long courseId, Collection<Long> memberIds);
+}
@@ -13,6 +13,8 @@ public interface AttendanceMongoRepository
 
 	Optional<AttendanceDocument> findBySessionIdAndMemberId(Long sessionId, Long memberId);
 
+	boolean existsBySessionIdAndMemberId(Long sessionId, Long memberId);
+
 	List<AttendanceDocument> findByMemberId(Long memberId);
 
 	List<AttendanceDocument> findByMemberIdAndSessionIdIn(Long memberId, List<Long> sessionIds);
@@ -1,12 +1,20 @@
 package me.chan99k.learningmanager.adapter.persistence.attendance;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.bson.types.ObjectId;
 import org.springframework.stereotype.Repository;
 
 import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceDocument;
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceMemberStatsDocument;
 import me.chan99k.learningmanager.attendance.Attendance;
 import me.chan99k.learningmanager.attendance.AttendanceQueryRepository;
 import me.chan99k.learningmanager.attendance.AttendanceStatus;
@@ -15,9 +23,14 @@ import me.chan99k.learningmanager.attendance.AttendanceStatus;
 public class AttendanceQueryAdapter implements AttendanceQueryRepository {
 
 	private final AttendanceMongoRepository repository;
+	private final AttendanceMemberStatsMongoRepository memberStatsRepository;
 
-	public AttendanceQueryAdapter(AttendanceMongoRepository repository) {
+	public AttendanceQueryAdapter(
+		AttendanceMongoRepository repository,
+		AttendanceMemberStatsMongoRepository memberStatsRepository
+	) {
 		this.repository = repository;
+		this.memberStatsRepository = memberStatsRepository;
 	}
 
 	@Override
@@ -30,15 +43,15 @@ public class AttendanceQueryAdapter implements AttendanceQueryRepository {
 		}
 
 		return repository
-			.findById(objectId)
-			.map(AttendanceDocument::toDomain);
+			.findLatestById(objectId)
+			.map(this::toDomain);
 	}
 
 	@Override
 	public Optional<Attendance> findBySessionIdAndMemberId(Long sessionId, Long memberId) {
 		return repository
-			.findBySessionIdAndMemberId(sessionId, memberId)
-			.map(AttendanceDocument::toDomain);
+			.findLatestBySessionIdAndMemberId(sessionId, memberId)
+			.map(this::toDomain);
 	}
 
 	@Override
@@ -64,6 +77,102 @@ public class AttendanceQueryAdapter implements AttendanceQueryRepository {
 			.toList();
 	}
 
+	/**
+	 * 출석 목록은 세 필드만 읽어 회원별로 묶고, 통계는 $group 집계 대신 과정-회원별 카운터에서 읽는다.
+	 * <p>
+	 * 재집계가 끝나지 않은 과정은 카운터를 건드리지 않고 기존 집계 결과를 그대로 반환하며, 과정을 재집계 대상으로 등록한다.
+	 * 카운터 재집계는 조회 경로 밖에서 AttendanceCommandRepository#rebuildCourseStats 가 맡는다.
+	 */
+	@Override
+	public List<MemberAttendanceResult> findAllMembersAttendanceWithCourseStats(
+		Long courseId, List<Long> sessionIds, List<Long> memberIds
+	) {
+		if (sessionIds.isEmpty() || memberIds.isEmpty()) {
+			return List.of();
+		}
+
+		if (!memberStatsRepository.isRebuilt(courseId)) {
+			memberStatsRepository.requestRebuild(courseId);
+
+			return repository.aggregateAllMembersAttendance(sessionIds, memberIds)
+				.stream()
+				.map(this::mapToResult)
+				.toList();
+		}
+
+		Map<Long, List<AttendanceRecord>> recordsByMember = new LinkedHashMap<>();
+		for (AttendanceDocument document : repository.findStatusesBySessionIdInAndMemberIdIn(sessionIds, memberIds)) {
+			recordsByMember.computeIfAbsent(document.getMemberId(), memberId -> new ArrayList<>())
+				.add(new AttendanceRecord(
+					document.get_id().toHexString(),
+					document.getSessionId(),
+					document.getFinalStatus()
+				));
+		}
+		if (recordsByMember.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, AttendanceMemberStatsDocument> statsByMember = memberStatsRepository
+			.findByCourseIdAndMemberIdIn(courseId, recordsByMember.keySet())
+			.stream()
+			.collect(Collectors.toMap(AttendanceMemberStatsDocument::getMemberId, Function.identity()));
+
+		return recordsByMember.entrySet().stream()
+			.map(entry -> new MemberAttendanceResult(
+				entry.getKey(),
+				entry.getValue(),
+				toStats(statsByMember.get(entry.getKey()))
+			))
+			.toList();
+	}
+
+	@Override
+	public List<Long> findCoursesPendingStatsRebuild(int limit) {
+		return memberStatsRepository.findStaleCourseIds(limit);
+	}
+
+	@Override
+	public void forEachAttendanceRecord(
+		List<Long> sessionIds, List<Long> memberIds, BiConsumer<Long, AttendanceRecord> consumer
+	) {
+		if (sessionIds.isEmpty() || memberIds.isEmpty()) {
+			return;
+		}
+
+		try (Stream<AttendanceDocument> documents =
+				 repository.streamStatusesBySessionIdInAndMemberIdIn(sessionIds, memberIds)) {
+			documents.forEach(document -> consumer.accept(document.getMemberId(), new AttendanceRecord(
+				document.get_id().toHexString(),
+				document.getSessionId(),
+				document.getFinalStatus()
+			)));
+		}
+	}
+
+	/**
+	 * 스냅샷과 그 이후의 이벤트만 읽어 복원하고, 전체 이력은 감사 조회 등에서 필요할 때 읽는다.
+	 */
+	private Attendance toDomain(AttendanceDocument document) {
+		ObjectId id = document.get_id();
+		return document.toDomain(() -> repository.findEventsById(id));
+	}
+
+	private AttendanceStats toStats(AttendanceMemberStatsDocument stats) {
+		if (stats == null) {
+			return new AttendanceStats(0, 0, 0, 0, 0, 0.0);
+		}
+
+		return new AttendanceStats(
+			stats.getTotal(),
+			stats.getPresent(),
+			stats.getAbsent(),
+			stats.getLate(),
+			stats.getLeftEarly(),
+			stats.rate()
+		);
+	}
+
 	private MemberAttendanceResult emptyResult(Long memberId) {
 		return new MemberAttendanceResult(
 			memberId,
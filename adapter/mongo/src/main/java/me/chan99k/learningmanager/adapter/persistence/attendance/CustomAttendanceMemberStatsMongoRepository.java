@@ -0,0 +1,92 @@
+package me.chan99k.learningmanager.adapter.persistence.attendance;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceCourseStatsDocument;
+import me.chan99k.learningmanager.attendance.AttendanceStatus;
+
+public interface CustomAttendanceMemberStatsMongoRepository {
+
+	/**
+	 * 출석 문서의 최종 상태 변화를 (courseId, memberId) 카운터에 $inc upsert 로 반영하고 version 을 올린다.
+	 * 상태가 그대로인 변화는 건너뛰고, 나머지는 순서 없는(unordered) bulkWrite 한 번으로 실행한다.
+	 * 실행 전후로 과정의 writesStarted, writesFinished 를 하나씩 올린다.
+	 */
+	void applyStatusChanges(Long courseId, List<StatusChange> changes);
+
+	/**
+	 * 과정의 카운터가 출석 문서로부터 재집계되어 그대로 신뢰할 수 있는(READY) 상태인지 확인한다.
+	 */
+	boolean isRebuilt(Long courseId);
+
+	/**
+	 * 재집계 기록이 없는 과정을 재집계 대상(STALE)으로 등록한다. 이미 등록된 과정은 건드리지 않는다.
+	 */
+	void requestRebuild(Long courseId);
+
+	/**
+	 * 과정을 재집계 대상으로 되돌리고 generation 을 올려, 진행 중인 재집계가 READY 로 끝나지 않게 한다.
+	 */
+	void invalidate(Long courseId);
+
+	/**
+	 * 재집계 대상인 과정 ID 를 최대 limit 개 반환한다.
+	 */
+	List<Long> findStaleCourseIds(int limit);
+
+	/**
+	 * 재집계 대상인 과정의 현재 상태(generation, 진행 중인 카운터 쓰기). 재집계 대상이 아니면 null.
+	 */
+	AttendanceCourseStatsDocument findStaleStats(Long courseId);
+
+	/**
+	 * 끝나지 않은 채 남은 카운터 쓰기를 끝난 것으로 본다. writesStarted 가 그대로인 경우에만 writesFinished 를 맞춘다.
+	 * 쓰기 도중 프로세스가 죽어 writesFinished 가 따라오지 못한 과정이 재집계되지 못하고 남는 것을 막는다.
+	 *
+	 * @return writesFinished 를 맞췄는지 여부
+	 */
+	boolean abandonWritesInFlight(Long courseId, long writesStarted);
+
+	/**
+	 * 과정의 회원별 카운터 version 을 읽는다. memberIds 가 null 이면 과정의 카운터 전체를 읽는다.
+	 * version 필드가 없는 카운터는 null 로 담긴다.
+	 */
+	Map<Long, Long> findVersions(Long courseId, Collection<Long> memberIds);
+
+	/**
+	 * 집계 결과로 회원별 카운터를 덮어쓴다. versions 에 있지만 집계 결과에 없는 회원은 0 으로 덮어쓴다.
+	 * 각 카운터는 versions 에 읽어 둔 version 이 그대로인 경우에만 덮어쓰며(없던 카운터는 그 사이 생기지 않은 경우에만 만든다),
+	 * 그 사이 $inc 가 반영되어 덮어쓰지 못한 회원을 반환한다.
+	 */
+	Set<Long> replaceStats(
+		Long courseId, List<AttendanceMongoRepository.MemberAttendanceAggregationInfo> aggregated,
+		Map<Long, Long> versions
+	);
+
+	/**
+	 * generation 이 그대로이고, writesStarted 와 writesFinished 가 모두 writes 인 경우에만 과정을 READY 로 바꾼다.
+	 * 재집계 시작 이후 시작되거나 끝난 카운터 쓰기가 있으면 STALE 로 남는다.
+	 *
+	 * @return READY 로 바뀌었는지 여부
+	 */
+	boolean completeRebuild(Long courseId, long generation, long writes, Instant rebuiltAt);
+
+	/**
+	 * @param from 변경 전 최종 상태. 출석 문서가 새로 만들어진 경우 null 이며, 이때 total 도 함께 늘린다.
+	 * @param to   변경 후 최종 상태
+	 */
+	record StatusChange(Long memberId, AttendanceStatus from, AttendanceStatus to) {
+
+		public static StatusChange created(Long memberId, AttendanceStatus to) {
+			return new StatusChange(memberId, null, to);
+		}
+
+		public boolean isNoop() {
+			return from == to;
+		}
+	}
+}
@@ -0,0 +1,246 @@
+package me.chan99k.learningmanager.adapter.persistence.attendance;
+
+import static me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceMemberStatsDocument.*;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import com.mongodb.bulk.BulkWriteError;
+
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceCourseStatsDocument;
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceCourseStatsDocument.Status;
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceMemberStatsDocument;
+import me.chan99k.learningmanager.attendance.AttendanceStatus;
+
+@Repository
+public class CustomAttendanceMemberStatsMongoRepositoryImpl implements CustomAttendanceMemberStatsMongoRepository {
+
+	private static final String TOTAL_FIELD = "total";
+	private static final String VERSION_FIELD = "version";
+	private static final String STATUS_FIELD = "status";
+	private static final String GENERATION_FIELD = "generation";
+	private static final String WRITES_STARTED_FIELD = "writesStarted";
+	private static final String WRITES_FINISHED_FIELD = "writesFinished";
+	private static final String LAST_WRITE_STARTED_AT_FIELD = "lastWriteStartedAt";
+	private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+
+	private final MongoTemplate mongoTemplate;
+
+	public CustomAttendanceMemberStatsMongoRepositoryImpl(MongoTemplate mongoTemplate) {
+		this.mongoTemplate = mongoTemplate;
+	}
+
+	/**
+	 * $inc 전후로 과정 문서의 writesStarted, writesFinished 를 올려 진행 중인 재집계가 이 증감을 알아챌 수 있게 한다.
+	 * 과정 문서가 없으면 재집계 대상(STALE)으로 만들어, 그 사이 시작된 재집계도 이 쓰기를 놓치지 않는다.
+	 */
+	@Override
+	public void applyStatusChanges(Long courseId, List<StatusChange> changes) {
+		List<StatusChange> effective = changes.stream()
+			.filter(change -> !change.isNoop())
+			.toList();
+		if (effective.isEmpty()) {
+			return;
+		}
+
+		BulkOperations bulkOps = mongoTemplate.bulkOps(
+			BulkOperations.BulkMode.UNORDERED, AttendanceMemberStatsDocument.class);
+		for (StatusChange change : effective) {
+			bulkOps.upsert(byCourseAndMember(courseId, change.memberId()), toIncrement(change));
+		}
+
+		mongoTemplate.upsert(byCourse(courseId),
+			new Update().inc(WRITES_STARTED_FIELD, 1L)
+				.set(LAST_WRITE_STARTED_AT_FIELD, Instant.now())
+				.setOnInsert(STATUS_FIELD, Status.STALE)
+				.setOnInsert(GENERATION_FIELD, 0L),
+			AttendanceCourseStatsDocument.class);
+		try {
+			bulkOps.execute();
+		} finally {
+			mongoTemplate.updateFirst(byCourse(courseId), new Update().inc(WRITES_FINISHED_FIELD, 1L),
+				AttendanceCourseStatsDocument.class);
+		}
+	}
+
+	@Override
+	public boolean isRebuilt(Long courseId) {
+		return mongoTemplate.exists(
+			Query.query(Criteria.where("_id").is(courseId).and(STATUS_FIELD).is(Status.READY)),
+			AttendanceCourseStatsDocument.class);
+	}
+
+	@Override
+	public void requestRebuild(Long courseId) {
+		mongoTemplate.upsert(byCourse(courseId),
+			new Update().setOnInsert(STATUS_FIELD, Status.STALE).setOnInsert(GENERATION_FIELD, 0L),
+			AttendanceCourseStatsDocument.class);
+	}
+
+	@Override
+	public void invalidate(Long courseId) {
+		mongoTemplate.upsert(byCourse(courseId),
+			new Update().set(STATUS_FIELD, Status.STALE).inc(GENERATION_FIELD, 1L),
+			AttendanceCourseStatsDocument.class);
+	}
+
+	@Override
+	public List<Long> findStaleCourseIds(int limit) {
+		Query query = Query.query(Criteria.where(STATUS_FIELD).is(Status.STALE)).limit(limit);
+		query.fields().include("_id");
+
+		return mongoTemplate.find(query, AttendanceCourseStatsDocument.class).stream()
+			.map(AttendanceCourseStatsDocument::getCourseId)
+			.toList();
+	}
+
+	@Override
+	public AttendanceCourseStatsDocument findStaleStats(Long courseId) {
+		return mongoTemplate.findOne(
+			Query.query(Criteria.where("_id").is(courseId).and(STATUS_FIELD).is(Status.STALE)),
+			AttendanceCourseStatsDocument.class);
+	}
+
+	@Override
+	public boolean abandonWritesInFlight(Long courseId, long writesStarted) {
+		Query query = Query.query(Criteria.where("_id").is(courseId).and(WRITES_STARTED_FIELD).is(writesStarted));
+		Update update = new Update().set(WRITES_FINISHED_FIELD, writesStarted);
+
+		return mongoTemplate.updateFirst(query, update, AttendanceCourseStatsDocument.class).getMatchedCount() > 0;
+	}
+
+	/**
+	 * version 이 없는 카운터와 0 인 카운터를 구분해야 하므로 매핑 없이 원본 문서로 읽는다.
+	 */
+	@Override
+	public Map<Long, Long> findVersions(Long courseId, Collection<Long> memberIds) {
+		Criteria criteria = Criteria.where("courseId").is(courseId);
+		if (memberIds != null) {
+			criteria = criteria.and("memberId").in(memberIds);
+		}
+		Query query = Query.query(criteria);
+		query.fields().include("memberId", VERSION_FIELD);
+
+		Map<Long, Long> versions = new HashMap<>();
+		for (Document document : mongoTemplate.find(query, Document.class,
+			mongoTemplate.getCollectionName(AttendanceMemberStatsDocument.class))) {
+			Number version = document.get(VERSION_FIELD, Number.class);
+			versions.put(document.get("memberId", Number.class).longValue(),
+				version == null ? null : version.longValue());
+		}
+		return versions;
+	}
+
+	/**
+	 * 회원마다 (courseId, memberId, version) 조건의 upsert 를 순서 없는 bulkWrite 한 번으로 실행한다.
+	 * 그 사이 $inc 로 version 이 바뀐 카운터는 조건에 맞지 않아 새 문서를 만들려다 course_member_idx 에 막히므로,
+	 * 중복 키 오류가 난 요청을 덮어쓰지 못한 회원으로 돌려준다.
+	 */
+	@Override
+	public Set<Long> replaceStats(
+		Long courseId, List<AttendanceMongoRepository.MemberAttendanceAggregationInfo> aggregated,
+		Map<Long, Long> versions
+	) {
+		Map<Long, AttendanceMongoRepository.MemberAttendanceAggregationInfo> aggregatedByMember = aggregated.stream()
+			.collect(Collectors.toMap(AttendanceMongoRepository.MemberAttendanceAggregationInfo::memberId,
+				Function.identity()));
+		Set<Long> targets = new LinkedHashSet<>(versions.keySet());
+		targets.addAll(aggregatedByMember.keySet());
+		if (targets.isEmpty()) {
+			return Set.of();
+		}
+
+		List<Long> orderedMemberIds = List.copyOf(targets);
+		BulkOperations bulkOps = mongoTemplate.bulkOps(
+			BulkOperations.BulkMode.UNORDERED, AttendanceMemberStatsDocument.class);
+		for (Long memberId : orderedMemberIds) {
+			Long version = versions.get(memberId);
+			Query guard = byCourseAndMember(courseId, memberId);
+			guard.addCriteria(Criteria.where(VERSION_FIELD).is(version));
+			bulkOps.upsert(guard, toReplacement(aggregatedByMember.get(memberId), version));
+		}
+
+		try {
+			bulkOps.execute();
+			return Set.of();
+		} catch (BulkOperationException e) {
+			Set<Long> conflicted = new HashSet<>();
+			for (BulkWriteError error : e.getErrors()) {
+				if (error.getCode() != DUPLICATE_KEY_ERROR_CODE) {
+					throw e;
+				}
+				conflicted.add(orderedMemberIds.get(error.getIndex()));
+			}
+			return conflicted;
+		}
+	}
+
+	@Override
+	public boolean completeRebuild(Long courseId, long generation, long writes, Instant rebuiltAt) {
+		Query query = Query.query(Criteria.where("_id").is(courseId)
+			.and(STATUS_FIELD).is(Status.STALE)
+			.and(GENERATION_FIELD).is(generation)
+			.and(WRITES_STARTED_FIELD).in(writeCounts(writes))
+			.and(WRITES_FINISHED_FIELD).in(writeCounts(writes)));
+		Update update = new Update().set(STATUS_FIELD, Status.READY).set("rebuiltAt", rebuiltAt);
+
+		return mongoTemplate.updateFirst(query, update, AttendanceCourseStatsDocument.class).getMatchedCount() > 0;
+	}
+
+	/**
+	 * 카운터 쓰기가 없었던 과정은 필드 자체가 없으므로 0 은 필드가 없는 문서와도 맞아야 한다.
+	 */
+	private List<Long> writeCounts(long writes) {
+		return writes == 0L ? Arrays.asList(0L, null) : List.of(writes);
+	}
+
+	private Query byCourse(Long courseId) {
+		return Query.query(Criteria.where("_id").is(courseId));
+	}
+
+	/**
+	 * (courseId, memberId) 동등 조건으로 course_member_idx 를 타며, upsert 로 생성될 때 두 필드가 새 문서에 반영된다.
+	 */
+	private Query byCourseAndMember(Long courseId, Long memberId) {
+		return Query.query(Criteria.where("courseId").is(courseId).and("memberId").is(memberId));
+	}
+
+	private Update toIncrement(StatusChange change) {
+		Update update = new Update().inc(counterField(change.to()), 1).inc(VERSION_FIELD, 1);
+		if (change.from() == null) {
+			return update.inc(TOTAL_FIELD, 1);
+		}
+		return update.inc(counterField(change.from()), -1);
+	}
+
+	/**
+	 * 집계 결과가 없는 회원은 과정 세션의 출석이 모두 사라진 것이므로 0 으로 덮어쓴다.
+	 */
+	private Update toReplacement(AttendanceMongoRepository.MemberAttendanceAggregationInfo info, Long version) {
+		return new Update()
+			.set(TOTAL_FIELD, info == null ? 0 : info.total())
+			.set(counterField(AttendanceStatus.PRESENT), info == null ? 0 : info.present())
+			.set(counterField(AttendanceStatus.ABSENT), info == null ? 0 : info.absent())
+			.set(counterField(AttendanceStatus.LATE), info == null ? 0 : info.late())
+			.set(counterField(AttendanceStatus.LEFT_EARLY), info == null ? 0 : info.leftEarly())
+			.set(VERSION_FIELD, version == null ? 1L : version + 1);
+	}
+}
@@ -1,6 +1,18 @@
 package me.chan99k.learningmanager.adapter.persistence.attendance;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.bson.types.ObjectId;
+
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceDocument;
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceEventDocument;
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceSnapshotDocument;
+import me.chan99k.learningmanager.attendance.AttendanceStatus;
 
 public interface CustomAttendanceMongoRepository {
 	AttendanceMongoRepository.MemberAttendanceAggregationInfo aggregateMemberAttendance(
@@ -11,4 +23,77 @@ public interface CustomAttendanceMongoRepository {
 		List<Long> sessionIds,
 		List<Long> memberIds
 	);
+
+	/**
+	 * 회원을 한정하지 않고 세션들의 출석을 회원별로 집계한다. 과정 통계를 다시 집계할 때 사용한다.
+	 */
+	List<AttendanceMongoRepository.MemberAttendanceAggregationInfo> aggregateAttendanceBySessions(List<Long> sessionIds);
+
+	/**
+	 * 도메인 복원용 조회. events 에는 스냅샷 이후의 이벤트만 담겨 있으므로 AttendanceDocument#toDomain(Supplier) 로 복원한다.
+	 */
+	Optional<AttendanceDocument> findLatestById(ObjectId id);
+
+	Optional<AttendanceDocument> findLatestBySessionIdAndMemberId(Long sessionId, Long memberId);
+
+	List<AttendanceDocument> findLatestBySessionIdAndMemberIdIn(Long sessionId, Collection<Long> memberIds);
+
+	/**
+	 * 감사 조회용으로 저장된 이벤트 전체만 읽는다.
+	 */
+	List<AttendanceEventDocument> findEventsById(ObjectId id);
+
+	/**
+	 * 저장된 이벤트 수가 expectedEventCount 인 문서에만 이벤트를 이어 붙이고 스냅샷과 최종 상태를 갱신한다.
+	 * 그 사이 다른 쓰기가 있었다면 null 을 반환한다. 반환 문서의 events 는 비어 있다.
+	 */
+	AttendanceDocument appendEvents(
+		ObjectId id, int expectedEventCount, List<AttendanceEventDocument> events,
+		AttendanceSnapshotDocument snapshot, AttendanceStatus finalStatus
+	);
+
+	/**
+	 * 마지막 이벤트가 CheckedIn 이 아닌 문서에 체크인 이벤트를 추가하는 findAndModify upsert.
+	 * 조건에 맞는 문서가 없으면 newId 와 (sessionId, memberId) 로 새 문서를 만들며, 이미 체크인 상태인 문서가 있으면
+	 * session_member_idx 유니크 인덱스에 막혀 DuplicateKeyException 이 발생한다.
+	 * <p>
+	 * 출석 통계에 반영할 이전 최종 상태를 알 수 있도록 변경 직전 문서(events 제외)를 반환하며, 새로 만든 경우 null 을 반환한다.
+	 */
+	AttendanceDocument upsertCheckIn(ObjectId newId, Long sessionId, Long memberId, AttendanceEventDocument event);
+
+	/**
+	 * 마지막 이벤트가 CheckedIn 인 문서에만 체크아웃 이벤트를 추가한다. 조건에 맞는 문서가 없으면 null 을 반환한다.
+	 * 반환 문서의 events 는 비어 있다.
+	 */
+	AttendanceDocument appendCheckOut(Long sessionId, Long memberId, AttendanceEventDocument event);
+
+	/**
+	 * 최종 상태가 PRESENT 인 문서만 대상으로 upsertCheckIn 과 같은 조건의 upsert 를 회원 수만큼 모아
+	 * 순서 없는(unordered) bulkWrite 한 번으로 실행한다. bulkWrite 는 변경 전 문서를 돌려주지 않으므로,
+	 * 조건에 최종 상태를 포함해 반영된 회원의 통계 변화가 "새 문서" 또는 "변화 없음" 중 하나가 되도록 한다.
+	 * <p>
+	 * 유니크 인덱스에 막힌 회원(이미 체크인 상태이거나 정정으로 최종 상태가 PRESENT 가 아닌 회원)은 conflicted 로,
+	 * 그 밖의 쓰기 오류가 난 회원은 오류 메시지와 함께 failed 로 돌려준다. 순서 없는 bulkWrite 이므로 실패한 회원이 있어도
+	 * 나머지 회원의 upsert 는 모두 실행된다.
+	 */
+	BulkCheckInResult bulkUpsertCheckIns(Long sessionId, Collection<Long> memberIds, AttendanceEventDocument event);
+
+	/**
+	 * 출석 목록 화면용으로 sessionId, memberId, finalStatus 만 읽는다.
+	 */
+	List<AttendanceDocument> findStatusesBySessionIdInAndMemberIdIn(List<Long> sessionIds, List<Long> memberIds);
+
+	/**
+	 * 내보내기용으로 sessionId, memberId, finalStatus 만 (memberId, sessionId) 순으로 커서를 따라 읽는다.
+	 * 호출한 쪽에서 반드시 닫아야 커서가 정리된다.
+	 */
+	Stream<AttendanceDocument> streamStatusesBySessionIdInAndMemberIdIn(List<Long> sessionIds, List<Long> memberIds);
+
+	/**
+	 * @param created    새 출석 문서가 만들어진 회원
+	 * @param conflicted 유니크 인덱스에 막혀 반영되지 않은 회원
+	 * @param failed     그 밖의 쓰기 오류로 반영되지 않은 회원별 오류 메시지
+	 */
+	record BulkCheckInResult(Set<Long> created, Set<Long> conflicted, Map<Long, String> failed) {
+	}
 }
@@ -2,24 +2,63 @@ package me.chan99k.learningmanager.adapter.persistence.attendance;
 
 import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
 import org.springframework.data.mongodb.core.aggregation.GroupOperation;
 import org.springframework.data.mongodb.core.aggregation.MatchOperation;
 import org.springframework.data.mongodb.core.aggregation.ProjectionOperation;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceDocument;
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceEventDocument;
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceSnapshotDocument;
 import me.chan99k.learningmanager.attendance.AttendanceStatus;
 
 @Repository
 public class CustomAttendanceMongoRepositoryImpl implements CustomAttendanceMongoRepository {
 
 	private static final String COLLECTION_NAME = "attendances";
+	private static final String CHECKED_IN_TYPE = "CheckedIn";
+	private static final String LAST_EVENT_TYPE_FIELD = "snapshot.lastEvent.type";
+	private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+	private static final int EXPORT_CURSOR_BATCH_SIZE = 1_000;
+
+	/**
+	 * events 를 스냅샷에 반영되지 않은 뒤쪽 이벤트로 잘라낸다. 스냅샷이 없는 문서는 전체 이벤트를 그대로 둔다.
+	 */
+	private static final AggregationOperation SLICE_EVENTS_AFTER_SNAPSHOT = context -> {
+		Document events = new Document("$ifNull", List.of("$events", List.of()));
+		Document snapshotEventCount = new Document("$ifNull", List.of("$snapshot.eventCount", 0));
+		Document sliceLength = new Document("$max", List.of(new Document("$size", events), 1));
+
+		return new Document("$addFields", new Document("events",
+			new Document("$slice", List.of(events, snapshotEventCount, sliceLength))));
+	};
 
 	private final MongoTemplate mongoTemplate;
 
@@ -65,13 +104,215 @@ public class CustomAttendanceMongoRepositoryImpl implements CustomAttendanceMong
 		return results.getMappedResults();
 	}
 
+	@Override
+	public List<AttendanceMongoRepository.MemberAttendanceAggregationInfo> aggregateAttendanceBySessions(
+		List<Long> sessionIds
+	) {
+		MatchOperation match = match(Criteria.where("sessionId").in(sessionIds));
+
+		Aggregation aggregation = newAggregation(
+			match, buildGroupByMember(), buildProjection()
+		);
+
+		AggregationResults<AttendanceMongoRepository.MemberAttendanceAggregationInfo> results = mongoTemplate.aggregate(
+			aggregation, COLLECTION_NAME,
+			AttendanceMongoRepository.MemberAttendanceAggregationInfo.class);
+
+		return results.getMappedResults();
+	}
+
+	@Override
+	public AttendanceDocument upsertCheckIn(ObjectId newId, Long sessionId, Long memberId,
+		AttendanceEventDocument event) {
+		Query query = withoutEvents(notCheckedInGuard(sessionId, memberId));
+
+		return mongoTemplate.findAndModify(
+			query, checkInUpdate(event).setOnInsert("_id", newId),
+			FindAndModifyOptions.options().upsert(true).returnNew(false),
+			AttendanceDocument.class);
+	}
+
+	@Override
+	public AttendanceDocument appendCheckOut(Long sessionId, Long memberId, AttendanceEventDocument event) {
+		Query query = withoutEvents(checkedInGuard(sessionId, memberId));
+
+		return mongoTemplate.findAndModify(
+			query, appendEvent(event),
+			FindAndModifyOptions.options().returnNew(true),
+			AttendanceDocument.class);
+	}
+
+	@Override
+	public BulkCheckInResult bulkUpsertCheckIns(
+		Long sessionId, Collection<Long> memberIds, AttendanceEventDocument event
+	) {
+		List<Long> orderedMemberIds = List.copyOf(memberIds);
+		BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AttendanceDocument.class);
+
+		for (Long memberId : orderedMemberIds) {
+			Query guard = notCheckedInGuard(sessionId, memberId);
+			guard.addCriteria(Criteria.where("finalStatus").is(AttendanceStatus.PRESENT));
+			bulkOps.upsert(guard, checkInUpdate(event));
+		}
+
+		try {
+			BulkWriteResult result = bulkOps.execute();
+			return new BulkCheckInResult(createdMemberIds(result, orderedMemberIds), Set.of(), Map.of());
+		} catch (BulkOperationException e) {
+			// unordered 모드에서는 실패한 요청과 무관하게 나머지 upsert 가 모두 실행되므로, 오류를 요청 순번으로 회원에 되돌린다
+			Set<Long> conflicted = new HashSet<>();
+			Map<Long, String> failed = new HashMap<>();
+			for (BulkWriteError error : e.getErrors()) {
+				Long memberId = orderedMemberIds.get(error.getIndex());
+				if (error.getCode() == DUPLICATE_KEY_ERROR_CODE) {
+					conflicted.add(memberId);
+				} else {
+					failed.put(memberId, error.getMessage());
+				}
+			}
+			return new BulkCheckInResult(createdMemberIds(e.getResult(), orderedMemberIds), conflicted, failed);
+		}
+	}
+
+	@Override
+	public List<AttendanceDocument> findStatusesBySessionIdInAndMemberIdIn(
+		List<Long> sessionIds, List<Long> memberIds
+	) {
+		Query query = Query.query(Criteria.where("sessionId").in(sessionIds).and("memberId").in(memberIds));
+		query.fields().include("sessionId", "memberId", "finalStatus");
+
+		return mongoTemplate.find(query, AttendanceDocument.class);
+	}
+
+	@Override
+	public Stream<AttendanceDocument> streamStatusesBySessionIdInAndMemberIdIn(
+		List<Long> sessionIds, List<Long> memberIds
+	) {
+		Query query = Query.query(Criteria.where("sessionId").in(sessionIds).and("memberId").in(memberIds))
+			.with(Sort.by(Sort.Order.asc("memberId"), Sort.Order.asc("sessionId")))
+			.cursorBatchSize(EXPORT_CURSOR_BATCH_SIZE);
+		query.fields().include("sessionId", "memberId", "finalStatus");
+
+		return mongoTemplate.stream(query, AttendanceDocument.class);
+	}
+
+	@Override
+	public Optional<AttendanceDocument> findLatestById(ObjectId id) {
+		return findLatest(Criteria.where("_id").is(id)).stream().findFirst();
+	}
+
+	@Override
+	public Optional<AttendanceDocument> findLatestBySessionIdAndMemberId(Long sessionId, Long memberId) {
+		return findLatest(Criteria.where("sessionId").is(sessionId).and("memberId").is(memberId))
+			.stream()
+			.findFirst();
+	}
+
+	@Override
+	public List<AttendanceDocument> findLatestBySessionIdAndMemberIdIn(Long sessionId, Collection<Long> memberIds) {
+		return findLatest(Criteria.where("sessionId").is(sessionId).and("memberId").in(memberIds));
+	}
+
+	@Override
+	public List<AttendanceEventDocument> findEventsById(ObjectId id) {
+		Query query = Query.query(Criteria.where("_id").is(id));
+		query.fields().include("events");
+
+		AttendanceDocument document = mongoTemplate.findOne(query, AttendanceDocument.class);
+		if (document == null || document.getEvents() == null) {
+			return List.of();
+		}
+		return document.getEvents();
+	}
+
+	@Override
+	public AttendanceDocument appendEvents(
+		ObjectId id, int expectedEventCount, List<AttendanceEventDocument> events,
+		AttendanceSnapshotDocument snapshot, AttendanceStatus finalStatus
+	) {
+		Query query = withoutEvents(Query.query(
+			Criteria.where("_id").is(id).and("snapshot.eventCount").is(expectedEventCount)));
+
+		Update update = new Update()
+			.set("snapshot", snapshot)
+			.set("finalStatus", finalStatus)
+			.set("lastModifiedAt", events.get(events.size() - 1).timestamp());
+		update.push("events").each(events.toArray());
+
+		return mongoTemplate.findAndModify(
+			query, update,
+			FindAndModifyOptions.options().returnNew(true),
+			AttendanceDocument.class);
+	}
+
+	private List<AttendanceDocument> findLatest(Criteria criteria) {
+		Aggregation aggregation = newAggregation(match(criteria), SLICE_EVENTS_AFTER_SNAPSHOT);
+
+		return mongoTemplate.aggregate(aggregation, COLLECTION_NAME, AttendanceDocument.class).getMappedResults();
+	}
+
+	private Set<Long> createdMemberIds(BulkWriteResult result, List<Long> orderedMemberIds) {
+		Set<Long> created = new HashSet<>();
+		for (BulkWriteUpsert upsert : result.getUpserts()) {
+			created.add(orderedMemberIds.get(upsert.getIndex()));
+		}
+		return created;
+	}
+
+	/**
+	 * 쓰기 결과는 스냅샷만으로 복원할 수 있으므로 events 배열은 돌려받지 않는다.
+	 */
+	private Query withoutEvents(Query query) {
+		query.fields().exclude("events");
+		return query;
+	}
+
+	/**
+	 * (sessionId, memberId) 동등 조건으로 session_member_idx 를 타고, 스냅샷의 마지막 이벤트 타입을 비교한다.
+	 * upsert 로 문서가 생성될 때는 동등 조건의 필드만 새 문서에 반영된다.
+	 */
+	private Query notCheckedInGuard(Long sessionId, Long memberId) {
+		return Query.query(Criteria.where("sessionId").is(sessionId)
+			.and("memberId").is(memberId)
+			.and(LAST_EVENT_TYPE_FIELD).ne(CHECKED_IN_TYPE));
+	}
+
+	private Query checkedInGuard(Long sessionId, Long memberId) {
+		return Query.query(Criteria.where("sessionId").is(sessionId)
+			.and("memberId").is(memberId)
+			.and(LAST_EVENT_TYPE_FIELD).is(CHECKED_IN_TYPE));
+	}
+
+	/**
+	 * 스냅샷의 체크인 시각은 최초 체크인 시각이므로, 재체크인에서는 $min 으로 기존 값을 유지한다.
+	 */
+	private Update checkInUpdate(AttendanceEventDocument event) {
+		return appendEvent(event)
+			.min("snapshot.checkInTime", event.timestamp())
+			.setOnInsert("createdAt", event.timestamp());
+	}
+
+	/**
+	 * 체크인/체크아웃 이후 도메인의 재계산 결과는 항상 PRESENT 이므로 같은 값으로 갱신하고,
+	 * 이벤트 추가와 같은 연산에서 스냅샷의 마지막 이벤트와 이벤트 수를 함께 갱신한다.
+	 * findAndModify 는 감사(auditing) 콜백을 거치지 않으므로 수정 시각도 직접 기록한다.
+	 */
+	private Update appendEvent(AttendanceEventDocument event) {
+		return new Update()
+			.push("events", event)
+			.set("finalStatus", AttendanceStatus.PRESENT)
+			.set("snapshot.lastEvent", event)
+			.inc("snapshot.eventCount", 1)
+			.set("lastModifiedAt", event.timestamp());
+	}
+
 	/**
 	 * $group stage: memberId 별 출석 집계
 	 */
 	private GroupOperation buildGroupByMember() {
 		return group("memberId")
-			.push(new org.bson.Document()
-				.append("attendanceId", new org.bson.Document("$toString", "$_id"))
+			.push(new Document()
+				.append("attendanceId", new Document("$toString", "$_id"))
 				.append("sessionId", "$sessionId")
 				.append("finalStatus", "$finalStatus")
 			).as("attendances")
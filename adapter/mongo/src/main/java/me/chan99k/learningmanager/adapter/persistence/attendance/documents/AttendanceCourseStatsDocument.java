@@ -0,0 +1,92 @@
+package me.chan99k.learningmanager.adapter.persistence.attendance.documents;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.PersistenceCreator;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 과정의 회원별 출석 통계(attendance_member_stats)를 기존 출석 문서로부터 다시 집계하는 상태.
+ * <p>
+ * 카운터는 쓰기 시점의 증감으로만 유지되므로, 카운터 도입 이전의 출석이 있는 과정이나 세션 삭제처럼 출석이 통계에서
+ * 빠지는 변경이 있었던 과정은 STALE 로 표시해 두고 백그라운드 작업이 다시 집계한다. READY 인 과정만 카운터를 그대로 신뢰한다.
+ * <p>
+ * generation 은 무효화될 때마다 늘어난다. 재집계는 시작할 때 읽은 generation 이 그대로인 경우에만 READY 로 바꾸므로,
+ * 재집계 도중의 무효화는 다음 재집계로 이어진다.
+ * <p>
+ * writesStarted, writesFinished 는 카운터 $inc 직전과 직후에 각각 늘어난다. 출석 문서가 먼저 쓰이고 $inc 가 뒤따르므로,
+ * 집계에 이미 담긴 출석의 $inc 가 덮어쓰기 이후에 도착하면 같은 출석이 두 번 세어진다. 재집계는 시작할 때 두 값이 같아야 하고,
+ * 마칠 때도 두 값이 시작할 때와 그대로인 경우에만 READY 로 바꾼다.
+ */
+@Document(collection = "attendance_course_stats")
+public class AttendanceCourseStatsDocument {
+
+	@Id
+	private Long courseId;
+
+	private Status status;
+
+	private long generation;
+
+	private Instant rebuiltAt;
+
+	private Long writesStarted;
+
+	private Long writesFinished;
+
+	private Instant lastWriteStartedAt;
+
+	@PersistenceCreator
+	public AttendanceCourseStatsDocument(
+		Long courseId, Status status, long generation, Instant rebuiltAt,
+		Long writesStarted, Long writesFinished, Instant lastWriteStartedAt
+	) {
+		this.courseId = courseId;
+		this.status = status;
+		this.generation = generation;
+		this.rebuiltAt = rebuiltAt;
+		this.writesStarted = writesStarted;
+		this.writesFinished = writesFinished;
+		this.lastWriteStartedAt = lastWriteStartedAt;
+	}
+
+	public Long getCourseId() {
+		return courseId;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public long getGeneration() {
+		return generation;
+	}
+
+	public Instant getRebuiltAt() {
+		return rebuiltAt;
+	}
+
+	/**
+	 * 카운터 쓰기가 한 번도 없었던 과정은 필드가 없으므로 0 으로 본다.
+	 */
+	public long getWritesStarted() {
+		return writesStarted == null ? 0L : writesStarted;
+	}
+
+	public long getWritesFinished() {
+		return writesFinished == null ? 0L : writesFinished;
+	}
+
+	public Instant getLastWriteStartedAt() {
+		return lastWriteStartedAt;
+	}
+
+	public boolean hasWritesInFlight() {
+		return getWritesStarted() != getWritesFinished();
+	}
+
+	public enum Status {
+		STALE, READY
+	}
+}
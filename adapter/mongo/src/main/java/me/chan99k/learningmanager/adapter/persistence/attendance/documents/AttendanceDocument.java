@@ -2,6 +2,7 @@ package me.chan99k.learningmanager.adapter.persistence.attendance.documents;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.bson.types.ObjectId;
 import org.springframework.data.annotation.CreatedBy;
@@ -30,6 +31,7 @@ public class AttendanceDocument {
 	private Long memberId;
 	private List<AttendanceEventDocument> events;
 	private AttendanceStatus finalStatus;
+	private AttendanceSnapshotDocument snapshot;
 
 	@CreatedDate
 	private Instant createdAt;
@@ -48,13 +50,14 @@ public class AttendanceDocument {
 
 	@PersistenceCreator
 	private AttendanceDocument(ObjectId _id, Long sessionId, Long memberId,
-		List<AttendanceEventDocument> events, AttendanceStatus finalStatus
+		List<AttendanceEventDocument> events, AttendanceStatus finalStatus, AttendanceSnapshotDocument snapshot
 	) {
 		this._id = _id;
 		this.sessionId = sessionId;
 		this.memberId = memberId;
 		this.events = events;
 		this.finalStatus = finalStatus;
+		this.snapshot = snapshot;
 	}
 
 	public static AttendanceDocument from(Attendance attendance) {
@@ -66,23 +69,83 @@ public class AttendanceDocument {
 
 		return new AttendanceDocument(
 			objectId, attendance.getSessionId(), attendance.getMemberId(),
-			eventDocs, attendance.getFinalStatus()
+			eventDocs, attendance.getFinalStatus(), AttendanceSnapshotDocument.from(attendance.getSnapshot())
 		);
 	}
 
+	/**
+	 * events 에 전체 이벤트가 담긴 문서를 복원한다.
+	 * 스냅샷이 있으면 스냅샷 이후의 이벤트만 도메인 이벤트로 변환하고, 나머지는 이력이 필요할 때 변환한다.
+	 */
 	public Attendance toDomain() {
-		List<AttendanceEvent> domainEvents = this.events.stream()
-			.map(AttendanceEventDocument::toDomain)
-			.toList();
+		List<AttendanceEventDocument> allEvents = this.events != null ? this.events : List.of();
+		if (this.snapshot == null) {
+			return restoreFromEvents(allEvents);
+		}
+
+		int snapshotEventCount = Math.min(this.snapshot.eventCount(), allEvents.size());
+		return restoreFromSnapshot(allEvents.subList(snapshotEventCount, allEvents.size()), () -> allEvents);
+	}
+
+	/**
+	 * events 에 스냅샷 이후의 이벤트만 담긴 문서(CustomAttendanceMongoRepository#findLatest* 결과)를 복원한다.
+	 * 스냅샷이 없는 문서는 events 전체가 담겨 있으므로 처음부터 다시 적용한다.
+	 *
+	 * @param historyLoader 감사 조회 등으로 전체 이력이 필요할 때 저장된 이벤트 전체를 읽는 함수
+	 */
+	public Attendance toDomain(Supplier<List<AttendanceEventDocument>> historyLoader) {
+		List<AttendanceEventDocument> newerEvents = this.events != null ? this.events : List.of();
+		if (this.snapshot == null) {
+			return restoreFromEvents(newerEvents);
+		}
+
+		return restoreFromSnapshot(newerEvents, historyLoader);
+	}
+
+	/**
+	 * findAndModify 가 돌려준 변경 직전 문서(events 제외)에 방금 추가한 이벤트를 더해 변경 후 상태로 복원한다.
+	 * 스냅샷이 없는 문서는 쓰기 이후의 전체 이력을 읽어 처음부터 다시 적용한다.
+	 *
+	 * @param historyLoader 저장된 이벤트 전체를 읽는 함수 (appended 포함)
+	 */
+	public Attendance toDomainAppending(
+		AttendanceEventDocument appended, Supplier<List<AttendanceEventDocument>> historyLoader
+	) {
+		if (this.snapshot == null) {
+			return restoreFromEvents(historyLoader.get());
+		}
+
+		return restoreFromSnapshot(List.of(appended), historyLoader);
+	}
+
+	private Attendance restoreFromEvents(List<AttendanceEventDocument> eventDocs) {
+		return Attendance.restore(
+			this._id != null ? this._id.toString() : null,
+			this.sessionId,
+			this.memberId,
+			toDomainEvents(eventDocs)
+		);
+	}
 
+	private Attendance restoreFromSnapshot(
+		List<AttendanceEventDocument> newerEvents, Supplier<List<AttendanceEventDocument>> historyLoader
+	) {
 		return Attendance.restore(
 			this._id != null ? this._id.toString() : null,
 			this.sessionId,
 			this.memberId,
-			domainEvents
+			this.snapshot.toDomain(this.finalStatus),
+			toDomainEvents(newerEvents),
+			() -> toDomainEvents(historyLoader.get())
 		);
 	}
 
+	private static List<AttendanceEvent> toDomainEvents(List<AttendanceEventDocument> eventDocs) {
+		return eventDocs.stream()
+			.map(AttendanceEventDocument::toDomain)
+			.toList();
+	}
+
 	public ObjectId get_id() {
 		return _id;
 	}
@@ -103,6 +166,10 @@ public class AttendanceDocument {
 		return finalStatus;
 	}
 
+	public AttendanceSnapshotDocument getSnapshot() {
+		return snapshot;
+	}
+
 	public Instant getCreatedAt() {
 		return createdAt;
 	}
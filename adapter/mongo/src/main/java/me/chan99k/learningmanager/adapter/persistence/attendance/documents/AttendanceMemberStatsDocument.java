@@ -0,0 +1,103 @@
+package me.chan99k.learningmanager.adapter.persistence.attendance.documents;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.PersistenceCreator;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import me.chan99k.learningmanager.attendance.AttendanceStatus;
+
+/**
+ * 과정-회원별 출석 통계 카운터.
+ * <p>
+ * 출석 문서의 최종 상태가 바뀌는 쓰기(체크인, 정정 승인)에서 이전 상태 카운터를 줄이고 새 상태 카운터를 늘린다.
+ * total 은 과정 세션 중 출석 문서가 있는 세션 수로, 출석 문서가 새로 생길 때만 늘어난다.
+ * version 은 카운터가 바뀔 때마다 늘어나며, 재집계는 읽어 둔 version 이 그대로인 문서만 덮어쓴다.
+ */
+@Document(collection = "attendance_member_stats")
+@CompoundIndex(name = "course_member_idx",
+	def = "{'courseId': 1, 'memberId': 1}",
+	unique = true
+)
+public class AttendanceMemberStatsDocument {
+
+	@Id
+	private ObjectId _id;
+
+	private Long courseId;
+	private Long memberId;
+	private int total;
+	private int present;
+	private int absent;
+	private int late;
+	private int leftEarly;
+	private long version;
+
+	@PersistenceCreator
+	private AttendanceMemberStatsDocument(ObjectId _id, Long courseId, Long memberId,
+		int total, int present, int absent, int late, int leftEarly, long version
+	) {
+		this._id = _id;
+		this.courseId = courseId;
+		this.memberId = memberId;
+		this.total = total;
+		this.present = present;
+		this.absent = absent;
+		this.late = late;
+		this.leftEarly = leftEarly;
+		this.version = version;
+	}
+
+	/**
+	 * 상태별 카운터가 저장되는 필드 이름
+	 */
+	public static String counterField(AttendanceStatus status) {
+		return switch (status) {
+			case PRESENT -> "present";
+			case ABSENT -> "absent";
+			case LATE -> "late";
+			case LEFT_EARLY -> "leftEarly";
+		};
+	}
+
+	public double rate() {
+		return total == 0 ? 0.0 : (double)present / total * 100;
+	}
+
+	public ObjectId get_id() {
+		return _id;
+	}
+
+	public Long getCourseId() {
+		return courseId;
+	}
+
+	public Long getMemberId() {
+		return memberId;
+	}
+
+	public int getTotal() {
+		return total;
+	}
+
+	public int getPresent() {
+		return present;
+	}
+
+	public int getAbsent() {
+		return absent;
+	}
+
+	public int getLate() {
+		return late;
+	}
+
+	public int getLeftEarly() {
+		return leftEarly;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+}
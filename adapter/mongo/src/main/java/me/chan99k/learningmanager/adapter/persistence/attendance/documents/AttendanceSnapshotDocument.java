@@ -0,0 +1,37 @@
+package me.chan99k.learningmanager.adapter.persistence.attendance.documents;
+
+import java.time.Instant;
+
+import me.chan99k.learningmanager.attendance.AttendanceSnapshot;
+import me.chan99k.learningmanager.attendance.AttendanceStatus;
+import me.chan99k.learningmanager.attendance.CorrectionRequested;
+
+/**
+ * AttendanceDocument 에 함께 저장되는 AttendanceSnapshot.
+ * 최종 상태는 집계 쿼리가 사용하는 최상위 finalStatus 필드를 그대로 사용하므로 중복 저장하지 않는다.
+ */
+public record AttendanceSnapshotDocument(
+	int eventCount,
+	AttendanceEventDocument lastEvent,
+	AttendanceEventDocument pendingCorrection,
+	Instant checkInTime
+) {
+	public static AttendanceSnapshotDocument from(AttendanceSnapshot snapshot) {
+		return new AttendanceSnapshotDocument(
+			snapshot.eventCount(),
+			snapshot.lastEvent() != null ? AttendanceEventDocument.from(snapshot.lastEvent()) : null,
+			snapshot.pendingCorrection() != null ? AttendanceEventDocument.from(snapshot.pendingCorrection()) : null,
+			snapshot.checkInTime()
+		);
+	}
+
+	public AttendanceSnapshot toDomain(AttendanceStatus finalStatus) {
+		return new AttendanceSnapshot(
+			eventCount,
+			finalStatus,
+			lastEvent != null ? lastEvent.toDomain() : null,
+			pendingCorrection != null ? (CorrectionRequested)pendingCorrection.toDomain() : null,
+			checkInTime
+		);
+	}
+}
@@ -0,0 +1,47 @@
+package me.chan99k.learningmanager.infra.mongo.migrations;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+
+/**
+ * AttendanceDocument 가 실제로 사용하는 attendances 컬렉션에 (sessionId, memberId) 유니크 인덱스를 보장한다.
+ * <p>
+ * 체크인/체크아웃의 findAndModify upsert 는 가드 조건에 걸렸을 때 이 인덱스의 중복 키 오류로 중복 체크인을 판별하므로,
+ * 인덱스가 없으면 같은 회원의 출석 문서가 여러 개 생길 수 있다.
+ */
+@ChangeUnit(id = "v0003-ensure-attendances-session-member-index", order = "003", author = "learning-manager")
+public class V0003_EnsureAttendancesSessionMemberIndex {
+
+	private static final String COLLECTION_NAME = "attendances";
+	private static final String INDEX_NAME = "session_member_idx";
+
+	private final Logger log = LoggerFactory.getLogger(V0003_EnsureAttendancesSessionMemberIndex.class);
+
+	@Execution
+	public void ensureSessionMemberIndex(MongoTemplate mongoTemplate) {
+		mongoTemplate.indexOps(COLLECTION_NAME)
+			.ensureIndex(new CompoundIndexDefinition(
+				new org.bson.Document()
+					.append("sessionId", 1)
+					.append("memberId", 1)
+			).unique().named(INDEX_NAME));
+
+		log.info("Ensured unique (sessionId, memberId) index for attendances collection");
+	}
+
+	@RollbackExecution
+	public void rollbackSessionMemberIndex(MongoTemplate mongoTemplate) {
+		try {
+			mongoTemplate.indexOps(COLLECTION_NAME).dropIndex(INDEX_NAME);
+			log.info("Dropped session_member_idx from attendances collection");
+		} catch (Exception e) {
+			log.error("Failed to rollback session_member_idx: {}", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package me.chan99k.learningmanager.infra.mongo.migrations;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceDocument;
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceSnapshotDocument;
+
+/**
+ * 스냅샷 필드가 없는 기존 출석 문서에 이벤트 전체를 다시 적용한 스냅샷을 채운다.
+ * <p>
+ * 체크인/체크아웃의 조건부 쓰기는 snapshot.lastEvent.type 으로 현재 상태를 판별하므로,
+ * 스냅샷이 없는 문서가 남아 있으면 이미 체크인한 회원의 중복 체크인을 막지 못한다.
+ */
+@ChangeUnit(id = "v0004-backfill-attendance-snapshots", order = "004", author = "learning-manager")
+public class V0004_BackfillAttendanceSnapshots {
+
+	private static final String COLLECTION_NAME = "attendances";
+	private static final int BATCH_SIZE = 500;
+
+	private final Logger log = LoggerFactory.getLogger(V0004_BackfillAttendanceSnapshots.class);
+
+	@Execution
+	public void backfillSnapshots(MongoTemplate mongoTemplate) {
+		Query query = Query.query(Criteria.where("snapshot").exists(false));
+
+		BulkOperations bulkOps = null;
+		int pending = 0;
+		int updated = 0;
+
+		try (Stream<AttendanceDocument> documents = mongoTemplate.stream(query, AttendanceDocument.class,
+			COLLECTION_NAME)) {
+			Iterator<AttendanceDocument> iterator = documents.iterator();
+			while (iterator.hasNext()) {
+				AttendanceDocument document = iterator.next();
+				if (bulkOps == null) {
+					bulkOps = mongoTemplate.bulkOps(
+						BulkOperations.BulkMode.UNORDERED, AttendanceDocument.class, COLLECTION_NAME);
+				}
+
+				AttendanceSnapshotDocument snapshot = AttendanceSnapshotDocument.from(document.toDomain().getSnapshot());
+				bulkOps.updateOne(
+					Query.query(Criteria.where("_id").is(document.get_id()).and("snapshot").exists(false)),
+					Update.update("snapshot", snapshot));
+
+				if (++pending == BATCH_SIZE) {
+					bulkOps.execute();
+					updated += pending;
+					bulkOps = null;
+					pending = 0;
+				}
+			}
+		}
+
+		if (bulkOps != null) {
+			bulkOps.execute();
+			updated += pending;
+		}
+
+		log.info("Backfilled snapshots for {} attendance documents", updated);
+	}
+
+	@RollbackExecution
+	public void rollbackSnapshots(MongoTemplate mongoTemplate) {
+		try {
+			mongoTemplate.updateMulti(new Query(), new Update().unset("snapshot"), COLLECTION_NAME);
+			log.info("Removed snapshots from attendances collection");
+		} catch (Exception e) {
+			log.error("Failed to rollback attendance snapshots: {}", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package me.chan99k.learningmanager.infra.mongo.migrations;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+
+/**
+ * 과정-회원별 출석 통계(attendance_member_stats)에 (courseId, memberId) 유니크 인덱스를 만든다.
+ * <p>
+ * 카운터는 (courseId, memberId) 동등 조건의 $inc upsert 로 갱신되므로, 인덱스가 없으면 동시 upsert 가
+ * 같은 회원의 카운터 문서를 여러 개 만들 수 있다. 카운터 값은 과정별로 처음 조회할 때 출석 문서로부터 채워진다.
+ */
+@ChangeUnit(id = "v0005-create-attendance-member-stats-index", order = "005", author = "learning-manager")
+public class V0005_CreateAttendanceMemberStatsIndex {
+
+	private static final String COLLECTION_NAME = "attendance_member_stats";
+	private static final String INDEX_NAME = "course_member_idx";
+
+	private final Logger log = LoggerFactory.getLogger(V0005_CreateAttendanceMemberStatsIndex.class);
+
+	@Execution
+	public void createCourseMemberIndex(MongoTemplate mongoTemplate) {
+		if (!mongoTemplate.collectionExists(COLLECTION_NAME)) {
+			mongoTemplate.createCollection(COLLECTION_NAME);
+		}
+
+		mongoTemplate.indexOps(COLLECTION_NAME)
+			.ensureIndex(new CompoundIndexDefinition(
+				new org.bson.Document()
+					.append("courseId", 1)
+					.append("memberId", 1)
+			).unique().named(INDEX_NAME));
+
+		log.info("Created unique (courseId, memberId) index for attendance_member_stats collection");
+	}
+
+	@RollbackExecution
+	public void rollbackCourseMemberIndex(MongoTemplate mongoTemplate) {
+		try {
+			mongoTemplate.indexOps(COLLECTION_NAME).dropIndex(INDEX_NAME);
+			log.info("Dropped course_member_idx from attendance_member_stats collection");
+		} catch (Exception e) {
+			log.error("Failed to rollback course_member_idx: {}", e.getMessage());
+		}
+	}
+}
@@ -4,26 +4,47 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DuplicateKeyException;
 
+import me.chan99k.learningmanager.adapter.persistence.attendance.CustomAttendanceMemberStatsMongoRepository.StatusChange;
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceCourseStatsDocument;
 import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceDocument;
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceEventDocument;
 import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceReservationDocument;
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceSnapshotDocument;
 import me.chan99k.learningmanager.attendance.Attendance;
+import me.chan99k.learningmanager.attendance.AttendanceCommandRepository;
+import me.chan99k.learningmanager.attendance.AttendanceProblemCode;
+import me.chan99k.learningmanager.attendance.AttendanceStatus;
+import me.chan99k.learningmanager.attendance.CheckedIn;
+import me.chan99k.learningmanager.attendance.CheckedOut;
+import me.chan99k.learningmanager.attendance.CorrectionRequested;
 
 @ExtendWith(MockitoExtension.class)
 class AttendanceCommandAdapterTest {
 
+	private static final Long COURSE_ID = 10L;
 	private static final Long SESSION_ID = 1L;
 	private static final Long MEMBER_ID = 100L;
 	private static final String SESSION_MEMBER_KEY = "1:100";
+	private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+	private static final String ATTENDANCE_ID = "507f1f77bcf86cd799439011";
 
 	@Mock
 	private AttendanceMongoRepository attendanceRepository;
@@ -31,9 +52,18 @@ class AttendanceCommandAdapterTest {
 	@Mock
 	private AttendanceReservationMongoRepository reservationRepository;
 
-	@InjectMocks
+	@Mock
+	private AttendanceMemberStatsMongoRepository memberStatsRepository;
+
+	// 기존 테스트는 예약 프로토콜(attendance.write.reservation-enabled=true) 경로를 검증한다
 	private AttendanceCommandAdapter attendanceCommandAdapter;
 
+	@BeforeEach
+	void setUp() {
+		attendanceCommandAdapter = new AttendanceCommandAdapter(attendanceRepository, reservationRepository,
+			memberStatsRepository, true);
+	}
+
 	@Test
 	@DisplayName("[Success] 새로운 출석 저장 - 기존 출석 예약 없음")
 	void saveAttendance_NewAttendance_Success() {
@@ -379,4 +409,433 @@ class AttendanceCommandAdapterTest {
 		verify(reservationRepository, times(2)).save(any(AttendanceReservationDocument.class));
 	}
 
-}
\ No newline at end of file
+	@Test
+	@DisplayName("[Success] 예약 모드에서 체크인은 기존 출석을 조회해 도메인 로직을 적용한 뒤 예약과 함께 저장한다")
+	void appendCheckIn_ReservationMode_UsesReservationProtocol() {
+		// Given
+		AttendanceDocument savedDoc = mock(AttendanceDocument.class);
+		when(savedDoc.toDomain()).thenReturn(mock(Attendance.class));
+		AttendanceReservationDocument reservation = mock(AttendanceReservationDocument.class);
+
+		when(attendanceRepository.findBySessionIdAndMemberId(SESSION_ID, MEMBER_ID)).thenReturn(Optional.empty());
+		when(reservationRepository.findBySessionMemberKey(SESSION_MEMBER_KEY)).thenReturn(Optional.empty());
+		when(reservationRepository.save(any(AttendanceReservationDocument.class))).thenReturn(reservation);
+		when(attendanceRepository.save(any(AttendanceDocument.class))).thenReturn(savedDoc);
+
+		// When
+		attendanceCommandAdapter.appendCheckIn(COURSE_ID, SESSION_ID, MEMBER_ID, new CheckedIn(NOW));
+
+		// Then
+		verify(attendanceRepository).save(any(AttendanceDocument.class));
+		verify(reservation).markCommitted();
+		verify(attendanceRepository, never()).upsertCheckIn(any(), any(), any(), any());
+	}
+
+	@Nested
+	@DisplayName("원자적 쓰기 모드 (reservation-enabled=false)")
+	class AtomicWriteTests {
+
+		private AttendanceCommandAdapter atomicAdapter;
+
+		@BeforeEach
+		void setUp() {
+			atomicAdapter = new AttendanceCommandAdapter(attendanceRepository, reservationRepository,
+				memberStatsRepository, false);
+		}
+
+		@Test
+		@DisplayName("[Success] 체크인은 단일 upsert 로 처리하고 예약 컬렉션을 사용하지 않는다")
+		void test01() {
+			when(attendanceRepository.upsertCheckIn(any(ObjectId.class), eq(SESSION_ID), eq(MEMBER_ID),
+				eq(AttendanceEventDocument.from(new CheckedIn(NOW))))).thenReturn(null);
+
+			Attendance result = atomicAdapter.appendCheckIn(COURSE_ID, SESSION_ID, MEMBER_ID, new CheckedIn(NOW));
+
+			assertThat(result.getId()).isNotNull();
+			assertThat(result.getFinalStatus()).isEqualTo(AttendanceStatus.PRESENT);
+			assertThat(result.getCheckInTime()).isEqualTo(NOW);
+			verify(attendanceRepository, never()).findBySessionIdAndMemberId(any(), any());
+			verifyNoInteractions(reservationRepository);
+		}
+
+		@Test
+		@DisplayName("[Failure] 이미 체크인 상태라 upsert 가 유니크 인덱스에 막히면 ALREADY_CHECKED_IN")
+		void test02() {
+			when(attendanceRepository.upsertCheckIn(any(), eq(SESSION_ID), eq(MEMBER_ID), any()))
+				.thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+
+			assertThatThrownBy(
+				() -> atomicAdapter.appendCheckIn(COURSE_ID, SESSION_ID, MEMBER_ID, new CheckedIn(NOW)))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage(AttendanceProblemCode.ALREADY_CHECKED_IN.getMessage());
+			verifyNoInteractions(memberStatsRepository);
+		}
+
+		@Test
+		@DisplayName("[Success] 체크아웃은 조건부 findAndModify 한 번으로 처리한다")
+		void test03() {
+			AttendanceDocument updated = mock(AttendanceDocument.class);
+			Attendance attendance = mock(Attendance.class);
+			when(updated.toDomain(any())).thenReturn(attendance);
+			when(attendanceRepository.appendCheckOut(SESSION_ID, MEMBER_ID,
+				AttendanceEventDocument.from(new CheckedOut(NOW)))).thenReturn(updated);
+
+			Attendance result = atomicAdapter.appendCheckOut(SESSION_ID, MEMBER_ID, new CheckedOut(NOW));
+
+			assertThat(result).isSameAs(attendance);
+			verify(attendanceRepository, never()).existsBySessionIdAndMemberId(any(), any());
+			verifyNoInteractions(reservationRepository);
+		}
+
+		@Test
+		@DisplayName("[Failure] 체크인 상태가 아니면 NOT_CHECKED_IN")
+		void test04() {
+			when(attendanceRepository.appendCheckOut(eq(SESSION_ID), eq(MEMBER_ID), any())).thenReturn(null);
+			when(attendanceRepository.existsBySessionIdAndMemberId(SESSION_ID, MEMBER_ID)).thenReturn(true);
+
+			assertThatThrownBy(() -> atomicAdapter.appendCheckOut(SESSION_ID, MEMBER_ID, new CheckedOut(NOW)))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage(AttendanceProblemCode.NOT_CHECKED_IN.getMessage());
+		}
+
+		@Test
+		@DisplayName("[Failure] 출석 기록이 없으면 IllegalArgumentException")
+		void test05() {
+			when(attendanceRepository.appendCheckOut(eq(SESSION_ID), eq(MEMBER_ID), any())).thenReturn(null);
+			when(attendanceRepository.existsBySessionIdAndMemberId(SESSION_ID, MEMBER_ID)).thenReturn(false);
+
+			assertThatThrownBy(() -> atomicAdapter.appendCheckOut(SESSION_ID, MEMBER_ID, new CheckedOut(NOW)))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("[System] 출석 정보가 없습니다.");
+		}
+
+		@Test
+		@DisplayName("[Success] save 는 예약 없이 출석 문서만 저장한다")
+		void test06() {
+			Attendance attendance = Attendance.create(SESSION_ID, MEMBER_ID);
+			AttendanceDocument savedDoc = mock(AttendanceDocument.class);
+			when(savedDoc.toDomain()).thenReturn(attendance);
+			when(attendanceRepository.save(any(AttendanceDocument.class))).thenReturn(savedDoc);
+
+			Attendance result = atomicAdapter.save(attendance);
+
+			assertThat(result).isSameAs(attendance);
+			verifyNoInteractions(reservationRepository);
+		}
+
+		@Test
+		@DisplayName("[Success] 배치 체크인은 bulkWrite 한 번과 반영된 회원 조회 한 번으로 처리한다")
+		void test07() {
+			Long otherMemberId = 101L;
+			Long checkedInMemberId = 102L;
+			List<Long> memberIds = List.of(MEMBER_ID, otherMemberId, checkedInMemberId);
+			AttendanceEventDocument event = AttendanceEventDocument.from(new CheckedIn(NOW));
+			when(attendanceRepository.bulkUpsertCheckIns(SESSION_ID, memberIds, event))
+				.thenReturn(new CustomAttendanceMongoRepository.BulkCheckInResult(
+					Set.of(MEMBER_ID), Set.of(checkedInMemberId), Map.of()));
+			when(attendanceRepository.upsertCheckIn(any(), eq(SESSION_ID), eq(checkedInMemberId), eq(event)))
+				.thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+
+			AttendanceDocument firstDoc = mock(AttendanceDocument.class);
+			AttendanceDocument secondDoc = mock(AttendanceDocument.class);
+			Attendance first = mock(Attendance.class);
+			Attendance second = mock(Attendance.class);
+			when(firstDoc.getMemberId()).thenReturn(MEMBER_ID);
+			when(firstDoc.toDomain(any())).thenReturn(first);
+			when(secondDoc.getMemberId()).thenReturn(otherMemberId);
+			when(secondDoc.toDomain(any())).thenReturn(second);
+			when(attendanceRepository.findLatestBySessionIdAndMemberIdIn(SESSION_ID, List.of(MEMBER_ID, otherMemberId)))
+				.thenReturn(List.of(firstDoc, secondDoc));
+
+			Map<Long, Attendance> result = atomicAdapter.appendCheckIns(COURSE_ID, SESSION_ID, memberIds,
+				new CheckedIn(NOW)).appended();
+
+			assertThat(result).containsOnlyKeys(MEMBER_ID, otherMemberId);
+			assertThat(result.get(MEMBER_ID)).isSameAs(first);
+			verify(memberStatsRepository).applyStatusChanges(COURSE_ID,
+				List.of(StatusChange.created(MEMBER_ID, AttendanceStatus.PRESENT)));
+			verifyNoInteractions(reservationRepository);
+		}
+
+		@Test
+		@DisplayName("[Success] 모든 회원이 이미 체크인 상태면 다시 조회하지 않는다")
+		void test08() {
+			when(attendanceRepository.bulkUpsertCheckIns(eq(SESSION_ID), any(), any()))
+				.thenReturn(new CustomAttendanceMongoRepository.BulkCheckInResult(Set.of(), Set.of(MEMBER_ID), Map.of()));
+			when(attendanceRepository.upsertCheckIn(any(), eq(SESSION_ID), eq(MEMBER_ID), any()))
+				.thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+
+			Map<Long, Attendance> result = atomicAdapter.appendCheckIns(COURSE_ID, SESSION_ID, List.of(MEMBER_ID),
+				new CheckedIn(NOW)).appended();
+
+			assertThat(result).isEmpty();
+			verify(attendanceRepository, never()).findLatestBySessionIdAndMemberIdIn(any(), any());
+		}
+
+		@Test
+		@DisplayName("[Success] 저장된 출석은 새로 추가된 이벤트와 스냅샷만 이어서 기록한다")
+		void test09() {
+			Attendance attendance = Attendance.restore(ATTENDANCE_ID, SESSION_ID, MEMBER_ID,
+				List.of(new CheckedIn(NOW)));
+			attendance.requestCorrection(AttendanceStatus.LATE, "지각 처리 요청", MEMBER_ID,
+				Clock.fixed(NOW.plusSeconds(60), ZoneOffset.UTC));
+
+			AttendanceDocument updated = mock(AttendanceDocument.class);
+			Attendance reloaded = mock(Attendance.class);
+			when(updated.toDomain(any())).thenReturn(reloaded);
+			when(attendanceRepository.appendEvents(
+				new ObjectId(ATTENDANCE_ID), 1,
+				List.of(AttendanceEventDocument.from(attendance.getPendingEvents().get(0))),
+				AttendanceSnapshotDocument.from(attendance.getSnapshot()),
+				AttendanceStatus.PRESENT
+			)).thenReturn(updated);
+
+			Attendance result = atomicAdapter.save(attendance);
+
+			assertThat(result).isSameAs(reloaded);
+			verify(attendanceRepository, never()).save(any(AttendanceDocument.class));
+		}
+
+		@Test
+		@DisplayName("[Failure] 조회 이후 다른 요청이 이벤트를 추가했다면 덮어쓰지 않고 IllegalStateException")
+		void test10() {
+			Attendance attendance = Attendance.restore(ATTENDANCE_ID, SESSION_ID, MEMBER_ID,
+				List.of(new CheckedIn(NOW)));
+			attendance.checkOut(Clock.fixed(NOW.plusSeconds(3600), ZoneOffset.UTC));
+			when(attendanceRepository.appendEvents(any(), anyInt(), any(), any(), any())).thenReturn(null);
+
+			assertThatThrownBy(() -> atomicAdapter.save(attendance))
+				.isInstanceOf(IllegalStateException.class);
+		}
+
+		@Test
+		@DisplayName("[Success] 추가된 이벤트가 없으면 쓰지 않는다")
+		void test11() {
+			Attendance attendance = Attendance.restore(ATTENDANCE_ID, SESSION_ID, MEMBER_ID,
+				List.of(new CheckedIn(NOW)));
+
+			Attendance result = atomicAdapter.save(attendance);
+
+			assertThat(result).isSameAs(attendance);
+			verifyNoInteractions(attendanceRepository);
+		}
+
+		@Test
+		@DisplayName("[Failure] 배치에서 쓰기 오류가 난 회원만 실패로 돌려주고 나머지 회원은 반영한다")
+		void test12() {
+			Long failedMemberId = 101L;
+			List<Long> memberIds = List.of(MEMBER_ID, failedMemberId);
+			AttendanceEventDocument event = AttendanceEventDocument.from(new CheckedIn(NOW));
+			when(attendanceRepository.bulkUpsertCheckIns(SESSION_ID, memberIds, event))
+				.thenReturn(new CustomAttendanceMongoRepository.BulkCheckInResult(
+					Set.of(MEMBER_ID), Set.of(), Map.of(failedMemberId, "Document failed validation")));
+
+			AttendanceDocument doc = mock(AttendanceDocument.class);
+			Attendance attendance = mock(Attendance.class);
+			when(doc.getMemberId()).thenReturn(MEMBER_ID);
+			when(doc.toDomain(any())).thenReturn(attendance);
+			when(attendanceRepository.findLatestBySessionIdAndMemberIdIn(SESSION_ID, List.of(MEMBER_ID)))
+				.thenReturn(List.of(doc));
+
+			AttendanceCommandRepository.CheckInBatchResult result = atomicAdapter.appendCheckIns(
+				COURSE_ID, SESSION_ID, memberIds, new CheckedIn(NOW));
+
+			assertThat(result.appended()).containsOnlyKeys(MEMBER_ID);
+			assertThat(result.failed()).containsOnlyKeys(failedMemberId);
+			assertThat(result.failed().get(failedMemberId)).isInstanceOf(IllegalStateException.class);
+			verify(attendanceRepository, never()).upsertCheckIn(any(), any(), eq(failedMemberId), any());
+		}
+	}
+
+	@Nested
+	@DisplayName("출석 통계 반영")
+	class MemberStatsTests {
+
+		private AttendanceCommandAdapter atomicAdapter;
+
+		@BeforeEach
+		void setUp() {
+			atomicAdapter = new AttendanceCommandAdapter(attendanceRepository, reservationRepository,
+				memberStatsRepository, false);
+		}
+
+		@Test
+		@DisplayName("[Success] 새 출석 문서를 만든 체크인은 total 과 present 를 늘린다")
+		void test01() {
+			when(attendanceRepository.upsertCheckIn(any(), eq(SESSION_ID), eq(MEMBER_ID), any())).thenReturn(null);
+
+			atomicAdapter.appendCheckIn(COURSE_ID, SESSION_ID, MEMBER_ID, new CheckedIn(NOW));
+
+			verify(memberStatsRepository).applyStatusChanges(COURSE_ID,
+				List.of(StatusChange.created(MEMBER_ID, AttendanceStatus.PRESENT)));
+		}
+
+		@Test
+		@DisplayName("[Success] 정정된 출석에 다시 체크인하면 변경 직전 상태에서 PRESENT 로 옮긴다")
+		void test02() {
+			AttendanceEventDocument event = AttendanceEventDocument.from(new CheckedIn(NOW));
+			AttendanceDocument previous = mock(AttendanceDocument.class);
+			Attendance attendance = mock(Attendance.class);
+			when(previous.get_id()).thenReturn(new ObjectId(ATTENDANCE_ID));
+			when(previous.getFinalStatus()).thenReturn(AttendanceStatus.LATE);
+			when(previous.toDomainAppending(eq(event), any())).thenReturn(attendance);
+			when(attendance.getFinalStatus()).thenReturn(AttendanceStatus.PRESENT);
+			when(attendanceRepository.upsertCheckIn(any(), eq(SESSION_ID), eq(MEMBER_ID), eq(event)))
+				.thenReturn(previous);
+
+			Attendance result = atomicAdapter.appendCheckIn(COURSE_ID, SESSION_ID, MEMBER_ID, new CheckedIn(NOW));
+
+			assertThat(result).isSameAs(attendance);
+			verify(memberStatsRepository).applyStatusChanges(COURSE_ID,
+				List.of(new StatusChange(MEMBER_ID, AttendanceStatus.LATE, AttendanceStatus.PRESENT)));
+		}
+
+		@Test
+		@DisplayName("[Success] 정정 승인 저장은 저장 전후의 최종 상태 변화를 반영한다")
+		void test03() {
+			Attendance attendance = Attendance.restore(ATTENDANCE_ID, SESSION_ID, MEMBER_ID, List.of(
+				new CheckedIn(NOW),
+				new CorrectionRequested(NOW.plusSeconds(60), AttendanceStatus.PRESENT, AttendanceStatus.LATE,
+					"지각", 2L)
+			));
+			attendance.approveCorrection(3L, Clock.fixed(NOW.plusSeconds(120), ZoneOffset.UTC));
+
+			AttendanceDocument updated = mock(AttendanceDocument.class);
+			Attendance reloaded = mock(Attendance.class);
+			when(reloaded.getMemberId()).thenReturn(MEMBER_ID);
+			when(reloaded.getFinalStatus()).thenReturn(AttendanceStatus.LATE);
+			when(updated.toDomain(any())).thenReturn(reloaded);
+			when(attendanceRepository.appendEvents(any(), anyInt(), any(), any(), any())).thenReturn(updated);
+
+			atomicAdapter.save(attendance, COURSE_ID);
+
+			verify(memberStatsRepository).applyStatusChanges(COURSE_ID,
+				List.of(new StatusChange(MEMBER_ID, AttendanceStatus.PRESENT, AttendanceStatus.LATE)));
+		}
+
+		@Test
+		@DisplayName("[Success] 과정에 속하지 않은 세션은 통계를 갱신하지 않는다")
+		void test04() {
+			when(attendanceRepository.upsertCheckIn(any(), eq(SESSION_ID), eq(MEMBER_ID), any())).thenReturn(null);
+
+			atomicAdapter.appendCheckIn(null, SESSION_ID, MEMBER_ID, new CheckedIn(NOW));
+
+			verifyNoInteractions(memberStatsRepository);
+		}
+
+		@Test
+		@DisplayName("[Success] 배치에서 정정된 회원은 단건 경로로 다시 체크인하여 상태 변화를 반영한다")
+		void test05() {
+			AttendanceEventDocument event = AttendanceEventDocument.from(new CheckedIn(NOW));
+			when(attendanceRepository.bulkUpsertCheckIns(SESSION_ID, List.of(MEMBER_ID), event))
+				.thenReturn(new CustomAttendanceMongoRepository.BulkCheckInResult(Set.of(), Set.of(MEMBER_ID), Map.of()));
+
+			AttendanceDocument previous = mock(AttendanceDocument.class);
+			Attendance attendance = mock(Attendance.class);
+			when(previous.get_id()).thenReturn(new ObjectId(ATTENDANCE_ID));
+			when(previous.getFinalStatus()).thenReturn(AttendanceStatus.ABSENT);
+			when(previous.toDomainAppending(eq(event), any())).thenReturn(attendance);
+			when(attendance.getFinalStatus()).thenReturn(AttendanceStatus.PRESENT);
+			when(attendanceRepository.upsertCheckIn(any(), eq(SESSION_ID), eq(MEMBER_ID), eq(event)))
+				.thenReturn(previous);
+
+			Map<Long, Attendance> result = atomicAdapter.appendCheckIns(COURSE_ID, SESSION_ID, List.of(MEMBER_ID),
+				new CheckedIn(NOW)).appended();
+
+			assertThat(result).containsEntry(MEMBER_ID, attendance);
+			verify(memberStatsRepository).applyStatusChanges(COURSE_ID,
+				List.of(new StatusChange(MEMBER_ID, AttendanceStatus.ABSENT, AttendanceStatus.PRESENT)));
+		}
+
+		@Test
+		@DisplayName("[Failure] 통계 반영에 실패해도 출석은 반환하고 과정 통계를 재집계 대상으로 되돌린다")
+		void test06() {
+			when(attendanceRepository.upsertCheckIn(any(), eq(SESSION_ID), eq(MEMBER_ID), any())).thenReturn(null);
+			doThrow(new IllegalStateException("stats write failed"))
+				.when(memberStatsRepository).applyStatusChanges(eq(COURSE_ID), any());
+
+			Attendance result = atomicAdapter.appendCheckIn(COURSE_ID, SESSION_ID, MEMBER_ID, new CheckedIn(NOW));
+
+			assertThat(result.getFinalStatus()).isEqualTo(AttendanceStatus.PRESENT);
+			verify(memberStatsRepository).invalidate(COURSE_ID);
+		}
+	}
+
+	@Nested
+	@DisplayName("출석 통계 재집계")
+	class RebuildStatsTests {
+
+		private static final List<Long> SESSION_IDS = List.of(SESSION_ID);
+
+		@Test
+		@DisplayName("[Success] 재집계 대상이 아니면 아무것도 하지 않는다")
+		void test01() {
+			when(memberStatsRepository.findStaleStats(COURSE_ID)).thenReturn(null);
+
+			assertThat(attendanceCommandAdapter.rebuildCourseStats(COURSE_ID, SESSION_IDS)).isTrue();
+
+			verify(attendanceRepository, never()).aggregateAttendanceBySessions(any());
+			verify(memberStatsRepository, never()).replaceStats(any(), any(), any());
+		}
+
+		@Test
+		@DisplayName("[Success] 덮어쓰지 못한 회원만 다시 집계한 뒤 읽어 둔 generation, 쓰기 횟수로 재집계를 마친다")
+		void test02() {
+			var aggregated = List.of(mock(AttendanceMongoRepository.MemberAttendanceAggregationInfo.class));
+			var retried = List.of(mock(AttendanceMongoRepository.MemberAttendanceAggregationInfo.class));
+			when(memberStatsRepository.findStaleStats(COURSE_ID)).thenReturn(staleStats(5L, 5L, NOW));
+			when(memberStatsRepository.findVersions(COURSE_ID, null)).thenReturn(Map.of(MEMBER_ID, 1L));
+			when(attendanceRepository.aggregateAttendanceBySessions(SESSION_IDS)).thenReturn(aggregated);
+			when(memberStatsRepository.replaceStats(COURSE_ID, aggregated, Map.of(MEMBER_ID, 1L)))
+				.thenReturn(Set.of(MEMBER_ID));
+			when(memberStatsRepository.findVersions(COURSE_ID, List.of(MEMBER_ID))).thenReturn(Map.of(MEMBER_ID, 2L));
+			when(attendanceRepository.aggregateAllMembersAttendance(SESSION_IDS, List.of(MEMBER_ID))).thenReturn(retried);
+			when(memberStatsRepository.replaceStats(COURSE_ID, retried, Map.of(MEMBER_ID, 2L))).thenReturn(Set.of());
+			when(memberStatsRepository.completeRebuild(eq(COURSE_ID), eq(3L), eq(5L), any())).thenReturn(true);
+
+			assertThat(attendanceCommandAdapter.rebuildCourseStats(COURSE_ID, SESSION_IDS)).isTrue();
+		}
+
+		@Test
+		@DisplayName("[Failure] 경합이 계속되면 재집계를 마치지 않고 다음 주기로 미룬다")
+		void test03() {
+			when(memberStatsRepository.findStaleStats(COURSE_ID)).thenReturn(staleStats(5L, 5L, NOW));
+			when(memberStatsRepository.findVersions(eq(COURSE_ID), any())).thenReturn(Map.of());
+			when(memberStatsRepository.replaceStats(eq(COURSE_ID), any(), any())).thenReturn(Set.of(MEMBER_ID));
+
+			assertThat(attendanceCommandAdapter.rebuildCourseStats(COURSE_ID, SESSION_IDS)).isFalse();
+
+			verify(memberStatsRepository, times(3)).replaceStats(eq(COURSE_ID), any(), any());
+			verify(memberStatsRepository, never()).completeRebuild(any(), anyLong(), anyLong(), any());
+		}
+
+		@Test
+		@DisplayName("[Failure] 진행 중인 카운터 쓰기가 있으면 집계하지 않고 다음 주기로 미룬다")
+		void test04() {
+			when(memberStatsRepository.findStaleStats(COURSE_ID)).thenReturn(staleStats(6L, 5L, Instant.now()));
+
+			assertThat(attendanceCommandAdapter.rebuildCourseStats(COURSE_ID, SESSION_IDS)).isFalse();
+
+			verify(memberStatsRepository, never()).abandonWritesInFlight(any(), anyLong());
+			verify(attendanceRepository, never()).aggregateAttendanceBySessions(any());
+		}
+
+		@Test
+		@DisplayName("[Success] 오래도록 끝나지 않은 카운터 쓰기는 끝난 것으로 보고 재집계한다")
+		void test05() {
+			when(memberStatsRepository.findStaleStats(COURSE_ID)).thenReturn(staleStats(6L, 5L, NOW));
+			when(memberStatsRepository.abandonWritesInFlight(COURSE_ID, 6L)).thenReturn(true);
+			when(memberStatsRepository.findVersions(COURSE_ID, null)).thenReturn(Map.of());
+			when(memberStatsRepository.replaceStats(eq(COURSE_ID), any(), any())).thenReturn(Set.of());
+			when(memberStatsRepository.completeRebuild(eq(COURSE_ID), eq(3L), eq(6L), any())).thenReturn(true);
+
+			assertThat(attendanceCommandAdapter.rebuildCourseStats(COURSE_ID, SESSION_IDS)).isTrue();
+		}
+
+		private AttendanceCourseStatsDocument staleStats(long writesStarted, long writesFinished,
+			Instant lastWriteStartedAt) {
+			return new AttendanceCourseStatsDocument(COURSE_ID, AttendanceCourseStatsDocument.Status.STALE, 3L, null,
+				writesStarted, writesFinished, lastWriteStartedAt);
+		}
+	}
+}
@@ -2,9 +2,11 @@ package me.chan99k.learningmanager.adapter.persistence.attendance;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,8 +22,14 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import me.chan99k.learningmanager.adapter.persistence.attendance.config.TestMongoConfig;
 import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceDocument;
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceEventDocument;
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceSnapshotDocument;
 import me.chan99k.learningmanager.attendance.Attendance;
 import me.chan99k.learningmanager.attendance.AttendanceStatus;
+import me.chan99k.learningmanager.attendance.CheckedIn;
+import me.chan99k.learningmanager.attendance.CheckedOut;
+import me.chan99k.learningmanager.attendance.CorrectionRequested;
+import me.chan99k.learningmanager.attendance.StatusCorrected;
 
 @DataMongoTest
 @Testcontainers
@@ -221,6 +229,226 @@ class AttendanceMongoRepositoryTest {
 		assertThat(endTime - startTime).isLessThan(500);
 	}
 
+	@Test
+	@DisplayName("체크인 upsert - 출석 기록이 없으면 새로 생성")
+	void upsertCheckIn_NewAttendance_CreatesDocument() {
+		Instant checkInAt = Instant.parse("2025-01-01T10:00:00Z");
+
+		ObjectId newId = new ObjectId();
+
+		AttendanceDocument previous = attendanceMongoRepository.upsertCheckIn(
+			newId, SESSION_ID_1, MEMBER_ID_1, AttendanceEventDocument.from(new CheckedIn(checkInAt)));
+
+		assertThat(previous).isNull();
+		AttendanceDocument result = attendanceMongoRepository
+			.findLatestBySessionIdAndMemberId(SESSION_ID_1, MEMBER_ID_1)
+			.orElseThrow();
+		assertThat(result.get_id()).isEqualTo(newId);
+		assertThat(result.getSessionId()).isEqualTo(SESSION_ID_1);
+		assertThat(result.getMemberId()).isEqualTo(MEMBER_ID_1);
+		assertThat(result.getFinalStatus()).isEqualTo(AttendanceStatus.PRESENT);
+		assertThat(result.getEvents()).isEmpty();
+		assertThat(result.getSnapshot().eventCount()).isEqualTo(1);
+		assertThat(result.getSnapshot().lastEvent().type()).isEqualTo("CheckedIn");
+		assertThat(result.getSnapshot().checkInTime()).isEqualTo(checkInAt);
+
+		Attendance attendance = result.toDomain(() -> attendanceMongoRepository.findEventsById(result.get_id()));
+		assertThat(attendance.getCheckInTime()).isEqualTo(checkInAt);
+		assertThat(attendance.getEvents()).containsExactly(new CheckedIn(checkInAt));
+	}
+
+	@Test
+	@DisplayName("체크인 upsert - 이미 체크인 상태면 중복 키 오류로 거부되고 문서는 하나만 유지")
+	void upsertCheckIn_AlreadyCheckedIn_ThrowsDuplicateKey() {
+		Instant checkInAt = Instant.parse("2025-01-01T10:00:00Z");
+		attendanceMongoRepository.upsertCheckIn(
+			new ObjectId(), SESSION_ID_1, MEMBER_ID_1, AttendanceEventDocument.from(new CheckedIn(checkInAt)));
+
+		assertThatThrownBy(() -> attendanceMongoRepository.upsertCheckIn(
+			new ObjectId(), SESSION_ID_1, MEMBER_ID_1, AttendanceEventDocument.from(new CheckedIn(checkInAt.plusSeconds(60)))))
+			.isInstanceOf(org.springframework.dao.DuplicateKeyException.class);
+
+		assertThat(attendanceMongoRepository.findByMemberId(MEMBER_ID_1)).hasSize(1);
+		assertThat(attendanceMongoRepository.findBySessionIdAndMemberId(SESSION_ID_1, MEMBER_ID_1))
+			.get()
+			.extracting(doc -> doc.getEvents().size())
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("체크아웃 후 재체크인 - 기존 문서에 이벤트를 이어서 추가")
+	void upsertCheckIn_AfterCheckOut_AppendsToExistingDocument() {
+		Instant checkInAt = Instant.parse("2025-01-01T10:00:00Z");
+		attendanceMongoRepository.upsertCheckIn(
+			new ObjectId(), SESSION_ID_1, MEMBER_ID_1, AttendanceEventDocument.from(new CheckedIn(checkInAt)));
+		attendanceMongoRepository.appendCheckOut(
+			SESSION_ID_1, MEMBER_ID_1, AttendanceEventDocument.from(new CheckedOut(checkInAt.plusSeconds(3600))));
+
+		AttendanceDocument previous = attendanceMongoRepository.upsertCheckIn(new ObjectId(),
+			SESSION_ID_1, MEMBER_ID_1, AttendanceEventDocument.from(new CheckedIn(checkInAt.plusSeconds(7200))));
+
+		assertThat(previous.getSnapshot().eventCount()).isEqualTo(2);
+		assertThat(previous.getFinalStatus()).isEqualTo(AttendanceStatus.PRESENT);
+		AttendanceDocument result = attendanceMongoRepository
+			.findLatestBySessionIdAndMemberId(SESSION_ID_1, MEMBER_ID_1)
+			.orElseThrow();
+		assertThat(result.get_id()).isEqualTo(previous.get_id());
+		assertThat(attendanceMongoRepository.findEventsById(result.get_id()))
+			.extracting(AttendanceEventDocument::type)
+			.containsExactly("CheckedIn", "CheckedOut", "CheckedIn");
+		assertThat(result.getSnapshot().eventCount()).isEqualTo(3);
+		assertThat(result.getSnapshot().checkInTime()).isEqualTo(checkInAt);
+		assertThat(attendanceMongoRepository.findByMemberId(MEMBER_ID_1)).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("체크아웃 - 체크인 상태가 아니거나 기록이 없으면 null 반환")
+	void appendCheckOut_NotCheckedIn_ReturnsNull() {
+		AttendanceEventDocument checkOut = AttendanceEventDocument.from(
+			new CheckedOut(Instant.parse("2025-01-01T11:00:00Z")));
+
+		assertThat(attendanceMongoRepository.appendCheckOut(SESSION_ID_1, MEMBER_ID_1, checkOut)).isNull();
+		assertThat(attendanceMongoRepository.existsBySessionIdAndMemberId(SESSION_ID_1, MEMBER_ID_1)).isFalse();
+
+		attendanceMongoRepository.upsertCheckIn(new ObjectId(), SESSION_ID_1, MEMBER_ID_1,
+			AttendanceEventDocument.from(new CheckedIn(Instant.parse("2025-01-01T10:00:00Z"))));
+		assertThat(attendanceMongoRepository.appendCheckOut(SESSION_ID_1, MEMBER_ID_1, checkOut)).isNotNull();
+		assertThat(attendanceMongoRepository.appendCheckOut(SESSION_ID_1, MEMBER_ID_1, checkOut)).isNull();
+	}
+
+	@Test
+	@DisplayName("배치 체크인 upsert - 이미 체크인한 회원만 거부되고 나머지는 반영")
+	void bulkUpsertCheckIns_AlreadyCheckedInMember_IsRejected() {
+		Instant checkInAt = Instant.parse("2025-01-01T10:00:00Z");
+		attendanceMongoRepository.upsertCheckIn(
+			new ObjectId(), SESSION_ID_1, MEMBER_ID_1, AttendanceEventDocument.from(new CheckedIn(checkInAt)));
+
+		CustomAttendanceMongoRepository.BulkCheckInResult result = attendanceMongoRepository.bulkUpsertCheckIns(
+			SESSION_ID_1, List.of(MEMBER_ID_1, MEMBER_ID_2),
+			AttendanceEventDocument.from(new CheckedIn(checkInAt.plusSeconds(60))));
+
+		assertThat(result.conflicted()).containsExactly(MEMBER_ID_1);
+		assertThat(result.created()).containsExactly(MEMBER_ID_2);
+		List<AttendanceDocument> documents = attendanceMongoRepository.findLatestBySessionIdAndMemberIdIn(
+			SESSION_ID_1, List.of(MEMBER_ID_1, MEMBER_ID_2));
+		assertThat(documents).hasSize(2);
+		assertThat(documents).allSatisfy(doc -> assertThat(doc.getSnapshot().eventCount()).isEqualTo(1));
+	}
+
+	@Test
+	@DisplayName("배치 체크인 upsert - 정정으로 최종 상태가 바뀐 문서는 건드리지 않고 충돌로 돌려준다")
+	void bulkUpsertCheckIns_CorrectedAttendance_IsConflicted() {
+		Instant checkInAt = Instant.parse("2025-01-01T10:00:00Z");
+		Attendance corrected = Attendance.restore(null, SESSION_ID_1, MEMBER_ID_1, List.of(
+			new CheckedIn(checkInAt),
+			new CheckedOut(checkInAt.plusSeconds(60)),
+			new CorrectionRequested(checkInAt.plusSeconds(120), AttendanceStatus.PRESENT, AttendanceStatus.LATE,
+				"지각", MEMBER_ID_1),
+			new StatusCorrected(checkInAt.plusSeconds(180), AttendanceStatus.PRESENT, AttendanceStatus.LATE,
+				"승인", 1L)));
+		attendanceMongoRepository.save(AttendanceDocument.from(corrected));
+
+		CustomAttendanceMongoRepository.BulkCheckInResult result = attendanceMongoRepository.bulkUpsertCheckIns(
+			SESSION_ID_1, List.of(MEMBER_ID_1), AttendanceEventDocument.from(new CheckedIn(checkInAt.plusSeconds(240))));
+
+		assertThat(result.conflicted()).containsExactly(MEMBER_ID_1);
+		assertThat(result.created()).isEmpty();
+		assertThat(attendanceMongoRepository.findBySessionIdAndMemberId(SESSION_ID_1, MEMBER_ID_1))
+			.get()
+			.extracting(AttendanceDocument::getFinalStatus)
+			.isEqualTo(AttendanceStatus.LATE);
+	}
+
+	@Test
+	@DisplayName("최종 상태 조회 - 이벤트 없이 세션/회원/최종 상태만 읽는다")
+	void findStatusesBySessionIdInAndMemberIdIn_ReturnsProjectedDocuments() {
+		attendanceMongoRepository.save(createTestAttendanceDocument(MEMBER_ID_1, SESSION_ID_1, AttendanceStatus.PRESENT));
+		attendanceMongoRepository.save(createTestAttendanceDocument(MEMBER_ID_2, SESSION_ID_2, AttendanceStatus.ABSENT));
+		attendanceMongoRepository.save(createTestAttendanceDocument(MEMBER_ID_1, SESSION_ID_3, AttendanceStatus.PRESENT));
+
+		List<AttendanceDocument> result = attendanceMongoRepository.findStatusesBySessionIdInAndMemberIdIn(
+			List.of(SESSION_ID_1, SESSION_ID_2), List.of(MEMBER_ID_1, MEMBER_ID_2));
+
+		assertThat(result).hasSize(2);
+		assertThat(result).extracting(AttendanceDocument::getFinalStatus)
+			.containsExactlyInAnyOrder(AttendanceStatus.PRESENT, AttendanceStatus.ABSENT);
+		assertThat(result).allSatisfy(doc -> assertThat(doc.getEvents()).isNull());
+	}
+
+	@Test
+	@DisplayName("최신 상태 조회 - 스냅샷에 반영된 이벤트는 읽지 않고 전체 이력은 필요할 때 읽는다")
+	void findLatest_WithSnapshot_ReturnsOnlyNewerEvents() {
+		Instant checkInAt = Instant.parse("2025-01-01T10:00:00Z");
+		Attendance attendance = Attendance.restore(null, SESSION_ID_1, MEMBER_ID_1, List.of(
+			new CheckedIn(checkInAt), new CheckedOut(checkInAt.plusSeconds(3600))));
+		AttendanceDocument saved = attendanceMongoRepository.save(AttendanceDocument.from(attendance));
+
+		AttendanceDocument latest = attendanceMongoRepository
+			.findLatestBySessionIdAndMemberId(SESSION_ID_1, MEMBER_ID_1)
+			.orElseThrow();
+
+		assertThat(latest.getEvents()).isEmpty();
+		assertThat(latest.getSnapshot().eventCount()).isEqualTo(2);
+
+		Attendance restored = latest.toDomain(() -> attendanceMongoRepository.findEventsById(saved.get_id()));
+		assertThat(restored.getFinalStatus()).isEqualTo(AttendanceStatus.PRESENT);
+		assertThat(restored.getCheckInTime()).isEqualTo(checkInAt);
+		assertThat(restored.getEvents()).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("최신 상태 조회 - 스냅샷이 없는 기존 문서는 전체 이벤트를 다시 적용한다")
+	void findLatest_WithoutSnapshot_ReplaysAllEvents() {
+		Instant checkInAt = Instant.parse("2025-01-01T10:00:00Z");
+		mongoTemplate.insert(new org.bson.Document()
+			.append("sessionId", SESSION_ID_1)
+			.append("memberId", MEMBER_ID_1)
+			.append("finalStatus", "PRESENT")
+			.append("events", List.of(new org.bson.Document()
+				.append("type", "CheckedIn")
+				.append("timestamp", java.util.Date.from(checkInAt)))), "attendances");
+
+		AttendanceDocument latest = attendanceMongoRepository
+			.findLatestBySessionIdAndMemberId(SESSION_ID_1, MEMBER_ID_1)
+			.orElseThrow();
+
+		assertThat(latest.getSnapshot()).isNull();
+		assertThat(latest.getEvents()).hasSize(1);
+		Attendance restored = latest.toDomain(List::of);
+		assertThat(restored.getCheckInTime()).isEqualTo(checkInAt);
+		assertThat(restored.getEvents()).containsExactly(new CheckedIn(checkInAt));
+	}
+
+	@Test
+	@DisplayName("이벤트 이어 쓰기 - 저장된 이벤트 수가 다르면 반영하지 않고 null 반환")
+	void appendEvents_StaleEventCount_ReturnsNull() {
+		Instant checkInAt = Instant.parse("2025-01-01T10:00:00Z");
+		attendanceMongoRepository.upsertCheckIn(
+			new ObjectId(), SESSION_ID_1, MEMBER_ID_1, AttendanceEventDocument.from(new CheckedIn(checkInAt)));
+		AttendanceDocument created = attendanceMongoRepository
+			.findLatestBySessionIdAndMemberId(SESSION_ID_1, MEMBER_ID_1)
+			.orElseThrow();
+
+		Attendance attendance = created.toDomain(() -> attendanceMongoRepository.findEventsById(created.get_id()));
+		attendance.checkOut(java.time.Clock.fixed(checkInAt.plusSeconds(3600), java.time.ZoneOffset.UTC));
+		List<AttendanceEventDocument> pending = attendance.getPendingEvents().stream()
+			.map(AttendanceEventDocument::from)
+			.toList();
+		AttendanceSnapshotDocument snapshot = AttendanceSnapshotDocument.from(attendance.getSnapshot());
+
+		assertThat(attendanceMongoRepository.appendEvents(
+			created.get_id(), 0, pending, snapshot, attendance.getFinalStatus())).isNull();
+
+		AttendanceDocument updated = attendanceMongoRepository.appendEvents(
+			created.get_id(), attendance.getPersistedEventCount(), pending, snapshot, attendance.getFinalStatus());
+
+		assertThat(updated.getSnapshot().eventCount()).isEqualTo(2);
+		assertThat(updated.getSnapshot().lastEvent().type()).isEqualTo("CheckedOut");
+		assertThat(attendanceMongoRepository.findEventsById(created.get_id()))
+			.extracting(AttendanceEventDocument::type)
+			.containsExactly("CheckedIn", "CheckedOut");
+	}
+
 	private AttendanceDocument createTestAttendanceDocument(Long memberId, Long sessionId, AttendanceStatus status) {
 		Attendance attendance = Attendance.create(sessionId, memberId);
 
@@ -2,6 +2,8 @@ package me.chan99k.learningmanager.adapter.persistence.attendance;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,6 +13,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.MongoDBContainer;
@@ -18,17 +22,22 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import me.chan99k.learningmanager.adapter.persistence.attendance.config.TestMongoConfig;
+import me.chan99k.learningmanager.adapter.persistence.attendance.CustomAttendanceMemberStatsMongoRepository.StatusChange;
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceCourseStatsDocument;
 import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceDocument;
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceMemberStatsDocument;
 import me.chan99k.learningmanager.attendance.Attendance;
 import me.chan99k.learningmanager.attendance.AttendanceQueryRepository;
 import me.chan99k.learningmanager.attendance.AttendanceStatus;
 
 @DataMongoTest
 @Testcontainers
-@Import({AttendanceQueryAdapter.class, CustomAttendanceMongoRepositoryImpl.class, TestMongoConfig.class})
+@Import({AttendanceQueryAdapter.class, AttendanceCommandAdapter.class, CustomAttendanceMongoRepositoryImpl.class,
+	CustomAttendanceMemberStatsMongoRepositoryImpl.class, TestMongoConfig.class})
 @DisplayName("AttendanceQueryAdapter 통합 테스트")
 class AttendanceQueryAdapterTest {
 
+	private static final Long COURSE_ID = 10L;
 	private static final Long MEMBER_ID_1 = 123L;
 	private static final Long MEMBER_ID_2 = 124L;
 	private static final Long SESSION_ID_1 = 101L;
@@ -41,9 +50,18 @@ class AttendanceQueryAdapterTest {
 	@Autowired
 	private AttendanceMongoRepository attendanceMongoRepository;
 
+	@Autowired
+	private AttendanceMemberStatsMongoRepository memberStatsRepository;
+
 	@Autowired
 	private AttendanceQueryAdapter attendanceQueryAdapter;
 
+	@Autowired
+	private AttendanceCommandAdapter attendanceCommandAdapter;
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
 	@DynamicPropertySource
 	static void configureProperties(DynamicPropertyRegistry registry) {
 		registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
@@ -52,6 +70,8 @@ class AttendanceQueryAdapterTest {
 	@BeforeEach
 	void setUp() {
 		attendanceMongoRepository.deleteAll();
+		memberStatsRepository.deleteAll();
+		mongoTemplate.remove(new Query(), AttendanceCourseStatsDocument.class);
 
 		AttendanceDocument attendance1 = createAttendanceDocument(MEMBER_ID_1, SESSION_ID_1, AttendanceStatus.PRESENT);
 		AttendanceDocument attendance2 = createAttendanceDocument(MEMBER_ID_1, SESSION_ID_2, AttendanceStatus.ABSENT);
@@ -142,6 +162,179 @@ class AttendanceQueryAdapterTest {
 		assertThat(results).isEmpty();
 	}
 
+	@Test
+	@DisplayName("과정 전체 출석 통계 조회 - 재집계 전에는 카운터를 건드리지 않고 집계 결과로 응답하며 재집계를 등록한다")
+	void findAllMembersAttendanceWithCourseStats_FirstRead_RegistersRebuild() {
+		List<Long> sessionIds = List.of(SESSION_ID_1, SESSION_ID_2, SESSION_ID_3);
+		List<Long> memberIds = List.of(MEMBER_ID_1, MEMBER_ID_2);
+
+		List<AttendanceQueryRepository.MemberAttendanceResult> results =
+			attendanceQueryAdapter.findAllMembersAttendanceWithCourseStats(COURSE_ID, sessionIds, memberIds);
+
+		assertThat(results)
+			.extracting(AttendanceQueryRepository.MemberAttendanceResult::memberId, r -> r.stats().total())
+			.containsExactlyInAnyOrder(tuple(MEMBER_ID_1, 2), tuple(MEMBER_ID_2, 1));
+		assertThat(memberStatsRepository.isRebuilt(COURSE_ID)).isFalse();
+		assertThat(attendanceQueryAdapter.findCoursesPendingStatsRebuild(10)).containsExactly(COURSE_ID);
+		assertThat(memberStatsRepository.findByCourseIdAndMemberIdIn(COURSE_ID, memberIds)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("과정 출석 통계 재집계 - 출석 문서로 카운터를 덮어쓰고, 집계에 없는 회원의 카운터는 0 으로 맞춘다")
+	void rebuildCourseStats_ReplacesCountersAndZeroesMissingMembers() {
+		List<Long> sessionIds = List.of(SESSION_ID_1, SESSION_ID_2, SESSION_ID_3);
+		Long removedMemberId = 999L;
+		memberStatsRepository.applyStatusChanges(COURSE_ID, List.of(
+			StatusChange.created(removedMemberId, AttendanceStatus.PRESENT)));
+		memberStatsRepository.invalidate(COURSE_ID);
+
+		boolean rebuilt = attendanceCommandAdapter.rebuildCourseStats(COURSE_ID, sessionIds);
+
+		assertThat(rebuilt).isTrue();
+		assertThat(memberStatsRepository.isRebuilt(COURSE_ID)).isTrue();
+		assertThat(attendanceQueryAdapter.findCoursesPendingStatsRebuild(10)).isEmpty();
+		assertThat(memberStatsRepository.findByCourseIdAndMemberIdIn(COURSE_ID,
+			List.of(MEMBER_ID_1, MEMBER_ID_2, removedMemberId)))
+			.extracting(AttendanceMemberStatsDocument::getMemberId, AttendanceMemberStatsDocument::getTotal,
+				AttendanceMemberStatsDocument::getPresent, AttendanceMemberStatsDocument::getAbsent)
+			.containsExactlyInAnyOrder(
+				tuple(MEMBER_ID_1, 2, 1, 1),
+				tuple(MEMBER_ID_2, 1, 1, 0),
+				tuple(removedMemberId, 0, 0, 0));
+	}
+
+	@Test
+	@DisplayName("과정 전체 출석 통계 조회 - 재집계 이후에는 쓰기에서 반영한 카운터를 그대로 읽는다")
+	void findAllMembersAttendanceWithCourseStats_AfterRebuild_ReadsCounters() {
+		List<Long> sessionIds = List.of(SESSION_ID_1, SESSION_ID_2, SESSION_ID_3);
+		List<Long> memberIds = List.of(MEMBER_ID_1, MEMBER_ID_2);
+		attendanceQueryAdapter.findAllMembersAttendanceWithCourseStats(COURSE_ID, sessionIds, memberIds);
+		attendanceCommandAdapter.rebuildCourseStats(COURSE_ID, sessionIds);
+
+		memberStatsRepository.applyStatusChanges(COURSE_ID, List.of(
+			new StatusChange(MEMBER_ID_1, AttendanceStatus.ABSENT, AttendanceStatus.PRESENT)));
+
+		List<AttendanceQueryRepository.MemberAttendanceResult> results =
+			attendanceQueryAdapter.findAllMembersAttendanceWithCourseStats(COURSE_ID, sessionIds, memberIds);
+
+		var member1Result = results.stream()
+			.filter(r -> r.memberId().equals(MEMBER_ID_1))
+			.findFirst()
+			.orElseThrow();
+		assertThat(member1Result.attendances()).hasSize(2);
+		assertThat(member1Result.stats().present()).isEqualTo(2);
+		assertThat(member1Result.stats().absent()).isZero();
+		assertThat(member1Result.stats().rate()).isEqualTo(100.0);
+	}
+
+	@Test
+	@DisplayName("과정 전체 출석 통계 조회 - 무효화되면 다시 재집계되기 전까지 집계 결과로 응답한다")
+	void findAllMembersAttendanceWithCourseStats_Invalidated_RebuildsAgain() {
+		List<Long> sessionIds = List.of(SESSION_ID_1, SESSION_ID_2, SESSION_ID_3);
+		List<Long> memberIds = List.of(MEMBER_ID_1, MEMBER_ID_2);
+		memberStatsRepository.requestRebuild(COURSE_ID);
+		attendanceCommandAdapter.rebuildCourseStats(COURSE_ID, sessionIds);
+		memberStatsRepository.applyStatusChanges(COURSE_ID, List.of(
+			new StatusChange(MEMBER_ID_1, AttendanceStatus.ABSENT, AttendanceStatus.PRESENT)));
+
+		attendanceCommandAdapter.invalidateCourseStats(COURSE_ID);
+		var beforeRebuild = attendanceQueryAdapter.findAllMembersAttendanceWithCourseStats(
+			COURSE_ID, sessionIds, memberIds);
+		attendanceCommandAdapter.rebuildCourseStats(COURSE_ID, sessionIds);
+		var afterRebuild = attendanceQueryAdapter.findAllMembersAttendanceWithCourseStats(
+			COURSE_ID, sessionIds, memberIds);
+
+		for (var results : List.of(beforeRebuild, afterRebuild)) {
+			var member1Result = results.stream()
+				.filter(r -> r.memberId().equals(MEMBER_ID_1))
+				.findFirst()
+				.orElseThrow();
+			assertThat(member1Result.stats().present()).isEqualTo(1);
+			assertThat(member1Result.stats().absent()).isEqualTo(1);
+		}
+		assertThat(memberStatsRepository.isRebuilt(COURSE_ID)).isTrue();
+	}
+
+	@Test
+	@DisplayName("과정 출석 통계 재집계 - 버전을 읽은 뒤 반영된 카운터 증감은 덮어쓰지 않는다")
+	void replaceStats_VersionChanged_KeepsIncrement() {
+		memberStatsRepository.applyStatusChanges(COURSE_ID, List.of(
+			StatusChange.created(MEMBER_ID_1, AttendanceStatus.PRESENT)));
+		var versions = memberStatsRepository.findVersions(COURSE_ID, null);
+		var aggregated = attendanceMongoRepository.aggregateAttendanceBySessions(List.of(SESSION_ID_1, SESSION_ID_2));
+
+		memberStatsRepository.applyStatusChanges(COURSE_ID, List.of(
+			StatusChange.created(MEMBER_ID_1, AttendanceStatus.LATE),
+			StatusChange.created(MEMBER_ID_2, AttendanceStatus.PRESENT)));
+		var conflicted = memberStatsRepository.replaceStats(COURSE_ID, aggregated, versions);
+
+		assertThat(conflicted).containsExactlyInAnyOrder(MEMBER_ID_1);
+		assertThat(memberStatsRepository.findByCourseIdAndMemberIdIn(COURSE_ID, List.of(MEMBER_ID_1)))
+			.singleElement()
+			.satisfies(stats -> {
+				assertThat(stats.getTotal()).isEqualTo(2);
+				assertThat(stats.getLate()).isEqualTo(1);
+			});
+	}
+
+	@Test
+	@DisplayName("과정 출석 통계 재집계 - 재집계 도중 무효화되면 READY 로 바꾸지 않는다")
+	void completeRebuild_InvalidatedMeanwhile_StaysStale() {
+		memberStatsRepository.requestRebuild(COURSE_ID);
+		var courseStats = memberStatsRepository.findStaleStats(COURSE_ID);
+
+		memberStatsRepository.invalidate(COURSE_ID);
+
+		assertThat(memberStatsRepository.completeRebuild(COURSE_ID, courseStats.getGeneration(),
+			courseStats.getWritesStarted(), Instant.now())).isFalse();
+		assertThat(memberStatsRepository.isRebuilt(COURSE_ID)).isFalse();
+	}
+
+	@Test
+	@DisplayName("과정 출석 통계 재집계 - 덮어쓴 뒤 집계에 이미 담긴 출석의 증감이 도착하면 READY 로 바꾸지 않고 다시 집계한다")
+	void completeRebuild_IncrementAfterReplace_StaysStaleUntilRebuiltAgain() {
+		List<Long> sessionIds = List.of(SESSION_ID_1, SESSION_ID_2, SESSION_ID_3);
+		memberStatsRepository.requestRebuild(COURSE_ID);
+		var courseStats = memberStatsRepository.findStaleStats(COURSE_ID);
+		var versions = memberStatsRepository.findVersions(COURSE_ID, null);
+		var aggregated = attendanceMongoRepository.aggregateAttendanceBySessions(sessionIds);
+		assertThat(memberStatsRepository.replaceStats(COURSE_ID, aggregated, versions)).isEmpty();
+
+		// 집계에 이미 담긴 MEMBER_ID_2 의 출석에 대한 $inc 가 덮어쓰기 이후에 도착한다
+		memberStatsRepository.applyStatusChanges(COURSE_ID, List.of(
+			StatusChange.created(MEMBER_ID_2, AttendanceStatus.PRESENT)));
+
+		assertThat(memberStatsRepository.completeRebuild(COURSE_ID, courseStats.getGeneration(),
+			courseStats.getWritesStarted(), Instant.now())).isFalse();
+		assertThat(memberStatsRepository.isRebuilt(COURSE_ID)).isFalse();
+		assertThat(attendanceQueryAdapter.findCoursesPendingStatsRebuild(10)).containsExactly(COURSE_ID);
+
+		assertThat(attendanceCommandAdapter.rebuildCourseStats(COURSE_ID, sessionIds)).isTrue();
+		assertThat(memberStatsRepository.findByCourseIdAndMemberIdIn(COURSE_ID, List.of(MEMBER_ID_2)))
+			.singleElement()
+			.satisfies(stats -> {
+				assertThat(stats.getTotal()).isEqualTo(1);
+				assertThat(stats.getPresent()).isEqualTo(1);
+			});
+	}
+
+	@Test
+	@DisplayName("출석 기록 내보내기 - 회원 ID, 세션 ID 순으로 한 건씩 전달")
+	void forEachAttendanceRecord_OrderedByMemberAndSession() {
+		List<Long> visitedMembers = new ArrayList<>();
+		List<Long> visitedSessions = new ArrayList<>();
+
+		attendanceQueryAdapter.forEachAttendanceRecord(
+			List.of(SESSION_ID_3, SESSION_ID_2, SESSION_ID_1), List.of(MEMBER_ID_2, MEMBER_ID_1),
+			(memberId, record) -> {
+				visitedMembers.add(memberId);
+				visitedSessions.add(record.sessionId());
+			});
+
+		assertThat(visitedMembers).containsExactly(MEMBER_ID_1, MEMBER_ID_1, MEMBER_ID_2);
+		assertThat(visitedSessions).containsExactly(SESSION_ID_1, SESSION_ID_2, SESSION_ID_3);
+	}
+
 	private AttendanceDocument createAttendanceDocument(Long memberId, Long sessionId, AttendanceStatus status) {
 		Attendance attendance = Attendance.create(sessionId, memberId);
 
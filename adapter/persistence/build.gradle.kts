@@ -3,7 +3,12 @@ plugins {
     id("lm.java-jdbc")
 }
 
+val catalog = extensions.getByType<VersionCatalogsExtension>().named("libs")
+
 dependencies {
     implementation(project(":core:domain"))
     implementation(project(":core:requires"))
+
+    implementation(catalog.findLibrary("micrometer-core").get())
+    implementation(catalog.findLibrary("caffeine").get())
 }
@@ -0,0 +1,166 @@
+package me.chan99k.learningmanager.authentication;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import me.chan99k.learningmanager.authentication.entity.RefreshTokenEntity;
+
+/**
+ * 여러 인스턴스가 공유하는 DB 기반 Refresh Token 저장소. lm-refresh-token-db 프로파일에서만 등록된다.
+ * <p>
+ * 토큰 원문은 저장하지 않고 SHA-256 해시로만 조회한다. 회원당 한 행을 유지하며, 발급(save)은 회원 ID 기준 upsert,
+ * 갱신(rotate)은 현재 해시가 유효할 때만 같은 행을 새 해시로 바꾸는 조건부 UPDATE 한 번으로 처리한다.
+ * <p>
+ * findByToken 결과는 짧은 TTL 의 로컬 캐시(Caffeine)에 둔다. 다른 인스턴스에서 폐기된 토큰이 잠시 유효해 보일 수 있지만,
+ * 실제 교체는 항상 DB 의 조건부 UPDATE 로 판정하므로 폐기된 토큰으로 새 토큰을 받을 수는 없다.
+ */
+@Repository
+@Profile("lm-refresh-token-db")
+public class JpaRefreshTokenAdapter implements RefreshTokenRepository {
+
+	private final JpaRefreshTokenRepository repository;
+	private final Clock clock;
+	private final boolean nearCacheEnabled;
+	private final Cache<String, CachedToken> nearCache;
+
+	public JpaRefreshTokenAdapter(
+		JpaRefreshTokenRepository repository,
+		Clock clock,
+		@Value("${auth.refresh-token.near-cache.ttl-seconds:10}") long nearCacheTtlSeconds,
+		@Value("${auth.refresh-token.near-cache.max-size:10000}") int nearCacheMaxSize
+	) {
+		this.repository = repository;
+		this.clock = clock;
+		this.nearCacheEnabled = nearCacheMaxSize > 0;
+		this.nearCache = Caffeine.newBuilder()
+			.maximumSize(Math.max(nearCacheMaxSize, 0))
+			.expireAfterWrite(Duration.ofSeconds(nearCacheTtlSeconds))
+			.ticker(() -> toNanos(clock.instant()))
+			.executor(Runnable::run)
+			.build();
+	}
+
+	@Override
+	@Transactional
+	public RefreshToken save(RefreshToken refreshToken) {
+		Long memberId = refreshToken.getMemberId();
+		repository.findByMemberId(memberId)
+			.ifPresent(previous -> nearCache.invalidate(previous.getTokenHash()));
+
+		repository.upsert(memberId, hash(refreshToken.getToken()), refreshToken.getExpiresAt(),
+			refreshToken.getCreatedAt());
+		RefreshTokenEntity saved = repository.findByMemberId(memberId)
+			.orElseThrow(() -> new IllegalStateException("[System] 저장한 Refresh Token 을 찾을 수 없습니다."));
+
+		return toDomain(saved, refreshToken.getToken());
+	}
+
+	@Override
+	public Optional<RefreshToken> findByToken(String token) {
+		String tokenHash = hash(token);
+
+		CachedToken cached = nearCache.getIfPresent(tokenHash);
+		if (cached != null) {
+			return Optional.of(cached.toDomain(token));
+		}
+
+		Optional<RefreshTokenEntity> found = repository.findByTokenHash(tokenHash);
+		found.ifPresent(entity -> {
+			if (nearCacheEnabled) {
+				nearCache.put(tokenHash, CachedToken.of(entity));
+			}
+		});
+		return found.map(entity -> toDomain(entity, token));
+	}
+
+	@Override
+	public boolean rotate(String currentToken, RefreshToken next) {
+		String currentHash = hash(currentToken);
+		nearCache.invalidate(currentHash);
+
+		int updated = repository.rotate(
+			currentHash,
+			next.getMemberId(),
+			hash(next.getToken()),
+			next.getExpiresAt(),
+			next.getCreatedAt(),
+			clock.instant()
+		);
+		return updated == 1;
+	}
+
+	@Override
+	public void revokeAllByMemberId(Long memberId) {
+		repository.revokeByMemberId(memberId);
+		nearCache.asMap().values().removeIf(cached -> cached.memberId().equals(memberId));
+	}
+
+	@Override
+	public void revokeByToken(String token) {
+		String tokenHash = hash(token);
+		repository.revokeByTokenHash(tokenHash);
+		nearCache.invalidate(tokenHash);
+	}
+
+	@Override
+	public int deleteExpiredTokens() {
+		int deleted = repository.deleteExpiredOrRevoked(clock.instant());
+		nearCache.invalidateAll();
+		return deleted;
+	}
+
+	private RefreshToken toDomain(RefreshTokenEntity entity, String token) {
+		return new RefreshToken(
+			entity.getId(),
+			token,
+			entity.getMemberId(),
+			entity.getExpiresAt(),
+			entity.getCreatedAt(),
+			entity.isRevoked()
+		);
+	}
+
+	private String hash(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("[System] SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
+
+	private static long toNanos(Instant instant) {
+		return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+	}
+
+	/**
+	 * 영속성 컨텍스트의 엔티티를 붙잡지 않도록 조회 시점의 값만 복사해 두고, 꺼낼 때마다 새 도메인 객체를 만든다.
+	 */
+	private record CachedToken(
+		Long id, Long memberId, Instant expiresAt, Instant createdAt, boolean revoked
+	) {
+
+		static CachedToken of(RefreshTokenEntity entity) {
+			return new CachedToken(entity.getId(), entity.getMemberId(), entity.getExpiresAt(),
+				entity.getCreatedAt(), entity.isRevoked());
+		}
+
+		RefreshToken toDomain(String token) {
+			return new RefreshToken(id, token, memberId, expiresAt, createdAt, revoked);
+		}
+	}
+}
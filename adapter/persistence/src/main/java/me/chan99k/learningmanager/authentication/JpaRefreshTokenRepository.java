@@ -0,0 +1,75 @@
+package me.chan99k.learningmanager.authentication;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import me.chan99k.learningmanager.authentication.entity.RefreshTokenEntity;
+
+public interface JpaRefreshTokenRepository extends JpaRepository<RefreshTokenEntity, Long> {
+
+	Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
+
+	Optional<RefreshTokenEntity> findByMemberId(Long memberId);
+
+	/**
+	 * 회원의 행이 없으면 만들고, 있으면 새 해시로 바꾼다. uk_refresh_token_member 위에서 한 문장으로 처리되므로
+	 * 같은 회원의 첫 로그인이 동시에 들어와도 유니크 제약 위반이 나지 않는다.
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query(value = """
+		insert into refresh_token (member_id, token_hash, expires_at, created_at, revoked)
+		values (:memberId, :tokenHash, :expiresAt, :createdAt, false)
+		on duplicate key update
+		token_hash = :tokenHash, expires_at = :expiresAt, created_at = :createdAt, revoked = false
+		""", nativeQuery = true)
+	int upsert(
+		@Param("memberId") Long memberId,
+		@Param("tokenHash") String tokenHash,
+		@Param("expiresAt") Instant expiresAt,
+		@Param("createdAt") Instant createdAt
+	);
+
+	/**
+	 * 현재 해시가 유효할 때만 같은 행의 해시와 만료 시각을 바꾼다. 조건 확인과 교체가 UPDATE 한 번으로 끝난다.
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("""
+		update RefreshTokenEntity t
+		set t.tokenHash = :nextHash, t.expiresAt = :nextExpiresAt, t.createdAt = :nextCreatedAt
+		where t.tokenHash = :currentHash
+		and t.memberId = :memberId
+		and t.revoked = false
+		and t.expiresAt > :now
+		""")
+	int rotate(
+		@Param("currentHash") String currentHash,
+		@Param("memberId") Long memberId,
+		@Param("nextHash") String nextHash,
+		@Param("nextExpiresAt") Instant nextExpiresAt,
+		@Param("nextCreatedAt") Instant nextCreatedAt,
+		@Param("now") Instant now
+	);
+
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("update RefreshTokenEntity t set t.revoked = true where t.tokenHash = :tokenHash")
+	int revokeByTokenHash(@Param("tokenHash") String tokenHash);
+
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("update RefreshTokenEntity t set t.revoked = true where t.memberId = :memberId")
+	int revokeByMemberId(@Param("memberId") Long memberId);
+
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("delete from RefreshTokenEntity t where t.expiresAt <= :now or t.revoked = true")
+	int deleteExpiredOrRevoked(@Param("now") Instant now);
+}
@@ -0,0 +1,84 @@
+package me.chan99k.learningmanager.authentication.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * 회원당 한 행만 유지하는 Refresh Token. 토큰 원문 대신 SHA-256 해시만 저장한다.
+ */
+@Entity
+@Table(
+	name = "refresh_token",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_refresh_token_hash", columnNames = "token_hash"),
+		@UniqueConstraint(name = "uk_refresh_token_member", columnNames = "member_id")
+	},
+	indexes = @Index(name = "ix_refresh_token_expires_at", columnList = "expires_at")
+)
+public class RefreshTokenEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "member_id", nullable = false)
+	private Long memberId;
+
+	@Column(name = "token_hash", nullable = false, length = 64)
+	private String tokenHash;
+
+	@Column(name = "expires_at", nullable = false)
+	private Instant expiresAt;
+
+	@Column(name = "created_at", nullable = false)
+	private Instant createdAt;
+
+	@Column(nullable = false)
+	private boolean revoked;
+
+	protected RefreshTokenEntity() {
+	}
+
+	public RefreshTokenEntity(Long memberId) {
+		this.memberId = memberId;
+	}
+
+	public void reissue(String tokenHash, Instant expiresAt, Instant createdAt) {
+		this.tokenHash = tokenHash;
+		this.expiresAt = expiresAt;
+		this.createdAt = createdAt;
+		this.revoked = false;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Long getMemberId() {
+		return memberId;
+	}
+
+	public String getTokenHash() {
+		return tokenHash;
+	}
+
+	public Instant getExpiresAt() {
+		return expiresAt;
+	}
+
+	public Instant getCreatedAt() {
+		return createdAt;
+	}
+
+	public boolean isRevoked() {
+		return revoked;
+	}
+}
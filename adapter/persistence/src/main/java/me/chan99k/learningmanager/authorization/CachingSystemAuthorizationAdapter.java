@@ -0,0 +1,139 @@
+package me.chan99k.learningmanager.authorization;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.chan99k.learningmanager.admin.SystemRoleChangeEvent;
+import me.chan99k.learningmanager.member.SystemRole;
+import me.chan99k.learningmanager.member.SystemRoleHierarchy;
+
+/**
+ * 회원별 시스템 역할을 EnumSet 으로 캐싱하는 SystemAuthorizationPort 데코레이터.
+ * <p>
+ * 모든 인증 요청(JwtAuthenticationFilter)과 인가 검사가 역할을 조회하지만 역할 변경은 드물기 때문에,
+ * 회원당 한 번 조회한 역할 집합으로 hasRole/hasAnyRole/hasRoleOrHigher 를 모두 처리한다.
+ * 역할 부여/회수 시에는 즉시, 그리고 SystemRoleChangeEvent 커밋 이후 한 번 더 캐시를 비운다.
+ * 캐시는 Caffeine 으로 TTL 과 최대 크기를 함께 제한하며, 가득 차면 자주 쓰이지 않는 회원부터 내보낸다.
+ */
+@Primary
+@Component
+public class CachingSystemAuthorizationAdapter implements SystemAuthorizationPort {
+
+	private static final String CACHE_METRIC = "lm.authorization.system-role.cache";
+
+	private final SystemAuthorizationPort delegate;
+	private final SystemRoleHierarchy roleHierarchy;
+	private final boolean enabled;
+	private final Cache<Long, Set<SystemRole>> cache;
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	public CachingSystemAuthorizationAdapter(
+		JpaSystemAuthorizationAdapter delegate,
+		SystemRoleHierarchy roleHierarchy,
+		Clock clock,
+		MeterRegistry meterRegistry,
+		@Value("${authorization.system-role-cache.ttl-seconds:300}") long ttlSeconds,
+		@Value("${authorization.system-role-cache.max-size:10000}") int maxSize
+	) {
+		this.delegate = delegate;
+		this.roleHierarchy = roleHierarchy;
+		this.enabled = maxSize > 0;
+		this.cache = Caffeine.newBuilder()
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.maximumSize(Math.max(maxSize, 0))
+			.ticker(() -> toNanos(clock.instant()))
+			.executor(Runnable::run)
+			.build();
+
+		this.hitCounter = Counter.builder(CACHE_METRIC)
+			.tag("result", "hit")
+			.description("시스템 역할 캐시 조회 결과")
+			.register(meterRegistry);
+		this.missCounter = Counter.builder(CACHE_METRIC)
+			.tag("result", "miss")
+			.description("시스템 역할 캐시 조회 결과")
+			.register(meterRegistry);
+		meterRegistry.gauge(CACHE_METRIC + ".size", cache, Cache::estimatedSize);
+	}
+
+	@Override
+	public boolean hasRole(Long memberId, SystemRole role) {
+		return getRoles(memberId).contains(role);
+	}
+
+	@Override
+	public boolean hasAnyRole(Long memberId, Set<SystemRole> roles) {
+		Set<SystemRole> memberRoles = getRoles(memberId);
+		return roles.stream().anyMatch(memberRoles::contains);
+	}
+
+	@Override
+	public Set<SystemRole> getRoles(Long memberId) {
+		Set<SystemRole> cached = cache.getIfPresent(memberId);
+		if (cached != null) {
+			hitCounter.increment();
+			return cached;
+		}
+
+		missCounter.increment();
+		Set<SystemRole> loaded = EnumSet.noneOf(SystemRole.class);
+		loaded.addAll(delegate.getRoles(memberId));
+		Set<SystemRole> roles = Collections.unmodifiableSet(loaded);
+
+		if (enabled) {
+			cache.put(memberId, roles);
+		}
+		return roles;
+	}
+
+	@Override
+	public void grantRole(Long memberId, SystemRole role) {
+		delegate.grantRole(memberId, role);
+		evict(memberId);
+	}
+
+	@Override
+	public void revokeRole(Long memberId, SystemRole role) {
+		delegate.revokeRole(memberId, role);
+		evict(memberId);
+	}
+
+	@Override
+	public boolean hasRoleOrHigher(Long memberId, SystemRole minimumRole) {
+		return getRoles(memberId).stream()
+			.anyMatch(role -> roleHierarchy.isHigherOrEqual(role, minimumRole));
+	}
+
+	/**
+	 * 트랜잭션 커밋 전에 다른 요청이 이전 역할을 다시 캐싱했을 수 있으므로, 커밋 이후 한 번 더 비운다.
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleSystemRoleChange(SystemRoleChangeEvent event) {
+		evict(event.memberId());
+	}
+
+	public void evict(Long memberId) {
+		cache.invalidate(memberId);
+	}
+
+	private static long toNanos(Instant instant) {
+		return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+	}
+}
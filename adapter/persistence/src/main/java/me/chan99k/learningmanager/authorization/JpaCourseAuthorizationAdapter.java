@@ -1,6 +1,8 @@
 package me.chan99k.learningmanager.authorization;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.stereotype.Repository;
 
@@ -30,4 +32,10 @@ public class JpaCourseAuthorizationAdapter implements CourseAuthorizationPort {
 	public boolean isMember(Long memberId, Long courseId) {
 		return courseRepository.existsByMemberIdAndCourseId(memberId, courseId);
 	}
+
+	@Override
+	public Set<CourseRole> getRoles(Long memberId, Long courseId) {
+		List<CourseRole> roles = courseRepository.findRolesByMemberIdAndCourseId(memberId, courseId);
+		return roles.isEmpty() ? EnumSet.noneOf(CourseRole.class) : EnumSet.copyOf(roles);
+	}
 }
@@ -1,5 +1,9 @@
 package me.chan99k.learningmanager.course;
 
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 
 import me.chan99k.learningmanager.course.entity.CourseEntity;
@@ -8,9 +12,14 @@ import me.chan99k.learningmanager.course.mapper.CourseMapper;
 @Repository
 public class CourseCommandAdapter implements CourseCommandRepository {
 	private final JpaCourseRepository jpaCourseRepository;
+	private final boolean dirtyTracking;
 
-	public CourseCommandAdapter(JpaCourseRepository jpaCourseRepository) {
+	public CourseCommandAdapter(
+		JpaCourseRepository jpaCourseRepository,
+		@Value("${persistence.dirty-tracking.enabled:true}") boolean dirtyTracking
+	) {
 		this.jpaCourseRepository = jpaCourseRepository;
+		this.dirtyTracking = dirtyTracking;
 	}
 
 	@Override
@@ -20,11 +29,28 @@ public class CourseCommandAdapter implements CourseCommandRepository {
 		return CourseMapper.toDomain(saved);
 	}
 
+	/**
+	 * 변경분 반영 모드에서는 관리 중인 엔티티를 읽어 바뀐 필드와 하위 컬렉션의 추가/제거/수정분만 반영한다.
+	 * 분리된 엔티티 그래프 전체를 merge 하지 않으므로 과정 정보만 바꿀 때 멤버, 커리큘럼 컬렉션을 다시 쓰지 않는다.
+	 */
 	@Override
 	public Course save(Course course) {
-		CourseEntity entity = CourseMapper.toEntity(course);
-		CourseEntity saved = jpaCourseRepository.save(entity);
-		return CourseMapper.toDomain(saved);
+		if (!dirtyTracking || course.getId() == null) {
+			CourseEntity entity = CourseMapper.toEntity(course);
+			CourseEntity saved = jpaCourseRepository.save(entity);
+			return CourseMapper.toDomain(saved);
+		}
+
+		CourseEntity managed = jpaCourseRepository.findById(course.getId())
+			.orElseThrow(() -> new ObjectOptimisticLockingFailureException(CourseEntity.class, course.getId()));
+		// merge 와 마찬가지로 다른 트랜잭션이 먼저 수정한 애그리거트는 덮어쓰지 않는다
+		if (!Objects.equals(managed.getVersion(), course.getVersion())) {
+			throw new ObjectOptimisticLockingFailureException(CourseEntity.class, course.getId());
+		}
+
+		CourseMapper.applyChanges(course, managed);
+		// 반환을 위해 엔티티를 다시 도메인으로 바꾸면 하위 컬렉션이 모두 초기화되므로, 반영한 애그리거트를 그대로 돌려준다
+		return course;
 	}
 
 	@Override
@@ -0,0 +1,101 @@
+package me.chan99k.learningmanager.course;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * course_member 테이블에 JDBC 로 직접 접근하는 일괄 등록 어댑터.
+ * <p>
+ * JdbcTemplate 은 진행 중인 스프링 트랜잭션의 커넥션을 그대로 사용하므로, 서비스 트랜잭션이 롤백되면 등록도 함께 롤백된다.
+ * MySQL 에서는 rewriteBatchedStatements 설정으로 배치가 다중 행 INSERT 로 전송된다.
+ * <p>
+ * 등록은 INSERT ... ON DUPLICATE KEY UPDATE id = id 로 수행하므로, 중복 확인 이후 다른 요청이 같은 회원을 먼저 등록했더라도
+ * uk_course_member 위반으로 배치 전체가 실패하지 않고 해당 행은 그대로 둔다. INSERT IGNORE 와 달리 외래 키, NOT NULL,
+ * 길이 초과 같은 다른 오류는 그대로 예외가 된다.
+ */
+@Repository
+public class CourseMemberEnrollmentAdapter implements CourseMemberEnrollmentRepository {
+
+	private static final String FIND_ENROLLED_MEMBER_IDS_SQL = """
+		SELECT member_id FROM course_member
+		WHERE course_id = :courseId AND member_id IN (:memberIds)
+		""";
+
+	private static final String INSERT_COURSE_MEMBER_SQL = """
+		INSERT INTO course_member (created_at, created_by, version, course_id, member_id, course_role)
+		VALUES (?, ?, 0, ?, ?, ?)
+		ON DUPLICATE KEY UPDATE id = id
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private final int batchSize;
+
+	public CourseMemberEnrollmentAdapter(
+		JdbcTemplate jdbcTemplate,
+		@Value("${course.member.bulk.batch-size:500}") int batchSize
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+		this.batchSize = batchSize;
+	}
+
+	@Override
+	public Set<Long> findEnrolledMemberIds(Long courseId, Collection<Long> memberIds) {
+		Set<Long> enrolled = new HashSet<>();
+		List<Long> ids = new ArrayList<>(memberIds);
+
+		// IN 목록이 지나치게 길어지지 않도록 배치 크기 단위로 나누어 조회한다
+		for (int from = 0; from < ids.size(); from += batchSize) {
+			List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+			enrolled.addAll(namedParameterJdbcTemplate.queryForList(
+				FIND_ENROLLED_MEMBER_IDS_SQL,
+				Map.of("courseId", courseId, "memberIds", chunk),
+				Long.class));
+		}
+		return enrolled;
+	}
+
+	/**
+	 * 건너뛴 행은 갱신 건수로 알 수 없다. Connector/J 기본 설정(found rows)에서는 ON DUPLICATE KEY UPDATE 로 건너뛴 행도
+	 * 1 로 보고하고, 배치가 다중 행 INSERT 로 재작성되면 행별 건수 대신 SUCCESS_NO_INFO 를 돌려주기 때문이다.
+	 * <p>
+	 * 그래서 등록한 회원을 다시 조회한다. REPEATABLE READ 의 일관된 읽기는 트랜잭션 첫 조회 시점의 스냅숏과 이 트랜잭션이
+	 * 넣은 행만 보므로, 그 사이 다른 트랜잭션이 커밋한 행(= 이번에 건너뛴 행)은 조회되지 않는다. id = id 는 값이 바뀌지 않아
+	 * 행을 실제로 갱신하지 않으므로 건너뛴 행이 이 트랜잭션의 변경으로 보이지도 않는다.
+	 */
+	@Override
+	public Set<Long> enrollAll(Long courseId, List<CourseMemberEnrollment> enrollments, Long enrolledBy) {
+		if (enrollments.isEmpty()) {
+			return Set.of();
+		}
+
+		Timestamp now = Timestamp.from(Instant.now());
+		jdbcTemplate.batchUpdate(INSERT_COURSE_MEMBER_SQL, enrollments, batchSize,
+			(ps, enrollment) -> {
+				ps.setTimestamp(1, now);
+				ps.setLong(2, enrolledBy);
+				ps.setLong(3, courseId);
+				ps.setLong(4, enrollment.memberId());
+				ps.setString(5, enrollment.courseRole().name());
+			});
+
+		List<Long> memberIds = enrollments.stream().map(CourseMemberEnrollment::memberId).toList();
+		Set<Long> inserted = findEnrolledMemberIds(courseId, memberIds);
+		return memberIds.stream()
+			.filter(memberId -> !inserted.contains(memberId))
+			.collect(Collectors.toSet());
+	}
+}
@@ -47,6 +47,11 @@ public class CourseQueryAdapter implements CourseQueryRepository {
 			.toList();
 	}
 
+	@Override
+	public boolean isManagedBy(Long courseId, Long memberId) {
+		return jpaCourseRepository.existsByMemberIdAndCourseIdAndRole(memberId, courseId, CourseRole.MANAGER);
+	}
+
 	@Override
 	public Optional<CourseDetailInfo> findCourseDetailById(Long courseId) {
 		return jpaCourseRepository.findCourseBasicDetailsById(courseId);
@@ -59,6 +64,11 @@ public class CourseQueryAdapter implements CourseQueryRepository {
 		return PageResult.of(page.getContent(), pageRequest, page.getTotalElements());
 	}
 
+	@Override
+	public List<CourseMemberInfo> findCourseMembersAfterMemberId(Long courseId, Long afterMemberId, int limit) {
+		return jpaCourseRepository.findCourseMembersAfterMemberId(courseId, afterMemberId, limit);
+	}
+
 	private Pageable toSpringPageable(PageRequest pageRequest) {
 		if (pageRequest.hasSort()) {
 			Sort.Direction direction = pageRequest.sortOrder() == SortOrder.DESC
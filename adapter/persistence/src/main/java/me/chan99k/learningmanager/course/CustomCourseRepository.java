@@ -13,6 +13,8 @@ public interface CustomCourseRepository {
 
 	Page<CourseMemberInfo> findCourseMembersByCourseId(Long courseId, Pageable pageable);
 
+	List<CourseMemberInfo> findCourseMembersAfterMemberId(Long courseId, Long afterMemberId, int limit);
+
 	//  === Entity 조회  ===
 	Optional<CourseEntity> findManagedCourseById(Long courseId, Long memberId);
 
@@ -32,4 +34,6 @@ public interface CustomCourseRepository {
 	boolean existsByMemberIdAndCourseIdAndRoleIn(Long memberId, Long courseId, List<CourseRole> roles);
 
 	boolean existsByMemberIdAndCourseId(Long memberId, Long courseId);
+
+	List<CourseRole> findRolesByMemberIdAndCourseId(Long memberId, Long courseId);
 }
@@ -64,6 +64,35 @@ public class CustomCourseRepositoryImpl implements CustomCourseRepository {
 		return PageableExecutionUtils.getPage(courseMemberInfos, pageable, countQuery::fetchOne);
 	}
 
+	@Override
+	public List<CourseMemberInfo> findCourseMembersAfterMemberId(Long courseId, Long afterMemberId, int limit) {
+		List<Tuple> tuples = queryFactory
+			.select(
+				courseMemberEntity.memberId,
+				memberEntity.nickname,
+				accountEntity.email,
+				courseMemberEntity.courseRole,
+				courseMemberEntity.createdAt
+			).from(courseMemberEntity)
+			.join(memberEntity).on(courseMemberEntity.memberId.eq(memberEntity.id))
+			.join(accountEntity).on(accountEntity.member.id.eq(memberEntity.id))
+			.where(
+				courseMemberEntity.course.id.eq(courseId),
+				afterMemberId != null ? courseMemberEntity.memberId.gt(afterMemberId) : null)
+			.orderBy(courseMemberEntity.memberId.asc())
+			.limit(limit)
+			.fetch();
+
+		return tuples.stream().map(tuple ->
+			new CourseMemberInfo(
+				tuple.get(courseMemberEntity.memberId),
+				tuple.get(memberEntity.nickname),
+				Objects.requireNonNull(tuple.get(accountEntity.email)).address(),
+				tuple.get(courseMemberEntity.courseRole),
+				tuple.get(courseMemberEntity.createdAt))
+		).toList();
+	}
+
 	@Override
 	public Optional<CourseEntity> findManagedCourseById(Long courseId, Long memberId) {
 		CourseEntity result = queryFactory
@@ -176,4 +205,15 @@ public class CustomCourseRepositoryImpl implements CustomCourseRepository {
 
 		return result != null;
 	}
+
+	@Override
+	public List<CourseRole> findRolesByMemberIdAndCourseId(Long memberId, Long courseId) {
+		return queryFactory
+			.select(courseMemberEntity.courseRole)
+			.from(courseMemberEntity)
+			.where(
+				courseMemberEntity.memberId.eq(memberId),
+				courseMemberEntity.course.id.eq(courseId))
+			.fetch();
+	}
 }
@@ -3,6 +3,8 @@ package me.chan99k.learningmanager.course.entity;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -12,6 +14,7 @@ import jakarta.persistence.Table;
 import me.chan99k.learningmanager.common.MutableEntity;
 
 @Entity
+@DynamicUpdate
 @Table(name = "course")
 public class CourseEntity extends MutableEntity {
 
@@ -2,7 +2,10 @@ package me.chan99k.learningmanager.course.mapper;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
+import me.chan99k.learningmanager.common.BaseEntity;
 import me.chan99k.learningmanager.course.Course;
 import me.chan99k.learningmanager.course.CourseMember;
 import me.chan99k.learningmanager.course.Curriculum;
@@ -43,6 +46,42 @@ public final class CourseMapper {
 		return entity;
 	}
 
+	/**
+	 * 영속성 컨텍스트가 관리 중인 엔티티에 도메인 애그리거트의 변경분만 반영한다.
+	 * <p>
+	 * 하위 컬렉션은 제거하거나 수정할 항목이 있을 때만 초기화된다. 새 항목 추가는 컬렉션을 읽지 않고 flush 시점에 저장된다.
+	 */
+	public static void applyChanges(Course domain, CourseEntity entity) {
+		entity.setTitle(domain.getTitle());
+		entity.setDescription(domain.getDescription());
+
+		Set<Long> removedMemberIds = domain.getRemovedMemberIds();
+		if (!removedMemberIds.isEmpty()) {
+			entity.getCourseMemberList().removeIf(member -> removedMemberIds.contains(member.getId()));
+		}
+		for (CourseMember member : domain.getCourseMemberList()) {
+			if (member.getId() == null) {
+				entity.addCourseMember(toCourseMemberEntity(member, entity));
+			} else if (member.isModified()) {
+				findById(entity.getCourseMemberList(), member.getId()).setCourseRole(member.getCourseRole());
+			}
+		}
+
+		Set<Long> removedCurriculumIds = domain.getRemovedCurriculumIds();
+		if (!removedCurriculumIds.isEmpty()) {
+			entity.getCurriculumList().removeIf(curriculum -> removedCurriculumIds.contains(curriculum.getId()));
+		}
+		for (Curriculum curriculum : domain.getCurriculumList()) {
+			if (curriculum.getId() == null) {
+				entity.addCurriculum(toCurriculumEntity(curriculum, entity));
+			} else if (curriculum.isModified()) {
+				CurriculumEntity curriculumEntity = findById(entity.getCurriculumList(), curriculum.getId());
+				curriculumEntity.setTitle(curriculum.getTitle());
+				curriculumEntity.setDescription(curriculum.getDescription());
+			}
+		}
+	}
+
 	public static Course toDomain(CourseEntity entity) {
 		if (entity == null) {
 			return null;
@@ -111,6 +150,13 @@ public final class CourseMapper {
 		return entity;
 	}
 
+	private static <T extends BaseEntity> T findById(List<T> entities, Long id) {
+		return entities.stream()
+			.filter(entity -> Objects.equals(entity.getId(), id))
+			.findFirst()
+			.orElseThrow(() -> new IllegalStateException("[System] 영속 상태의 하위 엔티티를 찾을 수 없습니다. ID: " + id));
+	}
+
 	private static Curriculum toCurriculumDomain(CurriculumEntity entity) {
 		return Curriculum.reconstitute(
 			entity.getId(),
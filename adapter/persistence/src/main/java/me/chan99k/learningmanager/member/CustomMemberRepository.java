@@ -1,6 +1,7 @@
 package me.chan99k.learningmanager.member;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.data.domain.Limit;
@@ -11,6 +12,8 @@ public interface CustomMemberRepository {
 
 	List<MemberEmailPair> findMemberEmailPairs(List<Email> emails, Limit limit);
 
+	Map<String, Long> findMemberIdsByEmails(List<Email> emails);
+
 	Optional<MemberEntity> findByAccountsEmail(String email);
 
 }
@@ -4,8 +4,10 @@ import static me.chan99k.learningmanager.member.entity.QAccountEntity.*;
 import static me.chan99k.learningmanager.member.entity.QMemberEntity.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Limit;
 
@@ -40,6 +42,23 @@ public class CustomMemberRepositoryImpl implements CustomMemberRepository {
 			.toList();
 	}
 
+	@Override
+	public Map<String, Long> findMemberIdsByEmails(List<Email> emails) {
+		if (emails.isEmpty()) {
+			return Map.of();
+		}
+
+		return queryFactory
+			.select(accountEntity.member.id, accountEntity.email)
+			.from(accountEntity)
+			.where(accountEntity.email.in(emails))
+			.fetch().stream()
+			.collect(Collectors.toMap(
+				tuple -> Objects.requireNonNull(tuple.get(accountEntity.email)).address(),
+				tuple -> Objects.requireNonNull(tuple.get(accountEntity.member.id)),
+				(first, second) -> first));
+	}
+
 	@Override
 	public Optional<MemberEntity> findByAccountsEmail(String email) {
 		MemberEntity foundMember = queryFactory.selectFrom(memberEntity)
@@ -0,0 +1,195 @@
+package me.chan99k.learningmanager.member;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 아웃박스에 기록된 메일을 주기적으로 꺼내 EmailDelivery 로 보내는 발송기.
+ * <p>
+ * 한 번에 batchSize 건을 짧은 트랜잭션으로 꺼낸 뒤(임대), 트랜잭션 밖에서 발송하고, 결과를 다시 짧은 트랜잭션으로 반영한다.
+ * 발송에 성공한 행은 삭제하고, 실패한 행은 시도 횟수에 따라 지수적으로 늘어나는 간격 뒤로 미룬다.
+ * maxAttempts 번 실패하면 DEAD 로 바꾸어 더 이상 꺼내지 않는다. 링크 토큰이 만료된 행도 보내지 않고 DEAD 로 바꾼다.
+ * DEAD 행은 deadRetention 이 지나면 주기마다 삭제한다.
+ * <p>
+ * 링크 토큰은 인스턴스 메모리의 토큰 저장소에만 있으므로, 재시작 전에 기록된 메일은 행이 남아 있어도 링크가 동작하지 않는다.
+ * 아웃박스가 보장하는 것은 회원 변경과 메일 기록의 원자성과, 실행 중 SMTP 장애에 대한 재시도까지다.
+ * <p>
+ * 한 주기에 처리하는 배치 수는 maxBatchesPerTick 으로 제한해, 대기 메일이 많아도 스케줄러 스레드를 오래 붙잡지 않는다.
+ * <p>
+ * 아직 보내지 못한 가장 오래된 메일의 대기 시간을 lm.email.outbox.lag 로 노출한다.
+ */
+@Component
+public class EmailOutboxDispatcher {
+
+	private static final Logger log = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+
+	private final EmailOutboxJdbcRepository outboxRepository;
+	private final EmailDelivery emailDelivery;
+	private final TransactionTemplate transactionTemplate;
+	private final Clock clock;
+	private final int batchSize;
+	private final int maxAttempts;
+	private final Duration initialBackoff;
+	private final Duration maxBackoff;
+	private final Duration lease;
+	private final int maxBatchesPerTick;
+	private final Duration deadRetention;
+	private final AtomicLong lagMillis = new AtomicLong();
+	private final Counter sentCounter;
+	private final Counter retriedCounter;
+	private final Counter deadCounter;
+	private final Counter expiredCounter;
+
+	public EmailOutboxDispatcher(
+		EmailOutboxJdbcRepository outboxRepository,
+		EmailDelivery emailDelivery,
+		PlatformTransactionManager transactionManager,
+		Clock clock,
+		MeterRegistry meterRegistry,
+		@Value("${email.outbox.batch-size:50}") int batchSize,
+		@Value("${email.outbox.max-attempts:8}") int maxAttempts,
+		@Value("${email.outbox.initial-backoff-seconds:30}") long initialBackoffSeconds,
+		@Value("${email.outbox.max-backoff-seconds:3600}") long maxBackoffSeconds,
+		@Value("${email.outbox.lease-seconds:120}") long leaseSeconds,
+		@Value("${email.outbox.delivery-timeout-seconds:60}") long deliveryTimeoutSeconds,
+		@Value("${email.outbox.max-batches-per-tick:20}") int maxBatchesPerTick,
+		@Value("${email.outbox.dead-retention-days:14}") long deadRetentionDays
+	) {
+		// 발송을 기다리는 도중 임대가 끝나면 다른 인스턴스가 같은 행을 다시 꺼내 보낸다
+		if (leaseSeconds <= deliveryTimeoutSeconds) {
+			throw new IllegalArgumentException(
+				"[System] 아웃박스 임대 시간은 발송 대기 시간보다 길어야 합니다. leaseSeconds=" + leaseSeconds
+					+ ", deliveryTimeoutSeconds=" + deliveryTimeoutSeconds);
+		}
+		this.outboxRepository = outboxRepository;
+		this.emailDelivery = emailDelivery;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.clock = clock;
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.initialBackoff = Duration.ofSeconds(initialBackoffSeconds);
+		this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+		this.lease = Duration.ofSeconds(leaseSeconds);
+		this.maxBatchesPerTick = Math.max(maxBatchesPerTick, 1);
+		this.deadRetention = Duration.ofDays(deadRetentionDays);
+
+		this.sentCounter = Counter.builder("lm.email.outbox.sent")
+			.description("아웃박스에서 발송에 성공한 메일 수")
+			.register(meterRegistry);
+		this.retriedCounter = Counter.builder("lm.email.outbox.retried")
+			.description("발송에 실패해 다시 시도하도록 미룬 메일 수")
+			.register(meterRegistry);
+		this.deadCounter = Counter.builder("lm.email.outbox.dead")
+			.description("최대 시도 횟수를 넘겨 발송을 포기한 메일 수")
+			.register(meterRegistry);
+		this.expiredCounter = Counter.builder("lm.email.outbox.expired")
+			.description("링크 토큰이 만료되어 보내지 않고 DEAD 로 바꾼 메일 수")
+			.register(meterRegistry);
+		Gauge.builder("lm.email.outbox.lag", lagMillis, lag -> lag.get() / 1000.0)
+			.description("아직 발송하지 못한 가장 오래된 메일이 기록된 뒤 지난 시간")
+			.baseUnit("seconds")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 꺼낸 메일이 batchSize 만큼 가득 차 있으면 대기 중인 메일이 더 있다고 보고, maxBatchesPerTick 까지 이어서 처리한다.
+	 */
+	@Scheduled(fixedDelayString = "${email.outbox.poll-interval-millis:1000}")
+	public void dispatch() {
+		expire();
+		purgeDead();
+		int batches = 0;
+		int claimed;
+		do {
+			claimed = dispatchBatch();
+			batches++;
+		} while (claimed == batchSize && batches < maxBatchesPerTick);
+		updateLag();
+	}
+
+	private void expire() {
+		int expired = outboxRepository.markExpiredDead(clock.instant());
+		if (expired > 0) {
+			expiredCounter.increment(expired);
+			log.warn("[System] 링크 토큰이 만료되어 보내지 못한 메일이 {}건 있습니다.", expired);
+		}
+	}
+
+	private void purgeDead() {
+		int purged = outboxRepository.deleteDeadBefore(clock.instant().minus(deadRetention));
+		if (purged > 0) {
+			log.info("[System] 보존 기간이 지난 DEAD 메일 {}건을 삭제했습니다.", purged);
+		}
+	}
+
+	int dispatchBatch() {
+		Instant now = clock.instant();
+		List<EmailOutboxMessage> messages = transactionTemplate.execute(
+			status -> outboxRepository.claimDue(now, batchSize, now.plus(lease)));
+		if (messages == null || messages.isEmpty()) {
+			return 0;
+		}
+
+		Map<Long, String> failures = emailDelivery.deliver(messages);
+		transactionTemplate.executeWithoutResult(status -> record(messages, failures));
+		return messages.size();
+	}
+
+	private void record(List<EmailOutboxMessage> messages, Map<Long, String> failures) {
+		Instant now = clock.instant();
+		List<Long> sentIds = messages.stream()
+			.map(EmailOutboxMessage::id)
+			.filter(id -> !failures.containsKey(id))
+			.toList();
+		outboxRepository.deleteAll(sentIds);
+		sentCounter.increment(sentIds.size());
+
+		for (EmailOutboxMessage message : messages) {
+			if (!failures.containsKey(message.id())) {
+				continue;
+			}
+			String error = failures.get(message.id());
+			if (message.attempts() >= maxAttempts) {
+				outboxRepository.markDead(message.id(), error);
+				deadCounter.increment();
+				log.error("[System] 메일 발송을 포기합니다. id={}, type={}, attempts={}, error={}",
+					message.id(), message.type(), message.attempts(), error);
+			} else {
+				outboxRepository.reschedule(message.id(), now.plus(backoff(message.attempts())), error);
+				retriedCounter.increment();
+				log.warn("[System] 메일 발송 실패, 다시 시도합니다. id={}, type={}, attempts={}, error={}",
+					message.id(), message.type(), message.attempts(), error);
+			}
+		}
+	}
+
+	/**
+	 * 실패한 시도 횟수가 늘 때마다 간격을 두 배로 늘리되 maxBackoff 를 넘지 않는다.
+	 */
+	Duration backoff(int attempts) {
+		int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+		Duration delay = initialBackoff.multipliedBy(1L << exponent);
+		return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+	}
+
+	private void updateLag() {
+		Instant oldest = outboxRepository.findOldestPendingCreatedAt();
+		lagMillis.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, clock.instant()).toMillis()));
+	}
+}
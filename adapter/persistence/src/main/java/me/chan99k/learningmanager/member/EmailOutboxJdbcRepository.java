@@ -0,0 +1,158 @@
+package me.chan99k.learningmanager.member;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * email_outbox 테이블에 JDBC 로 직접 접근하는 저장소.
+ * <p>
+ * 기록(append)은 호출한 서비스의 트랜잭션에 참여하므로 회원 변경이 롤백되면 메일도 남지 않는다.
+ * 꺼내기(claimDue)는 SELECT ... FOR UPDATE SKIP LOCKED 로 다른 인스턴스가 잠근 행을 건너뛰고, 꺼낸 행의 다음 시도 시각을
+ * 임대 만료 시각으로 미뤄 둔다. 발송 중 프로세스가 죽으면 임대가 끝난 뒤 다시 꺼내지므로 메일은 최소 한 번 발송된다.
+ * <p>
+ * 링크 토큰은 만료 시각(expires_at)까지만 의미가 있으므로, 만료된 행은 꺼내지 않고 DEAD 로 바꾼다.
+ * DEAD 로 바꾸는 행은 토큰을 지워, 보내지 않을 토큰이 테이블에 남지 않게 한다.
+ * DEAD 행은 원인을 확인할 수 있도록 보존 기간 동안 남겨 두었다가 삭제한다.
+ */
+@Repository
+public class EmailOutboxJdbcRepository {
+
+	private static final String INSERT_SQL = """
+		INSERT INTO email_outbox (type, recipient, token, expires_at, status, attempts, next_attempt_at, created_at)
+		VALUES (?, ?, ?, ?, 'PENDING', 0, ?, ?)
+		""";
+
+	private static final String SELECT_DUE_FOR_UPDATE_SQL = """
+		SELECT id, type, recipient, token, attempts, created_at FROM email_outbox
+		WHERE status = 'PENDING' AND next_attempt_at <= ? AND expires_at > ?
+		ORDER BY next_attempt_at, id
+		LIMIT ?
+		FOR UPDATE SKIP LOCKED
+		""";
+
+	private static final String LEASE_SQL = """
+		UPDATE email_outbox SET attempts = attempts + 1, next_attempt_at = :leaseUntil
+		WHERE id IN (:ids)
+		""";
+
+	private static final String DELETE_SQL = "DELETE FROM email_outbox WHERE id IN (:ids)";
+
+	private static final String RESCHEDULE_SQL = """
+		UPDATE email_outbox SET next_attempt_at = ?, last_error = ? WHERE id = ?
+		""";
+
+	private static final String MARK_DEAD_SQL = """
+		UPDATE email_outbox SET status = 'DEAD', token = NULL, last_error = ? WHERE id = ?
+		""";
+
+	private static final String MARK_EXPIRED_DEAD_SQL = """
+		UPDATE email_outbox SET status = 'DEAD', token = NULL, last_error = ?
+		WHERE status = 'PENDING' AND expires_at <= ?
+		""";
+
+	private static final String EXPIRED_ERROR = "링크 토큰이 만료되어 발송하지 않습니다.";
+
+	private static final String DELETE_DEAD_BEFORE_SQL = """
+		DELETE FROM email_outbox WHERE status = 'DEAD' AND created_at < ?
+		""";
+
+	private static final String SELECT_OLDEST_PENDING_SQL = """
+		SELECT MIN(created_at) FROM email_outbox WHERE status = 'PENDING'
+		""";
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	public EmailOutboxJdbcRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void append(EmailOutboxType type, String recipient, String token, Instant expiresAt, Instant now) {
+		Timestamp timestamp = Timestamp.from(now);
+		jdbcTemplate.update(INSERT_SQL, type.name(), recipient, token, Timestamp.from(expiresAt), timestamp, timestamp);
+	}
+
+	/**
+	 * 발송 시각이 되었고 토큰이 아직 유효한 메일을 최대 limit 건 잠가서 꺼내고, leaseUntil 전에는 다시 꺼내지지 않도록 시도 횟수와 함께 갱신한다.
+	 * 잠금은 호출한 트랜잭션이 끝날 때 풀리므로, 발송은 트랜잭션을 커밋한 뒤에 해야 한다.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public List<EmailOutboxMessage> claimDue(Instant now, int limit, Instant leaseUntil) {
+		List<EmailOutboxMessage> due = jdbcTemplate.query(SELECT_DUE_FOR_UPDATE_SQL,
+			(rs, rowNum) -> new EmailOutboxMessage(
+				rs.getLong("id"),
+				EmailOutboxType.valueOf(rs.getString("type")),
+				rs.getString("recipient"),
+				rs.getString("token"),
+				rs.getInt("attempts") + 1,
+				rs.getTimestamp("created_at").toInstant()
+			),
+			Timestamp.from(now), Timestamp.from(now), limit);
+		if (due.isEmpty()) {
+			return due;
+		}
+
+		namedParameterJdbcTemplate.update(LEASE_SQL, Map.of(
+			"leaseUntil", Timestamp.from(leaseUntil),
+			"ids", due.stream().map(EmailOutboxMessage::id).toList()));
+		return due;
+	}
+
+	public void deleteAll(Collection<Long> ids) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		namedParameterJdbcTemplate.update(DELETE_SQL, Map.of("ids", ids));
+	}
+
+	public void reschedule(Long id, Instant nextAttemptAt, String lastError) {
+		jdbcTemplate.update(RESCHEDULE_SQL, Timestamp.from(nextAttemptAt), truncate(lastError), id);
+	}
+
+	public void markDead(Long id, String lastError) {
+		jdbcTemplate.update(MARK_DEAD_SQL, truncate(lastError), id);
+	}
+
+	/**
+	 * 토큰이 만료된 대기 행을 DEAD 로 바꾸고 토큰을 지운다. 바꾼 행 수를 돌려준다.
+	 */
+	public int markExpiredDead(Instant now) {
+		return jdbcTemplate.update(MARK_EXPIRED_DEAD_SQL, EXPIRED_ERROR, Timestamp.from(now));
+	}
+
+	/**
+	 * cutoff 전에 기록된 DEAD 행을 삭제하고 삭제한 행 수를 돌려준다. 행은 링크 토큰이 만료되면 늦어도 DEAD 로 바뀌고
+	 * 토큰 유효 시간은 보존 기간보다 훨씬 짧으므로, 기록 시각을 기준으로 삼아 (status, created_at) 인덱스를 탄다.
+	 */
+	public int deleteDeadBefore(Instant cutoff) {
+		return jdbcTemplate.update(DELETE_DEAD_BEFORE_SQL, Timestamp.from(cutoff));
+	}
+
+	/**
+	 * 아직 발송되지 않은(재시도 대기 포함) 메일 중 가장 먼저 기록된 시각. 없으면 null.
+	 */
+	public Instant findOldestPendingCreatedAt() {
+		Timestamp oldest = jdbcTemplate.queryForObject(SELECT_OLDEST_PENDING_SQL, Timestamp.class);
+		return oldest == null ? null : oldest.toInstant();
+	}
+
+	private String truncate(String error) {
+		if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+			return error;
+		}
+		return error.substring(0, MAX_ERROR_LENGTH);
+	}
+}
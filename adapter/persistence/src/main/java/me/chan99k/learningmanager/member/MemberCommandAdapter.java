@@ -1,6 +1,7 @@
 package me.chan99k.learningmanager.member;
 
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import me.chan99k.learningmanager.member.entity.MemberEntity;
 import me.chan99k.learningmanager.member.mapper.MemberMapper;
@@ -15,6 +16,7 @@ public class MemberCommandAdapter implements MemberCommandRepository {
 	}
 
 	@Override
+	@Transactional
 	public Member save(Member member) {
 		MemberEntity entity = MemberMapper.toEntity(member);
 		MemberEntity saved = jpaMemberRepository.save(entity);
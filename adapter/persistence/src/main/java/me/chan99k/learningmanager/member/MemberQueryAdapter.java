@@ -1,10 +1,12 @@
 package me.chan99k.learningmanager.member;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import me.chan99k.learningmanager.member.mapper.MemberMapper;
 
@@ -23,7 +25,11 @@ public class MemberQueryAdapter implements MemberQueryRepository {
 			.map(MemberMapper::toDomain);
 	}
 
+	/**
+	 * 계정과 자격 증명은 지연 로딩되므로, 트랜잭션 밖에서 호출되어도 매핑이 끝날 때까지 읽기 트랜잭션을 유지한다.
+	 */
 	@Override
+	@Transactional(readOnly = true)
 	public Optional<Member> findByEmail(Email email) {
 		return jpaMemberRepository.findByAccountsEmail(email.address())
 			.map(MemberMapper::toDomain);
@@ -39,4 +45,9 @@ public class MemberQueryAdapter implements MemberQueryRepository {
 	public List<MemberEmailPair> findMembersByEmails(List<Email> emails, int limit) {
 		return jpaMemberRepository.findMemberEmailPairs(emails, Limit.of(limit));
 	}
+
+	@Override
+	public Map<String, Long> findMemberIdsByEmails(List<Email> emails) {
+		return jpaMemberRepository.findMemberIdsByEmails(emails);
+	}
 }
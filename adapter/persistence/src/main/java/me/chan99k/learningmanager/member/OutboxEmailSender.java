@@ -0,0 +1,54 @@
+package me.chan99k.learningmanager.member;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메일을 바로 보내지 않고 호출한 서비스의 트랜잭션 안에서 아웃박스에 기록하는 EmailSender.
+ * <p>
+ * 요청 스레드는 INSERT 한 건만 부담하고, 실제 발송은 EmailOutboxDispatcher 가 커밋된 행을 꺼내 처리한다.
+ * 트랜잭션 밖에서 호출하면 기록이 회원 변경과 묶이지 않으므로 예외가 발생한다.
+ * <p>
+ * 토큰 저장소와 같은 유효 기간 설정으로 만료 시각을 함께 기록해, 만료된 링크는 보내지 않도록 한다.
+ */
+@Primary
+@Component
+public class OutboxEmailSender implements EmailSender {
+
+	private final EmailOutboxJdbcRepository outboxRepository;
+	private final Clock clock;
+	private final Duration signUpConfirmValidity;
+	private final Duration passwordResetValidity;
+
+	public OutboxEmailSender(
+		EmailOutboxJdbcRepository outboxRepository,
+		Clock clock,
+		@Value("${auth.signup-confirm-token.validity-in-seconds:1500}") long signUpConfirmValiditySeconds,
+		@Value("${auth.password-reset-token.validity-in-seconds:1500}") long passwordResetValiditySeconds
+	) {
+		this.outboxRepository = outboxRepository;
+		this.clock = clock;
+		this.signUpConfirmValidity = Duration.ofSeconds(signUpConfirmValiditySeconds);
+		this.passwordResetValidity = Duration.ofSeconds(passwordResetValiditySeconds);
+	}
+
+	@Override
+	public void sendSignUpConfirmEmail(String email, String token) {
+		append(EmailOutboxType.SIGN_UP_CONFIRM, email, token, signUpConfirmValidity);
+	}
+
+	@Override
+	public void sendPasswordResetEmail(String email, String token) {
+		append(EmailOutboxType.PASSWORD_RESET, email, token, passwordResetValidity);
+	}
+
+	private void append(EmailOutboxType type, String email, String token, Duration validity) {
+		Instant now = clock.instant();
+		outboxRepository.append(type, email, token, now.plus(validity), now);
+	}
+}
@@ -0,0 +1,109 @@
+package me.chan99k.learningmanager.member.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import me.chan99k.learningmanager.member.EmailOutboxType;
+
+/**
+ * 메일 아웃박스 행. 읽기와 쓰기는 EmailOutboxJdbcRepository 가 SQL 로 직접 하며, 이 엔티티는 스키마를 정의한다.
+ */
+@Entity
+@Table(
+	name = "email_outbox",
+	indexes = {
+		@Index(name = "ix_email_outbox_due", columnList = "status, next_attempt_at"),
+		@Index(name = "ix_email_outbox_created_at", columnList = "status, created_at")
+	}
+)
+public class EmailOutboxEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 30)
+	private EmailOutboxType type;
+
+	@Column(nullable = false)
+	private String recipient;
+
+	@Column(length = 512)
+	private String token;
+
+	@Column(name = "expires_at", nullable = false)
+	private Instant expiresAt;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private EmailOutboxStatus status;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private Instant nextAttemptAt;
+
+	@Column(name = "created_at", nullable = false)
+	private Instant createdAt;
+
+	@Column(name = "last_error", length = 500)
+	private String lastError;
+
+	protected EmailOutboxEntity() {
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public EmailOutboxType getType() {
+		return type;
+	}
+
+	public String getRecipient() {
+		return recipient;
+	}
+
+	public String getToken() {
+		return token;
+	}
+
+	public Instant getExpiresAt() {
+		return expiresAt;
+	}
+
+	public EmailOutboxStatus getStatus() {
+		return status;
+	}
+
+	public int getAttempts() {
+		return attempts;
+	}
+
+	public Instant getNextAttemptAt() {
+		return nextAttemptAt;
+	}
+
+	public Instant getCreatedAt() {
+		return createdAt;
+	}
+
+	public String getLastError() {
+		return lastError;
+	}
+
+	public enum EmailOutboxStatus {
+		PENDING,
+		DEAD
+	}
+}
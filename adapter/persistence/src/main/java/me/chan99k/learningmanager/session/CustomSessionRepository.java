@@ -1,6 +1,7 @@
 package me.chan99k.learningmanager.session;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,14 +9,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import me.chan99k.learningmanager.course.CourseRole;
+import me.chan99k.learningmanager.session.dto.SessionCalendarItem;
+import me.chan99k.learningmanager.session.dto.SessionCalendarVersion;
+import me.chan99k.learningmanager.session.dto.SessionCheckInInfo;
 import me.chan99k.learningmanager.session.dto.SessionInfo;
+import me.chan99k.learningmanager.session.dto.SessionSummary;
 import me.chan99k.learningmanager.session.entity.SessionEntity;
 
 public interface CustomSessionRepository {
 
 	Optional<SessionEntity> findManagedSessionById(Long sessionId, Long memberId, CourseRole courseRole);
 
-	Page<SessionEntity> findAllWithFilters(
+	Page<SessionSummary> findAllWithFilters(
 		SessionType type,
 		SessionLocation location,
 		Instant startDate,
@@ -23,7 +28,7 @@ public interface CustomSessionRepository {
 		Pageable pageable
 	);
 
-	Page<SessionEntity> findByCourseIdWithFilters(
+	Page<SessionSummary> findByCourseIdWithFilters(
 		Long courseId,
 		SessionType type,
 		SessionLocation location,
@@ -33,7 +38,7 @@ public interface CustomSessionRepository {
 		Pageable pageable
 	);
 
-	Page<SessionEntity> findByCurriculumIdWithFilters(
+	Page<SessionSummary> findByCurriculumIdWithFilters(
 		Long curriculumId,
 		SessionType type,
 		SessionLocation location,
@@ -43,7 +48,7 @@ public interface CustomSessionRepository {
 		Pageable pageable
 	);
 
-	Page<SessionEntity> findByMemberIdWithFilters(
+	Page<SessionSummary> findByMemberIdWithFilters(
 		Long memberId,
 		SessionType type,
 		SessionLocation location,
@@ -52,7 +57,61 @@ public interface CustomSessionRepository {
 		Pageable pageable
 	);
 
-	List<SessionEntity> findByYearMonth(
+	SeekResult seekAllWithFilters(
+		SessionType type,
+		SessionLocation location,
+		Instant startDate,
+		Instant endDate,
+		SessionCursor after,
+		int size,
+		boolean includeCount
+	);
+
+	SeekResult seekByCourseIdWithFilters(
+		Long courseId,
+		SessionType type,
+		SessionLocation location,
+		Instant startDate,
+		Instant endDate,
+		Boolean includeChildSessions,
+		SessionCursor after,
+		int size,
+		boolean includeCount
+	);
+
+	SeekResult seekByCurriculumIdWithFilters(
+		Long curriculumId,
+		SessionType type,
+		SessionLocation location,
+		Instant startDate,
+		Instant endDate,
+		Boolean includeChildSessions,
+		SessionCursor after,
+		int size,
+		boolean includeCount
+	);
+
+	SeekResult seekByMemberIdWithFilters(
+		Long memberId,
+		SessionType type,
+		SessionLocation location,
+		Instant startDate,
+		Instant endDate,
+		SessionCursor after,
+		int size,
+		boolean includeCount
+	);
+
+	List<SessionCalendarItem> findByYearMonth(
+		Instant startOfMonth,
+		Instant startOfNextMonth,
+		SessionType type,
+		SessionLocation location,
+		Long courseId,
+		Long curriculumId
+	);
+
+	SessionCalendarVersion findCalendarVersion(
 		Instant startOfMonth,
 		Instant startOfNextMonth,
 		SessionType type,
@@ -69,4 +128,18 @@ public interface CustomSessionRepository {
 	);
 
 	List<SessionInfo> findSessionInfoProjectionByIds(List<Long> sessionIds);
+
+	Optional<SessionCheckInInfo> findCheckInInfo(Long sessionId, Long memberId);
+
+	List<Long> findParticipantMemberIds(Long sessionId, Collection<Long> memberIds);
+
+	List<Long> findIdsByMemberId(Long memberId);
+
+	/**
+	 * 키셋 조회 결과
+	 *
+	 * @param totalElements 전체 개수, 세지 않았으면 null
+	 */
+	record SeekResult(List<SessionSummary> content, boolean hasNext, Long totalElements) {
+	}
 }
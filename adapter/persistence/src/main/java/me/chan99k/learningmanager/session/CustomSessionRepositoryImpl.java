@@ -7,6 +7,7 @@ import static me.chan99k.learningmanager.session.entity.QSessionEntity.*;
 import static me.chan99k.learningmanager.session.entity.QSessionParticipantEntity.*;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,12 +16,22 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import me.chan99k.learningmanager.course.CourseRole;
+import me.chan99k.learningmanager.session.dto.SessionCalendarItem;
+import me.chan99k.learningmanager.session.dto.SessionCalendarVersion;
+import me.chan99k.learningmanager.session.dto.SessionCheckInInfo;
 import me.chan99k.learningmanager.session.dto.SessionInfo;
+import me.chan99k.learningmanager.session.dto.SessionSummary;
+import me.chan99k.learningmanager.session.entity.QSessionEntity;
+import me.chan99k.learningmanager.session.entity.QSessionParticipantEntity;
 import me.chan99k.learningmanager.session.entity.SessionEntity;
 
 public class CustomSessionRepositoryImpl implements CustomSessionRepository {
@@ -50,13 +61,14 @@ public class CustomSessionRepositoryImpl implements CustomSessionRepository {
 	// ========== 동적 필터 + 페이징 (BooleanBuilder) ==========
 
 	@Override
-	public Page<SessionEntity> findAllWithFilters(SessionType type, SessionLocation location,
+	public Page<SessionSummary> findAllWithFilters(SessionType type, SessionLocation location,
 		Instant startDate, Instant endDate, Pageable pageable) {
 
 		BooleanBuilder builder = createCommonFilterBuilder(type, location, startDate, endDate);
 
-		List<SessionEntity> content = queryFactory
-			.selectFrom(sessionEntity)
+		List<SessionSummary> content = queryFactory
+			.select(sessionSummary())
+			.from(sessionEntity)
 			.where(builder)
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize())
@@ -72,7 +84,7 @@ public class CustomSessionRepositoryImpl implements CustomSessionRepository {
 	}
 
 	@Override
-	public Page<SessionEntity> findByCourseIdWithFilters(Long courseId, SessionType type, SessionLocation location,
+	public Page<SessionSummary> findByCourseIdWithFilters(Long courseId, SessionType type, SessionLocation location,
 		Instant startDate, Instant endDate, Boolean includeChildSessions, Pageable pageable) {
 
 		BooleanBuilder builder = createCommonFilterBuilder(type, location, startDate, endDate);
@@ -82,7 +94,7 @@ public class CustomSessionRepositoryImpl implements CustomSessionRepository {
 	}
 
 	@Override
-	public Page<SessionEntity> findByCurriculumIdWithFilters(Long curriculumId, SessionType type,
+	public Page<SessionSummary> findByCurriculumIdWithFilters(Long curriculumId, SessionType type,
 		SessionLocation location,
 		Instant startDate, Instant endDate, Boolean includeChildSessions, Pageable pageable) {
 
@@ -93,13 +105,14 @@ public class CustomSessionRepositoryImpl implements CustomSessionRepository {
 	}
 
 	@Override
-	public Page<SessionEntity> findByMemberIdWithFilters(Long memberId, SessionType type, SessionLocation location,
+	public Page<SessionSummary> findByMemberIdWithFilters(Long memberId, SessionType type, SessionLocation location,
 		Instant startDate, Instant endDate, Pageable pageable) {
 
 		BooleanBuilder builder = createCommonFilterBuilder(type, location, startDate, endDate);
 
-		List<SessionEntity> content = queryFactory
-			.selectFrom(sessionEntity)
+		List<SessionSummary> content = queryFactory
+			.select(sessionSummary())
+			.from(sessionEntity)
 			.join(sessionEntity.participants, sessionParticipantEntity)
 			.where(
 				builder,
@@ -120,10 +133,110 @@ public class CustomSessionRepositoryImpl implements CustomSessionRepository {
 		return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
 	}
 
+	// ========== 동적 필터 + 커서(키셋) 페이징 ==========
+
+	@Override
+	public SeekResult seekAllWithFilters(SessionType type, SessionLocation location,
+		Instant startDate, Instant endDate, SessionCursor after, int size, boolean includeCount) {
+
+		BooleanBuilder builder = createCommonFilterBuilder(type, location, startDate, endDate);
+
+		return seek(
+			queryFactory.select(sessionSummary()).from(sessionEntity).where(builder),
+			queryFactory.select(sessionEntity.count()).from(sessionEntity).where(builder),
+			after, size, includeCount);
+	}
+
+	@Override
+	public SeekResult seekByCourseIdWithFilters(Long courseId, SessionType type, SessionLocation location,
+		Instant startDate, Instant endDate, Boolean includeChildSessions,
+		SessionCursor after, int size, boolean includeCount) {
+
+		BooleanBuilder builder = createCommonFilterBuilder(type, location, startDate, endDate);
+		builder.and(sessionEntity.courseId.eq(courseId));
+		if (!Boolean.TRUE.equals(includeChildSessions)) {
+			builder.and(sessionEntity.parent.isNull());
+		}
+
+		return seek(
+			queryFactory.select(sessionSummary()).from(sessionEntity).where(builder),
+			queryFactory.select(sessionEntity.count()).from(sessionEntity).where(builder),
+			after, size, includeCount);
+	}
+
+	@Override
+	public SeekResult seekByCurriculumIdWithFilters(Long curriculumId, SessionType type, SessionLocation location,
+		Instant startDate, Instant endDate, Boolean includeChildSessions,
+		SessionCursor after, int size, boolean includeCount) {
+
+		BooleanBuilder builder = createCommonFilterBuilder(type, location, startDate, endDate);
+		builder.and(sessionEntity.curriculumId.eq(curriculumId));
+		if (!Boolean.TRUE.equals(includeChildSessions)) {
+			builder.and(sessionEntity.parent.isNull());
+		}
+
+		return seek(
+			queryFactory.select(sessionSummary()).from(sessionEntity).where(builder),
+			queryFactory.select(sessionEntity.count()).from(sessionEntity).where(builder),
+			after, size, includeCount);
+	}
+
+	@Override
+	public SeekResult seekByMemberIdWithFilters(Long memberId, SessionType type, SessionLocation location,
+		Instant startDate, Instant endDate, SessionCursor after, int size, boolean includeCount) {
+
+		BooleanBuilder builder = createCommonFilterBuilder(type, location, startDate, endDate);
+		builder.and(sessionParticipantEntity.memberId.eq(memberId));
+
+		return seek(
+			queryFactory.select(sessionSummary())
+				.from(sessionEntity)
+				.join(sessionEntity.participants, sessionParticipantEntity)
+				.where(builder),
+			queryFactory.select(sessionEntity.count())
+				.from(sessionEntity)
+				.join(sessionEntity.participants, sessionParticipantEntity)
+				.where(builder),
+			after, size, includeCount);
+	}
+
 	// ========== 동적 필터 (페이징 없음) ==========
 
 	@Override
-	public List<SessionEntity> findByYearMonth(Instant startOfMonth, Instant startOfNextMonth,
+	public List<SessionCalendarItem> findByYearMonth(Instant startOfMonth, Instant startOfNextMonth,
+		SessionType type, SessionLocation location, Long courseId, Long curriculumId) {
+
+		return queryFactory
+			.select(Projections.constructor(SessionCalendarItem.class,
+				sessionEntity.id,
+				sessionEntity.title,
+				sessionEntity.scheduledAt,
+				sessionEntity.scheduledEndAt,
+				sessionEntity.type,
+				sessionEntity.location,
+				sessionEntity.locationDetails,
+				sessionEntity.courseId,
+				sessionEntity.curriculumId))
+			.from(sessionEntity)
+			.where(calendarFilter(startOfMonth, startOfNextMonth, type, location, courseId, curriculumId))
+			.orderBy(sessionEntity.scheduledAt.asc())
+			.fetch();
+	}
+
+	@Override
+	public SessionCalendarVersion findCalendarVersion(Instant startOfMonth, Instant startOfNextMonth,
+		SessionType type, SessionLocation location, Long courseId, Long curriculumId) {
+
+		return queryFactory
+			.select(Projections.constructor(SessionCalendarVersion.class,
+				sessionEntity.count(),
+				sessionEntity.lastModifiedAt.max()))
+			.from(sessionEntity)
+			.where(calendarFilter(startOfMonth, startOfNextMonth, type, location, courseId, curriculumId))
+			.fetchOne();
+	}
+
+	private BooleanBuilder calendarFilter(Instant startOfMonth, Instant startOfNextMonth,
 		SessionType type, SessionLocation location, Long courseId, Long curriculumId) {
 
 		BooleanBuilder builder = new BooleanBuilder();
@@ -142,12 +255,7 @@ public class CustomSessionRepositoryImpl implements CustomSessionRepository {
 		if (curriculumId != null) {
 			builder.and(sessionEntity.curriculumId.eq(curriculumId));
 		}
-
-		return queryFactory
-			.selectFrom(sessionEntity)
-			.where(builder)
-			.orderBy(sessionEntity.scheduledAt.asc())
-			.fetch();
+		return builder;
 	}
 
 	@Override
@@ -190,8 +298,90 @@ public class CustomSessionRepositoryImpl implements CustomSessionRepository {
 			.fetch();
 	}
 
+	/**
+	 * 참여 여부는 uk_session_participant(session_id, member_id) 인덱스를 타는 EXISTS 서브쿼리로 판별하고,
+	 * 부모 세션은 FK 컬럼(parent_id)만 읽으므로 조인이 발생하지 않는다.
+	 */
+	@Override
+	public Optional<SessionCheckInInfo> findCheckInInfo(Long sessionId, Long memberId) {
+		SessionCheckInInfo result = queryFactory
+			.select(Projections.constructor(SessionCheckInInfo.class,
+				sessionEntity.id,
+				sessionEntity.parent.id,
+				sessionEntity.courseId,
+				sessionEntity.curriculumId,
+				sessionEntity.title,
+				sessionEntity.scheduledAt,
+				sessionEntity.scheduledEndAt,
+				new CaseBuilder()
+					.when(JPAExpressions.selectOne()
+						.from(sessionParticipantEntity)
+						.where(
+							sessionParticipantEntity.session.id.eq(sessionEntity.id),
+							sessionParticipantEntity.memberId.eq(memberId))
+						.exists())
+					.then(true)
+					.otherwise(false)))
+			.from(sessionEntity)
+			.where(sessionEntity.id.eq(sessionId))
+			.fetchOne();
+
+		return Optional.ofNullable(result);
+	}
+
+	@Override
+	public List<Long> findParticipantMemberIds(Long sessionId, Collection<Long> memberIds) {
+		return queryFactory
+			.select(sessionParticipantEntity.memberId)
+			.from(sessionParticipantEntity)
+			.where(
+				sessionParticipantEntity.session.id.eq(sessionId),
+				sessionParticipantEntity.memberId.in(memberIds))
+			.fetch();
+	}
+
+	/**
+	 * 세션 ID 는 참여 행의 FK 컬럼(session_id)이므로 session 테이블을 조인하지 않고 ix_session_participant_member 로만 읽는다.
+	 */
+	@Override
+	public List<Long> findIdsByMemberId(Long memberId) {
+		return queryFactory
+			.select(sessionParticipantEntity.session.id)
+			.from(sessionParticipantEntity)
+			.where(sessionParticipantEntity.memberId.eq(memberId))
+			.fetch();
+	}
+
 	// ========== 프라이빗 메서드  ==========
 
+	/**
+	 * 커서 위치를 (scheduled_at, id) 범위 조건으로 바꿔 앞 페이지의 행을 읽지 않고 바로 찾아간다.
+	 * 다음 페이지 여부는 size + 1 개를 읽어 판단하므로, 개수 쿼리는 includeCount 인 경우에만 실행한다.
+	 */
+	private SeekResult seek(JPAQuery<SessionSummary> contentQuery, JPAQuery<Long> countQuery,
+		SessionCursor after, int size, boolean includeCount) {
+		List<SessionSummary> rows = contentQuery
+			.where(seekAfter(after))
+			.orderBy(sessionEntity.scheduledAt.desc(), sessionEntity.id.desc())
+			.limit(size + 1L)
+			.fetch();
+
+		boolean hasNext = rows.size() > size;
+		List<SessionSummary> content = hasNext ? rows.subList(0, size) : rows;
+		Long totalElements = includeCount ? countQuery.fetchOne() : null;
+
+		return new SeekResult(content, hasNext, totalElements);
+	}
+
+	private BooleanExpression seekAfter(SessionCursor after) {
+		if (after == null) {
+			return null;
+		}
+
+		return sessionEntity.scheduledAt.lt(after.scheduledAt())
+			.or(sessionEntity.scheduledAt.eq(after.scheduledAt()).and(sessionEntity.id.lt(after.id())));
+	}
+
 	private BooleanBuilder createCommonFilterBuilder(SessionType type, SessionLocation location,
 		Instant startDate, Instant endDate) {
 		BooleanBuilder builder = new BooleanBuilder();
@@ -212,14 +402,43 @@ public class CustomSessionRepositoryImpl implements CustomSessionRepository {
 		return builder;
 	}
 
-	private Page<SessionEntity> findWithFiltersAndPaging(Boolean includeChildSessions, Pageable pageable,
+	/**
+	 * 목록 응답 컬럼과 함께 참여자, 하위 세션 개수를 상관 서브쿼리로 센다.
+	 * 각각 uk_session_participant(session_id, ...), fk_session_parent 인덱스로 세션당 한 번의 인덱스 탐색이면 된다.
+	 * 회원별 조회는 바깥 쿼리가 sessionParticipantEntity 별칭으로 조인하므로 서브쿼리는 별도 별칭을 쓴다.
+	 */
+	private ConstructorExpression<SessionSummary> sessionSummary() {
+		QSessionEntity child = new QSessionEntity("childSession");
+		QSessionParticipantEntity participant = new QSessionParticipantEntity("countedParticipant");
+
+		return Projections.constructor(SessionSummary.class,
+			sessionEntity.id,
+			sessionEntity.title,
+			sessionEntity.scheduledAt,
+			sessionEntity.scheduledEndAt,
+			sessionEntity.type,
+			sessionEntity.location,
+			sessionEntity.locationDetails,
+			sessionEntity.courseId,
+			sessionEntity.curriculumId,
+			sessionEntity.parent.id,
+			JPAExpressions.select(child.count())
+				.from(child)
+				.where(child.parent.id.eq(sessionEntity.id)),
+			JPAExpressions.select(participant.count())
+				.from(participant)
+				.where(participant.session.id.eq(sessionEntity.id)));
+	}
+
+	private Page<SessionSummary> findWithFiltersAndPaging(Boolean includeChildSessions, Pageable pageable,
 		BooleanBuilder builder) {
 		if (!Boolean.TRUE.equals(includeChildSessions)) {
 			builder.and(sessionEntity.parent.isNull());
 		}
 
-		List<SessionEntity> content = queryFactory
-			.selectFrom(sessionEntity)
+		List<SessionSummary> content = queryFactory
+			.select(sessionSummary())
+			.from(sessionEntity)
 			.where(builder)
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize())
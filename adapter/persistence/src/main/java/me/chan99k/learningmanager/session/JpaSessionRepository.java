@@ -1,16 +1,37 @@
 package me.chan99k.learningmanager.session;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import me.chan99k.learningmanager.session.entity.SessionEntity;
 
+/**
+ * 페이징이 없는 조회는 참여자를 엔티티 그래프로 함께 읽고, 하위 세션은 SessionEntity 의 배치 크기 단위로 읽는다.
+ * 페이징 조회(CustomSessionRepository)는 컬렉션 fetch join 이 메모리 페이징을 일으키므로 배치 초기화만 사용한다.
+ */
 public interface JpaSessionRepository extends JpaRepository<SessionEntity, Long>, CustomSessionRepository {
 
+	@Override
+	@EntityGraph(SessionEntity.WITH_PARTICIPANTS)
+	Optional<SessionEntity> findById(Long id);
+
+	/**
+	 * 변경분 반영용 조회. 참여자 그래프 없이 세션 행만 읽고, 컬렉션은 필요할 때 초기화한다.
+	 */
+	@Query("select s from SessionEntity s where s.id = :id")
+	Optional<SessionEntity> findRootById(@Param("id") Long id);
+
+	@EntityGraph(SessionEntity.WITH_PARTICIPANTS)
 	List<SessionEntity> findByCourseId(Long courseId);
 
+	@EntityGraph(SessionEntity.WITH_PARTICIPANTS)
 	List<SessionEntity> findByCurriculumId(Long curriculumId);
 
+	@EntityGraph(SessionEntity.WITH_PARTICIPANTS)
 	List<SessionEntity> findByParentId(Long parentId);
 }
@@ -1,5 +1,9 @@
 package me.chan99k.learningmanager.session;
 
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 
 import me.chan99k.learningmanager.session.entity.SessionEntity;
@@ -8,9 +12,14 @@ import me.chan99k.learningmanager.session.mapper.SessionMapper;
 @Repository
 public class SessionCommandAdapter implements SessionCommandRepository {
 	private final JpaSessionRepository jpaRepository;
+	private final boolean dirtyTracking;
 
-	public SessionCommandAdapter(JpaSessionRepository jpaRepository) {
+	public SessionCommandAdapter(
+		JpaSessionRepository jpaRepository,
+		@Value("${persistence.dirty-tracking.enabled:true}") boolean dirtyTracking
+	) {
 		this.jpaRepository = jpaRepository;
+		this.dirtyTracking = dirtyTracking;
 	}
 
 	@Override
@@ -20,11 +29,28 @@ public class SessionCommandAdapter implements SessionCommandRepository {
 		return SessionMapper.toDomain(saved);
 	}
 
+	/**
+	 * 변경분 반영 모드에서는 세션 행만 읽은 관리 엔티티에 바뀐 필드와 참여자/하위 세션의 추가/제거/수정분만 반영한다.
+	 * 제목만 바꾸면 session 테이블의 해당 컬럼만 UPDATE 되고 참여자 컬렉션은 건드리지 않는다.
+	 */
 	@Override
 	public Session save(Session session) {
-		SessionEntity entity = SessionMapper.toEntity(session);
-		SessionEntity saved = jpaRepository.save(entity);
-		return SessionMapper.toDomain(saved);
+		if (!dirtyTracking || session.getId() == null) {
+			SessionEntity entity = SessionMapper.toEntity(session);
+			SessionEntity saved = jpaRepository.save(entity);
+			return SessionMapper.toDomain(saved);
+		}
+
+		SessionEntity managed = jpaRepository.findRootById(session.getId())
+			.orElseThrow(() -> new ObjectOptimisticLockingFailureException(SessionEntity.class, session.getId()));
+		// merge 와 마찬가지로 다른 트랜잭션이 먼저 수정한 애그리거트는 덮어쓰지 않는다
+		if (!Objects.equals(managed.getVersion(), session.getVersion())) {
+			throw new ObjectOptimisticLockingFailureException(SessionEntity.class, session.getId());
+		}
+
+		SessionMapper.applyChanges(session, managed);
+		// 반환을 위해 엔티티를 다시 도메인으로 바꾸면 하위 컬렉션이 모두 초기화되므로, 반영한 애그리거트를 그대로 돌려준다
+		return session;
 	}
 
 	@Override
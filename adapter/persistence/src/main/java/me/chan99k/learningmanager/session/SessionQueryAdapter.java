@@ -4,9 +4,12 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
@@ -18,7 +21,11 @@ import me.chan99k.learningmanager.common.PageRequest;
 import me.chan99k.learningmanager.common.PageResult;
 import me.chan99k.learningmanager.common.SortOrder;
 import me.chan99k.learningmanager.course.CourseRole;
+import me.chan99k.learningmanager.session.dto.SessionCalendarItem;
+import me.chan99k.learningmanager.session.dto.SessionCalendarVersion;
+import me.chan99k.learningmanager.session.dto.SessionCheckInInfo;
 import me.chan99k.learningmanager.session.dto.SessionInfo;
+import me.chan99k.learningmanager.session.dto.SessionSummary;
 import me.chan99k.learningmanager.session.entity.SessionEntity;
 import me.chan99k.learningmanager.session.mapper.SessionMapper;
 
@@ -64,69 +71,100 @@ public class SessionQueryAdapter implements SessionQueryRepository {
 	}
 
 	@Override
-	public PageResult<Session> findAllWithFilters(SessionType type, SessionLocation location,
+	public PageResult<SessionSummary> findAllWithFilters(SessionType type, SessionLocation location,
 		Instant startDate, Instant endDate, PageRequest pageRequest) {
 		Pageable pageable = toSpringPageable(pageRequest);
-		Page<SessionEntity> page = jpaRepository.findAllWithFilters(type, location, startDate, endDate, pageable);
-		List<Session> content = page.getContent().stream()
-			.map(SessionMapper::toDomain)
-			.toList();
-		return PageResult.of(content, pageRequest, page.getTotalElements());
+		Page<SessionSummary> page = jpaRepository.findAllWithFilters(type, location, startDate, endDate, pageable);
+		return PageResult.of(page.getContent(), pageRequest, page.getTotalElements());
 	}
 
 	@Override
-	public PageResult<Session> findByCourseIdWithFilters(Long courseId, SessionType type,
+	public PageResult<SessionSummary> findByCourseIdWithFilters(Long courseId, SessionType type,
 		SessionLocation location, Instant startDate, Instant endDate,
 		Boolean includeChildSessions, PageRequest pageRequest) {
 		Pageable pageable = toSpringPageable(pageRequest);
-		Page<SessionEntity> page = jpaRepository.findByCourseIdWithFilters(courseId, type, location,
+		Page<SessionSummary> page = jpaRepository.findByCourseIdWithFilters(courseId, type, location,
 			startDate, endDate, includeChildSessions, pageable);
-		List<Session> content = page.getContent().stream()
-			.map(SessionMapper::toDomain)
-			.toList();
-		return PageResult.of(content, pageRequest, page.getTotalElements());
+		return PageResult.of(page.getContent(), pageRequest, page.getTotalElements());
 	}
 
 	@Override
-	public PageResult<Session> findByCurriculumIdWithFilters(Long curriculumId, SessionType type,
+	public PageResult<SessionSummary> findByCurriculumIdWithFilters(Long curriculumId, SessionType type,
 		SessionLocation location, Instant startDate, Instant endDate,
 		Boolean includeChildSessions, PageRequest pageRequest) {
 		Pageable pageable = toSpringPageable(pageRequest);
-		Page<SessionEntity> page = jpaRepository.findByCurriculumIdWithFilters(curriculumId, type, location,
+		Page<SessionSummary> page = jpaRepository.findByCurriculumIdWithFilters(curriculumId, type, location,
 			startDate, endDate, includeChildSessions, pageable);
-		List<Session> content = page.getContent().stream()
-			.map(SessionMapper::toDomain)
-			.toList();
-		return PageResult.of(content, pageRequest, page.getTotalElements());
+		return PageResult.of(page.getContent(), pageRequest, page.getTotalElements());
 	}
 
 	@Override
-	public PageResult<Session> findByMemberIdWithFilters(Long memberId, SessionType type,
+	public PageResult<SessionSummary> findByMemberIdWithFilters(Long memberId, SessionType type,
 		SessionLocation location, Instant startDate, Instant endDate, PageRequest pageRequest) {
 		Pageable pageable = toSpringPageable(pageRequest);
-		Page<SessionEntity> page = jpaRepository.findByMemberIdWithFilters(memberId, type, location,
+		Page<SessionSummary> page = jpaRepository.findByMemberIdWithFilters(memberId, type, location,
 			startDate, endDate, pageable);
-		List<Session> content = page.getContent().stream()
-			.map(SessionMapper::toDomain)
-			.toList();
-		return PageResult.of(content, pageRequest, page.getTotalElements());
+		return PageResult.of(page.getContent(), pageRequest, page.getTotalElements());
+	}
+
+	@Override
+	public PageResult<SessionSummary> findAllWithFilters(SessionType type, SessionLocation location,
+		Instant startDate, Instant endDate, SessionCursor after, int size, boolean includeCount) {
+		return toCursorPageResult(
+			jpaRepository.seekAllWithFilters(type, location, startDate, endDate, after, size, includeCount),
+			size);
+	}
+
+	@Override
+	public PageResult<SessionSummary> findByCourseIdWithFilters(Long courseId, SessionType type,
+		SessionLocation location, Instant startDate, Instant endDate,
+		Boolean includeChildSessions, SessionCursor after, int size, boolean includeCount) {
+		return toCursorPageResult(
+			jpaRepository.seekByCourseIdWithFilters(courseId, type, location, startDate, endDate,
+				includeChildSessions, after, size, includeCount),
+			size);
+	}
+
+	@Override
+	public PageResult<SessionSummary> findByCurriculumIdWithFilters(Long curriculumId, SessionType type,
+		SessionLocation location, Instant startDate, Instant endDate,
+		Boolean includeChildSessions, SessionCursor after, int size, boolean includeCount) {
+		return toCursorPageResult(
+			jpaRepository.seekByCurriculumIdWithFilters(curriculumId, type, location, startDate, endDate,
+				includeChildSessions, after, size, includeCount),
+			size);
+	}
+
+	@Override
+	public PageResult<SessionSummary> findByMemberIdWithFilters(Long memberId, SessionType type,
+		SessionLocation location, Instant startDate, Instant endDate,
+		SessionCursor after, int size, boolean includeCount) {
+		return toCursorPageResult(
+			jpaRepository.seekByMemberIdWithFilters(memberId, type, location, startDate, endDate,
+				after, size, includeCount),
+			size);
 	}
 
 	@Override
-	public List<Session> findByYearMonth(
+	public List<SessionCalendarItem> findByYearMonth(
 		YearMonth yearMonth, SessionType type, SessionLocation location,
 		Long courseId, Long curriculumId
 	) {
-		LocalDate startOfMonth = yearMonth.atDay(1);
-		LocalDate startOfNextMonth = yearMonth.plusMonths(1).atDay(1);
+		return jpaRepository.findByYearMonth(startOfMonth(yearMonth), startOfMonth(yearMonth.plusMonths(1)),
+			type, location, courseId, curriculumId);
+	}
 
-		Instant startOfMonthInstant = startOfMonth.atStartOfDay().toInstant(ZoneOffset.UTC);
-		Instant startOfNextMonthInstant = startOfNextMonth.atStartOfDay().toInstant(ZoneOffset.UTC);
+	@Override
+	public SessionCalendarVersion findCalendarVersion(
+		YearMonth yearMonth, SessionType type, SessionLocation location,
+		Long courseId, Long curriculumId
+	) {
+		return jpaRepository.findCalendarVersion(startOfMonth(yearMonth), startOfMonth(yearMonth.plusMonths(1)),
+			type, location, courseId, curriculumId);
+	}
 
-		return jpaRepository.findByYearMonth(startOfMonthInstant, startOfNextMonthInstant,
-				type, location, courseId, curriculumId).stream()
-			.map(SessionMapper::toDomain)
-			.toList();
+	private Instant startOfMonth(YearMonth yearMonth) {
+		return yearMonth.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
 	}
 
 	@Override
@@ -153,11 +191,7 @@ public class SessionQueryAdapter implements SessionQueryRepository {
 
 	@Override
 	public List<Long> findSessionIdsByMemberId(Long memberId) {
-		return jpaRepository.findByMemberIdWithFilters(memberId, null, null, null, null, Pageable.unpaged())
-			.getContent()
-			.stream()
-			.map(SessionEntity::getId)
-			.toList();
+		return jpaRepository.findIdsByMemberId(memberId);
 	}
 
 	@Override
@@ -192,6 +226,29 @@ public class SessionQueryAdapter implements SessionQueryRepository {
 			.collect(Collectors.toMap(SessionInfo::sessionId, info -> info));
 	}
 
+	@Override
+	public Optional<SessionCheckInInfo> findCheckInInfo(Long sessionId, Long memberId) {
+		return jpaRepository.findCheckInInfo(sessionId, memberId);
+	}
+
+	@Override
+	public Set<Long> findParticipantMemberIds(Long sessionId, Collection<Long> memberIds) {
+		if (memberIds.isEmpty()) {
+			return Set.of();
+		}
+
+		return new HashSet<>(jpaRepository.findParticipantMemberIds(sessionId, memberIds));
+	}
+
+	private PageResult<SessionSummary> toCursorPageResult(CustomSessionRepository.SeekResult result, int size) {
+		List<SessionSummary> content = result.content();
+		String nextCursor = result.hasNext()
+			? SessionCursor.of(content.get(content.size() - 1)).encode()
+			: null;
+
+		return PageResult.ofCursor(content, size, result.hasNext(), nextCursor, result.totalElements());
+	}
+
 	private Pageable toSpringPageable(PageRequest pageRequest) {
 		if (pageRequest.hasSort()) {
 			Sort.Direction direction = pageRequest.sortOrder() == SortOrder.DESC
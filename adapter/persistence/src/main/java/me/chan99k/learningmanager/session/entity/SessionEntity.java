@@ -4,24 +4,52 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import me.chan99k.learningmanager.common.MutableEntity;
 import me.chan99k.learningmanager.session.SessionLocation;
 import me.chan99k.learningmanager.session.SessionType;
 
+/**
+ * 목록 조회는 한 페이지의 세션마다 children, participants 를 읽으므로 두 컬렉션을 배치로 초기화한다.
+ * 페이징이 없는 단건/목록 조회는 {@link #WITH_PARTICIPANTS} 그래프로 참여자를 함께 읽는다.
+ * (두 컬렉션 모두 List 라 한 쿼리에서 함께 fetch join 할 수 없다)
+ * 변경분만 반영하는 저장 경로에서 제목 같은 일부 컬럼만 바뀌므로, UPDATE 는 바뀐 컬럼만 포함한다.
+ */
 @Entity
-@Table(name = "session")
+@DynamicUpdate
+@NamedEntityGraph(name = SessionEntity.WITH_PARTICIPANTS, attributeNodes = @NamedAttributeNode("participants"))
+@Table(
+	name = "session",
+	indexes = {
+		@Index(name = "ix_session_scheduled_at", columnList = "scheduled_at, id"),
+		@Index(name = "ix_session_course_scheduled_at", columnList = "course_id, scheduled_at"),
+		@Index(name = "ix_session_curriculum_scheduled_at", columnList = "curriculum_id, scheduled_at")
+	}
+)
 public class SessionEntity extends MutableEntity {
 
+	public static final String WITH_PARTICIPANTS = "SessionEntity.withParticipants";
+
+	/**
+	 * 한 번에 초기화하는 컬렉션 소유 세션 수. 목록 조회 최대 페이지 크기(100)에 맞춘다.
+	 */
+	private static final int COLLECTION_BATCH_SIZE = 100;
+
 	@Column(name = "course_id")
 	private Long courseId;
 
@@ -32,9 +60,11 @@ public class SessionEntity extends MutableEntity {
 	@JoinColumn(name = "parent_id")
 	private SessionEntity parent;
 
+	@BatchSize(size = COLLECTION_BATCH_SIZE)
 	@OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true)
 	private List<SessionEntity> children = new ArrayList<>();
 
+	@BatchSize(size = COLLECTION_BATCH_SIZE)
 	@OneToMany(mappedBy = "session", cascade = CascadeType.ALL, orphanRemoval = true)
 	private List<SessionParticipantEntity> participants = new ArrayList<>();
 
@@ -2,7 +2,10 @@ package me.chan99k.learningmanager.session.mapper;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
+import me.chan99k.learningmanager.common.BaseEntity;
 import me.chan99k.learningmanager.session.Session;
 import me.chan99k.learningmanager.session.SessionParticipant;
 import me.chan99k.learningmanager.session.entity.SessionEntity;
@@ -51,6 +54,41 @@ public final class SessionMapper {
 		return entity;
 	}
 
+	/**
+	 * 영속성 컨텍스트가 관리 중인 엔티티에 도메인 애그리거트의 변경분만 반영한다.
+	 * <p>
+	 * 참여자 컬렉션은 제거하거나 역할을 바꿀 참여자가 있을 때만 초기화되고, 하위 세션은 변경이 있는 것만 내려가 반영한다.
+	 * 새 참여자와 하위 세션은 컬렉션을 읽지 않고 flush 시점에 저장된다.
+	 */
+	public static void applyChanges(Session domain, SessionEntity entity) {
+		entity.setTitle(domain.getTitle());
+		entity.setScheduledAt(domain.getScheduledAt());
+		entity.setScheduledEndAt(domain.getScheduledEndAt());
+		entity.setType(domain.getType());
+		entity.setLocation(domain.getLocation());
+		entity.setLocationDetails(domain.getLocationDetails());
+
+		Set<Long> removedParticipantIds = domain.getRemovedParticipantIds();
+		if (!removedParticipantIds.isEmpty()) {
+			entity.getParticipants().removeIf(participant -> removedParticipantIds.contains(participant.getId()));
+		}
+		for (SessionParticipant participant : domain.getParticipants()) {
+			if (participant.getId() == null) {
+				entity.addParticipant(toParticipantEntity(participant, entity));
+			} else if (participant.isModified()) {
+				findById(entity.getParticipants(), participant.getId()).setRole(participant.getRole());
+			}
+		}
+
+		for (Session child : domain.getChildren()) {
+			if (child.getId() == null) {
+				entity.addChild(toEntity(child));
+			} else if (child.hasPendingChanges()) {
+				applyChanges(child, findById(entity.getChildren(), child.getId()));
+			}
+		}
+	}
+
 	public static Session toDomain(SessionEntity entity) {
 		if (entity == null) {
 			return null;
@@ -106,6 +144,13 @@ public final class SessionMapper {
 		return entity;
 	}
 
+	private static <T extends BaseEntity> T findById(List<T> entities, Long id) {
+		return entities.stream()
+			.filter(entity -> Objects.equals(entity.getId(), id))
+			.findFirst()
+			.orElseThrow(() -> new IllegalStateException("[System] 영속 상태의 하위 엔티티를 찾을 수 없습니다. ID: " + id));
+	}
+
 	private static SessionParticipant toParticipantDomain(SessionParticipantEntity entity) {
 		return SessionParticipant.reconstitute(
 			entity.getId(),
@@ -0,0 +1,11 @@
+-- email_outbox: 링크 토큰의 만료 일시를 함께 기록한다. 만료된 행과 DEAD 행은 토큰을 지운다
+ALTER TABLE email_outbox
+    ADD COLUMN expires_at DATETIME(6) NULL COMMENT '본문 링크 토큰의 만료 일시. 지나면 보내지 않고 DEAD 로 바꾼다' AFTER token;
+
+UPDATE email_outbox
+SET expires_at = DATE_ADD(created_at, INTERVAL 1500 SECOND)
+WHERE expires_at IS NULL;
+
+ALTER TABLE email_outbox
+    MODIFY COLUMN expires_at DATETIME(6) NOT NULL COMMENT '본문 링크 토큰의 만료 일시. 지나면 보내지 않고 DEAD 로 바꾼다',
+    MODIFY COLUMN token VARCHAR(512) NULL COMMENT '본문 링크에 넣을 토큰. DEAD 로 바꿀 때 지운다';
@@ -0,0 +1,17 @@
+-- ============================================================
+-- Session 기간 조회 인덱스
+-- ============================================================
+-- 캘린더(findByYearMonth), 출석 기간 조회(findIdsByPeriodAndFilters), 필터 목록 조회는
+-- 모두 scheduled_at 범위 조건으로 읽으므로, 등치 조건 컬럼(course_id, curriculum_id) 뒤에 scheduled_at 을 둔다.
+-- InnoDB 보조 인덱스는 PK(id)를 포함하므로 세션 ID 만 읽는 기간 조회는 인덱스만으로 끝난다.
+--
+-- course_id, curriculum_id 로 시작하는 인덱스가 생기면 FK 용으로 자동 생성된 단일 컬럼 인덱스는 MySQL 이 제거한다.
+
+-- 전체 목록/캘린더 범위 조회, (scheduled_at desc, id desc) 키셋 페이지네이션
+CREATE INDEX ix_session_scheduled_at ON session (scheduled_at, id);
+
+-- 과정별 목록/캘린더/출석 기간 조회
+CREATE INDEX ix_session_course_scheduled_at ON session (course_id, scheduled_at);
+
+-- 커리큘럼별 목록/캘린더/출석 기간 조회
+CREATE INDEX ix_session_curriculum_scheduled_at ON session (curriculum_id, scheduled_at);
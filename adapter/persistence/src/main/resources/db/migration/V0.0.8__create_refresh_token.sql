@@ -0,0 +1,20 @@
+-- refresh_token: 인스턴스 간 공유하는 Refresh Token (회원당 한 행, 토큰 원문 대신 해시 저장)
+CREATE TABLE refresh_token
+(
+    id         BIGINT      NOT NULL AUTO_INCREMENT COMMENT 'PK',
+    member_id  BIGINT      NOT NULL COMMENT '회원 ID (FK)',
+    token_hash CHAR(64)    NOT NULL COMMENT '토큰 SHA-256 해시 (hex)',
+    expires_at DATETIME(6) NOT NULL COMMENT '만료 일시',
+    created_at DATETIME(6) NOT NULL COMMENT '발급 일시',
+    revoked    BOOLEAN     NOT NULL DEFAULT FALSE COMMENT '폐기 여부',
+
+    CONSTRAINT pk_refresh_token PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_token_hash UNIQUE (token_hash),
+    CONSTRAINT uk_refresh_token_member UNIQUE (member_id),
+    CONSTRAINT fk_refresh_token_member FOREIGN KEY (member_id) REFERENCES member (id),
+
+    INDEX ix_refresh_token_expires_at (expires_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci
+    COMMENT = '회원별 Refresh Token (토큰 갱신 시 조건부 UPDATE 로 교체)';
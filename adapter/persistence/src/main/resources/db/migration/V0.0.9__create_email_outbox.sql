@@ -0,0 +1,21 @@
+-- email_outbox: 회원 변경과 같은 트랜잭션에서 기록하고, 발송기가 배치로 꺼내 보내는 메일 아웃박스
+CREATE TABLE email_outbox
+(
+    id              BIGINT       NOT NULL AUTO_INCREMENT COMMENT 'PK',
+    type            VARCHAR(30)  NOT NULL COMMENT '메일 종류 (SIGN_UP_CONFIRM, PASSWORD_RESET)',
+    recipient       VARCHAR(255) NOT NULL COMMENT '수신자 이메일',
+    token           VARCHAR(512) NOT NULL COMMENT '본문 링크에 넣을 토큰',
+    status          VARCHAR(20)  NOT NULL COMMENT '상태 (PENDING, DEAD). 발송에 성공한 행은 삭제한다',
+    attempts        INT          NOT NULL DEFAULT 0 COMMENT '발송 시도 횟수',
+    next_attempt_at DATETIME(6)  NOT NULL COMMENT '다음 발송 시도 가능 일시 (꺼낸 뒤에는 임대 만료 일시)',
+    created_at      DATETIME(6)  NOT NULL COMMENT '기록 일시',
+    last_error      VARCHAR(500) NULL COMMENT '마지막 발송 실패 사유',
+
+    CONSTRAINT pk_email_outbox PRIMARY KEY (id),
+
+    INDEX ix_email_outbox_due (status, next_attempt_at),
+    INDEX ix_email_outbox_created_at (status, created_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci
+    COMMENT = '트랜잭션 아웃박스 방식의 메일 발송 대기열';
@@ -0,0 +1,118 @@
+package me.chan99k.learningmanager.adapter.persistence.session;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import me.chan99k.learningmanager.config.TestJpaConfig;
+import me.chan99k.learningmanager.session.Session;
+import me.chan99k.learningmanager.session.SessionCommandAdapter;
+import me.chan99k.learningmanager.session.SessionLocation;
+import me.chan99k.learningmanager.session.SessionParticipantRole;
+import me.chan99k.learningmanager.session.SessionQueryAdapter;
+import me.chan99k.learningmanager.session.SessionType;
+import me.chan99k.learningmanager.session.entity.SessionEntity;
+import me.chan99k.learningmanager.session.entity.SessionParticipantEntity;
+
+/**
+ * 변경분 반영 모드의 세션 저장이 바뀐 컬럼만 쓰고 참여자 컬렉션을 다시 읽지 않는지 확인한다.
+ */
+@DataJpaTest(properties = {
+	"spring.jpa.properties.hibernate.generate_statistics=true",
+	"persistence.dirty-tracking.enabled=true"
+})
+@Import({TestJpaConfig.class, SessionQueryAdapter.class, SessionCommandAdapter.class})
+@DisplayName("SessionCommandAdapter SQL 실행 수 테스트")
+class SessionCommandStatementCountTest {
+
+	private static final int PARTICIPANT_COUNT = 300;
+
+	@Autowired
+	private TestEntityManager entityManager;
+	@Autowired
+	private SessionQueryAdapter sessionQueryAdapter;
+	@Autowired
+	private SessionCommandAdapter sessionCommandAdapter;
+
+	private Statistics statistics;
+	private Long sessionId;
+
+	@BeforeEach
+	void setUp() {
+		Instant scheduledAt = Instant.now().plus(30, ChronoUnit.DAYS);
+		SessionEntity session = new SessionEntity();
+		session.setCourseId(10L);
+		session.setTitle("참여자가 많은 세션");
+		session.setScheduledAt(scheduledAt);
+		session.setScheduledEndAt(scheduledAt.plus(2, ChronoUnit.HOURS));
+		session.setType(SessionType.ONLINE);
+		session.setLocation(SessionLocation.ZOOM);
+		for (long memberId = 1; memberId <= PARTICIPANT_COUNT; memberId++) {
+			SessionParticipantEntity participant = new SessionParticipantEntity();
+			participant.setMemberId(memberId);
+			participant.setRole(memberId == 1 ? SessionParticipantRole.HOST : SessionParticipantRole.ATTENDEE);
+			session.addParticipant(participant);
+		}
+		entityManager.persist(session);
+		entityManager.flush();
+		entityManager.clear();
+		sessionId = session.getId();
+
+		statistics = entityManager.getEntityManager()
+			.getEntityManagerFactory()
+			.unwrap(SessionFactory.class)
+			.getStatistics();
+	}
+
+	@Test
+	@DisplayName("[Success] 다른 영속성 컨텍스트에서 읽은 세션의 제목을 바꾸면 세션 행 조회와 UPDATE 한 번으로 끝난다")
+	void test01() {
+		Session session = sessionQueryAdapter.findById(sessionId).orElseThrow();
+		entityManager.clear();
+		statistics.clear();
+
+		session.changeInfo("바뀐 제목", SessionType.ONLINE, Clock.systemUTC());
+		sessionCommandAdapter.save(session);
+		entityManager.flush();
+
+		assertThat(statistics.getCollectionLoadCount()).isZero();
+		assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+		entityManager.clear();
+		assertThat(entityManager.find(SessionEntity.class, sessionId).getTitle()).isEqualTo("바뀐 제목");
+	}
+
+	@Test
+	@DisplayName("[Success] 참여자 한 명을 추가하면 INSERT 한 번만 더해지고 기존 참여자는 다시 쓰지 않는다")
+	void test02() {
+		Session session = sessionQueryAdapter.findById(sessionId).orElseThrow();
+		entityManager.clear();
+		statistics.clear();
+
+		session.addParticipant(1_000L, SessionParticipantRole.SPEAKER);
+		sessionCommandAdapter.save(session);
+		entityManager.flush();
+
+		assertThat(statistics.getCollectionLoadCount()).isZero();
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+		// 컬렉션 변경으로 세션 버전이 올라갈 수는 있지만 기존 참여자 행은 UPDATE 되지 않는다
+		assertThat(statistics.getEntityUpdateCount()).isLessThanOrEqualTo(1);
+
+		entityManager.clear();
+		assertThat(entityManager.find(SessionEntity.class, sessionId).getParticipants())
+			.hasSize(PARTICIPANT_COUNT + 1);
+	}
+}
@@ -0,0 +1,148 @@
+package me.chan99k.learningmanager.adapter.persistence.session;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 세션 기간 조회가 V0.0.7 인덱스를 타는지 100만 건 기준으로 EXPLAIN 결과를 확인한다.
+ * <p>
+ * 시드 데이터 적재에 수십 초가 걸리므로 LM_BENCHMARK=true 일 때만 실행한다.
+ * 각 쿼리는 CustomSessionRepositoryImpl 의 QueryDSL 조건이 만드는 SQL 과 같은 모양으로 작성한다.
+ */
+@Testcontainers
+@EnabledIfEnvironmentVariable(named = "LM_BENCHMARK", matches = "true")
+@DisplayName("Session 인덱스 벤치마크")
+class SessionIndexBenchmarkTest {
+
+	private static final int SESSION_COUNT = 1_000_000;
+	private static final int COURSE_COUNT = 100;
+
+	@Container
+	static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0.36");
+
+	private static JdbcTemplate jdbcTemplate;
+
+	@BeforeAll
+	static void setUp() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+		Flyway.configure()
+			.dataSource(dataSource)
+			.locations("classpath:db/migration")
+			.load()
+			.migrate();
+
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		seed();
+	}
+
+	/**
+	 * 과정마다 커리큘럼 하나를 두고, 세션은 2020-01-01 부터 5분 간격으로 과정을 번갈아 배치한다.
+	 */
+	private static void seed() {
+		String digits = "(SELECT 0 d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 "
+			+ "UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9)";
+		String sequence = "SELECT d0.d + d1.d * 10 + d2.d * 100 + d3.d * 1000 + d4.d * 10000 + d5.d * 100000 AS n "
+			+ "FROM " + digits + " d0 CROSS JOIN " + digits + " d1 CROSS JOIN " + digits + " d2 "
+			+ "CROSS JOIN " + digits + " d3 CROSS JOIN " + digits + " d4 CROSS JOIN " + digits + " d5";
+
+		jdbcTemplate.update(
+			"INSERT INTO course (id, created_at, created_by, version, title) "
+				+ "SELECT n + 1, NOW(6), 1, 0, CONCAT('course-', n) FROM (" + sequence + ") seq WHERE n < ?",
+			COURSE_COUNT);
+		jdbcTemplate.update(
+			"INSERT INTO curriculum (id, created_at, created_by, version, course_id, title) "
+				+ "SELECT n + 1, NOW(6), 1, 0, n + 1, CONCAT('curriculum-', n) FROM (" + sequence + ") seq WHERE n < ?",
+			COURSE_COUNT);
+		jdbcTemplate.update(
+			"INSERT INTO session (created_at, created_by, version, course_id, curriculum_id, title, "
+				+ "scheduled_at, scheduled_end_at, type, location) "
+				+ "SELECT NOW(6), 1, 0, n % ? + 1, n % ? + 1, CONCAT('session-', n), "
+				+ "TIMESTAMP('2020-01-01') + INTERVAL n * 5 MINUTE, "
+				+ "TIMESTAMP('2020-01-01') + INTERVAL n * 5 + 60 MINUTE, "
+				+ "IF(n % 2 = 0, 'ONLINE', 'OFFLINE'), IF(n % 2 = 0, 'ZOOM', 'SITE') "
+				+ "FROM (" + sequence + ") seq WHERE n < ?",
+			COURSE_COUNT, COURSE_COUNT, SESSION_COUNT);
+		jdbcTemplate.execute("ANALYZE TABLE session");
+	}
+
+	private static Map<String, Object> explain(String sql, Object... args) {
+		return jdbcTemplate.queryForList("EXPLAIN " + sql, args).stream()
+			.filter(row -> "s".equals(row.get("table")))
+			.findFirst()
+			.orElseThrow();
+	}
+
+	@Test
+	@DisplayName("[Success] 월간 캘린더 조회는 scheduled_at 인덱스로 범위 스캔한다")
+	void test01() {
+		Map<String, Object> plan = explain(
+			"SELECT s.id, s.title FROM session s "
+				+ "WHERE s.scheduled_at >= ? AND s.scheduled_at < ? ORDER BY s.scheduled_at ASC",
+			"2024-03-01 00:00:00", "2024-04-01 00:00:00");
+
+		assertThat(plan.get("key")).isEqualTo("ix_session_scheduled_at");
+		assertThat(plan.get("type")).isEqualTo("range");
+	}
+
+	@Test
+	@DisplayName("[Success] 과정 필터가 있는 월간 캘린더 조회는 (course_id, scheduled_at) 인덱스를 탄다")
+	void test02() {
+		Map<String, Object> plan = explain(
+			"SELECT s.id, s.title FROM session s "
+				+ "WHERE s.scheduled_at >= ? AND s.scheduled_at < ? AND s.course_id = ? ORDER BY s.scheduled_at ASC",
+			"2024-03-01 00:00:00", "2024-04-01 00:00:00", 7);
+
+		assertThat(plan.get("key")).isEqualTo("ix_session_course_scheduled_at");
+		assertThat(String.valueOf(plan.get("Extra"))).doesNotContain("Using filesort");
+	}
+
+	@Test
+	@DisplayName("[Success] 커리큘럼별 출석 기간 조회는 세션 ID 를 인덱스만으로 읽는다")
+	void test03() {
+		Map<String, Object> plan = explain(
+			"SELECT s.id FROM session s "
+				+ "WHERE s.scheduled_at > ? AND s.scheduled_at < ? AND s.curriculum_id = ?",
+			"2024-01-01 00:00:00", "2024-07-01 00:00:00", 42);
+
+		assertThat(plan.get("key")).isEqualTo("ix_session_curriculum_scheduled_at");
+		assertThat(String.valueOf(plan.get("Extra"))).contains("Using index");
+	}
+
+	@Test
+	@DisplayName("[Success] 과정별 목록 페이지 조회는 정렬 없이 (course_id, scheduled_at) 인덱스를 역순으로 읽는다")
+	void test04() {
+		Map<String, Object> plan = explain(
+			"SELECT s.id, s.title FROM session s "
+				+ "WHERE s.course_id = ? AND s.parent_id IS NULL ORDER BY s.scheduled_at DESC LIMIT 20",
+			7);
+
+		assertThat(plan.get("key")).isEqualTo("ix_session_course_scheduled_at");
+		assertThat(String.valueOf(plan.get("Extra"))).doesNotContain("Using filesort");
+	}
+
+	@Test
+	@DisplayName("[Success] 키셋 페이지 조회는 (scheduled_at, id) 인덱스에서 커서 위치부터 읽는다")
+	void test05() {
+		Map<String, Object> plan = explain(
+			"SELECT s.id, s.title FROM session s "
+				+ "WHERE s.scheduled_at < ? OR (s.scheduled_at = ? AND s.id < ?) "
+				+ "ORDER BY s.scheduled_at DESC, s.id DESC LIMIT 21",
+			"2023-06-01 00:00:00", "2023-06-01 00:00:00", 500_000);
+
+		assertThat(plan.get("key")).isEqualTo("ix_session_scheduled_at");
+		assertThat(String.valueOf(plan.get("Extra"))).doesNotContain("Using filesort");
+	}
+}
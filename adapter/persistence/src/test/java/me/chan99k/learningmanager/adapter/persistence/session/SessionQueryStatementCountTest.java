@@ -0,0 +1,142 @@
+package me.chan99k.learningmanager.adapter.persistence.session;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import me.chan99k.learningmanager.common.PageRequest;
+import me.chan99k.learningmanager.common.PageResult;
+import me.chan99k.learningmanager.config.TestJpaConfig;
+import me.chan99k.learningmanager.session.Session;
+import me.chan99k.learningmanager.session.SessionLocation;
+import me.chan99k.learningmanager.session.SessionParticipantRole;
+import me.chan99k.learningmanager.session.SessionQueryAdapter;
+import me.chan99k.learningmanager.session.SessionType;
+import me.chan99k.learningmanager.session.dto.SessionSummary;
+import me.chan99k.learningmanager.session.entity.SessionEntity;
+import me.chan99k.learningmanager.session.entity.SessionParticipantEntity;
+
+/**
+ * 세션 목록과 애그리거트 조회에서 실행되는 SQL 수가 세션 수와 무관하게 고정되는지 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TestJpaConfig.class, SessionQueryAdapter.class})
+@DisplayName("SessionQueryAdapter SQL 실행 수 테스트")
+class SessionQueryStatementCountTest {
+
+	private static final Long COURSE_ID = 10L;
+	private static final int PAGE_SIZE = 20;
+	private static final Instant BASE_TIME = Instant.parse("2025-01-01T10:00:00Z");
+
+	@Autowired
+	private TestEntityManager entityManager;
+	@Autowired
+	private SessionQueryAdapter sessionQueryAdapter;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		for (int i = 0; i < PAGE_SIZE; i++) {
+			SessionEntity parent = createSession("parent-" + i, BASE_TIME.plus(i, ChronoUnit.DAYS));
+			parent.addParticipant(createParticipant(100L + i, SessionParticipantRole.HOST));
+			parent.addParticipant(createParticipant(200L + i, SessionParticipantRole.ATTENDEE));
+
+			for (int j = 0; j < 2; j++) {
+				SessionEntity child = createSession("child-" + i + "-" + j, parent.getScheduledAt());
+				child.addParticipant(createParticipant(300L + i, SessionParticipantRole.SPEAKER));
+				parent.addChild(child);
+			}
+			entityManager.persist(parent);
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = entityManager.getEntityManager()
+			.getEntityManagerFactory()
+			.unwrap(SessionFactory.class)
+			.getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	@DisplayName("[Success] 오프셋 페이지 조회는 내용과 개수 두 쿼리로 참여자, 하위 세션 개수까지 읽는다")
+	void test01() {
+		PageResult<SessionSummary> result = sessionQueryAdapter.findByCourseIdWithFilters(
+			COURSE_ID, null, null, null, null, false, PageRequest.of(0, PAGE_SIZE));
+
+		assertThat(result.content()).hasSize(PAGE_SIZE);
+		assertThat(result.content()).allSatisfy(summary -> {
+			assertThat(summary.participantCount()).isEqualTo(2L);
+			assertThat(summary.childSessionCount()).isEqualTo(2L);
+			assertThat(summary.parentId()).isNull();
+		});
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("[Success] 개수를 세지 않는 커서 페이지 조회는 쿼리 하나로 끝난다")
+	void test02() {
+		PageResult<SessionSummary> result = sessionQueryAdapter.findByCourseIdWithFilters(
+			COURSE_ID, null, null, null, null, false, null, PAGE_SIZE, false);
+
+		assertThat(result.content()).hasSize(PAGE_SIZE);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("[Success] 단건 조회는 참여자를 함께 읽고 하위 세션은 단계마다 한 번에 읽는다")
+	void test03() {
+		Long sessionId = sessionQueryAdapter.findByCourseIdWithFilters(
+			COURSE_ID, null, null, null, null, false, null, 1, false).content().get(0).id();
+		entityManager.clear();
+		statistics.clear();
+
+		Session session = sessionQueryAdapter.findById(sessionId).orElseThrow();
+
+		assertThat(session.getParticipants()).hasSize(2);
+		assertThat(session.getChildren()).hasSize(2);
+		// 세션+참여자 1, 하위 세션 1, 하위 세션 참여자 1, 손자 세션 1
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("[Success] 페이징 없는 애그리거트 목록 조회는 세션 수와 무관하게 고정된 수의 쿼리로 끝난다")
+	void test04() {
+		List<Session> sessions = sessionQueryAdapter.findByCourseId(COURSE_ID);
+
+		assertThat(sessions).hasSize(PAGE_SIZE * 3);
+		// 세션+참여자 1, 하위 세션 배치 1
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+	}
+
+	private SessionEntity createSession(String title, Instant scheduledAt) {
+		SessionEntity session = new SessionEntity();
+		session.setCourseId(COURSE_ID);
+		session.setTitle(title);
+		session.setScheduledAt(scheduledAt);
+		session.setScheduledEndAt(scheduledAt.plus(2, ChronoUnit.HOURS));
+		session.setType(SessionType.ONLINE);
+		session.setLocation(SessionLocation.ZOOM);
+		return session;
+	}
+
+	private SessionParticipantEntity createParticipant(Long memberId, SessionParticipantRole role) {
+		SessionParticipantEntity participant = new SessionParticipantEntity();
+		participant.setMemberId(memberId);
+		participant.setRole(role);
+		return participant;
+	}
+}
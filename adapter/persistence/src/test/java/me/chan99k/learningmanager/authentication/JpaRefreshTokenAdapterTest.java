@@ -0,0 +1,157 @@
+package me.chan99k.learningmanager.authentication;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import me.chan99k.learningmanager.authentication.entity.RefreshTokenEntity;
+import me.chan99k.learningmanager.config.TestJpaConfig;
+
+@DataJpaTest
+@Import(TestJpaConfig.class)
+@DisplayName("JpaRefreshTokenAdapter 테스트")
+class JpaRefreshTokenAdapterTest {
+
+	private static final Long MEMBER_ID = 1L;
+	private static final Long MEMBER_ID_2 = 2L;
+	private static final String TOKEN_VALUE = "test-refresh-token";
+	private static final String TOKEN_VALUE_2 = "test-refresh-token-2";
+	private static final Duration TTL = Duration.ofHours(24);
+
+	@Autowired
+	private JpaRefreshTokenRepository jpaRefreshTokenRepository;
+
+	private JpaRefreshTokenAdapter adapter;
+
+	@BeforeEach
+	void setUp() {
+		adapter = new JpaRefreshTokenAdapter(jpaRefreshTokenRepository, Clock.systemUTC(), 10, 100);
+	}
+
+	private RefreshToken createValidToken(Long memberId, String tokenValue) {
+		return new RefreshToken(null, tokenValue, memberId, Instant.now().plus(TTL), Instant.now(), false);
+	}
+
+	private RefreshToken createExpiredToken(Long memberId, String tokenValue) {
+		return new RefreshToken(null, tokenValue, memberId,
+			Instant.now().minus(Duration.ofHours(1)), Instant.now().minus(Duration.ofHours(25)), false);
+	}
+
+	@Nested
+	@DisplayName("저장과 조회")
+	class SaveTests {
+
+		@Test
+		@DisplayName("[Success] 토큰 원문 대신 해시를 저장하고, 원문으로 조회할 수 있다")
+		void test01() {
+			adapter.save(createValidToken(MEMBER_ID, TOKEN_VALUE));
+
+			RefreshTokenEntity stored = jpaRefreshTokenRepository.findByMemberId(MEMBER_ID).orElseThrow();
+			assertThat(stored.getTokenHash()).hasSize(64).isNotEqualTo(TOKEN_VALUE);
+			assertThat(adapter.findByToken(TOKEN_VALUE))
+				.hasValueSatisfying(token -> {
+					assertThat(token.getToken()).isEqualTo(TOKEN_VALUE);
+					assertThat(token.getMemberId()).isEqualTo(MEMBER_ID);
+				});
+		}
+
+		@Test
+		@DisplayName("[Success] 같은 회원으로 다시 저장하면 한 행을 새 토큰으로 교체한다")
+		void test02() {
+			adapter.save(createValidToken(MEMBER_ID, TOKEN_VALUE));
+			adapter.findByToken(TOKEN_VALUE);
+
+			adapter.save(createValidToken(MEMBER_ID, TOKEN_VALUE_2));
+
+			assertThat(jpaRefreshTokenRepository.count()).isEqualTo(1);
+			assertThat(adapter.findByToken(TOKEN_VALUE)).isEmpty();
+			assertThat(adapter.findByToken(TOKEN_VALUE_2)).isPresent();
+		}
+	}
+
+	@Nested
+	@DisplayName("rotate")
+	class RotateTests {
+
+		@Test
+		@DisplayName("[Success] 유효한 토큰을 같은 행에서 새 토큰으로 교체한다")
+		void test01() {
+			adapter.save(createValidToken(MEMBER_ID, TOKEN_VALUE));
+			adapter.findByToken(TOKEN_VALUE);
+
+			boolean rotated = adapter.rotate(TOKEN_VALUE, createValidToken(MEMBER_ID, TOKEN_VALUE_2));
+
+			assertThat(rotated).isTrue();
+			assertThat(jpaRefreshTokenRepository.count()).isEqualTo(1);
+			assertThat(adapter.findByToken(TOKEN_VALUE)).isEmpty();
+			assertThat(adapter.findByToken(TOKEN_VALUE_2)).isPresent();
+		}
+
+		@Test
+		@DisplayName("[Failure] 이미 교체된 토큰으로 다시 교체하면 실패한다")
+		void test02() {
+			adapter.save(createValidToken(MEMBER_ID, TOKEN_VALUE));
+			adapter.rotate(TOKEN_VALUE, createValidToken(MEMBER_ID, TOKEN_VALUE_2));
+
+			boolean rotated = adapter.rotate(TOKEN_VALUE, createValidToken(MEMBER_ID, "test-refresh-token-3"));
+
+			assertThat(rotated).isFalse();
+			assertThat(adapter.findByToken(TOKEN_VALUE_2)).isPresent();
+		}
+
+		@Test
+		@DisplayName("[Failure] 폐기되었거나 만료된 토큰은 교체하지 않는다")
+		void test03() {
+			adapter.save(createValidToken(MEMBER_ID, TOKEN_VALUE));
+			adapter.revokeByToken(TOKEN_VALUE);
+			adapter.save(createExpiredToken(MEMBER_ID_2, TOKEN_VALUE_2));
+
+			assertThat(adapter.rotate(TOKEN_VALUE, createValidToken(MEMBER_ID, "next-1"))).isFalse();
+			assertThat(adapter.rotate(TOKEN_VALUE_2, createValidToken(MEMBER_ID_2, "next-2"))).isFalse();
+		}
+	}
+
+	@Nested
+	@DisplayName("폐기와 정리")
+	class RevokeTests {
+
+		@Test
+		@DisplayName("[Success] 캐싱된 토큰도 폐기 즉시 폐기 상태로 조회된다")
+		void test01() {
+			adapter.save(createValidToken(MEMBER_ID, TOKEN_VALUE));
+			adapter.save(createValidToken(MEMBER_ID_2, TOKEN_VALUE_2));
+			adapter.findByToken(TOKEN_VALUE);
+			adapter.findByToken(TOKEN_VALUE_2);
+
+			adapter.revokeAllByMemberId(MEMBER_ID);
+
+			assertThat(adapter.findByToken(TOKEN_VALUE)).get()
+				.extracting(RefreshToken::isRevoked).isEqualTo(true);
+			assertThat(adapter.findByToken(TOKEN_VALUE_2)).get()
+				.extracting(RefreshToken::isRevoked).isEqualTo(false);
+		}
+
+		@Test
+		@DisplayName("[Success] 만료되었거나 폐기된 토큰만 삭제한다")
+		void test02() {
+			adapter.save(createExpiredToken(MEMBER_ID, TOKEN_VALUE));
+			adapter.save(createValidToken(MEMBER_ID_2, TOKEN_VALUE_2));
+
+			int deleted = adapter.deleteExpiredTokens();
+
+			assertThat(deleted).isEqualTo(1);
+			assertThat(adapter.findByToken(TOKEN_VALUE)).isEmpty();
+			assertThat(adapter.findByToken(TOKEN_VALUE_2)).isPresent();
+		}
+	}
+}
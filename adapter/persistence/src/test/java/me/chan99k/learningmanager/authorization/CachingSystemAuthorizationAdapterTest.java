@@ -0,0 +1,203 @@
+package me.chan99k.learningmanager.authorization;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.chan99k.learningmanager.admin.SystemRoleChangeEvent;
+import me.chan99k.learningmanager.member.SystemRole;
+import me.chan99k.learningmanager.member.SystemRoleHierarchy;
+
+@DisplayName("CachingSystemAuthorizationAdapter 테스트")
+@ExtendWith(MockitoExtension.class)
+class CachingSystemAuthorizationAdapterTest {
+
+	private static final Long MEMBER_ID = 1L;
+	private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+	private static final long TTL_SECONDS = 60L;
+
+	@Mock
+	private JpaSystemAuthorizationAdapter delegate;
+	@Mock
+	private Clock clock;
+
+	private SimpleMeterRegistry meterRegistry;
+	private CachingSystemAuthorizationAdapter adapter;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		lenient().when(clock.instant()).thenReturn(NOW);
+		adapter = new CachingSystemAuthorizationAdapter(
+			delegate, new SystemRoleHierarchy(), clock, meterRegistry, TTL_SECONDS, 100
+		);
+	}
+
+	private double count(String result) {
+		return meterRegistry.get("lm.authorization.system-role.cache").tag("result", result).counter().count();
+	}
+
+	@Nested
+	@DisplayName("역할 조회")
+	class GetRolesTests {
+
+		@Test
+		@DisplayName("[Success] 두 번째 조회부터는 캐시에서 반환한다")
+		void test01() {
+			when(delegate.getRoles(MEMBER_ID)).thenReturn(Set.of(SystemRole.ADMIN));
+
+			Set<SystemRole> first = adapter.getRoles(MEMBER_ID);
+			Set<SystemRole> second = adapter.getRoles(MEMBER_ID);
+
+			assertThat(first).containsExactly(SystemRole.ADMIN);
+			assertThat(second).isSameAs(first);
+			verify(delegate, times(1)).getRoles(MEMBER_ID);
+			assertThat(count("miss")).isEqualTo(1.0);
+			assertThat(count("hit")).isEqualTo(1.0);
+		}
+
+		@Test
+		@DisplayName("[Success] hasRole, hasAnyRole, hasRoleOrHigher 는 하나의 조회 결과를 공유한다")
+		void test02() {
+			when(delegate.getRoles(MEMBER_ID)).thenReturn(Set.of(SystemRole.OPERATOR));
+
+			assertThat(adapter.hasRole(MEMBER_ID, SystemRole.OPERATOR)).isTrue();
+			assertThat(adapter.hasRole(MEMBER_ID, SystemRole.ADMIN)).isFalse();
+			assertThat(adapter.hasAnyRole(MEMBER_ID, Set.of(SystemRole.ADMIN, SystemRole.OPERATOR))).isTrue();
+			assertThat(adapter.hasRoleOrHigher(MEMBER_ID, SystemRole.REGISTRAR)).isTrue();
+			assertThat(adapter.hasRoleOrHigher(MEMBER_ID, SystemRole.SUPERVISOR)).isFalse();
+
+			verify(delegate, times(1)).getRoles(MEMBER_ID);
+			verify(delegate, never()).hasRole(any(), any());
+		}
+
+		@Test
+		@DisplayName("[Success] 역할이 없는 회원도 캐싱한다")
+		void test03() {
+			when(delegate.getRoles(MEMBER_ID)).thenReturn(Set.of());
+
+			assertThat(adapter.getRoles(MEMBER_ID)).isEmpty();
+			assertThat(adapter.getRoles(MEMBER_ID)).isEmpty();
+
+			verify(delegate, times(1)).getRoles(MEMBER_ID);
+		}
+
+		@Test
+		@DisplayName("[Success] TTL 이 지나면 다시 조회한다")
+		void test04() {
+			when(delegate.getRoles(MEMBER_ID)).thenReturn(Set.of(SystemRole.MEMBER));
+
+			adapter.getRoles(MEMBER_ID);
+			when(clock.instant()).thenReturn(NOW.plusSeconds(TTL_SECONDS + 1));
+			adapter.getRoles(MEMBER_ID);
+
+			verify(delegate, times(2)).getRoles(MEMBER_ID);
+		}
+
+		@Test
+		@DisplayName("[Failure] 반환된 역할 집합은 수정할 수 없다")
+		void test05() {
+			when(delegate.getRoles(MEMBER_ID)).thenReturn(Set.of(SystemRole.MEMBER));
+
+			Set<SystemRole> roles = adapter.getRoles(MEMBER_ID);
+
+			assertThatThrownBy(() -> roles.add(SystemRole.ADMIN))
+				.isInstanceOf(UnsupportedOperationException.class);
+		}
+	}
+
+	@Nested
+	@DisplayName("캐시 무효화")
+	class InvalidationTests {
+
+		@Test
+		@DisplayName("[Success] 역할 부여 시 캐시를 비운다")
+		void test01() {
+			when(delegate.getRoles(MEMBER_ID))
+				.thenReturn(Set.of(SystemRole.MEMBER))
+				.thenReturn(Set.of(SystemRole.MEMBER, SystemRole.ADMIN));
+
+			adapter.getRoles(MEMBER_ID);
+			adapter.grantRole(MEMBER_ID, SystemRole.ADMIN);
+
+			assertThat(adapter.getRoles(MEMBER_ID)).contains(SystemRole.ADMIN);
+			verify(delegate).grantRole(MEMBER_ID, SystemRole.ADMIN);
+		}
+
+		@Test
+		@DisplayName("[Success] 역할 회수 시 캐시를 비운다")
+		void test02() {
+			when(delegate.getRoles(MEMBER_ID))
+				.thenReturn(Set.of(SystemRole.ADMIN))
+				.thenReturn(Set.of());
+
+			adapter.getRoles(MEMBER_ID);
+			adapter.revokeRole(MEMBER_ID, SystemRole.ADMIN);
+
+			assertThat(adapter.getRoles(MEMBER_ID)).isEmpty();
+			verify(delegate).revokeRole(MEMBER_ID, SystemRole.ADMIN);
+		}
+
+		@Test
+		@DisplayName("[Success] SystemRoleChangeEvent 수신 시 해당 회원의 캐시를 비운다")
+		void test03() {
+			when(delegate.getRoles(MEMBER_ID)).thenReturn(Set.of(SystemRole.MEMBER));
+			adapter.getRoles(MEMBER_ID);
+
+			adapter.handleSystemRoleChange(new SystemRoleChangeEvent.Granted(
+				MEMBER_ID, SystemRole.ADMIN, 99L, NOW, "승격"
+			));
+			adapter.getRoles(MEMBER_ID);
+
+			verify(delegate, times(2)).getRoles(MEMBER_ID);
+		}
+	}
+
+	@Nested
+	@DisplayName("크기 제한")
+	class SizeBoundTests {
+
+		@Test
+		@DisplayName("[Success] 최대 크기를 넘으면 항목을 내보내 크기를 유지한다")
+		void test01() {
+			SimpleMeterRegistry smallRegistry = new SimpleMeterRegistry();
+			CachingSystemAuthorizationAdapter smallAdapter = new CachingSystemAuthorizationAdapter(
+				delegate, new SystemRoleHierarchy(), clock, smallRegistry, TTL_SECONDS, 1
+			);
+			when(delegate.getRoles(anyLong())).thenReturn(Set.of(SystemRole.MEMBER));
+
+			smallAdapter.getRoles(1L);
+			smallAdapter.getRoles(2L);
+			smallAdapter.getRoles(3L);
+
+			assertThat(smallRegistry.get("lm.authorization.system-role.cache.size").gauge().value()).isEqualTo(1.0);
+		}
+
+		@Test
+		@DisplayName("[Success] 최대 크기가 0 이하이면 캐싱하지 않는다")
+		void test02() {
+			CachingSystemAuthorizationAdapter disabled = new CachingSystemAuthorizationAdapter(
+				delegate, new SystemRoleHierarchy(), clock, new SimpleMeterRegistry(), TTL_SECONDS, 0
+			);
+			when(delegate.getRoles(MEMBER_ID)).thenReturn(Set.of(SystemRole.MEMBER));
+
+			disabled.getRoles(MEMBER_ID);
+			disabled.getRoles(MEMBER_ID);
+
+			verify(delegate, times(2)).getRoles(MEMBER_ID);
+		}
+	}
+}
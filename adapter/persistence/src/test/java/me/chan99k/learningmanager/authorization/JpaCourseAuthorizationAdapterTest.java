@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -85,4 +86,26 @@ class JpaCourseAuthorizationAdapterTest {
 
 		assertThat(result).isFalse();
 	}
+
+	@Test
+	@DisplayName("[Success] getRoles로 과정 내 역할을 한 번에 조회한다")
+	void test06() {
+		when(courseRepository.findRolesByMemberIdAndCourseId(MEMBER_ID, COURSE_ID))
+			.thenReturn(List.of(CourseRole.MANAGER));
+
+		Set<CourseRole> result = adapter.getRoles(MEMBER_ID, COURSE_ID);
+
+		assertThat(result).containsExactly(CourseRole.MANAGER);
+	}
+
+	@Test
+	@DisplayName("[Success] getRoles로 과정 멤버가 아닌 경우 빈 집합 반환")
+	void test07() {
+		when(courseRepository.findRolesByMemberIdAndCourseId(MEMBER_ID, COURSE_ID))
+			.thenReturn(List.of());
+
+		Set<CourseRole> result = adapter.getRoles(MEMBER_ID, COURSE_ID);
+
+		assertThat(result).isEmpty();
+	}
 }
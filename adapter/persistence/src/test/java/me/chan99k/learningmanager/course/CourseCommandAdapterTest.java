@@ -5,7 +5,9 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,8 +15,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import me.chan99k.learningmanager.course.entity.CourseEntity;
+import me.chan99k.learningmanager.course.entity.CourseMemberEntity;
 
 @DisplayName("CourseCommandAdapter 테스트")
 @ExtendWith(MockitoExtension.class)
@@ -32,7 +36,7 @@ class CourseCommandAdapterTest {
 
 	@BeforeEach
 	void setUp() {
-		adapter = new CourseCommandAdapter(jpaCourseRepository);
+		adapter = new CourseCommandAdapter(jpaCourseRepository, false);
 	}
 
 	@Test
@@ -51,7 +55,7 @@ class CourseCommandAdapterTest {
 	}
 
 	@Test
-	@DisplayName("[Success] save 메서드가 과정을 저장하고 도메인 객체를 반환한다")
+	@DisplayName("[Success] merge 모드의 save 메서드가 과정을 저장하고 도메인 객체를 반환한다")
 	void test02() {
 		Course course = createTestCourse();
 		CourseEntity savedEntity = createTestCourseEntity();
@@ -74,6 +78,45 @@ class CourseCommandAdapterTest {
 		verify(jpaCourseRepository).delete(any(CourseEntity.class));
 	}
 
+	@Test
+	@DisplayName("[Success] 변경분 반영 모드의 save 는 관리 엔티티에 바뀐 필드와 새 멤버만 반영하고 merge 하지 않는다")
+	void test04() {
+		CourseCommandAdapter dirtyTrackingAdapter = new CourseCommandAdapter(jpaCourseRepository, true);
+		CourseEntity managed = createTestCourseEntity();
+		managed.setCourseMemberList(new ArrayList<>());
+		managed.setCurriculumList(new ArrayList<>());
+		when(jpaCourseRepository.findById(COURSE_ID)).thenReturn(Optional.of(managed));
+
+		Course course = createTestCourse();
+		course.updateTitle("바뀐 제목");
+		course.addMember(2L, CourseRole.MENTEE);
+
+		Course result = dirtyTrackingAdapter.save(course);
+
+		assertThat(result).isSameAs(course);
+		assertThat(managed.getTitle()).isEqualTo("바뀐 제목");
+		assertThat(managed.getCourseMemberList()).singleElement()
+			.extracting(CourseMemberEntity::getMemberId, CourseMemberEntity::getCourse)
+			.containsExactly(2L, managed);
+		verify(jpaCourseRepository, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("[Failure] 변경분 반영 모드에서 버전이 다르면 낙관적 락 예외가 발생한다")
+	void test05() {
+		CourseCommandAdapter dirtyTrackingAdapter = new CourseCommandAdapter(jpaCourseRepository, true);
+		CourseEntity managed = createTestCourseEntity();
+		managed.setVersion(VERSION + 1);
+		when(jpaCourseRepository.findById(COURSE_ID)).thenReturn(Optional.of(managed));
+
+		Course course = createTestCourse();
+		course.updateTitle("바뀐 제목");
+
+		assertThatThrownBy(() -> dirtyTrackingAdapter.save(course))
+			.isInstanceOf(ObjectOptimisticLockingFailureException.class);
+		assertThat(managed.getTitle()).isEqualTo(TITLE);
+	}
+
 	private Course createTestCourse() {
 		return Course.reconstitute(
 			COURSE_ID, TITLE, DESCRIPTION,
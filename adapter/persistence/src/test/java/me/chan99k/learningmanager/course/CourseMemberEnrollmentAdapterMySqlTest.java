@@ -0,0 +1,100 @@
+package me.chan99k.learningmanager.course;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 운영과 같은 MySQL, rewriteBatchedStatements 설정에서 일괄 등록이 건너뛴 회원을 찾아내는지 확인한다.
+ * <p>
+ * 재작성된 배치는 행별 건수 대신 SUCCESS_NO_INFO 를 돌려주고 H2 는 REPEATABLE READ 스냅숏을 흉내 내지 않으므로,
+ * 중복 확인 이후 다른 트랜잭션이 같은 회원을 먼저 등록하는 경합은 MySQL 에서만 재현된다.
+ */
+@Testcontainers
+@DisplayName("CourseMemberEnrollmentAdapter MySQL 테스트")
+class CourseMemberEnrollmentAdapterMySqlTest {
+
+	private static final Long COURSE_ID = 1L;
+	private static final Long MANAGER_ID = 1L;
+
+	@Container
+	static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0.36")
+		.withUrlParam("rewriteBatchedStatements", "true");
+
+	private static JdbcTemplate jdbcTemplate;
+	private static JdbcTemplate concurrentJdbcTemplate;
+	private static TransactionTemplate transactionTemplate;
+	private static CourseMemberEnrollmentAdapter adapter;
+
+	@BeforeAll
+	static void setUp() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+		Flyway.configure()
+			.dataSource(dataSource)
+			.locations("classpath:db/migration")
+			.load()
+			.migrate();
+
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		// 다른 DataSource 로 만들어 테스트 트랜잭션의 커넥션과 별개로 바로 커밋되게 한다
+		concurrentJdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+			mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword()));
+		transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		adapter = new CourseMemberEnrollmentAdapter(jdbcTemplate, 2);
+
+		jdbcTemplate.update("INSERT INTO course (id, created_at, created_by, version, title) "
+			+ "VALUES (?, NOW(6), ?, 0, '일괄 등록 과정')", COURSE_ID, MANAGER_ID);
+		LongStream.rangeClosed(10, 12).forEach(memberId -> jdbcTemplate.update(
+			"INSERT INTO member (id, created_at, created_by, version, nickname, status, primary_email) "
+				+ "VALUES (?, NOW(6), 1, 0, ?, 'ACTIVE', ?)",
+			memberId, "member" + memberId, "member" + memberId + "@example.com"));
+	}
+
+	private static List<CourseMemberEnrollment> mentees(long from, long to) {
+		return LongStream.rangeClosed(from, to)
+			.mapToObj(memberId -> new CourseMemberEnrollment(memberId, CourseRole.MENTEE))
+			.toList();
+	}
+
+	@Test
+	@DisplayName("[Success] 중복 확인 이후 다른 트랜잭션이 먼저 등록한 회원만 건너뛴 회원으로 돌려준다")
+	void test01() {
+		Set<Long> skipped = transactionTemplate.execute(status -> {
+			assertThat(adapter.findEnrolledMemberIds(COURSE_ID, List.of(10L, 11L, 12L))).isEmpty();
+			concurrentJdbcTemplate.update("INSERT INTO course_member "
+				+ "(created_at, created_by, version, course_id, member_id, course_role) "
+				+ "VALUES (NOW(6), ?, 0, ?, 11, 'MENTOR')", MANAGER_ID, COURSE_ID);
+
+			return adapter.enrollAll(COURSE_ID, mentees(10, 12), MANAGER_ID);
+		});
+
+		assertThat(skipped).containsExactly(11L);
+		assertThat(jdbcTemplate.queryForList(
+			"SELECT course_role FROM course_member WHERE course_id = ? ORDER BY member_id", String.class, COURSE_ID))
+			.containsExactly("MENTEE", "MENTOR", "MENTEE");
+	}
+
+	@Test
+	@DisplayName("[Failure] 외래 키 위반은 건너뛰지 않고 예외로 알린다")
+	void test02() {
+		assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(
+			status -> adapter.enrollAll(COURSE_ID + 1000, mentees(10, 12), MANAGER_ID)))
+			.isInstanceOf(DataIntegrityViolationException.class);
+	}
+}
@@ -0,0 +1,108 @@
+package me.chan99k.learningmanager.course;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import me.chan99k.learningmanager.config.TestJpaConfig;
+import me.chan99k.learningmanager.course.entity.CourseEntity;
+import me.chan99k.learningmanager.course.entity.CourseMemberEntity;
+
+@DataJpaTest(properties = "course.member.bulk.batch-size=2")
+@Import({TestJpaConfig.class, CourseMemberEnrollmentAdapter.class})
+@DisplayName("CourseMemberEnrollmentAdapter 테스트")
+class CourseMemberEnrollmentAdapterTest {
+
+	private static final Long MANAGER_ID = 1L;
+
+	@Autowired
+	private TestEntityManager entityManager;
+	@Autowired
+	private CourseMemberEnrollmentAdapter adapter;
+
+	private Long courseId;
+
+	@BeforeEach
+	void setUp() {
+		CourseEntity course = new CourseEntity();
+		course.setTitle("일괄 등록 과정");
+		course.setDescription("과정 설명");
+
+		CourseMemberEntity manager = new CourseMemberEntity();
+		manager.setMemberId(MANAGER_ID);
+		manager.setCourseRole(CourseRole.MANAGER);
+		course.addCourseMember(manager);
+
+		entityManager.persist(course);
+		entityManager.flush();
+		entityManager.clear();
+		courseId = course.getId();
+	}
+
+	@Test
+	@DisplayName("[Success] 배치 크기를 넘는 멤버도 모두 등록하고 등록 정보를 채운다")
+	void test01() {
+		List<CourseMemberEnrollment> enrollments = LongStream.rangeClosed(10, 14)
+			.mapToObj(memberId -> new CourseMemberEnrollment(memberId, CourseRole.MENTEE))
+			.toList();
+
+		adapter.enrollAll(courseId, enrollments, MANAGER_ID);
+
+		List<CourseMemberEntity> members = entityManager.find(CourseEntity.class, courseId).getCourseMemberList();
+		assertThat(members).hasSize(6);
+		assertThat(members)
+			.filteredOn(member -> member.getCourseRole() == CourseRole.MENTEE)
+			.allSatisfy(member -> {
+				assertThat(member.getCreatedAt()).isNotNull();
+				assertThat(member.getCreatedBy()).isEqualTo(MANAGER_ID);
+				assertThat(member.getVersion()).isZero();
+			});
+	}
+
+	@Test
+	@DisplayName("[Success] 요청한 회원 중 이미 등록된 회원 ID 만 돌려준다")
+	void test02() {
+		adapter.enrollAll(courseId, List.of(new CourseMemberEnrollment(10L, CourseRole.MENTOR)), MANAGER_ID);
+
+		assertThat(adapter.findEnrolledMemberIds(courseId, List.of(MANAGER_ID, 10L, 11L, 12L, 13L)))
+			.containsExactlyInAnyOrder(MANAGER_ID, 10L);
+		assertThat(adapter.findEnrolledMemberIds(courseId, List.of())).isEmpty();
+	}
+
+	@Test
+	@DisplayName("[Success] 이미 등록된 회원이 섞여 있어도 실패하지 않고 기존 등록은 그대로 둔다")
+	void test03() {
+		adapter.enrollAll(courseId, List.of(new CourseMemberEnrollment(11L, CourseRole.MENTOR)), MANAGER_ID);
+
+		adapter.enrollAll(courseId, LongStream.rangeClosed(10, 12)
+			.mapToObj(memberId -> new CourseMemberEnrollment(memberId, CourseRole.MENTEE))
+			.toList(), MANAGER_ID);
+
+		assertThat(adapter.findEnrolledMemberIds(courseId, List.of(10L, 11L, 12L)))
+			.containsExactlyInAnyOrder(10L, 11L, 12L);
+		assertThat(entityManager.find(CourseEntity.class, courseId).getCourseMemberList())
+			.filteredOn(member -> member.getMemberId().equals(11L))
+			.singleElement()
+			.extracting(CourseMemberEntity::getCourseRole)
+			.isEqualTo(CourseRole.MENTOR);
+	}
+
+	@Test
+	@DisplayName("[Failure] 중복이 아닌 제약 위반은 건너뛰지 않고 예외로 알린다")
+	void test04() {
+		List<CourseMemberEnrollment> enrollments = List.of(new CourseMemberEnrollment(10L, CourseRole.MENTEE));
+
+		assertThatThrownBy(() -> adapter.enrollAll(courseId + 1000, enrollments, MANAGER_ID))
+			.isInstanceOf(DataIntegrityViolationException.class);
+	}
+}
@@ -120,6 +120,18 @@ class CourseQueryAdapterTest {
 
 			assertThat(result).hasSize(1);
 		}
+
+		@Test
+		@DisplayName("[Success] isManagedBy로 애그리거트 조회 없이 매니저 여부를 확인한다")
+		void test06() {
+			when(jpaCourseRepository.existsByMemberIdAndCourseIdAndRole(MEMBER_ID, COURSE_ID, CourseRole.MANAGER))
+				.thenReturn(true);
+
+			boolean result = adapter.isManagedBy(COURSE_ID, MEMBER_ID);
+
+			assertThat(result).isTrue();
+			verify(jpaCourseRepository, never()).findManagedCourseById(any(), any());
+		}
 	}
 
 	@Nested
@@ -169,5 +181,18 @@ class CourseQueryAdapterTest {
 
 			assertThat(result.content()).hasSize(1);
 		}
+
+		@Test
+		@DisplayName("[Success] findCourseMembersAfterMemberId로 마지막 회원 ID 이후의 멤버를 조회한다")
+		void test04() {
+			CourseMemberInfo memberInfo = new CourseMemberInfo(MEMBER_ID, "닉네임", "test@example.com", CourseRole.MENTEE,
+				NOW);
+			when(jpaCourseRepository.findCourseMembersAfterMemberId(COURSE_ID, 1L, 500))
+				.thenReturn(List.of(memberInfo));
+
+			List<CourseMemberInfo> result = adapter.findCourseMembersAfterMemberId(COURSE_ID, 1L, 500);
+
+			assertThat(result).containsExactly(memberInfo);
+		}
 	}
 }
@@ -0,0 +1,189 @@
+package me.chan99k.learningmanager.member;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmailOutboxDispatcher 테스트")
+class EmailOutboxDispatcherTest {
+
+	private static final Instant NOW = Instant.parse("2025-03-10T00:00:00Z");
+	private static final int BATCH_SIZE = 2;
+	private static final int MAX_ATTEMPTS = 3;
+	private static final Duration LEASE = Duration.ofSeconds(120);
+	private static final Duration DELIVERY_TIMEOUT = Duration.ofSeconds(60);
+	private static final int MAX_BATCHES_PER_TICK = 3;
+	private static final Duration DEAD_RETENTION = Duration.ofDays(14);
+
+	@Mock
+	EmailOutboxJdbcRepository outboxRepository;
+	@Mock
+	EmailDelivery emailDelivery;
+	@Mock
+	PlatformTransactionManager transactionManager;
+
+	private MeterRegistry meterRegistry;
+	private EmailOutboxDispatcher dispatcher;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		dispatcher = new EmailOutboxDispatcher(outboxRepository, emailDelivery, transactionManager,
+			Clock.fixed(NOW, ZoneOffset.UTC), meterRegistry, BATCH_SIZE, MAX_ATTEMPTS, 30, 100, LEASE.toSeconds(),
+			DELIVERY_TIMEOUT.toSeconds(), MAX_BATCHES_PER_TICK, DEAD_RETENTION.toDays());
+	}
+
+	private EmailOutboxMessage message(long id, int attempts) {
+		return new EmailOutboxMessage(id, EmailOutboxType.SIGN_UP_CONFIRM, "user" + id + "@example.com", "token",
+			attempts, NOW.minusSeconds(10));
+	}
+
+	@Nested
+	@DisplayName("발송")
+	class DispatchTests {
+
+		@Test
+		@DisplayName("[Success] 꺼낸 메일을 보내고 성공한 행을 삭제한다")
+		void test01() {
+			List<EmailOutboxMessage> claimed = List.of(message(1, 1));
+			given(outboxRepository.claimDue(NOW, BATCH_SIZE, NOW.plus(LEASE))).willReturn(claimed);
+			given(emailDelivery.deliver(claimed)).willReturn(Map.of());
+
+			dispatcher.dispatch();
+
+			then(outboxRepository).should().deleteAll(List.of(1L));
+			then(outboxRepository).should(never()).reschedule(any(), any(), any());
+			assertThat(meterRegistry.get("lm.email.outbox.sent").counter().count()).isEqualTo(1.0);
+		}
+
+		@Test
+		@DisplayName("[Success] 배치가 가득 차 있으면 빈 배치가 나올 때까지 이어서 꺼낸다")
+		void test02() {
+			List<EmailOutboxMessage> first = LongStream.rangeClosed(1, BATCH_SIZE)
+				.mapToObj(id -> message(id, 1))
+				.toList();
+			given(outboxRepository.claimDue(NOW, BATCH_SIZE, NOW.plus(LEASE)))
+				.willReturn(first)
+				.willReturn(List.of());
+			given(emailDelivery.deliver(first)).willReturn(Map.of());
+
+			dispatcher.dispatch();
+
+			then(outboxRepository).should(times(2)).claimDue(NOW, BATCH_SIZE, NOW.plus(LEASE));
+			then(emailDelivery).should(times(1)).deliver(any());
+		}
+
+		@Test
+		@DisplayName("[Failure] 실패한 메일은 시도 횟수에 따라 늘어난 간격 뒤로 미루고, 최대 횟수면 포기한다")
+		void test03() {
+			List<EmailOutboxMessage> claimed = List.of(message(1, 2), message(2, MAX_ATTEMPTS));
+			given(outboxRepository.claimDue(NOW, BATCH_SIZE, NOW.plus(LEASE)))
+				.willReturn(claimed)
+				.willReturn(List.of());
+			given(emailDelivery.deliver(claimed)).willReturn(Map.of(1L, "일시 오류", 2L, "영구 오류"));
+
+			dispatcher.dispatch();
+
+			then(outboxRepository).should().reschedule(1L, NOW.plusSeconds(60), "일시 오류");
+			then(outboxRepository).should().markDead(2L, "영구 오류");
+			assertThat(meterRegistry.get("lm.email.outbox.retried").counter().count()).isEqualTo(1.0);
+			assertThat(meterRegistry.get("lm.email.outbox.dead").counter().count()).isEqualTo(1.0);
+		}
+
+		@Test
+		@DisplayName("[Success] 배치가 계속 가득 차 있어도 한 주기에는 최대 배치 수까지만 처리한다")
+		void test04() {
+			List<EmailOutboxMessage> full = LongStream.rangeClosed(1, BATCH_SIZE)
+				.mapToObj(id -> message(id, 1))
+				.toList();
+			given(outboxRepository.claimDue(NOW, BATCH_SIZE, NOW.plus(LEASE))).willReturn(full);
+			given(emailDelivery.deliver(full)).willReturn(Map.of());
+
+			dispatcher.dispatch();
+
+			then(outboxRepository).should(times(MAX_BATCHES_PER_TICK)).claimDue(NOW, BATCH_SIZE, NOW.plus(LEASE));
+		}
+
+		@Test
+		@DisplayName("[Failure] 링크 토큰이 만료된 메일은 보내지 않고 DEAD 로 바꾼 수를 기록한다")
+		void test05() {
+			given(outboxRepository.markExpiredDead(NOW)).willReturn(2);
+			given(outboxRepository.claimDue(NOW, BATCH_SIZE, NOW.plus(LEASE))).willReturn(List.of());
+
+			dispatcher.dispatch();
+
+			then(emailDelivery).shouldHaveNoInteractions();
+			assertThat(meterRegistry.get("lm.email.outbox.expired").counter().count()).isEqualTo(2.0);
+		}
+
+		@Test
+		@DisplayName("[Success] 주기마다 보존 기간이 지난 DEAD 행을 삭제한다")
+		void test06() {
+			given(outboxRepository.claimDue(NOW, BATCH_SIZE, NOW.plus(LEASE))).willReturn(List.of());
+
+			dispatcher.dispatch();
+
+			then(outboxRepository).should().deleteDeadBefore(NOW.minus(DEAD_RETENTION));
+		}
+	}
+
+	@Nested
+	@DisplayName("재시도 간격과 지연 메트릭")
+	class BackoffTests {
+
+		@Test
+		@DisplayName("[Success] 재시도 간격은 두 배씩 늘어나되 최대 간격을 넘지 않는다")
+		void test01() {
+			assertThat(dispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+			assertThat(dispatcher.backoff(2)).isEqualTo(Duration.ofSeconds(60));
+			assertThat(dispatcher.backoff(3)).isEqualTo(Duration.ofSeconds(100));
+			assertThat(dispatcher.backoff(64)).isEqualTo(Duration.ofSeconds(100));
+		}
+
+		@Test
+		@DisplayName("[Success] 가장 오래된 대기 메일이 기록된 뒤 지난 시간을 초 단위로 노출한다")
+		void test02() {
+			given(outboxRepository.claimDue(NOW, BATCH_SIZE, NOW.plus(LEASE))).willReturn(List.of());
+			given(outboxRepository.findOldestPendingCreatedAt()).willReturn(NOW.minusSeconds(42));
+
+			dispatcher.dispatch();
+
+			assertThat(meterRegistry.get("lm.email.outbox.lag").gauge().value()).isEqualTo(42.0);
+		}
+	}
+
+	@Nested
+	@DisplayName("설정 검증")
+	class ConfigTests {
+
+		@Test
+		@DisplayName("[Failure] 임대 시간이 발송 대기 시간보다 길지 않으면 생성하지 않는다")
+		void test01() {
+			assertThatThrownBy(() -> new EmailOutboxDispatcher(outboxRepository, emailDelivery, transactionManager,
+				Clock.fixed(NOW, ZoneOffset.UTC), meterRegistry, BATCH_SIZE, MAX_ATTEMPTS, 30, 100,
+				DELIVERY_TIMEOUT.toSeconds(), DELIVERY_TIMEOUT.toSeconds(), MAX_BATCHES_PER_TICK,
+				DEAD_RETENTION.toDays()))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+}
@@ -0,0 +1,173 @@
+package me.chan99k.learningmanager.member;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import me.chan99k.learningmanager.config.TestJpaConfig;
+import me.chan99k.learningmanager.member.entity.EmailOutboxEntity;
+import me.chan99k.learningmanager.member.entity.EmailOutboxEntity.EmailOutboxStatus;
+
+@DataJpaTest
+@Import({TestJpaConfig.class, EmailOutboxJdbcRepository.class})
+@DisplayName("EmailOutboxJdbcRepository 테스트")
+class EmailOutboxJdbcRepositoryTest {
+
+	private static final Instant NOW = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+	private static final Duration LEASE = Duration.ofMinutes(2);
+	private static final long TOKEN_VALIDITY_SECONDS = 1500;
+
+	@Autowired
+	private TestEntityManager entityManager;
+	@Autowired
+	private EmailOutboxJdbcRepository repository;
+
+	private OutboxEmailSender outboxEmailSender;
+
+	@BeforeEach
+	void setUp() {
+		outboxEmailSender = new OutboxEmailSender(repository, Clock.fixed(NOW, ZoneOffset.UTC),
+			TOKEN_VALIDITY_SECONDS, TOKEN_VALIDITY_SECONDS);
+	}
+
+	private List<EmailOutboxEntity> findAll() {
+		entityManager.clear();
+		return entityManager.getEntityManager()
+			.createQuery("select o from EmailOutboxEntity o order by o.id", EmailOutboxEntity.class)
+			.getResultList();
+	}
+
+	@Nested
+	@DisplayName("기록")
+	class AppendTests {
+
+		@Test
+		@DisplayName("[Success] EmailSender 호출을 발송 대기 행으로 기록한다")
+		void test01() {
+			outboxEmailSender.sendSignUpConfirmEmail("a@example.com", "signup-token");
+			outboxEmailSender.sendPasswordResetEmail("b@example.com", "reset-token");
+
+			assertThat(findAll())
+				.extracting(EmailOutboxEntity::getType, EmailOutboxEntity::getRecipient, EmailOutboxEntity::getStatus,
+					EmailOutboxEntity::getAttempts)
+				.containsExactly(
+					tuple(EmailOutboxType.SIGN_UP_CONFIRM, "a@example.com", EmailOutboxStatus.PENDING, 0),
+					tuple(EmailOutboxType.PASSWORD_RESET, "b@example.com", EmailOutboxStatus.PENDING, 0));
+			assertThat(repository.findOldestPendingCreatedAt()).isEqualTo(NOW);
+			assertThat(findAll()).extracting(EmailOutboxEntity::getExpiresAt)
+				.containsOnly(NOW.plusSeconds(TOKEN_VALIDITY_SECONDS));
+		}
+	}
+
+	@Nested
+	@DisplayName("꺼내기")
+	class ClaimTests {
+
+		@Test
+		@DisplayName("[Success] 발송 시각이 된 행을 limit 만큼 꺼내고 임대 기간 동안 다시 꺼내지 않는다")
+		void test01() {
+			for (int i = 0; i < 3; i++) {
+				outboxEmailSender.sendSignUpConfirmEmail("user" + i + "@example.com", "token-" + i);
+			}
+
+			List<EmailOutboxMessage> claimed = repository.claimDue(NOW, 2, NOW.plus(LEASE));
+
+			assertThat(claimed).extracting(EmailOutboxMessage::recipient)
+				.containsExactly("user0@example.com", "user1@example.com");
+			assertThat(claimed).extracting(EmailOutboxMessage::attempts).containsOnly(1);
+			assertThat(repository.claimDue(NOW, 10, NOW.plus(LEASE)))
+				.extracting(EmailOutboxMessage::recipient)
+				.containsExactly("user2@example.com");
+			assertThat(repository.claimDue(NOW.plus(LEASE), 10, NOW.plus(LEASE.multipliedBy(2)))).hasSize(3);
+		}
+
+		@Test
+		@DisplayName("[Success] 다시 시도하도록 미룬 행은 그 시각이 되어야 꺼내고, DEAD 행은 꺼내지 않는다")
+		void test02() {
+			outboxEmailSender.sendSignUpConfirmEmail("retry@example.com", "token-1");
+			outboxEmailSender.sendSignUpConfirmEmail("dead@example.com", "token-2");
+			List<EmailOutboxMessage> claimed = repository.claimDue(NOW, 10, NOW.plus(LEASE));
+
+			repository.reschedule(claimed.get(0).id(), NOW.plusSeconds(30), "일시 오류");
+			repository.markDead(claimed.get(1).id(), "영구 오류");
+
+			assertThat(repository.claimDue(NOW.plusSeconds(29), 10, NOW.plus(LEASE))).isEmpty();
+			assertThat(repository.claimDue(NOW.plusSeconds(30), 10, NOW.plus(LEASE)))
+				.singleElement()
+				.satisfies(message -> {
+					assertThat(message.recipient()).isEqualTo("retry@example.com");
+					assertThat(message.attempts()).isEqualTo(2);
+				});
+		}
+	}
+
+	@Nested
+	@DisplayName("발송 결과 반영")
+	class ResultTests {
+
+		@Test
+		@DisplayName("[Success] 보낸 행은 삭제하고 남은 대기 행만 지연 계산에 쓴다")
+		void test01() {
+			outboxEmailSender.sendSignUpConfirmEmail("sent@example.com", "token-1");
+			outboxEmailSender.sendSignUpConfirmEmail("dead@example.com", "token-2");
+			List<EmailOutboxMessage> claimed = repository.claimDue(NOW, 10, NOW.plus(LEASE));
+
+			repository.deleteAll(List.of(claimed.get(0).id()));
+			repository.markDead(claimed.get(1).id(), "x".repeat(600));
+
+			assertThat(findAll()).singleElement()
+				.satisfies(row -> {
+					assertThat(row.getStatus()).isEqualTo(EmailOutboxStatus.DEAD);
+					assertThat(row.getToken()).isNull();
+					assertThat(row.getLastError()).hasSize(500);
+				});
+			assertThat(repository.findOldestPendingCreatedAt()).isNull();
+		}
+
+		@Test
+		@DisplayName("[Success] 링크 토큰이 만료된 대기 행은 꺼내지 않고 토큰을 지운 채 DEAD 로 바꾼다")
+		void test02() {
+			outboxEmailSender.sendSignUpConfirmEmail("expired@example.com", "token-1");
+			Instant expiresAt = NOW.plusSeconds(TOKEN_VALIDITY_SECONDS);
+
+			assertThat(repository.claimDue(expiresAt, 10, expiresAt.plus(LEASE))).isEmpty();
+			assertThat(repository.markExpiredDead(expiresAt)).isEqualTo(1);
+
+			assertThat(findAll()).singleElement()
+				.satisfies(row -> {
+					assertThat(row.getStatus()).isEqualTo(EmailOutboxStatus.DEAD);
+					assertThat(row.getToken()).isNull();
+				});
+			assertThat(repository.findOldestPendingCreatedAt()).isNull();
+		}
+
+		@Test
+		@DisplayName("[Success] 기준 시각 전에 기록된 DEAD 행만 삭제하고 대기 행은 남긴다")
+		void test03() {
+			outboxEmailSender.sendSignUpConfirmEmail("dead@example.com", "token-1");
+			outboxEmailSender.sendSignUpConfirmEmail("pending@example.com", "token-2");
+			List<EmailOutboxMessage> claimed = repository.claimDue(NOW, 10, NOW.plus(LEASE));
+			repository.markDead(claimed.get(0).id(), "영구 오류");
+
+			assertThat(repository.deleteDeadBefore(NOW)).isZero();
+			assertThat(repository.deleteDeadBefore(NOW.plusSeconds(1))).isEqualTo(1);
+
+			assertThat(findAll()).singleElement()
+				.satisfies(row -> assertThat(row.getStatus()).isEqualTo(EmailOutboxStatus.PENDING));
+		}
+	}
+}
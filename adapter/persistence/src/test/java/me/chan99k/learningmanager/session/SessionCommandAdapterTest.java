@@ -4,9 +4,12 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,8 +17,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import me.chan99k.learningmanager.session.entity.SessionEntity;
+import me.chan99k.learningmanager.session.entity.SessionParticipantEntity;
 
 @DisplayName("SessionCommandAdapter 테스트")
 @ExtendWith(MockitoExtension.class)
@@ -36,7 +41,7 @@ class SessionCommandAdapterTest {
 
 	@BeforeEach
 	void setUp() {
-		adapter = new SessionCommandAdapter(jpaRepository);
+		adapter = new SessionCommandAdapter(jpaRepository, false);
 	}
 
 	@Test
@@ -55,7 +60,7 @@ class SessionCommandAdapterTest {
 	}
 
 	@Test
-	@DisplayName("[Success] save 메서드가 세션을 저장하고 도메인 객체를 반환한다")
+	@DisplayName("[Success] merge 모드의 save 메서드가 세션을 저장하고 도메인 객체를 반환한다")
 	void test02() {
 		Session session = createTestSession();
 		SessionEntity savedEntity = createTestSessionEntity();
@@ -78,6 +83,88 @@ class SessionCommandAdapterTest {
 		verify(jpaRepository).delete(any(SessionEntity.class));
 	}
 
+	@Test
+	@DisplayName("[Success] 변경분 반영 모드에서 제목만 바꾸면 참여자 컬렉션을 읽지 않고 merge 하지 않는다")
+	@SuppressWarnings("unchecked")
+	void test04() {
+		SessionCommandAdapter dirtyTrackingAdapter = new SessionCommandAdapter(jpaRepository, true);
+		List<SessionParticipantEntity> participantEntities = mock(List.class);
+		SessionEntity managed = createTestSessionEntity();
+		managed.setParticipants(participantEntities);
+		when(jpaRepository.findRootById(SESSION_ID)).thenReturn(Optional.of(managed));
+
+		Session session = Session.reconstitute(
+			SESSION_ID, COURSE_ID, CURRICULUM_ID, null,
+			TITLE, SCHEDULED_AT, SCHEDULED_END_AT, SessionType.ONLINE, SessionLocation.ZOOM, null,
+			List.of(SessionParticipant.reconstitute(
+				1000L, 7L, SessionParticipantRole.HOST, NOW, CREATED_BY, NOW, CREATED_BY, VERSION)),
+			NOW, CREATED_BY, NOW, CREATED_BY, VERSION
+		);
+		session.changeInfo("바뀐 제목", SessionType.ONLINE, Clock.systemUTC());
+
+		Session result = dirtyTrackingAdapter.save(session);
+
+		assertThat(result).isSameAs(session);
+		assertThat(managed.getTitle()).isEqualTo("바뀐 제목");
+		verifyNoInteractions(participantEntities);
+		verify(jpaRepository, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("[Success] 변경분 반영 모드에서 참여자 제거, 역할 변경, 추가를 관리 엔티티에 반영한다")
+	void test05() {
+		SessionCommandAdapter dirtyTrackingAdapter = new SessionCommandAdapter(jpaRepository, true);
+		SessionEntity managed = createTestSessionEntity();
+		managed.setParticipants(new ArrayList<>());
+		managed.addParticipant(createParticipantEntity(1000L, 7L, SessionParticipantRole.HOST));
+		managed.addParticipant(createParticipantEntity(1001L, 8L, SessionParticipantRole.ATTENDEE));
+		when(jpaRepository.findRootById(SESSION_ID)).thenReturn(Optional.of(managed));
+
+		Session session = Session.reconstitute(
+			SESSION_ID, COURSE_ID, CURRICULUM_ID, null,
+			TITLE, SCHEDULED_AT, SCHEDULED_END_AT, SessionType.ONLINE, SessionLocation.ZOOM, null,
+			List.of(
+				SessionParticipant.reconstitute(
+					1000L, 7L, SessionParticipantRole.HOST, NOW, CREATED_BY, NOW, CREATED_BY, VERSION),
+				SessionParticipant.reconstitute(
+					1001L, 8L, SessionParticipantRole.ATTENDEE, NOW, CREATED_BY, NOW, CREATED_BY, VERSION)),
+			NOW, CREATED_BY, NOW, CREATED_BY, VERSION
+		);
+		session.removeParticipant(8L);
+		session.changeParticipantRole(7L, SessionParticipantRole.SPEAKER, Clock.systemUTC());
+		session.addParticipant(9L, SessionParticipantRole.ATTENDEE);
+
+		dirtyTrackingAdapter.save(session);
+
+		assertThat(managed.getParticipants())
+			.extracting(SessionParticipantEntity::getMemberId, SessionParticipantEntity::getRole)
+			.containsExactly(
+				tuple(7L, SessionParticipantRole.SPEAKER),
+				tuple(9L, SessionParticipantRole.ATTENDEE));
+		assertThat(managed.getParticipants().get(1).getSession()).isSameAs(managed);
+	}
+
+	@Test
+	@DisplayName("[Failure] 변경분 반영 모드에서 버전이 다르면 낙관적 락 예외가 발생한다")
+	void test06() {
+		SessionCommandAdapter dirtyTrackingAdapter = new SessionCommandAdapter(jpaRepository, true);
+		SessionEntity managed = createTestSessionEntity();
+		managed.setVersion(VERSION + 1);
+		when(jpaRepository.findRootById(SESSION_ID)).thenReturn(Optional.of(managed));
+
+		assertThatThrownBy(() -> dirtyTrackingAdapter.save(createTestSession()))
+			.isInstanceOf(ObjectOptimisticLockingFailureException.class);
+	}
+
+	private SessionParticipantEntity createParticipantEntity(Long id, Long memberId, SessionParticipantRole role) {
+		SessionParticipantEntity entity = new SessionParticipantEntity();
+		entity.setId(id);
+		entity.setMemberId(memberId);
+		entity.setRole(role);
+		entity.setVersion(VERSION);
+		return entity;
+	}
+
 	private Session createTestSession() {
 		return Session.reconstitute(
 			SESSION_ID, COURSE_ID, CURRICULUM_ID, null,
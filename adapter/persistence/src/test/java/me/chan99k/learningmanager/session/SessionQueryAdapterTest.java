@@ -10,6 +10,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,7 +27,11 @@ import me.chan99k.learningmanager.common.PageRequest;
 import me.chan99k.learningmanager.common.PageResult;
 import me.chan99k.learningmanager.common.SortOrder;
 import me.chan99k.learningmanager.course.CourseRole;
+import me.chan99k.learningmanager.session.dto.SessionCalendarItem;
+import me.chan99k.learningmanager.session.dto.SessionCalendarVersion;
+import me.chan99k.learningmanager.session.dto.SessionCheckInInfo;
 import me.chan99k.learningmanager.session.dto.SessionInfo;
+import me.chan99k.learningmanager.session.dto.SessionSummary;
 import me.chan99k.learningmanager.session.entity.SessionEntity;
 
 @DisplayName("SessionQueryAdapter 테스트")
@@ -72,6 +77,11 @@ class SessionQueryAdapterTest {
 		return entity;
 	}
 
+	private SessionSummary createTestSessionSummary() {
+		return new SessionSummary(SESSION_ID, TITLE, SCHEDULED_AT, SCHEDULED_END_AT, SessionType.ONLINE,
+			SessionLocation.ZOOM, null, COURSE_ID, CURRICULUM_ID, null, 0L, 0L);
+	}
+
 	@Nested
 	@DisplayName("단순 조회 메서드")
 	class SimpleQueryTests {
@@ -154,13 +164,13 @@ class SessionQueryAdapterTest {
 		@Test
 		@DisplayName("[Success] findAllWithFilters로 필터링된 세션 목록을 페이징 조회한다")
 		void test01() {
-			SessionEntity entity = createTestSessionEntity();
-			Page<SessionEntity> page = new PageImpl<>(List.of(entity), Pageable.ofSize(10), 1);
+			SessionSummary summary = createTestSessionSummary();
+			Page<SessionSummary> page = new PageImpl<>(List.of(summary), Pageable.ofSize(10), 1);
 			when(jpaRepository.findAllWithFilters(any(), any(), any(), any(), any(Pageable.class)))
 				.thenReturn(page);
 			PageRequest pageRequest = PageRequest.of(0, 10);
 
-			PageResult<Session> result = adapter.findAllWithFilters(
+			PageResult<SessionSummary> result = adapter.findAllWithFilters(
 				SessionType.ONLINE, SessionLocation.ZOOM, NOW, SCHEDULED_END_AT, pageRequest
 			);
 
@@ -171,14 +181,14 @@ class SessionQueryAdapterTest {
 		@Test
 		@DisplayName("[Success] findByCourseIdWithFilters로 과정별 필터링된 세션 목록을 페이징 조회한다")
 		void test02() {
-			SessionEntity entity = createTestSessionEntity();
-			Page<SessionEntity> page = new PageImpl<>(List.of(entity), Pageable.ofSize(10), 1);
+			SessionSummary summary = createTestSessionSummary();
+			Page<SessionSummary> page = new PageImpl<>(List.of(summary), Pageable.ofSize(10), 1);
 			when(jpaRepository.findByCourseIdWithFilters(anyLong(), any(), any(), any(), any(), anyBoolean(),
 				any(Pageable.class)))
 				.thenReturn(page);
 			PageRequest pageRequest = PageRequest.of(0, 10);
 
-			PageResult<Session> result = adapter.findByCourseIdWithFilters(
+			PageResult<SessionSummary> result = adapter.findByCourseIdWithFilters(
 				COURSE_ID, SessionType.ONLINE, SessionLocation.ZOOM, NOW, SCHEDULED_END_AT, true, pageRequest
 			);
 
@@ -188,14 +198,14 @@ class SessionQueryAdapterTest {
 		@Test
 		@DisplayName("[Success] findByCurriculumIdWithFilters로 커리큘럼별 필터링된 세션 목록을 페이징 조회한다")
 		void test03() {
-			SessionEntity entity = createTestSessionEntity();
-			Page<SessionEntity> page = new PageImpl<>(List.of(entity), Pageable.ofSize(10), 1);
+			SessionSummary summary = createTestSessionSummary();
+			Page<SessionSummary> page = new PageImpl<>(List.of(summary), Pageable.ofSize(10), 1);
 			when(jpaRepository.findByCurriculumIdWithFilters(anyLong(), any(), any(), any(), any(), anyBoolean(),
 				any(Pageable.class)))
 				.thenReturn(page);
 			PageRequest pageRequest = PageRequest.of(0, 10);
 
-			PageResult<Session> result = adapter.findByCurriculumIdWithFilters(
+			PageResult<SessionSummary> result = adapter.findByCurriculumIdWithFilters(
 				CURRICULUM_ID, SessionType.ONLINE, SessionLocation.ZOOM, NOW, SCHEDULED_END_AT, true, pageRequest
 			);
 
@@ -205,13 +215,13 @@ class SessionQueryAdapterTest {
 		@Test
 		@DisplayName("[Success] findByMemberIdWithFilters로 회원별 필터링된 세션 목록을 페이징 조회한다")
 		void test04() {
-			SessionEntity entity = createTestSessionEntity();
-			Page<SessionEntity> page = new PageImpl<>(List.of(entity), Pageable.ofSize(10), 1);
+			SessionSummary summary = createTestSessionSummary();
+			Page<SessionSummary> page = new PageImpl<>(List.of(summary), Pageable.ofSize(10), 1);
 			when(jpaRepository.findByMemberIdWithFilters(anyLong(), any(), any(), any(), any(), any(Pageable.class)))
 				.thenReturn(page);
 			PageRequest pageRequest = PageRequest.of(0, 10);
 
-			PageResult<Session> result = adapter.findByMemberIdWithFilters(
+			PageResult<SessionSummary> result = adapter.findByMemberIdWithFilters(
 				MEMBER_ID, SessionType.ONLINE, SessionLocation.ZOOM, NOW, SCHEDULED_END_AT, pageRequest
 			);
 
@@ -221,18 +231,54 @@ class SessionQueryAdapterTest {
 		@Test
 		@DisplayName("[Success] 정렬 옵션이 있는 페이지 요청을 처리한다")
 		void test05() {
-			SessionEntity entity = createTestSessionEntity();
-			Page<SessionEntity> page = new PageImpl<>(List.of(entity), Pageable.ofSize(10), 1);
+			SessionSummary summary = createTestSessionSummary();
+			Page<SessionSummary> page = new PageImpl<>(List.of(summary), Pageable.ofSize(10), 1);
 			when(jpaRepository.findAllWithFilters(any(), any(), any(), any(), any(Pageable.class)))
 				.thenReturn(page);
 			PageRequest pageRequest = PageRequest.of(0, 10, "scheduledAt", SortOrder.DESC);
 
-			PageResult<Session> result = adapter.findAllWithFilters(
+			PageResult<SessionSummary> result = adapter.findAllWithFilters(
 				null, null, null, null, pageRequest
 			);
 
 			assertThat(result.content()).hasSize(1);
 		}
+
+		@Test
+		@DisplayName("[Success] 커서 조회에서 다음 페이지가 있으면 마지막 세션 위치를 nextCursor 로 내려준다")
+		void test06() {
+			SessionSummary summary = createTestSessionSummary();
+			SessionCursor after = new SessionCursor(SCHEDULED_AT.plus(1, ChronoUnit.DAYS), 99L);
+			when(jpaRepository.seekAllWithFilters(any(), any(), any(), any(), eq(after), eq(1), eq(false)))
+				.thenReturn(new CustomSessionRepository.SeekResult(List.of(summary), true, null));
+
+			PageResult<SessionSummary> result = adapter.findAllWithFilters(null, null, null, null, after, 1, false);
+
+			assertThat(result.content()).hasSize(1);
+			assertThat(result.hasNext()).isTrue();
+			assertThat(result.isCounted()).isFalse();
+			assertThat(result.totalElements()).isEqualTo(-1);
+			assertThat(SessionCursor.decode(result.nextCursor()))
+				.isEqualTo(new SessionCursor(SCHEDULED_AT, SESSION_ID));
+		}
+
+		@Test
+		@DisplayName("[Success] 커서 조회에서 마지막 페이지면 nextCursor 가 없고, 요청 시 전체 개수를 함께 내려준다")
+		void test07() {
+			SessionSummary summary = createTestSessionSummary();
+			when(jpaRepository.seekByMemberIdWithFilters(anyLong(), any(), any(), any(), any(), isNull(), eq(10),
+				eq(true)))
+				.thenReturn(new CustomSessionRepository.SeekResult(List.of(summary), false, 1L));
+
+			PageResult<SessionSummary> result = adapter.findByMemberIdWithFilters(
+				MEMBER_ID, null, null, null, null, null, 10, true
+			);
+
+			assertThat(result.content()).hasSize(1);
+			assertThat(result.nextCursor()).isNull();
+			assertThat(result.totalElements()).isEqualTo(1);
+			assertThat(result.totalPages()).isEqualTo(1);
+		}
 	}
 
 	@Nested
@@ -242,12 +288,13 @@ class SessionQueryAdapterTest {
 		@Test
 		@DisplayName("[Success] findByYearMonth로 월별 세션 목록을 조회한다")
 		void test01() {
-			SessionEntity entity = createTestSessionEntity();
+			SessionCalendarItem item = new SessionCalendarItem(SESSION_ID, TITLE, SCHEDULED_AT, SCHEDULED_END_AT,
+				SessionType.ONLINE, SessionLocation.ZOOM, null, COURSE_ID, CURRICULUM_ID);
 			when(jpaRepository.findByYearMonth(any(), any(), any(), any(), any(), any()))
-				.thenReturn(List.of(entity));
+				.thenReturn(List.of(item));
 			YearMonth yearMonth = YearMonth.of(2025, 1);
 
-			List<Session> result = adapter.findByYearMonth(
+			List<SessionCalendarItem> result = adapter.findByYearMonth(
 				yearMonth, SessionType.ONLINE, SessionLocation.ZOOM, COURSE_ID, CURRICULUM_ID
 			);
 
@@ -293,16 +340,12 @@ class SessionQueryAdapterTest {
 		@Test
 		@DisplayName("[Success] findSessionIdsByMemberId로 회원별 세션 ID 목록을 조회한다")
 		void test05() {
-			SessionEntity entity = createTestSessionEntity();
-			Page<SessionEntity> page = new PageImpl<>(List.of(entity));
-			when(
-				jpaRepository.findByMemberIdWithFilters(eq(MEMBER_ID), any(), any(), any(), any(), any(Pageable.class)))
-				.thenReturn(page);
+			when(jpaRepository.findIdsByMemberId(MEMBER_ID)).thenReturn(List.of(SESSION_ID));
 
 			List<Long> result = adapter.findSessionIdsByMemberId(MEMBER_ID);
 
-			assertThat(result).hasSize(1);
-			assertThat(result.get(0)).isEqualTo(SESSION_ID);
+			assertThat(result).containsExactly(SESSION_ID);
+			verify(jpaRepository, never()).findByMemberIdWithFilters(any(), any(), any(), any(), any(), any());
 		}
 
 		@Test
@@ -315,6 +358,20 @@ class SessionQueryAdapterTest {
 
 			assertThat(result).hasSize(1);
 		}
+
+		@Test
+		@DisplayName("[Success] findCalendarVersion은 findByYearMonth와 같은 UTC 월 범위로 조회한다")
+		void test07() {
+			SessionCalendarVersion version = new SessionCalendarVersion(3L, NOW);
+			when(jpaRepository.findCalendarVersion(Instant.parse("2025-01-01T00:00:00Z"),
+				Instant.parse("2025-02-01T00:00:00Z"), null, null, COURSE_ID, null))
+				.thenReturn(version);
+
+			SessionCalendarVersion result = adapter.findCalendarVersion(
+				YearMonth.of(2025, 1), null, null, COURSE_ID, null);
+
+			assertThat(result).isEqualTo(version);
+		}
 	}
 
 	@Nested
@@ -372,4 +429,53 @@ class SessionQueryAdapterTest {
 			assertThat(result.get(SESSION_ID).sessionTitle()).isEqualTo(TITLE);
 		}
 	}
+
+	@Nested
+	@DisplayName("SessionCheckInInfo 조회 메서드")
+	class SessionCheckInInfoQueryTests {
+
+		@Test
+		@DisplayName("[Success] findCheckInInfo로 세션 애그리거트 없이 출석용 세션 정보를 조회한다")
+		void test01() {
+			SessionCheckInInfo checkInInfo = new SessionCheckInInfo(SESSION_ID, null, COURSE_ID, CURRICULUM_ID, TITLE,
+				SCHEDULED_AT, SCHEDULED_END_AT, true);
+			when(jpaRepository.findCheckInInfo(SESSION_ID, MEMBER_ID)).thenReturn(Optional.of(checkInInfo));
+
+			Optional<SessionCheckInInfo> result = adapter.findCheckInInfo(SESSION_ID, MEMBER_ID);
+
+			assertThat(result).isPresent();
+			assertThat(result.get().participant()).isTrue();
+			assertThat(result.get().isRootSession()).isTrue();
+			verify(jpaRepository, never()).findById(any());
+		}
+
+		@Test
+		@DisplayName("[Success] 존재하지 않는 세션이면 empty 반환")
+		void test02() {
+			when(jpaRepository.findCheckInInfo(SESSION_ID, MEMBER_ID)).thenReturn(Optional.empty());
+
+			Optional<SessionCheckInInfo> result = adapter.findCheckInInfo(SESSION_ID, MEMBER_ID);
+
+			assertThat(result).isEmpty();
+		}
+
+		@Test
+		@DisplayName("[Success] findParticipantMemberIds로 참여자인 회원 ID만 조회한다")
+		void test03() {
+			when(jpaRepository.findParticipantMemberIds(SESSION_ID, List.of(1L, 2L, 3L))).thenReturn(List.of(1L, 3L));
+
+			Set<Long> result = adapter.findParticipantMemberIds(SESSION_ID, List.of(1L, 2L, 3L));
+
+			assertThat(result).containsExactlyInAnyOrder(1L, 3L);
+		}
+
+		@Test
+		@DisplayName("[Success] 빈 회원 목록이면 조회하지 않고 빈 집합 반환")
+		void test04() {
+			Set<Long> result = adapter.findParticipantMemberIds(SESSION_ID, List.of());
+
+			assertThat(result).isEmpty();
+			verify(jpaRepository, never()).findParticipantMemberIds(any(), any());
+		}
+	}
 }
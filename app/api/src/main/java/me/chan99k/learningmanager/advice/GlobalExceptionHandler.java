@@ -1,6 +1,7 @@
 package me.chan99k.learningmanager.advice;
 
 import java.net.URI;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.http.HttpHeaders;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import me.chan99k.learningmanager.authentication.AuthProblemCode;
+import me.chan99k.learningmanager.config.ExecutorSaturatedException;
 import me.chan99k.learningmanager.course.CourseProblemCode;
 import me.chan99k.learningmanager.exception.DomainException;
 import me.chan99k.learningmanager.exception.ProblemCode;
@@ -230,6 +232,35 @@ public class GlobalExceptionHandler {
 			.body(problemDetail);
 	}
 
+	/**
+	 * 비동기 실행기가 포화 상태라 작업을 받지 못한 경우를 처리한다.
+	 *
+	 * @param e 수락 제어로 거절된 ExecutorSaturatedException 또는 풀이 가득 차 발생한 RejectedExecutionException
+	 * @return 503 SERVICE_UNAVAILABLE, Retry-After 헤더 포함
+	 */
+	@ExceptionHandler(RejectedExecutionException.class)
+	public ResponseEntity<ProblemDetail> handleRejectedExecutionException(RejectedExecutionException e) {
+		long retryAfterSeconds = e instanceof ExecutorSaturatedException saturated
+			? saturated.getRetryAfterSeconds()
+			: 1;
+
+		ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+			HttpStatus.SERVICE_UNAVAILABLE,
+			"[System] 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."
+		);
+
+		problemDetail.setType(URI.create("https://api.lm.com/errors/service-unavailable"));
+		problemDetail.setTitle("Service Unavailable");
+		problemDetail.setProperty("code", "SERVICE_UNAVAILABLE");
+
+		HttpHeaders headers = createProblemJsonHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+			.headers(headers)
+			.body(problemDetail);
+	}
+
 	@ExceptionHandler(Exception.class)
 	public ResponseEntity<ProblemDetail> handleGeneralException(Exception e) {
 		ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
@@ -0,0 +1,39 @@
+package me.chan99k.learningmanager.config;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+
+/**
+ * 작업을 넘기기 전에 ExecutorSaturationMonitor 의 수락 제어를 거치는 실행기.
+ * 거절은 제출하는 스레드(요청 스레드)에서 즉시 일어나므로 큐에 들어간 작업은 버려지지 않는다.
+ */
+public class AdmissionControlledTaskExecutor implements AsyncTaskExecutor {
+
+	private final AsyncTaskExecutor delegate;
+	private final ExecutorSaturationMonitor monitor;
+
+	public AdmissionControlledTaskExecutor(AsyncTaskExecutor delegate, ExecutorSaturationMonitor monitor) {
+		this.delegate = delegate;
+		this.monitor = monitor;
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		monitor.admit();
+		delegate.execute(task);
+	}
+
+	@Override
+	public Future<?> submit(Runnable task) {
+		monitor.admit();
+		return delegate.submit(task);
+	}
+
+	@Override
+	public <T> Future<T> submit(Callable<T> task) {
+		monitor.admit();
+		return delegate.submit(task);
+	}
+}
@@ -7,17 +7,38 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 	private static final Logger log = LoggerFactory.getLogger(AsyncConfig.class);
 
+	private final AsyncExecutorProperties properties;
+	private final DownstreamConcurrencyLimiter concurrencyLimiter;
+	private final MeterRegistry meterRegistry;
+
+	public AsyncConfig(AsyncExecutorProperties properties, DownstreamConcurrencyLimiter concurrencyLimiter,
+		MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.concurrencyLimiter = concurrencyLimiter;
+		this.meterRegistry = meterRegistry;
+	}
+
 	@Bean(name = "memberTaskExecutor")
 	public AsyncTaskExecutor memberTaskExecutor() {
+		if (properties.useVirtualThreads("member")) {
+			return virtualThreadExecutor("memberTaskExecutor", "member-async-", DownstreamResource.MYSQL, true);
+		}
+
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
 		/* ============== 필수 스레드 풀 설정 ============== */
@@ -63,7 +84,10 @@ public class AsyncConfig {
 		// 2. AbortPolicy: RejectedExecutionException 예외 발생 (기본값)
 		// 3. DiscardPolicy: 조용히 무시하고 버림
 		// 4. DiscardOldestPolicy: 큐에서 가장 오래된 작업 제거 후 새 작업 추가
-		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		// 수락 제어(async.admission)를 켜면 요청 스레드에서 실행하는 대신 503 으로 돌려보내도록 AbortPolicy 를 쓴다
+		executor.setRejectedExecutionHandler(properties.getAdmission().isEnabled()
+			? new ThreadPoolExecutor.AbortPolicy()
+			: new ThreadPoolExecutor.CallerRunsPolicy());
 
 		/* ============== 애플리케이션 종료 관련 설정  ============== */
 
@@ -85,7 +109,7 @@ public class AsyncConfig {
 		// Spring Boot Actuator와 함께 사용하면 /actuator/metrics에서 확인 가능
 		executor.setBeanName("memberTaskExecutor");
 
-		executor.initialize();
+		ExecutorSaturationMonitor monitor = initializeWithMonitoring(executor, "memberTaskExecutor");
 
 		log.info(
 			"[System] Member Task Executor initialized - Core: {}, Max: {}, Queue: {}, KeepAlive: {}s, Priority: {}, Daemon: {}",
@@ -97,94 +121,149 @@ public class AsyncConfig {
 			executor.isDaemon()
 		);
 
-		return new DelegatingSecurityContextAsyncTaskExecutor(executor);
+		return new DelegatingSecurityContextAsyncTaskExecutor(new AdmissionControlledTaskExecutor(executor, monitor));
 	}
 
-	@Bean(name = "emailTaskExecutor")
-	public AsyncTaskExecutor emailTaskExecutor() {
+	@Bean(name = "courseTaskExecutor")
+	public AsyncTaskExecutor courseTaskExecutor() {
+		if (properties.useVirtualThreads("course")) {
+			return virtualThreadExecutor("courseTaskExecutor", "course-async-", DownstreamResource.MYSQL, true);
+		}
+
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
-		executor.setCorePoolSize(2);
-		executor.setMaxPoolSize(5);
+		executor.setCorePoolSize(5);
+		executor.setMaxPoolSize(20);
 		executor.setQueueCapacity(20);
-		executor.setThreadNamePrefix("email-async-");
+		executor.setThreadNamePrefix("course-async-");
 		executor.setWaitForTasksToCompleteOnShutdown(true);
 		executor.setAwaitTerminationSeconds(30);
 		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
 
-		// 이메일 스레드는 낮은 우선순위로 설정 (다른 비즈니스 로직보다 후순위)
-		executor.setThreadPriority(Thread.NORM_PRIORITY - 1);
-
 		executor.setAllowCoreThreadTimeOut(true);
 		executor.setKeepAliveSeconds(120);
-		executor.setBeanName("emailTaskExecutor");
-		executor.initialize();
+		executor.setBeanName("courseTaskExecutor");
+		ExecutorSaturationMonitor monitor = initializeWithMonitoring(executor, "courseTaskExecutor");
 
 		log.info(
-			"[System] Email Task Executor initialized - Core: {}, Max: {}, Queue: {}, Priority: {}, KeepAlive: {}s",
+			"[System] Course Task Executor initialized - Core: {}, Max: {}, Queue: {}, Priority: {}, KeepAlive: {}s",
 			executor.getCorePoolSize(),
 			executor.getMaxPoolSize(),
 			executor.getQueueCapacity(),
 			executor.getThreadPriority(),
 			executor.getKeepAliveSeconds());
 
-		return new DelegatingSecurityContextAsyncTaskExecutor(executor);
+		return new DelegatingSecurityContextAsyncTaskExecutor(new AdmissionControlledTaskExecutor(executor, monitor));
 	}
 
-	@Bean(name = "courseTaskExecutor")
-	public AsyncTaskExecutor courseTaskExecutor() {
+	@Bean(name = "sessionTaskExecutor")
+	public AsyncTaskExecutor sessionTaskExecutor() {
+		if (properties.useVirtualThreads("session")) {
+			return virtualThreadExecutor("sessionTaskExecutor", "session-async-", DownstreamResource.MYSQL, true);
+		}
+
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
 		executor.setCorePoolSize(5);
 		executor.setMaxPoolSize(20);
 		executor.setQueueCapacity(20);
-		executor.setThreadNamePrefix("course-async-");
+		executor.setThreadNamePrefix("session-async-");
 		executor.setWaitForTasksToCompleteOnShutdown(true);
 		executor.setAwaitTerminationSeconds(30);
 		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
 
 		executor.setAllowCoreThreadTimeOut(true);
 		executor.setKeepAliveSeconds(120);
-		executor.setBeanName("courseTaskExecutor");
-		executor.initialize();
+		executor.setBeanName("sessionTaskExecutor");
+		ExecutorSaturationMonitor monitor = initializeWithMonitoring(executor, "sessionTaskExecutor");
 
 		log.info(
-			"[System] Course Task Executor initialized - Core: {}, Max: {}, Queue: {}, Priority: {}, KeepAlive: {}s",
+			"[System] Session Task Executor initialized - Core: {}, Max: {}, Queue: {}, Priority: {}, KeepAlive: {}s",
 			executor.getCorePoolSize(),
 			executor.getMaxPoolSize(),
 			executor.getQueueCapacity(),
 			executor.getThreadPriority(),
 			executor.getKeepAliveSeconds());
 
-		return new DelegatingSecurityContextAsyncTaskExecutor(executor);
+		return new DelegatingSecurityContextAsyncTaskExecutor(new AdmissionControlledTaskExecutor(executor, monitor));
 	}
 
-	@Bean(name = "sessionTaskExecutor")
-	public AsyncTaskExecutor sessionTaskExecutor() {
+	/**
+	 * 과정 출석 현황처럼 독립적인 조회 여러 개를 동시에 실행하는 데 쓰는 실행기.
+	 * 가득 차면 호출한 스레드에서 바로 실행하므로 동시성만 줄고 요청은 실패하지 않는다.
+	 */
+	@Bean(name = "attendanceQueryExecutor")
+	public AsyncTaskExecutor attendanceQueryExecutor() {
+		if (properties.useVirtualThreads("attendanceQuery")) {
+			// 네 조회 중 세 개가 MySQL 이므로 MySQL 허가로 제한한다
+			return virtualThreadExecutor("attendanceQueryExecutor", "attendance-query-", DownstreamResource.MYSQL,
+				false);
+		}
+
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
-		executor.setCorePoolSize(5);
-		executor.setMaxPoolSize(20);
-		executor.setQueueCapacity(20);
-		executor.setThreadNamePrefix("session-async-");
+		executor.setCorePoolSize(8);
+		executor.setMaxPoolSize(16);
+		executor.setQueueCapacity(100);
+		executor.setThreadNamePrefix("attendance-query-");
 		executor.setWaitForTasksToCompleteOnShutdown(true);
 		executor.setAwaitTerminationSeconds(30);
-		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
 
 		executor.setAllowCoreThreadTimeOut(true);
 		executor.setKeepAliveSeconds(120);
-		executor.setBeanName("sessionTaskExecutor");
-		executor.initialize();
+		executor.setBeanName("attendanceQueryExecutor");
+		initializeWithMonitoring(executor, "attendanceQueryExecutor");
 
 		log.info(
-			"[System] Session Task Executor initialized - Core: {}, Max: {}, Queue: {}, Priority: {}, KeepAlive: {}s",
+			"[System] Attendance Query Executor initialized - Core: {}, Max: {}, Queue: {}, KeepAlive: {}s",
 			executor.getCorePoolSize(),
 			executor.getMaxPoolSize(),
 			executor.getQueueCapacity(),
-			executor.getThreadPriority(),
 			executor.getKeepAliveSeconds());
 
 		return new DelegatingSecurityContextAsyncTaskExecutor(executor);
 	}
 
+	/**
+	 * 작업 대기/실행 시간을 기록하도록 설정한 뒤 풀을 초기화하고, 풀 상태(활성 스레드, 큐 길이, 완료 수)와
+	 * 거절 수를 Micrometer 에 등록한다.
+	 */
+	private ExecutorSaturationMonitor initializeWithMonitoring(ThreadPoolTaskExecutor executor, String beanName) {
+		ExecutorSaturationMonitor monitor = new ExecutorSaturationMonitor(
+			beanName, executor.getQueueCapacity(), properties.getAdmission(), meterRegistry);
+		executor.setTaskDecorator(monitor.decorator());
+		executor.initialize();
+
+		ThreadPoolExecutor threadPoolExecutor = executor.getThreadPoolExecutor();
+		threadPoolExecutor.setRejectedExecutionHandler(
+			monitor.countingRejections(threadPoolExecutor.getRejectedExecutionHandler()));
+		new ExecutorServiceMetrics(threadPoolExecutor, beanName, Tags.empty()).bindTo(meterRegistry);
+		return monitor;
+	}
+
+	/**
+	 * 작업마다 가상 스레드를 만드는 실행기. 풀 크기와 큐가 없어 요청이 몰려도 거부하지 않으며,
+	 * 동시 실행 수는 작업이 사용하는 하위 자원의 허가 수로 제한된다.
+	 */
+	private AsyncTaskExecutor virtualThreadExecutor(String beanName, String threadNamePrefix,
+		DownstreamResource resource, boolean admissionControlled) {
+		ExecutorSaturationMonitor monitor = new ExecutorSaturationMonitor(
+			beanName, 0, properties.getAdmission(), meterRegistry);
+		TaskDecorator limiting = concurrencyLimiter.decorator(resource);
+		TaskDecorator monitoring = monitor.decorator();
+
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+		executor.setVirtualThreads(true);
+		// 대기 시간에 자원 허가를 기다린 시간까지 포함되도록 측정을 안쪽에 둔다
+		executor.setTaskDecorator(task -> limiting.decorate(monitoring.decorate(task)));
+		// 종료 시 진행 중인 작업을 기다리는 시간(ms)
+		executor.setTaskTerminationTimeout(30_000);
+
+		log.info("[System] {} initialized - VirtualThreads: true, Resource: {}, Permits: {}",
+			beanName, resource, concurrencyLimiter.availablePermits(resource));
+
+		AsyncTaskExecutor target = admissionControlled ? new AdmissionControlledTaskExecutor(executor, monitor) : executor;
+		return new DelegatingSecurityContextAsyncTaskExecutor(target);
+	}
 }
@@ -0,0 +1,127 @@
+package me.chan99k.learningmanager.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이름 있는 비동기 실행기(member, course, session, attendanceQuery)의 실행 모델 설정.
+ * <p>
+ * virtual-threads 가 전체 기본값이고, executors.&lt;이름&gt;.virtual-threads 로 실행기별로 덮어쓸 수 있다.
+ * 가상 스레드 실행기는 스레드 풀 크기 대신 limits 의 자원별 한도로 동시 실행 수를 제한한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "async")
+public class AsyncExecutorProperties {
+
+	private boolean virtualThreads = false;
+	private Map<String, Executor> executors = new HashMap<>();
+	private Limits limits = new Limits();
+	private Admission admission = new Admission();
+
+	public boolean useVirtualThreads(String executorName) {
+		Executor executor = executors.get(executorName);
+		if (executor == null || executor.getVirtualThreads() == null) {
+			return virtualThreads;
+		}
+		return executor.getVirtualThreads();
+	}
+
+	public boolean isVirtualThreads() {
+		return virtualThreads;
+	}
+
+	public void setVirtualThreads(boolean virtualThreads) {
+		this.virtualThreads = virtualThreads;
+	}
+
+	public Map<String, Executor> getExecutors() {
+		return executors;
+	}
+
+	public void setExecutors(Map<String, Executor> executors) {
+		this.executors = executors;
+	}
+
+	public Limits getLimits() {
+		return limits;
+	}
+
+	public void setLimits(Limits limits) {
+		this.limits = limits;
+	}
+
+	public Admission getAdmission() {
+		return admission;
+	}
+
+	public void setAdmission(Admission admission) {
+		this.admission = admission;
+	}
+
+	public static class Executor {
+
+		private Boolean virtualThreads;
+
+		public Boolean getVirtualThreads() {
+			return virtualThreads;
+		}
+
+		public void setVirtualThreads(Boolean virtualThreads) {
+			this.virtualThreads = virtualThreads;
+		}
+	}
+
+	/**
+	 * 하위 자원별 동시 작업 수. 각 자원의 연결 풀 크기에 맞춘다.
+	 */
+	public static class Limits {
+
+		private int mysql = 10;
+
+		public int getMysql() {
+			return mysql;
+		}
+
+		public void setMysql(int mysql) {
+			this.mysql = mysql;
+		}
+	}
+
+	/**
+	 * 요청을 처리하는 실행기(member, course, session)의 적응형 수락 제어.
+	 * 큐가 queue-threshold 비율만큼 찼거나 평활 대기 시간이 target-wait-millis 를 넘으면 503 으로 거절한다.
+	 */
+	public static class Admission {
+
+		private boolean enabled = false;
+		private double queueThreshold = 0.8;
+		private long targetWaitMillis = 200;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public double getQueueThreshold() {
+			return queueThreshold;
+		}
+
+		public void setQueueThreshold(double queueThreshold) {
+			this.queueThreshold = queueThreshold;
+		}
+
+		public long getTargetWaitMillis() {
+			return targetWaitMillis;
+		}
+
+		public void setTargetWaitMillis(long targetWaitMillis) {
+			this.targetWaitMillis = targetWaitMillis;
+		}
+	}
+}
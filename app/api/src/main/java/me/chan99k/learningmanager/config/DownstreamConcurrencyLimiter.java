@@ -0,0 +1,48 @@
+package me.chan99k.learningmanager.config;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 하위 자원별 세마포어로 가상 스레드 작업의 동시 실행 수를 제한한다.
+ * <p>
+ * 가상 스레드 실행기는 작업마다 스레드를 만들기 때문에 요청이 몰려도 거부하지 않는 대신, 연결 풀보다 많은 작업이
+ * 동시에 풀을 두드리지 않도록 여기서 줄을 세운다. 같은 자원을 쓰는 실행기들은 하나의 세마포어를 공유한다.
+ * 대기는 가상 스레드 안에서 일어나므로 요청 스레드나 캐리어 스레드를 붙잡지 않는다.
+ */
+@Component
+public class DownstreamConcurrencyLimiter {
+
+	private final Map<DownstreamResource, Semaphore> permits = new EnumMap<>(DownstreamResource.class);
+
+	public DownstreamConcurrencyLimiter(AsyncExecutorProperties properties) {
+		AsyncExecutorProperties.Limits limits = properties.getLimits();
+		permits.put(DownstreamResource.MYSQL, new Semaphore(limits.getMysql(), true));
+	}
+
+	/**
+	 * 작업이 실행되는 동안 자원 허가를 하나 점유하도록 감싼다.
+	 * <p>
+	 * 허가를 얻지 못한 채로 예외를 던지면 CompletableFuture 가 완료되지 않으므로, 인터럽트와 무관하게 허가를 기다린다.
+	 * 대기 시간의 상한은 점유 중인 작업들이 하위 자원의 타임아웃 안에 끝나는 것으로 보장된다.
+	 */
+	public TaskDecorator decorator(DownstreamResource resource) {
+		Semaphore semaphore = permits.get(resource);
+		return task -> () -> {
+			semaphore.acquireUninterruptibly();
+			try {
+				task.run();
+			} finally {
+				semaphore.release();
+			}
+		};
+	}
+
+	public int availablePermits(DownstreamResource resource) {
+		return permits.get(resource).availablePermits();
+	}
+}
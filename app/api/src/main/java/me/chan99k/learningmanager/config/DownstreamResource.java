@@ -0,0 +1,10 @@
+package me.chan99k.learningmanager.config;
+
+/**
+ * 비동기 작업이 기다리게 되는 하위 자원. 자원마다 연결 풀 크기만큼만 동시에 작업을 진행시킨다.
+ * MongoDB 는 주로 쓰는 실행기가 없고 드라이버 연결 풀이 대기열 역할을 하므로 따로 두지 않는다.
+ * 메일은 아웃박스 발송기와 PooledMailTransport 의 발송 스레드가 보내므로 SMTP 도 따로 두지 않는다.
+ */
+public enum DownstreamResource {
+	MYSQL
+}
@@ -0,0 +1,20 @@
+package me.chan99k.learningmanager.config;
+
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * 실행기가 포화 상태라 작업을 받지 않았음을 나타낸다. 클라이언트에는 503 과 Retry-After 로 전달된다.
+ */
+public class ExecutorSaturatedException extends TaskRejectedException {
+
+	private final long retryAfterSeconds;
+
+	public ExecutorSaturatedException(String executorName, long retryAfterSeconds) {
+		super("[System] " + executorName + " 이(가) 포화 상태라 작업을 받을 수 없습니다.");
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
@@ -0,0 +1,175 @@
+package me.chan99k.learningmanager.config;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.core.task.TaskDecorator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 이름 있는 비동기 실행기 하나의 포화 상태를 측정하고, 적응형 수락 제어(admission control)를 판단한다.
+ * <p>
+ * 작업마다 제출부터 시작까지의 대기 시간과 실행 시간을 따로 기록한다. 대기 시간은 지수 평활해 두고,
+ * 큐가 임계치 이상 찼거나 평활 대기 시간이 목표를 넘으면 큐가 가득 차기 전에 새 작업을 거절한다.
+ */
+public class ExecutorSaturationMonitor {
+
+	private static final String METRIC_PREFIX = "lm.executor";
+	private static final double WAIT_SMOOTHING_FACTOR = 0.2;
+	private static final long MAX_RETRY_AFTER_SECONDS = 30;
+
+	private final String name;
+	private final int queueCapacity;
+	private final AsyncExecutorProperties.Admission admission;
+
+	private final AtomicInteger waiting = new AtomicInteger();
+	private final AtomicInteger running = new AtomicInteger();
+	// 여러 스레드가 경쟁적으로 갱신하지만 추세만 보면 되므로 유실된 갱신은 무시한다
+	private volatile double smoothedWaitMillis;
+
+	private final Timer waitTimer;
+	private final Timer runTimer;
+	private final Counter shedCounter;
+	private final Counter overflowCounter;
+
+	/**
+	 * @param queueCapacity 대기 큐 용량, 큐가 없는 실행기(가상 스레드)는 0
+	 */
+	public ExecutorSaturationMonitor(String name, int queueCapacity, AsyncExecutorProperties.Admission admission,
+		MeterRegistry meterRegistry) {
+		this.name = name;
+		this.queueCapacity = queueCapacity;
+		this.admission = admission;
+
+		this.waitTimer = Timer.builder(METRIC_PREFIX + ".task.wait")
+			.tag("name", name)
+			.description("작업이 제출된 뒤 실행을 시작하기까지의 대기 시간")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		this.runTimer = Timer.builder(METRIC_PREFIX + ".task.run")
+			.tag("name", name)
+			.description("작업 실행 시간")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		this.shedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+			.tag("name", name)
+			.tag("reason", "shed")
+			.description("실행기가 거절한 작업 수")
+			.register(meterRegistry);
+		this.overflowCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+			.tag("name", name)
+			.tag("reason", "overflow")
+			.description("실행기가 거절한 작업 수")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".tasks.waiting", waiting, AtomicInteger::get)
+			.tag("name", name)
+			.description("제출되었지만 아직 시작하지 않은 작업 수")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".tasks.running", running, AtomicInteger::get)
+			.tag("name", name)
+			.description("실행 중인 작업 수")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".task.wait.smoothed", this, monitor -> monitor.smoothedWaitMillis)
+			.tag("name", name)
+			.baseUnit("milliseconds")
+			.description("수락 제어에 쓰는 평활 대기 시간")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 제출 시점에 호출되어 대기/실행 시간을 기록하는 작업으로 감싼다.
+	 */
+	public TaskDecorator decorator() {
+		return MonitoredTask::new;
+	}
+
+	/**
+	 * 풀이 가득 차 거절한 작업을 세고, 대기 중 작업 수에서 뺀 뒤 원래 정책에 넘긴다.
+	 */
+	public RejectedExecutionHandler countingRejections(RejectedExecutionHandler delegate) {
+		return (task, executor) -> {
+			overflowCounter.increment();
+			try {
+				delegate.rejectedExecution(task, executor);
+			} finally {
+				if (task instanceof MonitoredTask monitored) {
+					monitored.leaveQueue();
+				}
+			}
+		};
+	}
+
+	/**
+	 * 수락 제어가 켜져 있고 실행기가 포화 상태면 작업을 제출하기 전에 거절한다.
+	 *
+	 * @throws ExecutorSaturatedException 큐가 임계치 이상 찼거나 대기 시간이 목표를 넘은 경우
+	 */
+	public void admit() {
+		if (!admission.isEnabled()) {
+			return;
+		}
+
+		int queued = waiting.get();
+		boolean queueFilling = queueCapacity > 0 && queued >= queueCapacity * admission.getQueueThreshold();
+		// 큐가 비면 이전 평활 값과 무관하게 다시 받아들인다
+		boolean waitingTooLong = queued > 0 && smoothedWaitMillis > admission.getTargetWaitMillis();
+
+		if (queueFilling || waitingTooLong) {
+			shedCounter.increment();
+			throw new ExecutorSaturatedException(name, retryAfterSeconds());
+		}
+	}
+
+	/**
+	 * 지금 쌓인 작업이 빠지는 데 걸릴 시간을 평활 대기 시간으로 어림한다.
+	 */
+	private long retryAfterSeconds() {
+		long seconds = (long)Math.ceil(smoothedWaitMillis / 1000.0);
+		return Math.max(1, Math.min(MAX_RETRY_AFTER_SECONDS, seconds));
+	}
+
+	private void recordWait(long waitNanos) {
+		waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+		double waitMillis = waitNanos / 1_000_000.0;
+		smoothedWaitMillis += WAIT_SMOOTHING_FACTOR * (waitMillis - smoothedWaitMillis);
+	}
+
+	private final class MonitoredTask implements Runnable {
+
+		private final Runnable task;
+		private final long submittedAt = System.nanoTime();
+		private final AtomicBoolean queued = new AtomicBoolean(true);
+
+		private MonitoredTask(Runnable task) {
+			this.task = task;
+			waiting.incrementAndGet();
+		}
+
+		@Override
+		public void run() {
+			leaveQueue();
+			recordWait(System.nanoTime() - submittedAt);
+
+			running.incrementAndGet();
+			long startedAt = System.nanoTime();
+			try {
+				task.run();
+			} finally {
+				runTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+				running.decrementAndGet();
+			}
+		}
+
+		private void leaveQueue() {
+			if (queued.compareAndSet(true, false)) {
+				waiting.decrementAndGet();
+			}
+		}
+	}
+}
@@ -0,0 +1,262 @@
+package me.chan99k.learningmanager.controller.attendance;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import me.chan99k.learningmanager.attendance.AttendanceBatchCheckIn;
+import me.chan99k.learningmanager.attendance.AttendanceCheckIn;
+import me.chan99k.learningmanager.attendance.AttendanceProblemCode;
+import me.chan99k.learningmanager.attendance.QRCodeGenerator;
+import me.chan99k.learningmanager.exception.DomainException;
+
+/**
+ * 대량 QR 체크인 요청을 세션별로 짧게 모아 한 번에 처리하는 수집 단계.
+ * <p>
+ * 같은 세션의 요청은 window-millis 동안(또는 max-size 에 도달할 때까지) 모은 뒤,
+ * QR 토큰은 서로 다른 토큰마다 한 번만 검증하고 참여자 검증과 저장은 AttendanceBatchCheckIn 으로 한 번에 수행한다.
+ * 각 요청의 응답은 배치 결과에서 꺼내 완료한다. 비활성화하면 요청마다 바로 AttendanceCheckIn 을 호출한다.
+ * <p>
+ * 대기 시간 타이머는 단일 스레드 스케줄러에서만 돌고, 저장소를 호출하는 flush 는 크기가 제한된 별도 실행기에서 수행한다.
+ * flush 가 느려져도 다른 세션의 타이머가 밀리지 않으며, 실행기 대기열이 가득 차면 해당 배치의 요청을
+ * RejectedExecutionException 으로 완료한다.
+ */
+@Component
+public class AttendanceCheckInBatcher implements DisposableBean {
+
+	private static final Logger log = LoggerFactory.getLogger(AttendanceCheckInBatcher.class);
+	private static final String METRIC_PREFIX = "lm.attendance.check-in.batch";
+
+	private final AttendanceCheckIn attendanceCheckIn;
+	private final AttendanceBatchCheckIn attendanceBatchCheckIn;
+	private final QRCodeGenerator qrCodeGenerator;
+	private final boolean enabled;
+	private final long windowMillis;
+	private final int maxSize;
+	private final ScheduledExecutorService windowTimer;
+	private final ExecutorService flushExecutor;
+	private final Map<Long, PendingBatch> pendingBatches = new ConcurrentHashMap<>();
+
+	private final DistributionSummary batchSize;
+	private final Timer flushLatency;
+
+	public AttendanceCheckInBatcher(
+		AttendanceCheckIn attendanceCheckIn,
+		AttendanceBatchCheckIn attendanceBatchCheckIn,
+		QRCodeGenerator qrCodeGenerator,
+		MeterRegistry meterRegistry,
+		@Value("${attendance.check-in.batch.enabled:false}") boolean enabled,
+		@Value("${attendance.check-in.batch.window-millis:5}") long windowMillis,
+		@Value("${attendance.check-in.batch.max-size:200}") int maxSize,
+		@Value("${attendance.check-in.batch.flush-threads:2}") int flushThreads,
+		@Value("${attendance.check-in.batch.flush-queue-capacity:64}") int flushQueueCapacity
+	) {
+		this.attendanceCheckIn = attendanceCheckIn;
+		this.attendanceBatchCheckIn = attendanceBatchCheckIn;
+		this.qrCodeGenerator = qrCodeGenerator;
+		this.enabled = enabled;
+		this.windowMillis = windowMillis;
+		this.maxSize = maxSize;
+		this.windowTimer = Executors.newSingleThreadScheduledExecutor(new BatchThreadFactory("attendance-batch-timer-"));
+		this.flushExecutor = new ThreadPoolExecutor(flushThreads, flushThreads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(flushQueueCapacity), new BatchThreadFactory("attendance-batch-flush-"),
+			new ThreadPoolExecutor.AbortPolicy());
+
+		this.batchSize = DistributionSummary.builder(METRIC_PREFIX + ".size")
+			.description("한 번에 처리한 체크인 요청 수")
+			.register(meterRegistry);
+		this.flushLatency = Timer.builder(METRIC_PREFIX + ".flush")
+			.description("체크인 배치 한 건의 검증 및 저장 시간")
+			.register(meterRegistry);
+	}
+
+	public CompletableFuture<AttendanceCheckIn.Response> submit(Long memberId, Long sessionId, String token) {
+		if (!enabled) {
+			validateQrCode(token, sessionId);
+			return CompletableFuture.completedFuture(
+				attendanceCheckIn.checkIn(memberId, new AttendanceCheckIn.Request(sessionId)));
+		}
+
+		PendingCheckIn request = new PendingCheckIn(memberId, token, new CompletableFuture<>());
+		PendingBatch[] filled = new PendingBatch[1];
+
+		pendingBatches.compute(sessionId, (id, batch) -> {
+			PendingBatch target = batch;
+			if (target == null) {
+				PendingBatch created = new PendingBatch();
+				windowTimer.schedule(() -> flushIfPending(id, created), windowMillis, TimeUnit.MILLISECONDS);
+				target = created;
+			}
+
+			target.requests().add(request);
+			if (target.requests().size() >= maxSize) {
+				filled[0] = target;
+				return null; // 가득 찬 배치는 맵에서 떼어내 즉시 처리하고, 이후 요청은 새 배치로 모은다
+			}
+			return target;
+		});
+
+		if (filled[0] != null) {
+			dispatch(sessionId, filled[0]);
+		}
+		return request.future();
+	}
+
+	@Override
+	public void destroy() throws InterruptedException {
+		// 예약된 타이머는 종료 후에도 실행되므로(기본 정책) 대기 중인 배치를 모두 flush 실행기에 넘긴 뒤 종료된다
+		windowTimer.shutdown();
+		if (!windowTimer.awaitTermination(5, TimeUnit.SECONDS)) {
+			log.warn("[System] 체크인 배치 타이머가 제한 시간 내에 종료되지 않았습니다.");
+			windowTimer.shutdownNow();
+		}
+		flushExecutor.shutdown();
+		if (!flushExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+			log.warn("[System] 체크인 배치 실행기가 제한 시간 내에 종료되지 않았습니다.");
+			flushExecutor.shutdownNow();
+		}
+	}
+
+	private void flushIfPending(Long sessionId, PendingBatch batch) {
+		// 크기 제한으로 이미 처리된 배치라면 맵에서 제거되지 않으므로 건너뛴다
+		if (pendingBatches.remove(sessionId, batch)) {
+			dispatch(sessionId, batch);
+		}
+	}
+
+	private void dispatch(Long sessionId, PendingBatch batch) {
+		try {
+			flushExecutor.execute(() -> flush(sessionId, batch));
+		} catch (RejectedExecutionException e) {
+			log.warn("[System] 체크인 배치 실행기가 가득 차 배치를 거부합니다: sessionId={}, size={}",
+				sessionId, batch.requests().size());
+			batch.requests().forEach(request -> request.future().completeExceptionally(e));
+		}
+	}
+
+	private void flush(Long sessionId, PendingBatch batch) {
+		long startedAt = System.nanoTime();
+		List<PendingCheckIn> requests = batch.requests();
+		batchSize.record(requests.size());
+
+		try {
+			List<PendingCheckIn> validRequests = rejectInvalidTokens(sessionId, requests);
+			if (validRequests.isEmpty()) {
+				return;
+			}
+
+			List<Long> memberIds = validRequests.stream()
+				.map(PendingCheckIn::memberId)
+				.distinct()
+				.toList();
+			Map<Long, AttendanceBatchCheckIn.Outcome> outcomes = attendanceBatchCheckIn.checkInAll(sessionId, memberIds);
+
+			complete(validRequests, outcomes);
+		} catch (RuntimeException e) {
+			log.error("[System] 체크인 배치 처리 실패: sessionId={}, size={}", sessionId, requests.size(), e);
+			requests.forEach(request -> request.future().completeExceptionally(e));
+		} finally {
+			flushLatency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * 한 세션의 요청은 대부분 같은 QR 토큰을 사용하므로, 토큰별로 한 번만 검증한다.
+	 */
+	private List<PendingCheckIn> rejectInvalidTokens(Long sessionId, List<PendingCheckIn> requests) {
+		Map<String, Boolean> validity = new HashMap<>();
+		List<PendingCheckIn> validRequests = new ArrayList<>(requests.size());
+
+		for (PendingCheckIn request : requests) {
+			boolean valid = validity.computeIfAbsent(request.token(),
+				token -> qrCodeGenerator.validateQrCode(token, sessionId));
+
+			if (valid) {
+				validRequests.add(request);
+			} else {
+				request.future().completeExceptionally(new DomainException(AttendanceProblemCode.INVALID_QR_TOKEN));
+			}
+		}
+		return validRequests;
+	}
+
+	private void complete(List<PendingCheckIn> requests, Map<Long, AttendanceBatchCheckIn.Outcome> outcomes) {
+		Set<Long> completedMembers = new HashSet<>();
+
+		for (PendingCheckIn request : requests) {
+			AttendanceBatchCheckIn.Outcome outcome = outcomes.get(request.memberId());
+
+			if (outcome == null) {
+				request.future().completeExceptionally(
+					new IllegalStateException("[System] 체크인 배치 결과가 누락되었습니다."));
+			} else if (!outcome.isSuccess()) {
+				request.future().completeExceptionally(outcome.failure());
+			} else if (completedMembers.add(request.memberId())) {
+				request.future().complete(outcome.response());
+			} else {
+				// 같은 배치 안에서 같은 회원이 여러 번 요청한 경우 첫 요청만 체크인으로 인정한다
+				request.future().completeExceptionally(
+					new IllegalStateException(AttendanceProblemCode.ALREADY_CHECKED_IN.getMessage()));
+			}
+		}
+	}
+
+	private void validateQrCode(String token, Long sessionId) {
+		if (!qrCodeGenerator.validateQrCode(token, sessionId)) {
+			throw new DomainException(AttendanceProblemCode.INVALID_QR_TOKEN);
+		}
+	}
+
+	private record PendingCheckIn(Long memberId, String token, CompletableFuture<AttendanceCheckIn.Response> future) {
+	}
+
+	/**
+	 * 맵에서 제거할 때 같은 배치인지 동일성으로 비교해야 하므로 record 대신 일반 클래스로 둔다.
+	 */
+	private static final class PendingBatch {
+		private final List<PendingCheckIn> requests = new ArrayList<>();
+
+		List<PendingCheckIn> requests() {
+			return requests;
+		}
+	}
+
+	private static final class BatchThreadFactory implements ThreadFactory {
+		private final String prefix;
+		private final AtomicInteger sequence = new AtomicInteger();
+
+		BatchThreadFactory(String prefix) {
+			this.prefix = prefix;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
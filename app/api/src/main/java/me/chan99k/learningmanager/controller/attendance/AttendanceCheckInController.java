@@ -1,5 +1,7 @@
 package me.chan99k.learningmanager.controller.attendance;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,9 +13,6 @@ import org.springframework.web.bind.annotation.RestController;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import me.chan99k.learningmanager.attendance.AttendanceCheckIn;
-import me.chan99k.learningmanager.attendance.AttendanceProblemCode;
-import me.chan99k.learningmanager.attendance.QRCodeGenerator;
-import me.chan99k.learningmanager.exception.DomainException;
 import me.chan99k.learningmanager.security.CustomUserDetails;
 
 @Tag(name = "Attendance", description = "출석 API")
@@ -21,33 +20,22 @@ import me.chan99k.learningmanager.security.CustomUserDetails;
 @RequestMapping("/api/v1/attendance")
 public class AttendanceCheckInController {
 
-	private final AttendanceCheckIn attendanceCheckInService;
-	private final QRCodeGenerator qrCodeGenerator;
+	private final AttendanceCheckInBatcher checkInBatcher;
 
-	public AttendanceCheckInController(AttendanceCheckIn attendanceCheckInService,
-		QRCodeGenerator qrCodeGenerator) {
-		this.attendanceCheckInService = attendanceCheckInService;
-		this.qrCodeGenerator = qrCodeGenerator;
+	public AttendanceCheckInController(AttendanceCheckInBatcher checkInBatcher) {
+		this.checkInBatcher = checkInBatcher;
 	}
 
 	@Operation(summary = "출석 체크인", description = "QR 코드 토큰을 사용하여 세션에 출석 체크인합니다.")
 	@PostMapping("/check-in/{token}")
-	public ResponseEntity<AttendanceCheckIn.Response> checkIn(
+	public CompletableFuture<ResponseEntity<AttendanceCheckIn.Response>> checkIn(
 		@AuthenticationPrincipal CustomUserDetails user,
 		@RequestBody AttendanceCheckIn.Request request,
 		@PathVariable String token
 	) {
-		validateQrCode(request.sessionId(), token);
-
-		var response = attendanceCheckInService.checkIn(user.getMemberId(), request);
-
-		return ResponseEntity.ok(response);
-	}
-
-	private void validateQrCode(Long sessionId, String verificationToken) {
-		if (!qrCodeGenerator.validateQrCode(verificationToken, sessionId)) {
-			throw new DomainException(AttendanceProblemCode.INVALID_QR_TOKEN);
-		}
+		// QR 토큰 검증과 체크인은 세션별 배치에서 한 번에 처리된다
+		return checkInBatcher.submit(user.getMemberId(), request.sessionId(), token)
+			.thenApply(ResponseEntity::ok);
 	}
 
 }
@@ -0,0 +1,115 @@
+package me.chan99k.learningmanager.controller.attendance;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import me.chan99k.learningmanager.attendance.CourseAttendanceRetrieval.ExportRow;
+
+/**
+ * 과정 출석 내보내기 행을 받는 즉시 CSV 또는 NDJSON 한 줄로 쓴다.
+ * 행을 모아 두지 않으므로 내보내는 인원이 늘어도 메모리 사용량은 일정하다.
+ */
+class AttendanceExportWriter implements Consumer<ExportRow> {
+
+	private static final String CSV_HEADER = String.join(",",
+		"memberId", "memberName", "attendanceId", "sessionId", "sessionTitle",
+		"scheduledAt", "finalStatus", "curriculumId", "curriculumTitle");
+	private static final String FORMULA_TRIGGERS = "=+-@\t\r";
+
+	private final Writer writer;
+	private final Format format;
+	private final ObjectMapper objectMapper;
+
+	AttendanceExportWriter(Writer writer, Format format, ObjectMapper objectMapper) {
+		this.writer = writer;
+		this.format = format;
+		this.objectMapper = objectMapper;
+	}
+
+	void writeHeader() throws IOException {
+		if (format == Format.CSV) {
+			writer.write(CSV_HEADER);
+			writer.write('\n');
+		}
+	}
+
+	@Override
+	public void accept(ExportRow row) {
+		try {
+			writer.write(format == Format.CSV ? toCsvLine(row) : objectMapper.writeValueAsString(row));
+			writer.write('\n');
+		} catch (IOException e) {
+			// 클라이언트가 연결을 끊은 경우 커서 순회를 멈추도록 그대로 전파한다
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private String toCsvLine(ExportRow row) {
+		return String.join(",", Arrays.stream(new Object[] {
+				row.memberId(), row.memberName(), row.attendanceId(), row.sessionId(), row.sessionTitle(),
+				row.scheduledAt(), row.finalStatus(), row.curriculumId(), row.curriculumTitle()})
+			.map(AttendanceExportWriter::toCsvField)
+			.toList());
+	}
+
+	/**
+	 * 회원 이름이나 세션 제목처럼 사용자가 입력한 문자열이 =, +, -, @, 탭, CR 로 시작하면 스프레드시트가 수식으로 실행하므로
+	 * 앞에 ' 를 붙여 일반 텍스트로 읽히게 한다.
+	 */
+	private static String toCsvField(Object value) {
+		if (value == null) {
+			return "";
+		}
+
+		String text = value.toString();
+		if (value instanceof String && startsWithFormulaTrigger(text)) {
+			text = "'" + text;
+		}
+		if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+			return "\"" + text.replace("\"", "\"\"") + "\"";
+		}
+		return text;
+	}
+
+	private static boolean startsWithFormulaTrigger(String text) {
+		return !text.isEmpty() && FORMULA_TRIGGERS.indexOf(text.charAt(0)) >= 0;
+	}
+
+	enum Format {
+		CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+		NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+		private final MediaType mediaType;
+		private final String extension;
+
+		Format(MediaType mediaType, String extension) {
+			this.mediaType = mediaType;
+			this.extension = extension;
+		}
+
+		static Format from(String value) {
+			try {
+				return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+			} catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException("[System] 지원하지 않는 내보내기 형식입니다: " + value);
+			}
+		}
+
+		MediaType mediaType() {
+			return mediaType;
+		}
+
+		String extension() {
+			return extension;
+		}
+	}
+}
@@ -1,7 +1,13 @@
 package me.chan99k.learningmanager.controller.attendance;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -10,6 +16,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -21,9 +30,11 @@ import me.chan99k.learningmanager.security.CustomUserDetails;
 @RequestMapping("/api/v1/courses/{courseId}/attendance")
 public class CourseAttendanceController {
 	private final CourseAttendanceRetrieval courseAttendanceRetrieval;
+	private final ObjectMapper objectMapper;
 
-	public CourseAttendanceController(CourseAttendanceRetrieval courseAttendanceRetrieval) {
+	public CourseAttendanceController(CourseAttendanceRetrieval courseAttendanceRetrieval, ObjectMapper objectMapper) {
 		this.courseAttendanceRetrieval = courseAttendanceRetrieval;
+		this.objectMapper = objectMapper;
 	}
 
 	@Operation(summary = "과정 전체 멤버 출석 현황 조회", description = "과정에 속한 모든 멤버의 출석 현황을 조회합니다.")
@@ -49,6 +60,44 @@ public class CourseAttendanceController {
 		return ResponseEntity.ok(response);
 	}
 
+	@Operation(summary = "과정 전체 멤버 출석 기록 내보내기",
+		description = "과정에 속한 모든 멤버의 출석 기록을 회원 순으로 CSV 또는 NDJSON 스트림으로 내보냅니다.")
+	@PreAuthorize("@courseSecurity.isManagerOrMentor(#courseId, #user.memberId)")
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> exportAllMembersAttendance(
+		@AuthenticationPrincipal CustomUserDetails user,
+		@PathVariable Long courseId,
+		@RequestParam(defaultValue = "csv") String format,
+		@RequestParam(required = false) Long curriculumId,
+		@RequestParam(required = false) Integer year,
+		@RequestParam(required = false) Integer month,
+		@RequestParam(required = false) Instant startDate,
+		@RequestParam(required = false) Instant endDate
+	) {
+		AttendanceExportWriter.Format exportFormat = AttendanceExportWriter.Format.from(format);
+		CourseAttendanceRetrieval.AllMembersRequest request =
+			new CourseAttendanceRetrieval.AllMembersRequest(
+				courseId, curriculumId, year, month, startDate, endDate
+			);
+		Long requestedBy = user.getMemberId();
+
+		StreamingResponseBody body = outputStream -> {
+			Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+			AttendanceExportWriter exportWriter = new AttendanceExportWriter(writer, exportFormat, objectMapper);
+			exportWriter.writeHeader();
+			courseAttendanceRetrieval.exportAllMembersAttendance(requestedBy, request, exportWriter);
+			writer.flush();
+		};
+
+		return ResponseEntity.ok()
+			.contentType(exportFormat.mediaType())
+			.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+				.filename("course-" + courseId + "-attendance." + exportFormat.extension())
+				.build()
+				.toString())
+			.body(body);
+	}
+
 	@Operation(summary = "특정 멤버 출석 현황 조회", description = "과정에 속한 특정 멤버의 출석 현황을 조회합니다.")
 	@PreAuthorize("@courseSecurity.isManagerOrMentor(#courseId, #user.memberId)")
 	@GetMapping("/members/{memberId}")
@@ -7,13 +7,16 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import me.chan99k.learningmanager.controller.session.SessionCalendarResponses;
 import me.chan99k.learningmanager.session.SessionListRetrieval;
 import me.chan99k.learningmanager.session.SessionLocation;
 import me.chan99k.learningmanager.session.SessionType;
@@ -37,16 +40,16 @@ public class CourseCalendarController {
 		@RequestParam int year,
 		@RequestParam int month,
 		@RequestParam(required = false) SessionType type,
-		@RequestParam(required = false) SessionLocation location
+		@RequestParam(required = false) SessionLocation location,
+		@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
 	) {
 		return CompletableFuture.supplyAsync(() -> {
 			YearMonth yearMonth = YearMonth.of(year, month);
 			var request = new SessionListRetrieval.SessionCalendarRequest(
 				type, location, courseId, null
 			);
-			Map<LocalDate, List<SessionListRetrieval.SessionCalendarResponse>> response =
-				sessionListRetrieval.getSessionCalendar(yearMonth, request);
-			return ResponseEntity.ok(response);
+			return SessionCalendarResponses.toResponse(
+				sessionListRetrieval.getSessionCalendarView(yearMonth, request), ifNoneMatch);
 		}, courseTaskExecutor);
 	}
 
@@ -58,16 +61,16 @@ public class CourseCalendarController {
 		@RequestParam int year,
 		@RequestParam int month,
 		@RequestParam(required = false) SessionType type,
-		@RequestParam(required = false) SessionLocation location
+		@RequestParam(required = false) SessionLocation location,
+		@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
 	) {
 		return CompletableFuture.supplyAsync(() -> {
 			YearMonth yearMonth = YearMonth.of(year, month);
 			var request = new SessionListRetrieval.SessionCalendarRequest(
 				type, location, courseId, curriculumId
 			);
-			Map<LocalDate, List<SessionListRetrieval.SessionCalendarResponse>> response =
-				sessionListRetrieval.getSessionCalendar(yearMonth, request);
-			return ResponseEntity.ok(response);
+			return SessionCalendarResponses.toResponse(
+				sessionListRetrieval.getSessionCalendarView(yearMonth, request), ifNoneMatch);
 		}, courseTaskExecutor);
 	}
-}
\ No newline at end of file
+}
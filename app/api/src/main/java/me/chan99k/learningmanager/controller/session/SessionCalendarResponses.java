@@ -0,0 +1,38 @@
+package me.chan99k.learningmanager.controller.session;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import me.chan99k.learningmanager.session.SessionListRetrieval;
+
+/**
+ * 세션 캘린더 조회 응답. 전체/과정/커리큘럼 캘린더가 같은 ETag 재검증 규칙을 따르도록 한곳에서 만든다.
+ */
+public final class SessionCalendarResponses {
+
+	private SessionCalendarResponses() {
+	}
+
+	/**
+	 * 클라이언트가 가진 ETag 와 같으면 본문 없이 304 로 응답한다. 캘린더는 세션 변경 시 바뀌므로 매번 재검증하게 한다.
+	 */
+	public static ResponseEntity<Map<LocalDate, List<SessionListRetrieval.SessionCalendarResponse>>> toResponse(
+		SessionListRetrieval.SessionCalendar calendar, String ifNoneMatch
+	) {
+		if (calendar.matches(ifNoneMatch)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+				.eTag(calendar.etag())
+				.cacheControl(CacheControl.noCache())
+				.build();
+		}
+		return ResponseEntity.ok()
+			.eTag(calendar.etag())
+			.cacheControl(CacheControl.noCache())
+			.body(calendar.days());
+	}
+}
@@ -8,6 +8,7 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -138,13 +140,18 @@ public class SessionController {
 		@RequestParam(required = false) SessionType type,
 		@RequestParam(required = false) SessionLocation location,
 		@RequestParam(required = false) Instant startDate,
-		@RequestParam(required = false) Instant endDate
+		@RequestParam(required = false) Instant endDate,
+		@RequestParam(defaultValue = "offset") String paging,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "false") boolean includeCount
 	) {
 		return CompletableFuture.supplyAsync(() -> {
 			var request = new SessionListRetrieval.SessionListRequest(page, size, sort, type, location, startDate,
 				endDate);
-			PageResult<SessionListRetrieval.SessionListResponse> response = sessionListRetrieval.getSessionList(
-				request);
+			var cursorRequest = toCursorRequest(paging, cursor, includeCount);
+			PageResult<SessionListRetrieval.SessionListResponse> response = cursorRequest == null
+				? sessionListRetrieval.getSessionList(request)
+				: sessionListRetrieval.getSessionList(request, cursorRequest);
 			return ResponseEntity.ok(response);
 		}, sessionTaskExecutor);
 	}
@@ -159,14 +166,19 @@ public class SessionController {
 		@RequestParam(required = false) SessionLocation location,
 		@RequestParam(required = false) Instant startDate,
 		@RequestParam(required = false) Instant endDate,
-		@RequestParam(defaultValue = "true") Boolean includeChildSessions
+		@RequestParam(defaultValue = "true") Boolean includeChildSessions,
+		@RequestParam(defaultValue = "offset") String paging,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "false") boolean includeCount
 	) {
 		return CompletableFuture.supplyAsync(() -> {
 			var request = new SessionListRetrieval.CourseSessionListRequest(
 				page, size, sort, type, location, startDate, endDate, includeChildSessions
 			);
-			PageResult<SessionListRetrieval.SessionListResponse> response =
-				sessionListRetrieval.getCourseSessionList(courseId, request);
+			var cursorRequest = toCursorRequest(paging, cursor, includeCount);
+			PageResult<SessionListRetrieval.SessionListResponse> response = cursorRequest == null
+				? sessionListRetrieval.getCourseSessionList(courseId, request)
+				: sessionListRetrieval.getCourseSessionList(courseId, request, cursorRequest);
 			return ResponseEntity.ok(response);
 		}, sessionTaskExecutor);
 	}
@@ -181,14 +193,19 @@ public class SessionController {
 		@RequestParam(required = false) SessionLocation location,
 		@RequestParam(required = false) Instant startDate,
 		@RequestParam(required = false) Instant endDate,
-		@RequestParam(defaultValue = "true") Boolean includeChildSessions
+		@RequestParam(defaultValue = "true") Boolean includeChildSessions,
+		@RequestParam(defaultValue = "offset") String paging,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "false") boolean includeCount
 	) {
 		return CompletableFuture.supplyAsync(() -> {
 			var request = new SessionListRetrieval.CurriculumSessionListRequest(
 				page, size, sort, type, location, startDate, endDate, includeChildSessions
 			);
-			PageResult<SessionListRetrieval.SessionListResponse> response =
-				sessionListRetrieval.getCurriculumSessionList(curriculumId, request);
+			var cursorRequest = toCursorRequest(paging, cursor, includeCount);
+			PageResult<SessionListRetrieval.SessionListResponse> response = cursorRequest == null
+				? sessionListRetrieval.getCurriculumSessionList(curriculumId, request)
+				: sessionListRetrieval.getCurriculumSessionList(curriculumId, request, cursorRequest);
 			return ResponseEntity.ok(response);
 		}, sessionTaskExecutor);
 	}
@@ -202,14 +219,19 @@ public class SessionController {
 		@RequestParam(required = false) SessionType type,
 		@RequestParam(required = false) SessionLocation location,
 		@RequestParam(required = false) Instant startDate,
-		@RequestParam(required = false) Instant endDate
+		@RequestParam(required = false) Instant endDate,
+		@RequestParam(defaultValue = "offset") String paging,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "false") boolean includeCount
 	) {
 		return CompletableFuture.supplyAsync(() -> {
 			var request = new SessionListRetrieval.UserSessionListRequest(
 				page, size, sort, type, location, startDate, endDate
 			);
-			PageResult<SessionListRetrieval.SessionListResponse> response =
-				sessionListRetrieval.getUserSessionList(memberId, request);
+			var cursorRequest = toCursorRequest(paging, cursor, includeCount);
+			PageResult<SessionListRetrieval.SessionListResponse> response = cursorRequest == null
+				? sessionListRetrieval.getUserSessionList(memberId, request)
+				: sessionListRetrieval.getUserSessionList(memberId, request, cursorRequest);
 			return ResponseEntity.ok(response);
 		}, sessionTaskExecutor);
 	}
@@ -221,16 +243,28 @@ public class SessionController {
 		@RequestParam(required = false) SessionType type,
 		@RequestParam(required = false) SessionLocation location,
 		@RequestParam(required = false) Long courseId,
-		@RequestParam(required = false) Long curriculumId
+		@RequestParam(required = false) Long curriculumId,
+		@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
 	) {
 		return CompletableFuture.supplyAsync(() -> {
 			YearMonth yearMonth = YearMonth.of(year, month);
 			var request = new SessionListRetrieval.SessionCalendarRequest(
 				type, location, courseId, curriculumId
 			);
-			Map<LocalDate, List<SessionListRetrieval.SessionCalendarResponse>> response =
-				sessionListRetrieval.getSessionCalendar(yearMonth, request);
-			return ResponseEntity.ok(response);
+			return SessionCalendarResponses.toResponse(
+				sessionListRetrieval.getSessionCalendarView(yearMonth, request), ifNoneMatch);
 		}, sessionTaskExecutor);
 	}
+
+	/**
+	 * paging=cursor 이거나 cursor 가 넘어오면 키셋 페이지네이션으로 조회하고, 아니면 기존 오프셋 조회를 유지한다.
+	 */
+	private static SessionListRetrieval.CursorRequest toCursorRequest(
+		String paging, String cursor, boolean includeCount
+	) {
+		if (cursor == null && !"cursor".equalsIgnoreCase(paging)) {
+			return null;
+		}
+		return new SessionListRetrieval.CursorRequest(cursor, includeCount);
+	}
 }
\ No newline at end of file
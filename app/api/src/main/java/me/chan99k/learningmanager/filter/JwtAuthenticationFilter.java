@@ -44,8 +44,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 		String token = resolveToken(request);
 
-		if (token != null && jwtProvider.isValid(token)) {
-			JwtProvider.Claims claims = jwtProvider.validateAndGetClaims(token);
+		JwtProvider.VerificationResult result = token != null ? jwtProvider.verify(token) : null;
+
+		if (result != null && result.isVerified()) {
+			JwtProvider.Claims claims = result.claims();
 
 			Set<SystemRole> roles = systemAuthorizationPort.getRoles(claims.memberId());
 
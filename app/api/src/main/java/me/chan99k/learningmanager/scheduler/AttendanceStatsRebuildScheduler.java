@@ -0,0 +1,42 @@
+package me.chan99k.learningmanager.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import me.chan99k.learningmanager.attendance.CourseAttendanceStatsRebuild;
+
+/**
+ * 조회 경로에서 재집계 대상으로 등록되거나 무효화된 과정의 출석 통계를 주기적으로 다시 집계한다.
+ * 한 번에 batch-size 개 과정만 처리하고, 남은 과정은 다음 주기로 넘긴다.
+ */
+@Component
+public class AttendanceStatsRebuildScheduler {
+
+	private static final Logger log = LoggerFactory.getLogger(AttendanceStatsRebuildScheduler.class);
+
+	private final CourseAttendanceStatsRebuild statsRebuild;
+	private final int batchSize;
+
+	public AttendanceStatsRebuildScheduler(
+		CourseAttendanceStatsRebuild statsRebuild,
+		@Value("${attendance.stats.rebuild.batch-size:20}") int batchSize
+	) {
+		this.statsRebuild = statsRebuild;
+		this.batchSize = batchSize;
+	}
+
+	@Scheduled(fixedDelayString = "${attendance.stats.rebuild.interval-millis:10000}")
+	public void rebuildPending() {
+		try {
+			int rebuilt = statsRebuild.rebuildPending(batchSize);
+			if (rebuilt > 0) {
+				log.info("[System] 과정 출석 통계 재집계 완료: {}개 과정", rebuilt);
+			}
+		} catch (RuntimeException e) {
+			log.error("[System] 과정 출석 통계 재집계 대상 조회 실패", e);
+		}
+	}
+}
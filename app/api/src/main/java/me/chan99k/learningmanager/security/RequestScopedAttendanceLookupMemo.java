@@ -0,0 +1,73 @@
+package me.chan99k.learningmanager.security;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import me.chan99k.learningmanager.attendance.Attendance;
+import me.chan99k.learningmanager.attendance.AttendanceLookupMemo;
+import me.chan99k.learningmanager.attendance.AttendanceQueryRepository;
+import me.chan99k.learningmanager.session.Session;
+import me.chan99k.learningmanager.session.SessionQueryRepository;
+
+/**
+ * 조회 결과를 현재 HTTP 요청의 속성(request attribute)에 보관하는 AttendanceLookupMemo 구현.
+ * <p>
+ * {@code @RequestScope} 빈과 달리 요청 컨텍스트가 없는 스레드에서도 예외 없이 저장소 조회로 동작한다.
+ */
+@Component
+public class RequestScopedAttendanceLookupMemo implements AttendanceLookupMemo {
+
+	private static final String ATTENDANCE_MEMO = RequestScopedAttendanceLookupMemo.class.getName() + ".attendance";
+	private static final String SESSION_MEMO = RequestScopedAttendanceLookupMemo.class.getName() + ".session";
+
+	private final AttendanceQueryRepository attendanceQueryRepository;
+	private final SessionQueryRepository sessionQueryRepository;
+
+	public RequestScopedAttendanceLookupMemo(
+		AttendanceQueryRepository attendanceQueryRepository,
+		SessionQueryRepository sessionQueryRepository
+	) {
+		this.attendanceQueryRepository = attendanceQueryRepository;
+		this.sessionQueryRepository = sessionQueryRepository;
+	}
+
+	@Override
+	public Optional<Attendance> findAttendanceById(String attendanceId) {
+		return memoize(ATTENDANCE_MEMO, attendanceId, attendanceQueryRepository::findById);
+	}
+
+	@Override
+	public Optional<Session> findSessionById(Long sessionId) {
+		return memoize(SESSION_MEMO, sessionId, sessionQueryRepository::findById);
+	}
+
+	private <K, V> Optional<V> memoize(String memoName, K id, Function<K, Optional<V>> loader) {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes == null) {
+			return loader.apply(id);
+		}
+
+		@SuppressWarnings("unchecked")
+		Map<K, Optional<V>> memo = (Map<K, Optional<V>>)attributes.getAttribute(memoName,
+			RequestAttributes.SCOPE_REQUEST);
+		if (memo == null) {
+			memo = new HashMap<>();
+			attributes.setAttribute(memoName, memo, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		Optional<V> cached = memo.get(id);
+		if (cached != null) {
+			return cached;
+		}
+
+		Optional<V> loaded = loader.apply(id);
+		memo.put(id, loaded);
+		return loaded;
+	}
+}
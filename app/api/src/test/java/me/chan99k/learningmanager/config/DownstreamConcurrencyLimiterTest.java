@@ -0,0 +1,86 @@
+package me.chan99k.learningmanager.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskDecorator;
+
+@DisplayName("DownstreamConcurrencyLimiter 테스트")
+class DownstreamConcurrencyLimiterTest {
+
+	private DownstreamConcurrencyLimiter limiter;
+
+	@BeforeEach
+	void setUp() {
+		AsyncExecutorProperties properties = new AsyncExecutorProperties();
+		properties.getLimits().setMysql(2);
+		limiter = new DownstreamConcurrencyLimiter(properties);
+	}
+
+	@Test
+	@DisplayName("[Success] 자원 한도를 넘는 작업은 허가가 반납될 때까지 기다린다")
+	void test01() throws Exception {
+		TaskDecorator decorator = limiter.decorator(DownstreamResource.MYSQL);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+
+		Runnable task = decorator.decorate(() -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				running.decrementAndGet();
+			}
+		});
+
+		Thread[] threads = new Thread[5];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = Thread.ofVirtual().start(task);
+		}
+		Thread.sleep(100);
+
+		assertThat(running).hasValue(2);
+		assertThat(limiter.availablePermits(DownstreamResource.MYSQL)).isZero();
+
+		release.countDown();
+		for (Thread thread : threads) {
+			thread.join(5_000);
+		}
+
+		assertThat(maxRunning).hasValue(2);
+		assertThat(limiter.availablePermits(DownstreamResource.MYSQL)).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("[Success] 작업이 예외로 끝나도 허가를 반납한다")
+	void test02() {
+		Runnable task = limiter.decorator(DownstreamResource.MYSQL).decorate(() -> {
+			throw new IllegalStateException("boom");
+		});
+
+		assertThatThrownBy(task::run).isInstanceOf(IllegalStateException.class);
+		assertThat(limiter.availablePermits(DownstreamResource.MYSQL)).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("[Success] 실행기별 설정이 없으면 전체 가상 스레드 설정을 따른다")
+	void test03() {
+		AsyncExecutorProperties properties = new AsyncExecutorProperties();
+		properties.setVirtualThreads(true);
+		AsyncExecutorProperties.Executor course = new AsyncExecutorProperties.Executor();
+		course.setVirtualThreads(false);
+		properties.getExecutors().put("course", course);
+
+		assertThat(properties.useVirtualThreads("session")).isTrue();
+		assertThat(properties.useVirtualThreads("course")).isFalse();
+	}
+}
@@ -0,0 +1,134 @@
+package me.chan99k.learningmanager.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("ExecutorSaturationMonitor 테스트")
+class ExecutorSaturationMonitorTest {
+
+	private static final String EXECUTOR_NAME = "sessionTaskExecutor";
+	private static final int QUEUE_CAPACITY = 10;
+
+	private SimpleMeterRegistry meterRegistry;
+	private AsyncExecutorProperties.Admission admission;
+	private ExecutorSaturationMonitor monitor;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		admission = new AsyncExecutorProperties.Admission();
+		admission.setEnabled(true);
+		admission.setQueueThreshold(0.5);
+		admission.setTargetWaitMillis(50);
+		monitor = new ExecutorSaturationMonitor(EXECUTOR_NAME, QUEUE_CAPACITY, admission, meterRegistry);
+	}
+
+	private double gauge(String name) {
+		return meterRegistry.get(name).tag("name", EXECUTOR_NAME).gauge().value();
+	}
+
+	private double rejected(String reason) {
+		return meterRegistry.get("lm.executor.rejected").tag("name", EXECUTOR_NAME).tag("reason", reason)
+			.counter().count();
+	}
+
+	@Test
+	@DisplayName("[Success] 작업의 대기 시간과 실행 시간을 따로 기록한다")
+	void test01() {
+		Runnable task = monitor.decorator().decorate(() -> {
+		});
+		assertThat(gauge("lm.executor.tasks.waiting")).isEqualTo(1.0);
+
+		task.run();
+
+		assertThat(gauge("lm.executor.tasks.waiting")).isZero();
+		assertThat(meterRegistry.get("lm.executor.task.wait").tag("name", EXECUTOR_NAME).timer().count())
+			.isEqualTo(1);
+		assertThat(meterRegistry.get("lm.executor.task.run").tag("name", EXECUTOR_NAME).timer().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("[Success] 큐가 임계치 미만이면 작업을 받는다")
+	void test02() {
+		for (int i = 0; i < 4; i++) {
+			monitor.decorator().decorate(() -> {
+			});
+		}
+
+		assertThatCode(() -> monitor.admit()).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("[Failure] 큐가 임계치만큼 차면 Retry-After 와 함께 거절한다")
+	void test03() {
+		for (int i = 0; i < 5; i++) {
+			monitor.decorator().decorate(() -> {
+			});
+		}
+
+		assertThatThrownBy(() -> monitor.admit())
+			.isInstanceOf(ExecutorSaturatedException.class)
+			.satisfies(e -> assertThat(((ExecutorSaturatedException)e).getRetryAfterSeconds()).isPositive());
+		assertThat(rejected("shed")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("[Failure] 대기 시간이 목표를 넘고 대기 중인 작업이 있으면 거절한다")
+	void test04() throws InterruptedException {
+		Runnable slowStarted = monitor.decorator().decorate(() -> {
+		});
+		Thread.sleep(400);
+		slowStarted.run();
+		monitor.decorator().decorate(() -> {
+		});
+
+		assertThatThrownBy(() -> monitor.admit()).isInstanceOf(ExecutorSaturatedException.class);
+	}
+
+	@Test
+	@DisplayName("[Success] 대기 중인 작업이 없으면 이전 대기 시간과 무관하게 받는다")
+	void test05() throws InterruptedException {
+		Runnable slowStarted = monitor.decorator().decorate(() -> {
+		});
+		Thread.sleep(400);
+		slowStarted.run();
+
+		assertThatCode(() -> monitor.admit()).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("[Success] 수락 제어가 꺼져 있으면 큐가 차도 거절하지 않는다")
+	void test06() {
+		admission.setEnabled(false);
+		for (int i = 0; i < QUEUE_CAPACITY; i++) {
+			monitor.decorator().decorate(() -> {
+			});
+		}
+
+		assertThatCode(() -> monitor.admit()).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("[Success] 풀이 거절한 작업은 overflow 로 세고 대기 작업 수에서 뺀다")
+	void test07() {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(1), monitor.countingRejections(new ThreadPoolExecutor.DiscardPolicy()));
+		executor.shutdown();
+
+		executor.execute(monitor.decorator().decorate(() -> {
+		}));
+
+		assertThat(rejected("overflow")).isEqualTo(1.0);
+		assertThat(gauge("lm.executor.tasks.waiting")).isZero();
+	}
+}
@@ -0,0 +1,257 @@
+package me.chan99k.learningmanager.controller.attendance;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.chan99k.learningmanager.attendance.AttendanceBatchCheckIn;
+import me.chan99k.learningmanager.attendance.AttendanceCheckIn;
+import me.chan99k.learningmanager.attendance.AttendanceProblemCode;
+import me.chan99k.learningmanager.attendance.QRCodeGenerator;
+import me.chan99k.learningmanager.exception.DomainException;
+import me.chan99k.learningmanager.session.SessionProblemCode;
+
+@DisplayName("AttendanceCheckInBatcher 테스트")
+@ExtendWith(MockitoExtension.class)
+class AttendanceCheckInBatcherTest {
+
+	private static final Long SESSION_ID = 1L;
+	private static final String TOKEN = "qr-token";
+	private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+	@Mock
+	private AttendanceCheckIn attendanceCheckIn;
+	@Mock
+	private AttendanceBatchCheckIn attendanceBatchCheckIn;
+	@Mock
+	private QRCodeGenerator qrCodeGenerator;
+
+	private SimpleMeterRegistry meterRegistry;
+	private AttendanceCheckInBatcher batcher;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		if (batcher != null) {
+			batcher.destroy();
+		}
+	}
+
+	private AttendanceCheckInBatcher createBatcher(boolean enabled, long windowMillis, int maxSize) {
+		return new AttendanceCheckInBatcher(attendanceCheckIn, attendanceBatchCheckIn, qrCodeGenerator,
+			meterRegistry, enabled, windowMillis, maxSize, 1, 16);
+	}
+
+	private AttendanceCheckIn.Response response(Long memberId) {
+		return new AttendanceCheckIn.Response("attendance-" + memberId, SESSION_ID, memberId, NOW, "PRESENT");
+	}
+
+	private Throwable failureOf(CompletableFuture<?> future) {
+		return catchThrowableOfType(() -> future.get(1, TimeUnit.SECONDS), ExecutionException.class).getCause();
+	}
+
+	@Nested
+	@DisplayName("배치 처리")
+	class BatchTests {
+
+		@Test
+		@DisplayName("[Success] 같은 세션의 요청을 모아 토큰 검증과 체크인을 한 번씩만 수행한다")
+		void test01() throws Exception {
+			batcher = createBatcher(true, 50, 100);
+			when(qrCodeGenerator.validateQrCode(TOKEN, SESSION_ID)).thenReturn(true);
+			when(attendanceBatchCheckIn.checkInAll(SESSION_ID, List.of(10L, 11L, 12L))).thenReturn(Map.of(
+				10L, AttendanceBatchCheckIn.Outcome.success(response(10L)),
+				11L, AttendanceBatchCheckIn.Outcome.success(response(11L)),
+				12L, AttendanceBatchCheckIn.Outcome.success(response(12L))
+			));
+
+			CompletableFuture<AttendanceCheckIn.Response> first = batcher.submit(10L, SESSION_ID, TOKEN);
+			CompletableFuture<AttendanceCheckIn.Response> second = batcher.submit(11L, SESSION_ID, TOKEN);
+			CompletableFuture<AttendanceCheckIn.Response> third = batcher.submit(12L, SESSION_ID, TOKEN);
+
+			assertThat(first.get(1, TimeUnit.SECONDS).memberId()).isEqualTo(10L);
+			assertThat(second.get(1, TimeUnit.SECONDS).memberId()).isEqualTo(11L);
+			assertThat(third.get(1, TimeUnit.SECONDS).memberId()).isEqualTo(12L);
+
+			verify(qrCodeGenerator, times(1)).validateQrCode(TOKEN, SESSION_ID);
+			verify(attendanceBatchCheckIn, times(1)).checkInAll(eq(SESSION_ID), anyCollection());
+			verifyNoInteractions(attendanceCheckIn);
+			assertThat(meterRegistry.get("lm.attendance.check-in.batch.size").summary().totalAmount())
+				.isEqualTo(3.0);
+			assertThat(meterRegistry.get("lm.attendance.check-in.batch.flush").timer().count()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("[Success] 최대 크기에 도달하면 대기 시간과 관계없이 바로 처리한다")
+		void test02() throws Exception {
+			batcher = createBatcher(true, 60_000, 2);
+			when(qrCodeGenerator.validateQrCode(TOKEN, SESSION_ID)).thenReturn(true);
+			when(attendanceBatchCheckIn.checkInAll(SESSION_ID, List.of(10L, 11L))).thenReturn(Map.of(
+				10L, AttendanceBatchCheckIn.Outcome.success(response(10L)),
+				11L, AttendanceBatchCheckIn.Outcome.success(response(11L))
+			));
+
+			CompletableFuture<AttendanceCheckIn.Response> first = batcher.submit(10L, SESSION_ID, TOKEN);
+			CompletableFuture<AttendanceCheckIn.Response> second = batcher.submit(11L, SESSION_ID, TOKEN);
+
+			assertThat(first.get(1, TimeUnit.SECONDS)).isNotNull();
+			assertThat(second.get(1, TimeUnit.SECONDS)).isNotNull();
+		}
+
+		@Test
+		@DisplayName("[Failure] 검증에 실패한 토큰의 요청은 배치에서 제외하고 INVALID_QR_TOKEN 으로 완료한다")
+		void test03() throws Exception {
+			batcher = createBatcher(true, 20, 100);
+			when(qrCodeGenerator.validateQrCode(TOKEN, SESSION_ID)).thenReturn(true);
+			when(qrCodeGenerator.validateQrCode("forged", SESSION_ID)).thenReturn(false);
+			when(attendanceBatchCheckIn.checkInAll(SESSION_ID, List.of(10L))).thenReturn(Map.of(
+				10L, AttendanceBatchCheckIn.Outcome.success(response(10L))
+			));
+
+			CompletableFuture<AttendanceCheckIn.Response> valid = batcher.submit(10L, SESSION_ID, TOKEN);
+			CompletableFuture<AttendanceCheckIn.Response> forged = batcher.submit(11L, SESSION_ID, "forged");
+
+			assertThat(valid.get(1, TimeUnit.SECONDS).memberId()).isEqualTo(10L);
+			assertThat(failureOf(forged))
+				.isInstanceOf(DomainException.class)
+				.hasFieldOrPropertyWithValue("problemCode", AttendanceProblemCode.INVALID_QR_TOKEN);
+		}
+
+		@Test
+		@DisplayName("[Failure] 회원별 실패 결과는 해당 요청에만 전달된다")
+		void test04() throws Exception {
+			batcher = createBatcher(true, 20, 100);
+			when(qrCodeGenerator.validateQrCode(TOKEN, SESSION_ID)).thenReturn(true);
+			when(attendanceBatchCheckIn.checkInAll(SESSION_ID, List.of(10L, 11L))).thenReturn(Map.of(
+				10L, AttendanceBatchCheckIn.Outcome.success(response(10L)),
+				11L, AttendanceBatchCheckIn.Outcome.failed(
+					new DomainException(SessionProblemCode.NOT_SESSION_PARTICIPANT))
+			));
+
+			CompletableFuture<AttendanceCheckIn.Response> participant = batcher.submit(10L, SESSION_ID, TOKEN);
+			CompletableFuture<AttendanceCheckIn.Response> outsider = batcher.submit(11L, SESSION_ID, TOKEN);
+
+			assertThat(participant.get(1, TimeUnit.SECONDS)).isNotNull();
+			assertThat(failureOf(outsider))
+				.isInstanceOf(DomainException.class)
+				.hasFieldOrPropertyWithValue("problemCode", SessionProblemCode.NOT_SESSION_PARTICIPANT);
+		}
+
+		@Test
+		@DisplayName("[Failure] 같은 배치 안의 중복 요청은 첫 요청만 성공한다")
+		void test05() throws Exception {
+			batcher = createBatcher(true, 20, 100);
+			when(qrCodeGenerator.validateQrCode(TOKEN, SESSION_ID)).thenReturn(true);
+			when(attendanceBatchCheckIn.checkInAll(SESSION_ID, List.of(10L))).thenReturn(Map.of(
+				10L, AttendanceBatchCheckIn.Outcome.success(response(10L))
+			));
+
+			CompletableFuture<AttendanceCheckIn.Response> first = batcher.submit(10L, SESSION_ID, TOKEN);
+			CompletableFuture<AttendanceCheckIn.Response> duplicate = batcher.submit(10L, SESSION_ID, TOKEN);
+
+			assertThat(first.get(1, TimeUnit.SECONDS)).isNotNull();
+			assertThat(failureOf(duplicate))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage(AttendanceProblemCode.ALREADY_CHECKED_IN.getMessage());
+		}
+
+		@Test
+		@DisplayName("[Failure] 배치 처리 중 예외가 발생하면 모든 요청을 같은 예외로 완료한다")
+		void test06() {
+			batcher = createBatcher(true, 20, 100);
+			RuntimeException failure = new RuntimeException("mongo down");
+			when(qrCodeGenerator.validateQrCode(TOKEN, SESSION_ID)).thenReturn(true);
+			when(attendanceBatchCheckIn.checkInAll(eq(SESSION_ID), anyCollection())).thenThrow(failure);
+
+			CompletableFuture<AttendanceCheckIn.Response> first = batcher.submit(10L, SESSION_ID, TOKEN);
+			CompletableFuture<AttendanceCheckIn.Response> second = batcher.submit(11L, SESSION_ID, TOKEN);
+
+			assertThat(failureOf(first)).isSameAs(failure);
+			assertThat(failureOf(second)).isSameAs(failure);
+		}
+	}
+
+	@Nested
+	@DisplayName("flush 실행기")
+	class FlushExecutorTests {
+
+		@Test
+		@DisplayName("[Failure] flush 실행기 대기열이 가득 차면 해당 배치의 요청을 RejectedExecutionException 으로 완료한다")
+		void test01() throws Exception {
+			batcher = new AttendanceCheckInBatcher(attendanceCheckIn, attendanceBatchCheckIn, qrCodeGenerator,
+				meterRegistry, true, 60_000, 1, 1, 1);
+			CountDownLatch release = new CountDownLatch(1);
+			when(qrCodeGenerator.validateQrCode(TOKEN, SESSION_ID)).thenReturn(true);
+			when(attendanceBatchCheckIn.checkInAll(eq(SESSION_ID), anyCollection())).thenAnswer(invocation -> {
+				release.await(1, TimeUnit.SECONDS);
+				return Map.of(
+					10L, AttendanceBatchCheckIn.Outcome.success(response(10L)),
+					11L, AttendanceBatchCheckIn.Outcome.success(response(11L))
+				);
+			});
+
+			CompletableFuture<AttendanceCheckIn.Response> running = batcher.submit(10L, SESSION_ID, TOKEN);
+			CompletableFuture<AttendanceCheckIn.Response> queued = batcher.submit(11L, SESSION_ID, TOKEN);
+			CompletableFuture<AttendanceCheckIn.Response> rejected = batcher.submit(12L, SESSION_ID, TOKEN);
+
+			assertThat(failureOf(rejected)).isInstanceOf(RejectedExecutionException.class);
+			release.countDown();
+			assertThat(running.get(1, TimeUnit.SECONDS).memberId()).isEqualTo(10L);
+			assertThat(queued.get(1, TimeUnit.SECONDS).memberId()).isEqualTo(11L);
+		}
+	}
+
+	@Nested
+	@DisplayName("비활성화")
+	class DisabledTests {
+
+		@Test
+		@DisplayName("[Success] 비활성화되어 있으면 요청마다 바로 체크인한다")
+		void test01() throws Exception {
+			batcher = createBatcher(false, 5, 100);
+			when(qrCodeGenerator.validateQrCode(TOKEN, SESSION_ID)).thenReturn(true);
+			when(attendanceCheckIn.checkIn(10L, new AttendanceCheckIn.Request(SESSION_ID))).thenReturn(response(10L));
+
+			CompletableFuture<AttendanceCheckIn.Response> result = batcher.submit(10L, SESSION_ID, TOKEN);
+
+			assertThat(result).isCompleted();
+			assertThat(result.get().memberId()).isEqualTo(10L);
+			verifyNoInteractions(attendanceBatchCheckIn);
+		}
+
+		@Test
+		@DisplayName("[Failure] 비활성화 상태에서 토큰 검증에 실패하면 즉시 예외를 던진다")
+		void test02() {
+			batcher = createBatcher(false, 5, 100);
+			when(qrCodeGenerator.validateQrCode(TOKEN, SESSION_ID)).thenReturn(false);
+
+			assertThatThrownBy(() -> batcher.submit(10L, SESSION_ID, TOKEN))
+				.isInstanceOf(DomainException.class)
+				.hasFieldOrPropertyWithValue("problemCode", AttendanceProblemCode.INVALID_QR_TOKEN);
+			verifyNoInteractions(attendanceCheckIn);
+		}
+	}
+}
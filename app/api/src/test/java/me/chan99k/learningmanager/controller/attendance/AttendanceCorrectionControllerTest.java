@@ -84,8 +84,7 @@ class AttendanceCorrectionControllerTest {
 			Instant.now().plusSeconds(3600)
 		);
 
-		given(jwtProvider.isValid(VALID_TOKEN)).willReturn(true);
-		given(jwtProvider.validateAndGetClaims(VALID_TOKEN)).willReturn(claims);
+		given(jwtProvider.verify(VALID_TOKEN)).willReturn(JwtProvider.VerificationResult.verified(claims));
 		given(systemAuthorizationPort.getRoles(MANAGER_ID)).willReturn(Set.of(SystemRole.MEMBER));
 
 		// 기본: MANAGER_ID는 출석 수정 요청/승인 권한 있음
@@ -150,8 +149,8 @@ class AttendanceCorrectionControllerTest {
 				Instant.now().plusSeconds(3600)
 			);
 
-			given(jwtProvider.isValid(nonManagerToken)).willReturn(true);
-			given(jwtProvider.validateAndGetClaims(nonManagerToken)).willReturn(nonManagerClaims);
+			given(jwtProvider.verify(nonManagerToken))
+				.willReturn(JwtProvider.VerificationResult.verified(nonManagerClaims));
 			given(systemAuthorizationPort.getRoles(NON_MANAGER_ID)).willReturn(Set.of(SystemRole.MEMBER));
 			given(attendanceSecurity.canRequestCorrection(ATTENDANCE_ID, NON_MANAGER_ID)).willReturn(false);
 
@@ -215,8 +214,8 @@ class AttendanceCorrectionControllerTest {
 				Instant.now().plusSeconds(3600)
 			);
 
-			given(jwtProvider.isValid(nonManagerToken)).willReturn(true);
-			given(jwtProvider.validateAndGetClaims(nonManagerToken)).willReturn(nonManagerClaims);
+			given(jwtProvider.verify(nonManagerToken))
+				.willReturn(JwtProvider.VerificationResult.verified(nonManagerClaims));
 			given(systemAuthorizationPort.getRoles(NON_MANAGER_ID)).willReturn(Set.of(SystemRole.MEMBER));
 			given(attendanceSecurity.canApproveCorrection(ATTENDANCE_ID, NON_MANAGER_ID)).willReturn(false);
 
@@ -283,8 +282,8 @@ class AttendanceCorrectionControllerTest {
 				Instant.now().plusSeconds(3600)
 			);
 
-			given(jwtProvider.isValid(nonManagerToken)).willReturn(true);
-			given(jwtProvider.validateAndGetClaims(nonManagerToken)).willReturn(nonManagerClaims);
+			given(jwtProvider.verify(nonManagerToken))
+				.willReturn(JwtProvider.VerificationResult.verified(nonManagerClaims));
 			given(systemAuthorizationPort.getRoles(NON_MANAGER_ID)).willReturn(Set.of(SystemRole.MEMBER));
 			given(attendanceSecurity.canApproveCorrection(ATTENDANCE_ID, NON_MANAGER_ID)).willReturn(false);
 
@@ -0,0 +1,88 @@
+package me.chan99k.learningmanager.controller.attendance;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import me.chan99k.learningmanager.attendance.AttendanceStatus;
+import me.chan99k.learningmanager.attendance.CourseAttendanceRetrieval.ExportRow;
+
+@DisplayName("AttendanceExportWriter 테스트")
+class AttendanceExportWriterTest {
+
+	private static final Instant SCHEDULED_AT = Instant.parse("2025-01-15T10:00:00Z");
+
+	private final ObjectMapper objectMapper = new ObjectMapper()
+		.registerModule(new JavaTimeModule())
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+	@Test
+	@DisplayName("[Success] CSV 는 헤더 뒤에 행마다 한 줄을 쓰고 쉼표나 따옴표가 있는 값은 따옴표로 감싼다")
+	void test01() throws IOException {
+		StringWriter out = new StringWriter();
+		AttendanceExportWriter writer = new AttendanceExportWriter(
+			out, AttendanceExportWriter.Format.CSV, objectMapper);
+
+		writer.writeHeader();
+		writer.accept(new ExportRow(100L, "홍길동", "att1", 200L, "스프링, \"기초\"", SCHEDULED_AT,
+			AttendanceStatus.PRESENT, 10L, "웹 개발"));
+		writer.accept(new ExportRow(101L, "김철수", "att2", 201L, "JPA", null,
+			AttendanceStatus.LATE, null, "Unknown"));
+
+		assertThat(out.toString()).isEqualTo(
+			"memberId,memberName,attendanceId,sessionId,sessionTitle,scheduledAt,finalStatus,curriculumId,curriculumTitle\n"
+				+ "100,홍길동,att1,200,\"스프링, \"\"기초\"\"\",2025-01-15T10:00:00Z,PRESENT,10,웹 개발\n"
+				+ "101,김철수,att2,201,JPA,,LATE,,Unknown\n");
+	}
+
+	@Test
+	@DisplayName("[Success] NDJSON 은 헤더 없이 행마다 JSON 객체 한 줄을 쓴다")
+	void test02() throws IOException {
+		StringWriter out = new StringWriter();
+		AttendanceExportWriter writer = new AttendanceExportWriter(
+			out, AttendanceExportWriter.Format.NDJSON, objectMapper);
+
+		writer.writeHeader();
+		writer.accept(new ExportRow(100L, "홍길동", "att1", 200L, "JPA", SCHEDULED_AT,
+			AttendanceStatus.PRESENT, 10L, "웹 개발"));
+
+		String[] lines = out.toString().split("\n");
+		assertThat(lines).hasSize(1);
+		assertThat(objectMapper.readTree(lines[0]).get("memberId").asLong()).isEqualTo(100L);
+		assertThat(objectMapper.readTree(lines[0]).get("scheduledAt").asText()).isEqualTo("2025-01-15T10:00:00Z");
+	}
+
+	@Test
+	@DisplayName("[Failure] 지원하지 않는 형식이면 IllegalArgumentException")
+	void test03() {
+		assertThat(AttendanceExportWriter.Format.from("ndjson")).isEqualTo(AttendanceExportWriter.Format.NDJSON);
+		assertThatThrownBy(() -> AttendanceExportWriter.Format.from("xlsx"))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("[Success] CSV 값이 수식으로 해석될 수 있는 문자로 시작하면 앞에 ' 를 붙인다")
+	void test04() throws IOException {
+		StringWriter out = new StringWriter();
+		AttendanceExportWriter writer = new AttendanceExportWriter(
+			out, AttendanceExportWriter.Format.CSV, objectMapper);
+
+		writer.accept(new ExportRow(100L, "=HYPERLINK(\"http://evil\")", "att1", 200L, "+1", null,
+			AttendanceStatus.PRESENT, 10L, "@SUM(A1)"));
+		writer.accept(new ExportRow(101L, "-김철수", "att2", 201L, "\t탭", null,
+			AttendanceStatus.LATE, null, "\r캐리지"));
+
+		assertThat(out.toString()).isEqualTo(
+			"100,\"'=HYPERLINK(\"\"http://evil\"\")\",att1,200,'+1,,PRESENT,10,'@SUM(A1)\n"
+				+ "101,'-김철수,att2,201,'\t탭,,LATE,,\"'\r캐리지\"\n");
+	}
+}
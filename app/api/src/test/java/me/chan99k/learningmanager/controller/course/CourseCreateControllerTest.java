@@ -22,6 +22,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import me.chan99k.learningmanager.authentication.AuthProblemCode;
 import me.chan99k.learningmanager.authentication.JwtProvider;
 import me.chan99k.learningmanager.authorization.SystemAuthorizationPort;
 import me.chan99k.learningmanager.config.SecurityConfig;
@@ -62,8 +63,7 @@ class CourseCreateControllerTest {
 			Instant.now().plusSeconds(3600)
 		);
 
-		given(jwtProvider.isValid(VALID_TOKEN)).willReturn(true);
-		given(jwtProvider.validateAndGetClaims(VALID_TOKEN)).willReturn(claims);
+		given(jwtProvider.verify(VALID_TOKEN)).willReturn(JwtProvider.VerificationResult.verified(claims));
 		given(systemAuthorizationPort.getRoles(MEMBER_ID)).willReturn(Set.of(SystemRole.MEMBER));
 	}
 
@@ -146,7 +146,8 @@ class CourseCreateControllerTest {
 		@DisplayName("[Failure] 유효하지 않은 토큰 - 403 Forbidden")
 		void create_course_with_invalid_token() throws Exception {
 			String invalidToken = "invalid-token";
-			given(jwtProvider.isValid(invalidToken)).willReturn(false);
+			given(jwtProvider.verify(invalidToken))
+				.willReturn(JwtProvider.VerificationResult.rejected(AuthProblemCode.INVALID_TOKEN));
 
 			CourseCreation.Request request = new CourseCreation.Request(
 				"Spring Boot 기초",
@@ -79,8 +79,7 @@ class CourseMemberControllerTest {
 			Instant.now().plusSeconds(3600)
 		);
 
-		given(jwtProvider.isValid(VALID_TOKEN)).willReturn(true);
-		given(jwtProvider.validateAndGetClaims(VALID_TOKEN)).willReturn(claims);
+		given(jwtProvider.verify(VALID_TOKEN)).willReturn(JwtProvider.VerificationResult.verified(claims));
 		given(systemAuthorizationPort.getRoles(MANAGER_ID)).willReturn(Set.of(SystemRole.MEMBER));
 
 		// 기본: MANAGER_ID는 해당 과정의 매니저
@@ -203,8 +202,8 @@ class CourseMemberControllerTest {
 				Instant.now().plusSeconds(3600)
 			);
 
-			given(jwtProvider.isValid(nonManagerToken)).willReturn(true);
-			given(jwtProvider.validateAndGetClaims(nonManagerToken)).willReturn(nonManagerClaims);
+			given(jwtProvider.verify(nonManagerToken))
+				.willReturn(JwtProvider.VerificationResult.verified(nonManagerClaims));
 			given(systemAuthorizationPort.getRoles(NON_MANAGER_ID)).willReturn(Set.of(SystemRole.MEMBER));
 			given(courseSecurity.isManager(COURSE_ID, NON_MANAGER_ID)).willReturn(false);
 
@@ -266,8 +265,8 @@ class CourseMemberControllerTest {
 				Instant.now().plusSeconds(3600)
 			);
 
-			given(jwtProvider.isValid(nonManagerToken)).willReturn(true);
-			given(jwtProvider.validateAndGetClaims(nonManagerToken)).willReturn(nonManagerClaims);
+			given(jwtProvider.verify(nonManagerToken))
+				.willReturn(JwtProvider.VerificationResult.verified(nonManagerClaims));
 			given(systemAuthorizationPort.getRoles(NON_MANAGER_ID)).willReturn(Set.of(SystemRole.MEMBER));
 			given(courseSecurity.isManager(COURSE_ID, NON_MANAGER_ID)).willReturn(false);
 
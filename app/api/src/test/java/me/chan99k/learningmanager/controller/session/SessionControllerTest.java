@@ -11,6 +11,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +22,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.web.servlet.MockMvc;
@@ -29,6 +31,7 @@ import org.springframework.test.web.servlet.MvcResult;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import me.chan99k.learningmanager.advice.GlobalExceptionHandler;
+import me.chan99k.learningmanager.config.ExecutorSaturatedException;
 import me.chan99k.learningmanager.controller.BaseControllerTest;
 import me.chan99k.learningmanager.course.CourseProblemCode;
 import me.chan99k.learningmanager.exception.DomainException;
@@ -421,4 +424,57 @@ class SessionControllerTest extends BaseControllerTest {
 			.andDo(print())
 			.andExpect(status().isBadRequest());
 	}
+
+	@Test
+	@DisplayName("[Success] 캘린더 조회 시 ETag 를 함께 응답한다")
+	void getSessionCalendar_ReturnsETag() throws Exception {
+		given(sessionListRetrieval.getSessionCalendarView(any(), any()))
+			.willReturn(new SessionListRetrieval.SessionCalendar(Map.of(), "\"abc\""));
+
+		MvcResult mvcResult = mockMvc.perform(get("/api/v1/sessions/calendar")
+				.param("year", "2025")
+				.param("month", "3")
+				.with(user(createMockUser())))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(mvcResult))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, "\"abc\""));
+	}
+
+	@Test
+	@DisplayName("[Success] If-None-Match 가 현재 ETag 와 같으면 본문 없이 304 응답")
+	void getSessionCalendar_NotModified() throws Exception {
+		given(sessionListRetrieval.getSessionCalendarView(any(), any()))
+			.willReturn(new SessionListRetrieval.SessionCalendar(Map.of(), "\"abc\""));
+
+		MvcResult mvcResult = mockMvc.perform(get("/api/v1/sessions/calendar")
+				.param("year", "2025")
+				.param("month", "3")
+				.header(HttpHeaders.IF_NONE_MATCH, "W/\"abc\"")
+				.with(user(createMockUser())))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(mvcResult))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string(HttpHeaders.ETAG, "\"abc\""))
+			.andExpect(content().string(""));
+	}
+
+	@Test
+	@DisplayName("[Failure] 실행기가 포화 상태면 Retry-After 와 함께 503 응답")
+	void getSessionCalendar_ExecutorSaturated() throws Exception {
+		willThrow(new ExecutorSaturatedException("sessionTaskExecutor", 3))
+			.given(sessionTaskExecutor).execute(any(Runnable.class));
+
+		mockMvc.perform(get("/api/v1/sessions/calendar")
+				.param("year", "2025")
+				.param("month", "3")
+				.with(user(createMockUser())))
+			.andExpect(status().isServiceUnavailable())
+			.andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"))
+			.andExpect(jsonPath("$.code").value("SERVICE_UNAVAILABLE"));
+	}
 }
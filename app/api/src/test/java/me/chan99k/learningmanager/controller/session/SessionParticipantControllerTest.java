@@ -80,8 +80,7 @@ class SessionParticipantControllerTest {
 			Instant.now().plusSeconds(3600)
 		);
 
-		given(jwtProvider.isValid(VALID_TOKEN)).willReturn(true);
-		given(jwtProvider.validateAndGetClaims(VALID_TOKEN)).willReturn(claims);
+		given(jwtProvider.verify(VALID_TOKEN)).willReturn(JwtProvider.VerificationResult.verified(claims));
 		given(systemAuthorizationPort.getRoles(MANAGER_ID)).willReturn(Set.of(SystemRole.MEMBER));
 
 		// 기본: MANAGER_ID는 세션 참여자 관리 권한 있음
@@ -168,8 +167,8 @@ class SessionParticipantControllerTest {
 				Instant.now().plusSeconds(3600)
 			);
 
-			given(jwtProvider.isValid(nonManagerToken)).willReturn(true);
-			given(jwtProvider.validateAndGetClaims(nonManagerToken)).willReturn(nonManagerClaims);
+			given(jwtProvider.verify(nonManagerToken))
+				.willReturn(JwtProvider.VerificationResult.verified(nonManagerClaims));
 			given(systemAuthorizationPort.getRoles(NON_MANAGER_ID)).willReturn(Set.of(SystemRole.MEMBER));
 			given(sessionSecurity.canManageSessionParticipants(SESSION_ID, NON_MANAGER_ID)).willReturn(false);
 
@@ -312,8 +311,8 @@ class SessionParticipantControllerTest {
 				Instant.now().plusSeconds(3600)
 			);
 
-			given(jwtProvider.isValid(nonMemberToken)).willReturn(true);
-			given(jwtProvider.validateAndGetClaims(nonMemberToken)).willReturn(nonMemberClaims);
+			given(jwtProvider.verify(nonMemberToken))
+				.willReturn(JwtProvider.VerificationResult.verified(nonMemberClaims));
 			given(systemAuthorizationPort.getRoles(NON_MANAGER_ID)).willReturn(Set.of(SystemRole.MEMBER));
 			given(sessionSecurity.isSessionMember(SESSION_ID, NON_MANAGER_ID)).willReturn(false);
 
@@ -20,6 +20,7 @@ import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import me.chan99k.learningmanager.authentication.AuthProblemCode;
 import me.chan99k.learningmanager.authentication.JwtProvider;
 import me.chan99k.learningmanager.authorization.SystemAuthorizationPort;
 import me.chan99k.learningmanager.member.SystemRole;
@@ -75,8 +76,8 @@ class JwtAuthenticationFilterTest {
 		@DisplayName("SecurityContext에 인증 정보를 설정한다")
 		void sets_authentication_in_security_context() throws Exception {
 			request.addHeader("Authorization", "Bearer " + VALID_TOKEN);
-			given(jwtProvider.isValid(VALID_TOKEN)).willReturn(true);
-			given(jwtProvider.validateAndGetClaims(VALID_TOKEN)).willReturn(createValidClaims());
+			given(jwtProvider.verify(VALID_TOKEN))
+				.willReturn(JwtProvider.VerificationResult.verified(createValidClaims()));
 			given(systemAuthorizationPort.getRoles(MEMBER_ID)).willReturn(ROLES);
 
 			jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -90,8 +91,8 @@ class JwtAuthenticationFilterTest {
 		@DisplayName("CustomUserDetails에 올바른 정보를 포함한다")
 		void custom_user_details_contains_correct_info() throws Exception {
 			request.addHeader("Authorization", "Bearer " + VALID_TOKEN);
-			given(jwtProvider.isValid(VALID_TOKEN)).willReturn(true);
-			given(jwtProvider.validateAndGetClaims(VALID_TOKEN)).willReturn(createValidClaims());
+			given(jwtProvider.verify(VALID_TOKEN))
+				.willReturn(JwtProvider.VerificationResult.verified(createValidClaims()));
 			given(systemAuthorizationPort.getRoles(MEMBER_ID)).willReturn(ROLES);
 
 			jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -110,8 +111,8 @@ class JwtAuthenticationFilterTest {
 		@DisplayName("필터 체인이 계속 실행된다")
 		void filter_chain_continues() throws Exception {
 			request.addHeader("Authorization", "Bearer " + VALID_TOKEN);
-			given(jwtProvider.isValid(VALID_TOKEN)).willReturn(true);
-			given(jwtProvider.validateAndGetClaims(VALID_TOKEN)).willReturn(createValidClaims());
+			given(jwtProvider.verify(VALID_TOKEN))
+				.willReturn(JwtProvider.VerificationResult.verified(createValidClaims()));
 			given(systemAuthorizationPort.getRoles(MEMBER_ID)).willReturn(ROLES);
 
 			jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -129,7 +130,8 @@ class JwtAuthenticationFilterTest {
 		@DisplayName("인증 정보 없이 필터를 통과한다")
 		void passes_through_without_authentication() throws Exception {
 			request.addHeader("Authorization", "Bearer " + INVALID_TOKEN);
-			given(jwtProvider.isValid(INVALID_TOKEN)).willReturn(false);
+			given(jwtProvider.verify(INVALID_TOKEN))
+				.willReturn(JwtProvider.VerificationResult.rejected(AuthProblemCode.INVALID_TOKEN));
 
 			jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -141,7 +143,8 @@ class JwtAuthenticationFilterTest {
 		@DisplayName("필터 체인이 계속 실행된다")
 		void filter_chain_continues() throws Exception {
 			request.addHeader("Authorization", "Bearer " + INVALID_TOKEN);
-			given(jwtProvider.isValid(INVALID_TOKEN)).willReturn(false);
+			given(jwtProvider.verify(INVALID_TOKEN))
+				.willReturn(JwtProvider.VerificationResult.rejected(AuthProblemCode.INVALID_TOKEN));
 
 			jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
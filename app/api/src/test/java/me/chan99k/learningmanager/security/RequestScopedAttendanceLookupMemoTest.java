@@ -0,0 +1,129 @@
+package me.chan99k.learningmanager.security;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import me.chan99k.learningmanager.attendance.Attendance;
+import me.chan99k.learningmanager.attendance.AttendanceQueryRepository;
+import me.chan99k.learningmanager.session.Session;
+import me.chan99k.learningmanager.session.SessionQueryRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RequestScopedAttendanceLookupMemoTest {
+
+	private static final String ATTENDANCE_ID = "attendance-1";
+	private static final Long SESSION_ID = 1L;
+
+	@Mock
+	AttendanceQueryRepository attendanceQueryRepository;
+
+	@Mock
+	SessionQueryRepository sessionQueryRepository;
+
+	@Mock
+	Attendance attendance;
+
+	@Mock
+	Session session;
+
+	RequestScopedAttendanceLookupMemo memo;
+
+	@BeforeEach
+	void setUp() {
+		memo = new RequestScopedAttendanceLookupMemo(attendanceQueryRepository, sessionQueryRepository);
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	private void startRequest() {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+	}
+
+	@Nested
+	@DisplayName("요청 컨텍스트 안")
+	class InRequestTest {
+
+		@Test
+		@DisplayName("같은 출석을 여러 번 조회해도 저장소는 한 번만 조회한다")
+		void loads_attendance_once_per_request() {
+			startRequest();
+			given(attendanceQueryRepository.findById(ATTENDANCE_ID)).willReturn(Optional.of(attendance));
+
+			Optional<Attendance> first = memo.findAttendanceById(ATTENDANCE_ID);
+			Optional<Attendance> second = memo.findAttendanceById(ATTENDANCE_ID);
+
+			assertThat(second).containsSame(first.orElseThrow());
+			then(attendanceQueryRepository).should(times(1)).findById(ATTENDANCE_ID);
+		}
+
+		@Test
+		@DisplayName("같은 세션을 여러 번 조회해도 저장소는 한 번만 조회한다")
+		void loads_session_once_per_request() {
+			startRequest();
+			given(sessionQueryRepository.findById(SESSION_ID)).willReturn(Optional.of(session));
+
+			memo.findSessionById(SESSION_ID);
+			memo.findSessionById(SESSION_ID);
+
+			then(sessionQueryRepository).should(times(1)).findById(SESSION_ID);
+		}
+
+		@Test
+		@DisplayName("존재하지 않는 결과도 기억한다")
+		void memoizes_empty_result() {
+			startRequest();
+			given(attendanceQueryRepository.findById(ATTENDANCE_ID)).willReturn(Optional.empty());
+
+			assertThat(memo.findAttendanceById(ATTENDANCE_ID)).isEmpty();
+			assertThat(memo.findAttendanceById(ATTENDANCE_ID)).isEmpty();
+
+			then(attendanceQueryRepository).should(times(1)).findById(ATTENDANCE_ID);
+		}
+
+		@Test
+		@DisplayName("요청이 바뀌면 다시 조회한다")
+		void reloads_in_new_request() {
+			given(attendanceQueryRepository.findById(ATTENDANCE_ID)).willReturn(Optional.of(attendance));
+
+			startRequest();
+			memo.findAttendanceById(ATTENDANCE_ID);
+			startRequest();
+			memo.findAttendanceById(ATTENDANCE_ID);
+
+			then(attendanceQueryRepository).should(times(2)).findById(ATTENDANCE_ID);
+		}
+	}
+
+	@Nested
+	@DisplayName("요청 컨텍스트 밖")
+	class OutsideRequestTest {
+
+		@Test
+		@DisplayName("메모 없이 매번 저장소에서 조회한다")
+		void delegates_every_time() {
+			given(attendanceQueryRepository.findById(ATTENDANCE_ID)).willReturn(Optional.of(attendance));
+
+			memo.findAttendanceById(ATTENDANCE_ID);
+			memo.findAttendanceById(ATTENDANCE_ID);
+
+			then(attendanceQueryRepository).should(times(2)).findById(ATTENDANCE_ID);
+		}
+	}
+}
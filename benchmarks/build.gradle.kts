@@ -0,0 +1,11 @@
+plugins {
+    id("lm.java-jmh")
+}
+
+dependencies {
+    jmhImplementation(project(":core:domain"))
+    jmhImplementation(project(":core:requires"))
+    jmhImplementation(project(":adapter:mongo"))
+    jmhImplementation(project(":adapter:persistence"))
+    jmhImplementation(project(":adapter:infra"))
+}
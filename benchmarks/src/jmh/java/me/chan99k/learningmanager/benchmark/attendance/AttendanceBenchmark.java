@@ -0,0 +1,68 @@
+package me.chan99k.learningmanager.benchmark.attendance;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import me.chan99k.learningmanager.attendance.Attendance;
+import me.chan99k.learningmanager.attendance.AttendanceEvent;
+import me.chan99k.learningmanager.attendance.AttendanceSnapshot;
+
+/**
+ * Attendance 애그리거트의 이벤트 재생(restore)과 입/퇴실 비용 측정.
+ * <p>
+ * checkIn/checkOut 은 이벤트 목록을 누적시키므로 매 호출마다 restore 한 인스턴스에 대해 수행한다.
+ * 순수 입/퇴실 비용은 restore 벤치마크 결과와의 차이로 읽는다.
+ * restoreFromSnapshot 은 저장소가 스냅샷과 이후 이벤트만 읽어 복원하는 경로로, 이력 길이와 무관해야 한다.
+ */
+@State(Scope.Benchmark)
+public class AttendanceBenchmark {
+
+	private static final Instant BASE = Instant.parse("2025-01-01T09:00:00Z");
+
+	@Param({"2", "20", "200"})
+	int historySize;
+
+	private Clock clock;
+	private List<AttendanceEvent> history;
+	private AttendanceSnapshot snapshot;
+
+	@Setup
+	public void setUp() {
+		clock = Clock.fixed(BASE.plusSeconds(86_400), ZoneOffset.UTC);
+		history = AttendanceEventFixtures.history(historySize, BASE);
+		snapshot = Attendance.restore("attendance-1", 1L, 1L, history).getSnapshot();
+	}
+
+	@Benchmark
+	public Attendance restore() {
+		return Attendance.restore("attendance-1", 1L, 1L, history);
+	}
+
+	@Benchmark
+	public Attendance restoreFromSnapshot() {
+		return Attendance.restore("attendance-1", 1L, 1L, snapshot, List.of(), () -> history);
+	}
+
+	@Benchmark
+	public Attendance restoreThenCheckIn() {
+		Attendance attendance = Attendance.restore("attendance-1", 1L, 1L, history);
+		attendance.checkIn(clock);
+		return attendance;
+	}
+
+	@Benchmark
+	public Attendance restoreThenCheckInAndOut() {
+		Attendance attendance = Attendance.restore("attendance-1", 1L, 1L, history);
+		attendance.checkIn(clock);
+		attendance.checkOut(clock);
+		return attendance;
+	}
+}
@@ -0,0 +1,44 @@
+package me.chan99k.learningmanager.benchmark.attendance;
+
+import java.time.Instant;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import me.chan99k.learningmanager.adapter.persistence.attendance.documents.AttendanceDocument;
+import me.chan99k.learningmanager.attendance.Attendance;
+
+/**
+ * Attendance <-> AttendanceDocument 변환 비용 측정 (Mongo 어댑터의 모든 저장/조회 경로에서 발생)
+ */
+@State(Scope.Benchmark)
+public class AttendanceDocumentBenchmark {
+
+	private static final Instant BASE = Instant.parse("2025-01-01T09:00:00Z");
+	private static final String OBJECT_ID = "65f0c0ffee00000000000001";
+
+	@Param({"2", "20", "200"})
+	int historySize;
+
+	private Attendance attendance;
+	private AttendanceDocument document;
+
+	@Setup
+	public void setUp() {
+		attendance = Attendance.restore(OBJECT_ID, 1L, 1L, AttendanceEventFixtures.history(historySize, BASE));
+		document = AttendanceDocument.from(attendance);
+	}
+
+	@Benchmark
+	public AttendanceDocument from() {
+		return AttendanceDocument.from(attendance);
+	}
+
+	@Benchmark
+	public Attendance toDomain() {
+		return document.toDomain();
+	}
+}
@@ -0,0 +1,39 @@
+package me.chan99k.learningmanager.benchmark.attendance;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import me.chan99k.learningmanager.attendance.AttendanceEvent;
+import me.chan99k.learningmanager.attendance.AttendanceStatus;
+import me.chan99k.learningmanager.attendance.CheckedIn;
+import me.chan99k.learningmanager.attendance.CheckedOut;
+import me.chan99k.learningmanager.attendance.CorrectionRejected;
+import me.chan99k.learningmanager.attendance.CorrectionRequested;
+import me.chan99k.learningmanager.attendance.StatusCorrected;
+
+final class AttendanceEventFixtures {
+
+	private AttendanceEventFixtures() {
+	}
+
+	/**
+	 * 입/퇴실 반복 사이사이에 정정 요청/승인/거절이 섞인 이벤트 이력을 만든다.
+	 * 마지막 이벤트는 항상 CheckedOut 이므로 이어서 checkIn 을 호출할 수 있다.
+	 */
+	static List<AttendanceEvent> history(int size, Instant base) {
+		List<AttendanceEvent> events = new ArrayList<>(size);
+		for (int i = 0; events.size() < size; i++) {
+			Instant at = base.plusSeconds(i * 60L);
+			events.add(new CheckedIn(at));
+			if (i % 5 == 4) {
+				events.add(new CorrectionRequested(at, AttendanceStatus.PRESENT, AttendanceStatus.LATE, "지각", 1L));
+				events.add(i % 10 == 9
+					? new StatusCorrected(at, AttendanceStatus.PRESENT, AttendanceStatus.LATE, "지각", 2L)
+					: new CorrectionRejected(at, "증빙 부족", 2L));
+			}
+			events.add(new CheckedOut(at.plusSeconds(30)));
+		}
+		return List.copyOf(events);
+	}
+}
@@ -0,0 +1,70 @@
+package me.chan99k.learningmanager.benchmark.authentication;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import me.chan99k.learningmanager.authentication.JwtProvider;
+import me.chan99k.learningmanager.authentication.JwtProviderAdapter;
+import me.chan99k.learningmanager.qr.JwtQRCodeGenerator;
+
+/**
+ * 모든 인증 요청(JwtAuthenticationFilter)과 출석 체크인마다 수행되는 JWT 검증 비용 측정
+ */
+@State(Scope.Benchmark)
+public class JwtValidationBenchmark {
+
+	private static final Long SESSION_ID = 1L;
+	private static final String SECRET = Base64.getEncoder().encodeToString(
+		"benchmark-secret-key-for-jwt-signing-must-be-256-bits".getBytes()
+	);
+
+	private JwtProviderAdapter jwtProvider;
+	private JwtProviderAdapter cachingJwtProvider;
+	private JwtQRCodeGenerator qrCodeGenerator;
+	private String accessToken;
+	private String qrCode;
+	private String tamperedQrCode;
+
+	@Setup
+	public void setUp() {
+		Clock clock = Clock.systemUTC();
+		jwtProvider = new JwtProviderAdapter(SECRET, 3_600L, "benchmark", 0);
+		cachingJwtProvider = new JwtProviderAdapter(SECRET, 3_600L, "benchmark", 1_000);
+		qrCodeGenerator = new JwtQRCodeGenerator(clock, SECRET);
+
+		accessToken = jwtProvider.createAccessToken(1L, "bench@example.com");
+		qrCode = qrCodeGenerator.generateQrCode(SESSION_ID, clock.instant().plus(Duration.ofHours(1)));
+		tamperedQrCode = qrCode.substring(0, qrCode.length() - 2) + (qrCode.endsWith("AA") ? "BB" : "AA");
+	}
+
+	@Benchmark
+	public JwtProvider.Claims validateAndGetClaims() {
+		return jwtProvider.validateAndGetClaims(accessToken);
+	}
+
+	@Benchmark
+	public JwtProvider.VerificationResult verify() {
+		return jwtProvider.verify(accessToken);
+	}
+
+	@Benchmark
+	public JwtProvider.VerificationResult verifyWithCache() {
+		return cachingJwtProvider.verify(accessToken);
+	}
+
+	@Benchmark
+	public boolean validateQrCode() {
+		return qrCodeGenerator.validateQrCode(qrCode, SESSION_ID);
+	}
+
+	@Benchmark
+	public boolean validateQrCodeWithInvalidSignature() {
+		return qrCodeGenerator.validateQrCode(tamperedQrCode, SESSION_ID);
+	}
+}
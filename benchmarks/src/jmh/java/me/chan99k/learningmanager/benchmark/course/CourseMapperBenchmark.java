@@ -0,0 +1,59 @@
+package me.chan99k.learningmanager.benchmark.course;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import me.chan99k.learningmanager.course.Course;
+import me.chan99k.learningmanager.course.CourseMember;
+import me.chan99k.learningmanager.course.CourseRole;
+import me.chan99k.learningmanager.course.Curriculum;
+import me.chan99k.learningmanager.course.entity.CourseEntity;
+import me.chan99k.learningmanager.course.mapper.CourseMapper;
+
+/**
+ * 멤버 수가 많은 과정을 저장할 때마다 발생하는 CourseMapper.toEntity 비용 측정
+ */
+@State(Scope.Benchmark)
+public class CourseMapperBenchmark {
+
+	private static final Instant BASE = Instant.parse("2025-01-01T09:00:00Z");
+	private static final int CURRICULUM_COUNT = 10;
+
+	@Param({"100", "500"})
+	int memberCount;
+
+	private Course course;
+
+	@Setup
+	public void setUp() {
+		List<CourseMember> members = new ArrayList<>(memberCount);
+		for (int i = 0; i < memberCount; i++) {
+			members.add(CourseMember.reconstitute(
+				(long)i + 1, (long)i + 1,
+				i == 0 ? CourseRole.MANAGER : CourseRole.MENTEE,
+				BASE, 1L, BASE, 1L, 0L
+			));
+		}
+
+		List<Curriculum> curriculums = new ArrayList<>(CURRICULUM_COUNT);
+		for (int i = 0; i < CURRICULUM_COUNT; i++) {
+			curriculums.add(Curriculum.reconstitute(
+				(long)i + 1, "커리큘럼 " + i, "설명 " + i, BASE, 1L, BASE, 1L, 0L
+			));
+		}
+
+		course = Course.reconstitute(1L, "과정", "과정 설명", members, curriculums, BASE, 1L, BASE, 1L, 0L);
+	}
+
+	@Benchmark
+	public CourseEntity toEntity() {
+		return CourseMapper.toEntity(course);
+	}
+}
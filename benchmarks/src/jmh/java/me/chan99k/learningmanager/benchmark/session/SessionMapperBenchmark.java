@@ -0,0 +1,91 @@
+package me.chan99k.learningmanager.benchmark.session;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import me.chan99k.learningmanager.session.Session;
+import me.chan99k.learningmanager.session.SessionLocation;
+import me.chan99k.learningmanager.session.SessionParticipant;
+import me.chan99k.learningmanager.session.SessionParticipantRole;
+import me.chan99k.learningmanager.session.SessionType;
+import me.chan99k.learningmanager.session.entity.SessionEntity;
+import me.chan99k.learningmanager.session.mapper.SessionMapper;
+
+/**
+ * SessionMapper 의 재귀 변환 비용 측정.
+ * <p>
+ * 도메인 규칙상 하위 세션은 한 단계까지만 만들 수 있지만, 매퍼는 깊이를 가리지 않고 재귀하므로
+ * reconstitute 로 깊이(depth)와 폭(fanOut)을 키운 트리를 구성해 최악의 경우를 측정한다.
+ */
+@State(Scope.Benchmark)
+public class SessionMapperBenchmark {
+
+	private static final Instant BASE = Instant.parse("2025-01-01T09:00:00Z");
+
+	@Param({"2", "4"})
+	int depth;
+
+	@Param({"4", "8"})
+	int fanOut;
+
+	@Param({"10", "50"})
+	int participantsPerSession;
+
+	private Session root;
+	private SessionEntity rootEntity;
+	private long nextId;
+
+	@Setup
+	public void setUp() {
+		nextId = 1L;
+		root = buildTree(null, 1);
+		rootEntity = SessionMapper.toEntity(root);
+	}
+
+	@Benchmark
+	public SessionEntity toEntity() {
+		return SessionMapper.toEntity(root);
+	}
+
+	@Benchmark
+	public Session toDomain() {
+		return SessionMapper.toDomain(rootEntity);
+	}
+
+	private Session buildTree(Session parent, int level) {
+		long sessionId = nextId++;
+		Instant scheduledAt = BASE.plusSeconds(sessionId * 3_600L);
+
+		List<SessionParticipant> participants = new ArrayList<>(participantsPerSession);
+		for (int i = 0; i < participantsPerSession; i++) {
+			participants.add(SessionParticipant.reconstitute(
+				sessionId * 1_000 + i, (long)i + 1,
+				i == 0 ? SessionParticipantRole.HOST : SessionParticipantRole.ATTENDEE,
+				BASE, 1L, BASE, 1L, 0L
+			));
+		}
+
+		Session session = Session.reconstitute(
+			sessionId, 1L, 1L, parent,
+			"세션 " + sessionId, scheduledAt, scheduledAt.plusSeconds(1_800L),
+			SessionType.ONLINE, SessionLocation.ZOOM, null,
+			participants, BASE, 1L, BASE, 1L, 0L
+		);
+
+		if (level < depth) {
+			List<Session> children = new ArrayList<>(fanOut);
+			for (int i = 0; i < fanOut; i++) {
+				children.add(buildTree(session, level + 1));
+			}
+			session.setChildren(children);
+		}
+		return session;
+	}
+}
@@ -5,7 +5,9 @@ plugins {
 dependencies {
     val springBootVersion = libs.versions.spring.boot.get()
     val springDependencyManagementVersion = libs.versions.spring.dependency.management.get()
+    val jmhPluginVersion = libs.versions.jmh.plugin.get()
 
     implementation("org.springframework.boot:spring-boot-gradle-plugin:${springBootVersion}")
     implementation("io.spring.gradle:dependency-management-plugin:${springDependencyManagementVersion}")
+    implementation("me.champeau.jmh:jmh-gradle-plugin:${jmhPluginVersion}")
 }
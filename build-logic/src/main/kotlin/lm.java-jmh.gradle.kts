@@ -0,0 +1,23 @@
+plugins {
+    id("lm.java-library")
+    id("me.champeau.jmh")
+}
+
+val catalog = extensions.getByType<VersionCatalogsExtension>().named("libs")
+
+jmh {
+    jmhVersion.set(catalog.findVersion("jmh").get().toString())
+
+    benchmarkMode.set(listOf("avgt"))
+    timeUnit.set("us")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+
+    // 릴리즈 간 결과를 비교할 수 있도록 JSON 형식으로 고정된 경로에 기록
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+
+    // -Pjmh.includes=<정규식> 으로 특정 벤치마크만 실행
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.set(listOf(it)) }
+}
@@ -16,6 +16,7 @@ public abstract class AbstractEntity {
 	private Instant lastModifiedAt;
 	private Long lastModifiedBy;
 	private Long version;
+	private boolean modified;
 
 	/**
 	 * 엔티티의 고유 식별자를 반환한다.
@@ -81,4 +82,17 @@ public abstract class AbstractEntity {
 	protected void setVersion(Long version) {
 		this.version = version;
 	}
+
+	/**
+	 * 재구성(또는 생성) 이후 도메인 로직으로 상태가 바뀌었는지 여부를 반환한다.
+	 * <p>
+	 * 영속성 어댑터는 애그리거트 전체를 다시 쓰지 않고, 바뀐 하위 엔티티만 골라 반영하는 데 사용한다.
+	 */
+	public boolean isModified() {
+		return modified;
+	}
+
+	protected void markModified() {
+		this.modified = true;
+	}
 }
@@ -4,16 +4,22 @@ import static me.chan99k.learningmanager.attendance.AttendanceProblemCode.*;
 import static org.springframework.util.Assert.*;
 
 import java.time.Clock;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 public class Attendance {
 
 	private final Long sessionId;
 	private final Long memberId;
+	private final List<AttendanceEvent> pendingEvents;  // 복원(또는 생성) 이후 추가된, 아직 저장되지 않은 이벤트
 	private String id;
-	private List<AttendanceEvent> events;
-	private AttendanceStatus finalStatus;        // 계산된 최종 상태
+	private AttendanceSnapshot snapshot;                // 전체 이벤트를 반영한 현재 상태
+	private AttendanceStatus persistedFinalStatus;      // 복원(또는 생성) 시점의 최종 상태
+	private List<AttendanceEvent> persistedEvents;      // 저장된 이벤트 전체 - 감사 조회 시점에 지연 로딩
+	private Supplier<List<AttendanceEvent>> historyLoader;
 
 	private Attendance(String id, Long sessionId, Long memberId) {
 		notNull(sessionId, SESSION_ID_REQUIRED.getMessage());
@@ -22,30 +28,66 @@ public class Attendance {
 		this.id = id;
 		this.sessionId = sessionId;
 		this.memberId = memberId;
-		this.events = new ArrayList<>();
-		this.finalStatus = AttendanceStatus.ABSENT;
+		this.pendingEvents = new ArrayList<>();
+		this.persistedEvents = List.of();
+		this.snapshot = AttendanceSnapshot.initial();
+		this.persistedFinalStatus = snapshot.finalStatus();
 	}
 
 	public static Attendance create(Long sessionId, Long memberId) {
 		return new Attendance(null, sessionId, memberId);
 	}
 
+	/**
+	 * 저장된 이벤트 전체를 처음부터 다시 적용하여 복원한다.
+	 */
 	public static Attendance restore(
 		String id, Long sessionId, Long memberId,
 		List<AttendanceEvent> events
 	) {
 		Attendance attendance = new Attendance(id, sessionId, memberId);
-		attendance.events = new ArrayList<>(events);
-		attendance.recalculateStatus();
+		attendance.persistedEvents = List.copyOf(events);
+		attendance.snapshot = replay(AttendanceSnapshot.initial(), events);
+		attendance.persistedFinalStatus = attendance.snapshot.finalStatus();
 		return attendance;
 	}
 
+	/**
+	 * 스냅샷과 스냅샷 이후에 저장된 이벤트만으로 복원한다.
+	 * 전체 이벤트 목록은 getEvents() 가 처음 호출될 때 historyLoader 로 읽는다.
+	 *
+	 * @param newerEvents   스냅샷의 eventCount 이후에 저장된 이벤트
+	 * @param historyLoader 저장된 이벤트 전체를 순서대로 반환하는 함수
+	 */
+	public static Attendance restore(
+		String id, Long sessionId, Long memberId,
+		AttendanceSnapshot snapshot,
+		List<AttendanceEvent> newerEvents,
+		Supplier<List<AttendanceEvent>> historyLoader
+	) {
+		notNull(snapshot, "[System] 출석 스냅샷은 필수입니다.");
+		notNull(historyLoader, "[System] 출석 이벤트 로더는 필수입니다.");
+
+		Attendance attendance = new Attendance(id, sessionId, memberId);
+		attendance.persistedEvents = null;
+		attendance.historyLoader = historyLoader;
+		attendance.snapshot = replay(snapshot, newerEvents);
+		attendance.persistedFinalStatus = attendance.snapshot.finalStatus();
+		return attendance;
+	}
+
+	private static AttendanceSnapshot replay(AttendanceSnapshot from, List<AttendanceEvent> events) {
+		AttendanceSnapshot result = from;
+		for (AttendanceEvent event : events) {
+			result = result.apply(event);
+		}
+		return result;
+	}
+
 	public void checkIn(Clock clock) {
 		validateNotAlreadyCheckedIn();
 
-		AttendanceEvent event = AttendanceEvent.checkIn(clock);
-		events.add(event);
-		recalculateStatus();
+		append(AttendanceEvent.checkIn(clock));
 	}
 
 	/* 도메인 로직 */
@@ -53,9 +95,7 @@ public class Attendance {
 	public void checkOut(Clock clock) {
 		validateAlreadyCheckedIn();
 
-		AttendanceEvent event = AttendanceEvent.checkOut(clock);
-		events.add(event);
-		recalculateStatus();
+		append(AttendanceEvent.checkOut(clock));
 	}
 
 	public void requestCorrection(
@@ -68,9 +108,9 @@ public class Attendance {
 		validateStatusChange(requestedStatus);  // 같은 상태로 변경 요청 방지
 
 		AttendanceEvent event = AttendanceEvent.correctionRequested(
-			clock, this.finalStatus, requestedStatus, reason, requestedBy
+			clock, snapshot.finalStatus(), requestedStatus, reason, requestedBy
 		);
-		events.add(event);// 출석 상태 요청만 기록하고 finalStatus는 변경하지 않음 (승인 전까지)
+		append(event);// 출석 상태 요청만 기록하고 finalStatus는 변경하지 않음 (승인 전까지)
 	}
 
 	public void approveCorrection(Long approvedBy, Clock clock) {
@@ -83,8 +123,7 @@ public class Attendance {
 			pendingRequest.reason(),
 			approvedBy
 		);
-		events.add(event);
-		this.finalStatus = pendingRequest.requestedStatus();  // 상태 변경!
+		append(event);  // 상태 변경! (finalStatus = requestedStatus)
 	}
 
 	public void rejectCorrection(String rejectionReason, Long rejectedBy, Clock clock) {
@@ -93,13 +132,12 @@ public class Attendance {
 		AttendanceEvent event = AttendanceEvent.correctionRejected(
 			clock, rejectionReason, rejectedBy
 		);
-		events.add(event);
+		append(event);
 	}
 
-	private void recalculateStatus() {
-		boolean hasCheckIn = events.stream().anyMatch(event -> event instanceof CheckedIn);
-
-		this.finalStatus = hasCheckIn ? AttendanceStatus.PRESENT : AttendanceStatus.ABSENT;
+	private void append(AttendanceEvent event) {
+		pendingEvents.add(event);
+		snapshot = snapshot.apply(event);
 	}
 
 	/**
@@ -126,11 +164,7 @@ public class Attendance {
 	}
 
 	private AttendanceState getCurrentAttendanceState() {
-		if (events.isEmpty()) {
-			return AttendanceState.NOT_CHECKED_IN;
-		}
-
-		AttendanceEvent lastEvent = events.get(events.size() - 1);
+		AttendanceEvent lastEvent = snapshot.lastEvent();
 		if (lastEvent instanceof CheckedIn) {
 			return AttendanceState.CHECKED_IN;
 		} else if (lastEvent instanceof CheckedOut) {
@@ -141,23 +175,10 @@ public class Attendance {
 	}
 
 	/**
-	 * events를 역순으로 탐색하여 대기 중인 출석 상태 수정 요청이 있는지 확인
+	 * 스냅샷에 승인/반려되지 않은 출석 상태 수정 요청이 남아 있는지 확인
 	 */
 	private boolean hasPendingRequest() {
-		for (int i = events.size() - 1; i >= 0; i--) {
-			AttendanceEvent event = events.get(i);
-
-			if (event instanceof CorrectionRequested) {
-				return true;  // 요청이 있고, 아직 처리 안됨
-			}
-
-			if (event instanceof StatusCorrected || event instanceof CorrectionRejected) {
-				return false;  // 이미 처리된 요청
-			}
-		}
-
-		return false;  // 요청 자체가 없음
-
+		return snapshot.pendingCorrection() != null;
 	}
 
 	private void validateNoPendingRequest() {
@@ -173,23 +194,15 @@ public class Attendance {
 	}
 
 	public CorrectionRequested getPendingRequest() {
-		for (int i = events.size() - 1; i >= 0; i--) {
-			AttendanceEvent event = events.get(i);
-
-			if (event instanceof CorrectionRequested requested) {
-				return requested;
-			}
-
-			if (event instanceof StatusCorrected || event instanceof CorrectionRejected) {
-				break;  // 이미 처리됨, 더 볼 필요 없음
-			}
+		CorrectionRequested pending = snapshot.pendingCorrection();
+		if (pending == null) {
+			throw new IllegalStateException(NO_PENDING_REQUEST.getMessage());
 		}
-
-		throw new IllegalStateException(NO_PENDING_REQUEST.getMessage());
+		return pending;
 	}
 
 	private void validateStatusChange(AttendanceStatus requestedStatus) {
-		if (this.finalStatus == requestedStatus) {
+		if (snapshot.finalStatus() == requestedStatus) {
 			throw new IllegalStateException(SAME_STATUS_REQUEST.getMessage());
 		}
 	}
@@ -216,12 +229,57 @@ public class Attendance {
 		return memberId;
 	}
 
+	/**
+	 * 저장된 이벤트와 아직 저장되지 않은 이벤트를 합친 전체 이력. 스냅샷으로 복원한 경우 처음 호출할 때 이력을 읽는다.
+	 */
 	public List<AttendanceEvent> getEvents() {
-		return events;
+		List<AttendanceEvent> events = new ArrayList<>(loadPersistedEvents());
+		events.addAll(pendingEvents);
+		return Collections.unmodifiableList(events);
+	}
+
+	/**
+	 * 마지막으로 복원(또는 생성)된 이후 추가되어 아직 저장되지 않은 이벤트
+	 */
+	public List<AttendanceEvent> getPendingEvents() {
+		return Collections.unmodifiableList(pendingEvents);
+	}
+
+	/**
+	 * 저장소에 이미 기록되어 있는 이벤트 수. 추가된 이벤트를 이어서 저장할 때 동시 수정 검사에 사용한다.
+	 */
+	public int getPersistedEventCount() {
+		return snapshot.eventCount() - pendingEvents.size();
+	}
+
+	public AttendanceSnapshot getSnapshot() {
+		return snapshot;
 	}
 
 	public AttendanceStatus getFinalStatus() {
-		return finalStatus;
+		return snapshot.finalStatus();
+	}
+
+	/**
+	 * 저장소에 기록되어 있는 최종 상태. 저장할 때 추가된 이벤트로 최종 상태가 바뀌었는지 비교하는 데 사용한다.
+	 */
+	public AttendanceStatus getPersistedFinalStatus() {
+		return persistedFinalStatus;
+	}
+
+	/**
+	 * 최초 체크인 시각. 체크인한 적이 없으면 null
+	 */
+	public Instant getCheckInTime() {
+		return snapshot.checkInTime();
+	}
+
+	private List<AttendanceEvent> loadPersistedEvents() {
+		if (persistedEvents == null) {
+			persistedEvents = List.copyOf(historyLoader.get());
+			historyLoader = null;
+		}
+		return persistedEvents;
 	}
 
 	private enum AttendanceState {
@@ -0,0 +1,58 @@
+package me.chan99k.learningmanager.attendance;
+
+import java.time.Instant;
+
+/**
+ * 출석 이벤트 스트림의 앞에서부터 eventCount 개의 이벤트를 반영한 현재 상태.
+ * <p>
+ * 중복 체크인, 대기 중인 정정 요청 같은 도메인 규칙은 이 값만으로 판단할 수 있으므로,
+ * 저장소는 스냅샷과 그 이후에 쌓인 이벤트만 읽어 Attendance 를 복원할 수 있다.
+ *
+ * @param eventCount        스냅샷에 반영된 이벤트 수
+ * @param finalStatus       계산된 최종 출석 상태
+ * @param lastEvent         마지막 이벤트 (없으면 null)
+ * @param pendingCorrection 아직 승인/반려되지 않은 정정 요청 (없으면 null)
+ * @param checkInTime       최초 체크인 시각 (없으면 null)
+ */
+public record AttendanceSnapshot(
+	int eventCount,
+	AttendanceStatus finalStatus,
+	AttendanceEvent lastEvent,
+	CorrectionRequested pendingCorrection,
+	Instant checkInTime
+) {
+
+	public static AttendanceSnapshot initial() {
+		return new AttendanceSnapshot(0, AttendanceStatus.ABSENT, null, null, null);
+	}
+
+	/**
+	 * 이벤트 하나를 반영한 다음 스냅샷을 반환한다.
+	 * 체크인/체크아웃은 체크인 기록이 있으므로 PRESENT, 승인된 정정은 정정된 상태로 최종 상태를 바꾼다.
+	 */
+	public AttendanceSnapshot apply(AttendanceEvent event) {
+		return switch (event) {
+			case CheckedIn e -> new AttendanceSnapshot(
+				eventCount + 1, AttendanceStatus.PRESENT, e, pendingCorrection,
+				checkInTime != null ? checkInTime : e.timestamp()
+			);
+
+			case CheckedOut e -> new AttendanceSnapshot(
+				eventCount + 1, checkInTime != null ? AttendanceStatus.PRESENT : finalStatus,
+				e, pendingCorrection, checkInTime
+			);
+
+			case CorrectionRequested e -> new AttendanceSnapshot(
+				eventCount + 1, finalStatus, e, e, checkInTime
+			);
+
+			case StatusCorrected e -> new AttendanceSnapshot(
+				eventCount + 1, e.newStatus(), e, null, checkInTime
+			);
+
+			case CorrectionRejected e -> new AttendanceSnapshot(
+				eventCount + 1, finalStatus, e, null, checkInTime
+			);
+		};
+	}
+}
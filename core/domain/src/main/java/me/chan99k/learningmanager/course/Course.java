@@ -6,8 +6,10 @@ import static org.springframework.util.Assert.*;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import me.chan99k.learningmanager.AbstractEntity;
 
@@ -21,6 +23,11 @@ public class Course extends AbstractEntity {
 
 	private List<Curriculum> curriculumList = new ArrayList<>();
 
+	// 재구성 이후 제거된 하위 엔티티 ID. 추가된 하위 엔티티는 ID 가 없으므로 따로 기록하지 않는다
+	private final Set<Long> removedMemberIds = new LinkedHashSet<>();
+
+	private final Set<Long> removedCurriculumIds = new LinkedHashSet<>();
+
 	protected Course() {
 	}
 
@@ -64,11 +71,13 @@ public class Course extends AbstractEntity {
 	public void updateTitle(String newTitle) {
 		hasText(newTitle, COURSE_TITLE_REQUIRED.getMessage());
 		this.title = newTitle;
+		markModified();
 	}
 
 	public void updateDescription(String newDescription) {
 		hasText(newDescription, COURSE_DESCRIPTION_REQUIRED.getMessage());
 		this.description = newDescription;
+		markModified();
 	}
 
 	public void addMember(Long memberId, CourseRole courseRole) {
@@ -83,11 +92,17 @@ public class Course extends AbstractEntity {
 	}
 
 	public void removeMember(Long memberId) {
-		boolean removed = this.courseMemberList.removeIf(
-			courseMember -> courseMember.getMemberId().equals(memberId)
-		);
+		CourseMember courseMember = this.courseMemberList.stream()
+			.filter(member -> member.getMemberId().equals(memberId))
+			.findFirst()
+			.orElse(null);
+
+		isTrue(courseMember != null, COURSE_MEMBER_NOT_REGISTERED.getMessage());
 
-		isTrue(removed, COURSE_MEMBER_NOT_REGISTERED.getMessage());
+		this.courseMemberList.remove(courseMember);
+		if (courseMember.getId() != null) {
+			this.removedMemberIds.add(courseMember.getId());
+		}
 	}
 
 	public Curriculum addCurriculum(String title, String description) {
@@ -103,6 +118,10 @@ public class Course extends AbstractEntity {
 		boolean removed = this.curriculumList.remove(curriculum);
 
 		isTrue(removed, CURRICULUM_NOT_FOUND_IN_COURSE.getMessage() + " ID: " + curriculum.getId());
+
+		if (curriculum.getId() != null) {
+			this.removedCurriculumIds.add(curriculum.getId());
+		}
 	}
 
 	public Curriculum findCurriculumById(Long curriculumId) {
@@ -133,4 +152,12 @@ public class Course extends AbstractEntity {
 	public List<Curriculum> getCurriculumList() {
 		return Collections.unmodifiableList(curriculumList);
 	}
+
+	public Set<Long> getRemovedMemberIds() {
+		return Collections.unmodifiableSet(removedMemberIds);
+	}
+
+	public Set<Long> getRemovedCurriculumIds() {
+		return Collections.unmodifiableSet(removedCurriculumIds);
+	}
 }
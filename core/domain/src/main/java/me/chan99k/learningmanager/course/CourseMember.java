@@ -58,6 +58,7 @@ public class CourseMember extends AbstractEntity {
 	public void changeRole(CourseRole newRole) {
 		notNull(newRole, NEW_ROLE_REQUIRED.getMessage());
 		this.courseRole = newRole;
+		markModified();
 	}
 
 	/* 게터 로직 */
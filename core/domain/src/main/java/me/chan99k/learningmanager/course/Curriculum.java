@@ -56,11 +56,13 @@ public class Curriculum extends AbstractEntity {
 	public void updateTitle(String newTitle) {
 		hasText(newTitle, CURRICULUM_TITLE_REQUIRED.getMessage());
 		this.title = newTitle;
+		markModified();
 	}
 
 	public void updateDescription(String newDescription) {
 		hasText(newDescription, CURRICULUM_DESCRIPTION_REQUIRED.getMessage());
 		this.description = newDescription;
+		markModified();
 	}
 
 	/* 게터 로직 */
@@ -9,8 +9,10 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import org.springframework.util.StringUtils;
 
@@ -40,6 +42,9 @@ public class Session extends AbstractEntity {
 
 	private String locationDetails;
 
+	// 재구성 이후 제거된 참여자 ID. 추가된 참여자는 ID 가 없으므로 따로 기록하지 않는다
+	private final Set<Long> removedParticipantIds = new LinkedHashSet<>();
+
 	protected Session() {
 	}
 
@@ -155,8 +160,11 @@ public class Session extends AbstractEntity {
 	}
 
 	public void removeParticipant(Long memberId) {
-		boolean removed = this.participants.removeIf(p -> p.getMemberId().equals(memberId));
-		isTrue(removed, MEMBER_NOT_PARTICIPATING.getMessage());
+		SessionParticipant participant = findParticipant(memberId);
+		this.participants.remove(participant);
+		if (participant.getId() != null) {
+			this.removedParticipantIds.add(participant.getId());
+		}
 	}
 
 	public void changeParticipantRole(Long memberId, SessionParticipantRole newRole, Clock clock) {
@@ -183,6 +191,7 @@ public class Session extends AbstractEntity {
 		this.scheduledAt = newScheduledAt;
 		this.scheduledEndAt = newScheduledEndAt;
 		validate();
+		markModified();
 	}
 
 	/**
@@ -193,6 +202,7 @@ public class Session extends AbstractEntity {
 		this.title = newTitle;
 		this.type = newType;
 		validate();
+		markModified();
 	}
 
 	/**
@@ -203,6 +213,7 @@ public class Session extends AbstractEntity {
 		this.location = newLocation;
 		this.locationDetails = newLocationDetails;
 		validate();
+		markModified();
 	}
 
 	private void validate() {
@@ -266,6 +277,20 @@ public class Session extends AbstractEntity {
 		return Collections.unmodifiableList(this.participants);
 	}
 
+	public Set<Long> getRemovedParticipantIds() {
+		return Collections.unmodifiableSet(this.removedParticipantIds);
+	}
+
+	/**
+	 * 재구성 이후 이 세션이나 참여자, 하위 세션에 반영할 변경이 있는지 확인한다.
+	 */
+	public boolean hasPendingChanges() {
+		return isModified()
+			|| !removedParticipantIds.isEmpty()
+			|| participants.stream().anyMatch(p -> p.getId() == null || p.isModified())
+			|| children.stream().anyMatch(child -> child.getId() == null || child.hasPendingChanges());
+	}
+
 	public boolean isRootSession() {
 		return Objects.isNull(this.parent);
 	}
@@ -0,0 +1,69 @@
+package me.chan99k.learningmanager.session;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 세션 일정이 바뀌었음을 알리는 이벤트. 월간 캘린더처럼 일정으로 묶인 조회 결과를 무효화하는 데 쓴다.
+ */
+public sealed interface SessionChangeEvent
+	permits SessionChangeEvent.Created, SessionChangeEvent.Updated, SessionChangeEvent.Deleted {
+
+	Long sessionId();
+
+	Long courseId();
+
+	Long curriculumId();
+
+	/**
+	 * @return 이 변경으로 캘린더 표시가 달라지는 시작 시각들
+	 */
+	List<Instant> affectedScheduledAts();
+
+	static Created created(Session session) {
+		return new Created(session.getId(), session.getCourseId(), session.getCurriculumId(),
+			session.getScheduledAt());
+	}
+
+	static Deleted deleted(Session session) {
+		return new Deleted(session.getId(), session.getCourseId(), session.getCurriculumId(),
+			session.getScheduledAt());
+	}
+
+	record Created(
+		Long sessionId,
+		Long courseId,
+		Long curriculumId,
+		Instant scheduledAt
+	) implements SessionChangeEvent {
+		@Override
+		public List<Instant> affectedScheduledAts() {
+			return List.of(scheduledAt);
+		}
+	}
+
+	record Updated(
+		Long sessionId,
+		Long courseId,
+		Long curriculumId,
+		Instant previousScheduledAt,
+		Instant scheduledAt
+	) implements SessionChangeEvent {
+		@Override
+		public List<Instant> affectedScheduledAts() {
+			return List.of(previousScheduledAt, scheduledAt);
+		}
+	}
+
+	record Deleted(
+		Long sessionId,
+		Long courseId,
+		Long curriculumId,
+		Instant scheduledAt
+	) implements SessionChangeEvent {
+		@Override
+		public List<Instant> affectedScheduledAts() {
+			return List.of(scheduledAt);
+		}
+	}
+}
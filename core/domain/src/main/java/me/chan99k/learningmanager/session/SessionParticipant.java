@@ -66,5 +66,6 @@ public class SessionParticipant extends AbstractEntity {
 		notNull(newRole, PARTICIPANT_ROLE_REQUIRED.getMessage());
 		isTrue(this.role != newRole, SAME_ROLE_PARTICIPANT_ALREADY.getMessage());
 		this.role = newRole;
+		markModified();
 	}
 }
@@ -5,6 +5,9 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -331,4 +334,96 @@ class AttendanceTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("스냅샷 복원 테스트")
+	class SnapshotRestore {
+
+		private final Instant checkInAt = Instant.parse("2025-01-01T10:00:00Z");
+
+		@Test
+		@DisplayName("[Success] 스냅샷과 이후 이벤트만으로 복원하고, 전체 이력은 처음 필요할 때 한 번만 읽는다")
+		void restore_from_snapshot_loads_history_lazily() {
+			List<AttendanceEvent> history = List.of(new CheckedIn(checkInAt), new CheckedOut(checkInAt.plusSeconds(60)));
+			AttendanceSnapshot snapshot = AttendanceSnapshot.initial().apply(history.get(0));
+			AtomicInteger loadCount = new AtomicInteger();
+
+			Attendance attendance = Attendance.restore(attendanceId, sessionId, memberId,
+				snapshot, List.of(history.get(1)), () -> {
+					loadCount.incrementAndGet();
+					return history;
+				});
+
+			assertThat(attendance.getFinalStatus()).isEqualTo(AttendanceStatus.PRESENT);
+			assertThat(attendance.getCheckInTime()).isEqualTo(checkInAt);
+			assertThat(attendance.getPersistedEventCount()).isEqualTo(2);
+			assertThat(loadCount).hasValue(0);
+
+			assertThat(attendance.getEvents()).containsExactlyElementsOf(history);
+			assertThat(attendance.getEvents()).hasSize(2);
+			assertThat(loadCount).hasValue(1);
+		}
+
+		@Test
+		@DisplayName("[Success] 스냅샷으로 복원한 출석도 이력을 읽지 않고 도메인 규칙을 검사한다")
+		void restore_from_snapshot_validates_without_history() {
+			AttendanceSnapshot snapshot = AttendanceSnapshot.initial().apply(new CheckedIn(checkInAt));
+			Attendance attendance = Attendance.restore(attendanceId, sessionId, memberId,
+				snapshot, List.of(), () -> {
+					throw new AssertionError("이력을 읽으면 안 됩니다.");
+				});
+
+			assertThatThrownBy(() -> attendance.checkIn(Clock.fixed(checkInAt.plusSeconds(60), ZoneOffset.UTC)))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage(ALREADY_CHECKED_IN.getMessage());
+
+			attendance.checkOut(Clock.fixed(checkInAt.plusSeconds(60), ZoneOffset.UTC));
+
+			assertThat(attendance.getPendingEvents()).containsExactly(new CheckedOut(checkInAt.plusSeconds(60)));
+			assertThat(attendance.getPersistedEventCount()).isEqualTo(1);
+			assertThat(attendance.getSnapshot().eventCount()).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("[Success] 재체크인해도 스냅샷의 체크인 시각은 최초 체크인 시각이다")
+		void snapshot_keeps_first_check_in_time() {
+			Attendance attendance = Attendance.restore(attendanceId, sessionId, memberId, List.of(
+				new CheckedIn(checkInAt),
+				new CheckedOut(checkInAt.plusSeconds(60)),
+				new CheckedIn(checkInAt.plusSeconds(120))
+			));
+
+			assertThat(attendance.getCheckInTime()).isEqualTo(checkInAt);
+			assertThat(attendance.getSnapshot().lastEvent()).isEqualTo(new CheckedIn(checkInAt.plusSeconds(120)));
+		}
+
+		@Test
+		@DisplayName("[Success] 승인된 정정 이벤트를 다시 적용하면 정정된 상태로 복원된다")
+		void restore_applies_status_correction() {
+			Attendance attendance = Attendance.restore(attendanceId, sessionId, memberId, List.of(
+				new CheckedIn(checkInAt),
+				new CorrectionRequested(checkInAt.plusSeconds(60), AttendanceStatus.PRESENT, AttendanceStatus.LATE,
+					"지각", memberId),
+				new StatusCorrected(checkInAt.plusSeconds(120), AttendanceStatus.PRESENT, AttendanceStatus.LATE,
+					"지각", 2L)
+			));
+
+			assertThat(attendance.getFinalStatus()).isEqualTo(AttendanceStatus.LATE);
+			assertThat(attendance.getSnapshot().pendingCorrection()).isNull();
+		}
+
+		@Test
+		@DisplayName("[Success] 저장된 최종 상태는 복원 이후 추가된 이벤트의 영향을 받지 않는다")
+		void persisted_final_status_ignores_pending_events() {
+			Attendance attendance = Attendance.restore(attendanceId, sessionId, memberId, List.of(
+				new CheckedIn(checkInAt),
+				new CorrectionRequested(checkInAt.plusSeconds(60), AttendanceStatus.PRESENT, AttendanceStatus.LATE,
+					"지각", memberId)
+			));
+
+			attendance.approveCorrection(2L, Clock.fixed(checkInAt.plusSeconds(120), ZoneOffset.UTC));
+
+			assertThat(attendance.getPersistedFinalStatus()).isEqualTo(AttendanceStatus.PRESENT);
+			assertThat(attendance.getFinalStatus()).isEqualTo(AttendanceStatus.LATE);
+		}
+	}
 }
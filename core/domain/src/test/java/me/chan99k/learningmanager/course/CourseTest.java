@@ -238,4 +238,51 @@ class CourseTest {
 				.isInstanceOf(UnsupportedOperationException.class);
 		}
 	}
+
+	@Nested
+	@DisplayName("변경 기록 테스트")
+	class ChangeTracking {
+
+		private Course persistedCourse;
+
+		@BeforeEach
+		void setUp() {
+			persistedCourse = Course.reconstitute(1L, "과정", "설명",
+				List.of(CourseMember.reconstitute(10L, 100L, CourseRole.MANAGER, null, null, null, null, 0L),
+					CourseMember.reconstitute(11L, 101L, CourseRole.MENTEE, null, null, null, null, 0L)),
+				List.of(Curriculum.reconstitute(20L, "1주차", "설명", null, null, null, null, 0L)),
+				null, null, null, null, 0L);
+		}
+
+		@Test
+		@DisplayName("[Success] 재구성 직후에는 변경 기록이 없다")
+		void test01() {
+			assertThat(persistedCourse.isModified()).isFalse();
+			assertThat(persistedCourse.getRemovedMemberIds()).isEmpty();
+			assertThat(persistedCourse.getRemovedCurriculumIds()).isEmpty();
+			assertThat(persistedCourse.getCourseMemberList()).noneMatch(CourseMember::isModified);
+		}
+
+		@Test
+		@DisplayName("[Success] 저장된 멤버와 커리큘럼을 제거하면 ID 를 기록하고, 새로 추가한 항목은 기록하지 않는다")
+		void test02() {
+			persistedCourse.addMember(102L, CourseRole.MENTOR);
+			persistedCourse.removeMember(101L);
+			persistedCourse.removeMember(102L);
+			persistedCourse.removeCurriculum(persistedCourse.findCurriculumById(20L));
+
+			assertThat(persistedCourse.getRemovedMemberIds()).containsExactly(11L);
+			assertThat(persistedCourse.getRemovedCurriculumIds()).containsExactly(20L);
+		}
+
+		@Test
+		@DisplayName("[Success] 정보를 수정한 과정과 커리큘럼은 변경된 것으로 표시된다")
+		void test03() {
+			persistedCourse.updateTitle("새 제목");
+			persistedCourse.findCurriculumById(20L).updateDescription("새 설명");
+
+			assertThat(persistedCourse.isModified()).isTrue();
+			assertThat(persistedCourse.findCurriculumById(20L).isModified()).isTrue();
+		}
+	}
 }
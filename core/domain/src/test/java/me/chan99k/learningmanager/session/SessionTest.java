@@ -407,4 +407,60 @@ class SessionTest {
 				.hasMessage(CHILD_SESSION_MODIFICATION_DEADLINE_EXCEEDED.getMessage());
 		}
 	}
-}
\ No newline at end of file
+
+	@Nested
+	@DisplayName("변경 기록 테스트")
+	class ChangeTrackingTest {
+
+		private Session persistedSession;
+
+		@BeforeEach
+		void setUp() {
+			Instant start = now.plus(7, ChronoUnit.DAYS);
+			SessionParticipant host = SessionParticipant.reconstitute(
+				100L, 1L, SessionParticipantRole.HOST, null, null, null, null, 0L);
+			SessionParticipant attendee = SessionParticipant.reconstitute(
+				101L, 2L, SessionParticipantRole.ATTENDEE, null, null, null, null, 0L);
+			persistedSession = Session.reconstitute(1L, 10L, null, null, "저장된 세션", start,
+				start.plus(2, ChronoUnit.HOURS), SessionType.ONLINE, SessionLocation.ZOOM, null,
+				List.of(host, attendee), null, null, null, null, 0L);
+		}
+
+		@Test
+		@DisplayName("[Success] 재구성 직후에는 반영할 변경이 없다")
+		void test01() {
+			assertThat(persistedSession.hasPendingChanges()).isFalse();
+		}
+
+		@Test
+		@DisplayName("[Success] 정보를 수정하면 세션이 변경된 것으로 표시된다")
+		void test02() {
+			persistedSession.changeInfo("새 제목", SessionType.ONLINE, clock);
+
+			assertThat(persistedSession.isModified()).isTrue();
+			assertThat(persistedSession.hasPendingChanges()).isTrue();
+		}
+
+		@Test
+		@DisplayName("[Success] 저장된 참여자를 제거하면 ID 를 기록하고, 역할을 바꾼 참여자는 변경된 것으로 표시된다")
+		void test03() {
+			persistedSession.removeParticipant(2L);
+			persistedSession.changeParticipantRole(1L, SessionParticipantRole.SPEAKER, clock);
+
+			assertThat(persistedSession.getRemovedParticipantIds()).containsExactly(101L);
+			assertThat(persistedSession.getParticipants().get(0).isModified()).isTrue();
+			assertThat(persistedSession.isModified()).isFalse();
+			assertThat(persistedSession.hasPendingChanges()).isTrue();
+		}
+
+		@Test
+		@DisplayName("[Success] 새 하위 세션을 만들면 부모 세션에 반영할 변경이 생긴다")
+		void test04() {
+			persistedSession.createChildSession("하위 세션", persistedSession.getScheduledAt(),
+				persistedSession.getScheduledAt().plus(1, ChronoUnit.HOURS),
+				SessionType.ONLINE, SessionLocation.ZOOM, null, clock);
+
+			assertThat(persistedSession.hasPendingChanges()).isTrue();
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package me.chan99k.learningmanager.attendance;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 같은 세션에 몰린 여러 회원의 체크인을 한 번에 처리한다.
+ * 참여자 검증과 출석 저장을 배치 단위로 한 번씩만 수행하며, 회원별 결과를 돌려준다.
+ */
+public interface AttendanceBatchCheckIn {
+	Map<Long, Outcome> checkInAll(Long sessionId, Collection<Long> memberIds);
+
+	record Outcome(
+		AttendanceCheckIn.Response response,
+		RuntimeException failure
+	) {
+		public static Outcome success(AttendanceCheckIn.Response response) {
+			return new Outcome(response, null);
+		}
+
+		public static Outcome failed(RuntimeException failure) {
+			return new Outcome(null, failure);
+		}
+
+		public boolean isSuccess() {
+			return failure == null;
+		}
+	}
+}
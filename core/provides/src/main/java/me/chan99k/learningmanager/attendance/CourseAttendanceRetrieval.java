@@ -3,6 +3,7 @@ package me.chan99k.learningmanager.attendance;
 import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 public interface CourseAttendanceRetrieval {
 
@@ -10,6 +11,12 @@ public interface CourseAttendanceRetrieval {
 
 	Response getMemberAttendance(Long requestedBy, MemberRequest request);
 
+	/**
+	 * 멤버 전체의 출석 기록을 회원 ID 순으로 한 행씩 sink 에 전달한다.
+	 * 응답 전체를 메모리에 만들지 않으므로 인원이 많은 과정의 내보내기에 사용한다.
+	 */
+	void exportAllMembersAttendance(Long requestedBy, AllMembersRequest request, Consumer<ExportRow> sink);
+
 	// === Request Records ===
 
 	record AllMembersRequest(
@@ -77,6 +84,19 @@ public interface CourseAttendanceRetrieval {
 	) {
 	}
 
+	record ExportRow(
+		Long memberId,
+		String memberName,
+		String attendanceId,
+		Long sessionId,
+		String sessionTitle,
+		Instant scheduledAt,
+		AttendanceStatus finalStatus,
+		Long curriculumId,
+		String curriculumTitle
+	) {
+	}
+
 	record CourseAttendanceStatistics(
 		int totalMembers,
 		int totalSessions,
@@ -0,0 +1,13 @@
+package me.chan99k.learningmanager.attendance;
+
+/**
+ * 재집계 대상으로 표시된 과정의 출석 통계를 출석 기록으로부터 다시 집계한다. 조회 경로 밖에서 주기적으로 호출한다.
+ */
+public interface CourseAttendanceStatsRebuild {
+
+	/**
+	 * @param limit 한 번에 재집계할 최대 과정 수
+	 * @return 재집계를 마친 과정 수
+	 */
+	int rebuildPending(int limit);
+}
@@ -21,9 +21,28 @@ public interface SessionListRetrieval {
 
 	PageResult<SessionListResponse> getUserSessionList(Long memberId, UserSessionListRequest request);
 
+	// === 커서(키셋) 페이지네이션 ===
+	// scheduledAt desc, id desc 순서로 고정되며 요청의 page, sort 는 사용하지 않는다.
+
+	PageResult<SessionListResponse> getSessionList(SessionListRequest request, CursorRequest cursorRequest);
+
+	PageResult<SessionListResponse> getCourseSessionList(Long courseId, CourseSessionListRequest request,
+		CursorRequest cursorRequest);
+
+	PageResult<SessionListResponse> getCurriculumSessionList(Long curriculumId, CurriculumSessionListRequest request,
+		CursorRequest cursorRequest);
+
+	PageResult<SessionListResponse> getUserSessionList(Long memberId, UserSessionListRequest request,
+		CursorRequest cursorRequest);
+
 	Map<LocalDate, List<SessionCalendarResponse>> getSessionCalendar(YearMonth yearMonth,
 		SessionCalendarRequest request);
 
+	/**
+	 * 월간 캘린더를 ETag 와 함께 조회한다. 같은 달, 같은 필터의 결과는 세션 변경 이벤트가 있기 전까지 재사용된다.
+	 */
+	SessionCalendar getSessionCalendarView(YearMonth yearMonth, SessionCalendarRequest request);
+
 	enum SessionStatus { // 계산된 값 -> UI 표시를 원활히 하기 위해서
 		UPCOMING,    // 예정
 		ONGOING,     // 진행 중
@@ -125,6 +144,16 @@ public interface SessionListRetrieval {
 		}
 	}
 
+	/**
+	 * @param cursor       이전 응답의 nextCursor, 첫 페이지면 null
+	 * @param includeCount 전체 개수를 함께 셀지 여부
+	 */
+	record CursorRequest(
+		String cursor,
+		boolean includeCount
+	) {
+	}
+
 	record SessionCalendarRequest(
 		SessionType type,
 		SessionLocation location,
@@ -133,6 +162,38 @@ public interface SessionListRetrieval {
 	) {
 	}
 
+	/**
+	 * @param days 날짜 오름차순으로 정렬된 일별 세션 목록
+	 * @param etag 따옴표를 포함한 강한 ETag
+	 */
+	record SessionCalendar(
+		Map<LocalDate, List<SessionCalendarResponse>> days,
+		String etag
+	) {
+		/**
+		 * If-None-Match 헤더 값이 이 캘린더의 ETag 를 가리키는지 확인한다. (약한 비교, 목록과 * 허용)
+		 */
+		public boolean matches(String ifNoneMatch) {
+			if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+				return false;
+			}
+
+			for (String candidate : ifNoneMatch.split(",")) {
+				String tag = candidate.trim();
+				if (tag.equals("*")) {
+					return true;
+				}
+				if (tag.startsWith("W/")) {
+					tag = tag.substring(2);
+				}
+				if (tag.equals(etag)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
 	record SessionListResponse(
 		Long id,
 		String title,
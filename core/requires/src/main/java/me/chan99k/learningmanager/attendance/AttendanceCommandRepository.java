@@ -1,5 +1,66 @@
 package me.chan99k.learningmanager.attendance;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 출석 쓰기 포트. courseId 를 받는 쓰기는 최종 상태가 바뀌면 같은 호출 안에서 과정-회원별 출석 통계도 갱신한다.
+ * 과정에 속하지 않은 세션이면 courseId 로 null 을 전달하며, 이때는 통계를 갱신하지 않는다.
+ */
 public interface AttendanceCommandRepository {
 	Attendance save(Attendance attendance);
+
+	/**
+	 * 저장하면서 최종 상태가 바뀌었다면 과정의 회원별 출석 통계에도 반영한다.
+	 */
+	Attendance save(Attendance attendance, Long courseId);
+
+	/**
+	 * 마지막 이벤트가 체크인이 아닌 경우에만 체크인 이벤트를 추가하고, 출석 기록이 없으면 새로 만든다.
+	 * 조회 후 저장하지 않고 저장소에서 한 번에 조건부로 반영한다.
+	 *
+	 * @throws IllegalStateException 이미 체크인 상태인 경우
+	 */
+	Attendance appendCheckIn(Long courseId, Long sessionId, Long memberId, CheckedIn event);
+
+	/**
+	 * 마지막 이벤트가 체크인인 경우에만 체크아웃 이벤트를 추가한다.
+	 * 체크인 상태의 최종 상태는 항상 PRESENT 이므로 체크아웃은 출석 통계를 바꾸지 않는다.
+	 *
+	 * @throws IllegalArgumentException 출석 기록이 없는 경우
+	 * @throws IllegalStateException    체크인 상태가 아닌 경우
+	 */
+	Attendance appendCheckOut(Long sessionId, Long memberId, CheckedOut event);
+
+	/**
+	 * 같은 세션의 여러 회원에게 체크인 이벤트를 한 번의 쓰기로 반영한다.
+	 * appended 에는 반영된 회원의 출석만 담기며, 이미 체크인 상태라 거부된 회원은 어느 쪽에도 포함되지 않는다.
+	 * 그 밖의 쓰기 오류로 반영되지 않은 회원은 failed 에 원인과 함께 담기고, 나머지 회원의 결과에는 영향을 주지 않는다.
+	 */
+	CheckInBatchResult appendCheckIns(Long courseId, Long sessionId, Collection<Long> memberIds, CheckedIn event);
+
+	/**
+	 * 과정의 출석 통계를 출석 기록으로부터 다시 집계할 대상으로 표시한다. 실제 재집계는 rebuildCourseStats 가 맡는다.
+	 * 세션 삭제처럼 출석 기록이 통계 대상에서 빠지는 변경 이후에 호출한다.
+	 */
+	void invalidateCourseStats(Long courseId);
+
+	/**
+	 * 재집계 대상인 과정의 통계를 sessionIds 의 출석 기록으로 다시 집계해 덮어쓴다.
+	 * 회원별 카운터는 읽은 시점의 버전이 그대로일 때만 덮어쓰므로, 그 사이 반영된 출석 쓰기를 지우지 않는다.
+	 * 집계 결과에 없는 회원의 카운터는 0 으로 맞춘다.
+	 *
+	 * @param sessionIds 과정에 속한 세션 전체
+	 * @return 재집계를 마쳐 카운터를 다시 신뢰할 수 있게 되었으면 true. 경합이 계속되었거나 도중에 다시 무효화되었다면
+	 * false 이며, 과정은 재집계 대상으로 남는다.
+	 */
+	boolean rebuildCourseStats(Long courseId, List<Long> sessionIds);
+
+	/**
+	 * @param appended 체크인이 반영된 회원별 출석
+	 * @param failed   이미 체크인 상태가 아닌 이유로 쓰기에 실패한 회원별 원인
+	 */
+	record CheckInBatchResult(Map<Long, Attendance> appended, Map<Long, RuntimeException> failed) {
+	}
 }
@@ -0,0 +1,18 @@
+package me.chan99k.learningmanager.attendance;
+
+import java.util.Optional;
+
+import me.chan99k.learningmanager.session.Session;
+
+/**
+ * 한 요청 안에서 인가 검사(@PreAuthorize)와 서비스가 같은 출석/세션을 반복 조회하지 않도록 공유하는 메모.
+ * <p>
+ * 요청 범위 밖(비동기 스레드, 배치 등)에서 호출되면 메모 없이 매번 저장소에서 조회한다.
+ */
+public interface AttendanceLookupMemo {
+
+	Optional<Attendance> findAttendanceById(String attendanceId);
+
+	Optional<Session> findSessionById(Long sessionId);
+
+}
@@ -2,6 +2,7 @@ package me.chan99k.learningmanager.attendance;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 public interface AttendanceQueryRepository {
 
@@ -26,6 +27,30 @@ public interface AttendanceQueryRepository {
 		List<Long> sessionIds, List<Long> memberIds
 	);
 
+	/**
+	 * 과정 전체 세션에 대한 여러 멤버 출석 + 통계. 통계는 쓰기 시점에 갱신되는 과정-회원별 카운터에서 읽는다.
+	 * 카운터가 아직 재집계되지 않은 과정이면 카운터를 쓰지 않고 출석 기록을 집계해 응답하며, 과정을 재집계 대상으로 등록한다.
+	 *
+	 * @param sessionIds 과정에 속한 세션 전체
+	 */
+	List<MemberAttendanceResult> findAllMembersAttendanceWithCourseStats(
+		Long courseId, List<Long> sessionIds, List<Long> memberIds
+	);
+
+	/**
+	 * 출석 통계 재집계를 기다리는 과정을 최대 limit 개 조회한다.
+	 */
+	List<Long> findCoursesPendingStatsRebuild(int limit);
+
+	/**
+	 * 출석 기록 내보내기용. 회원 ID, 세션 ID 순으로 정렬된 커서를 따라 한 건씩 consumer 에 전달하며 결과를 모아 두지 않는다.
+	 *
+	 * @param consumer (memberId, 출석 기록)
+	 */
+	void forEachAttendanceRecord(
+		List<Long> sessionIds, List<Long> memberIds, BiConsumer<Long, AttendanceRecord> consumer
+	);
+
 	// === Records ===
 
 	record MemberAttendanceResult(
@@ -22,6 +22,13 @@ public interface JwtProvider {
 	 */
 	boolean isValid(String token);
 
+	/**
+	 * 토큰을 한 번만 파싱/서명 검증하여 클레임 또는 실패 사유를 반환 - 예외 발생 X
+	 * <p>
+	 * isValid → validateAndGetClaims 처럼 같은 토큰을 두 번 검증하지 않도록 요청 경로에서는 이 메서드를 사용한다.
+	 */
+	VerificationResult verify(String token);
+
 	long getAccessTokenExpirationSeconds();
 
 	record Claims(
@@ -31,4 +38,24 @@ public interface JwtProvider {
 	) {
 	}
 
+	/**
+	 * 토큰 검증 결과 - 성공 시 claims, 실패 시 failure 만 채워진다
+	 */
+	record VerificationResult(
+		Claims claims,
+		AuthProblemCode failure
+	) {
+		public static VerificationResult verified(Claims claims) {
+			return new VerificationResult(claims, null);
+		}
+
+		public static VerificationResult rejected(AuthProblemCode failure) {
+			return new VerificationResult(null, failure);
+		}
+
+		public boolean isVerified() {
+			return claims != null;
+		}
+	}
+
 }
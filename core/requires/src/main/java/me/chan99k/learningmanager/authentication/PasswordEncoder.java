@@ -5,4 +5,12 @@ public interface PasswordEncoder {
 	String encode(String rawPassword);
 
 	boolean matches(String rawPassword, String encodedPassword);
+
+	/**
+	 * 저장된 해시의 작업 비용이 현재 목표와 달라 다시 해싱해야 하는지 알려준다.
+	 * 원문 비밀번호를 알 수 있는 시점(로그인 성공 직후)에만 다시 해싱할 수 있다.
+	 */
+	default boolean upgradeEncoding(String encodedPassword) {
+		return false;
+	}
 }
@@ -8,6 +8,14 @@ public interface RefreshTokenRepository {
 
 	Optional<RefreshToken> findByToken(String token);
 
+	/**
+	 * currentToken 이 폐기되지 않았고 만료되지 않았을 때만 같은 회원의 next 로 교체한다.
+	 * 조회와 교체 사이에 다른 요청이 먼저 교체했거나 폐기했다면 아무것도 바꾸지 않는다.
+	 *
+	 * @return 교체했으면 true, 이미 교체/폐기/만료된 토큰이면 false
+	 */
+	boolean rotate(String currentToken, RefreshToken next);
+
 	void revokeAllByMemberId(Long memberId);
 
 	void revokeByToken(String token);
@@ -1,6 +1,7 @@
 package me.chan99k.learningmanager.authorization;
 
 import java.util.List;
+import java.util.Set;
 
 import me.chan99k.learningmanager.course.CourseRole;
 
@@ -12,4 +13,9 @@ public interface CourseAuthorizationPort {
 
 	boolean isMember(Long memberId, Long courseId);
 
+	/**
+	 * 회원이 과정에서 가진 역할을 한 번의 조회로 모두 반환. 과정 멤버가 아니면 빈 집합.
+	 */
+	Set<CourseRole> getRoles(Long memberId, Long courseId);
+
 }
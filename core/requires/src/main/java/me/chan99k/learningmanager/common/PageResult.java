@@ -3,15 +3,26 @@ package me.chan99k.learningmanager.common;
 import java.util.List;
 import java.util.function.Function;
 
+/**
+ * 페이지 조회 결과.
+ * <p>
+ * 커서(키셋) 페이지네이션 결과는 page 가 항상 0 이고, 다음 페이지를 요청할 때 nextCursor 를 그대로 넘긴다.
+ * 이때 전체 개수를 세지 않았다면 totalElements 와 totalPages 는 -1 이다.
+ *
+ * @param nextCursor 다음 페이지의 불투명 커서 (오프셋 페이지이거나 다음 페이지가 없으면 null)
+ */
 public record PageResult<T>(
 	List<T> content,
 	int page,
 	int size,
 	long totalElements,
 	int totalPages,
-	boolean hasNext
+	boolean hasNext,
+	String nextCursor
 ) {
 
+	private static final long NOT_COUNTED = -1;
+
 	public static <T> PageResult<T> of(List<T> content, PageRequest pageRequest, long totalElements) {
 		int totalPages = pageRequest.size() == 0 ? 0 : (int)Math.ceil((double)totalElements / pageRequest.size());
 		boolean hasNext = pageRequest.page() + 1 < totalPages;
@@ -21,32 +32,53 @@ public record PageResult<T>(
 			pageRequest.size(),
 			totalElements,
 			totalPages,
-			hasNext
+			hasNext,
+			null
 		);
 	}
 
 	public static <T> PageResult<T> of(List<T> content, int page, int size, long totalElements) {
 		int totalPages = size == 0 ? 0 : (int)Math.ceil((double)totalElements / size);
 		boolean hasNext = page + 1 < totalPages;
-		return new PageResult<>(content, page, size, totalElements, totalPages, hasNext);
+		return new PageResult<>(content, page, size, totalElements, totalPages, hasNext, null);
+	}
+
+	/**
+	 * 커서(키셋) 페이지 결과 생성.
+	 *
+	 * @param totalElements 전체 개수, 세지 않았으면 null
+	 */
+	public static <T> PageResult<T> ofCursor(
+		List<T> content, int size, boolean hasNext, String nextCursor, Long totalElements
+	) {
+		if (totalElements == null) {
+			return new PageResult<>(content, 0, size, NOT_COUNTED, (int)NOT_COUNTED, hasNext, nextCursor);
+		}
+
+		int totalPages = size == 0 ? 0 : (int)Math.ceil((double)totalElements / size);
+		return new PageResult<>(content, 0, size, totalElements, totalPages, hasNext, nextCursor);
 	}
 
 	/**
 	 * 빈 결과 생성.
 	 */
 	public static <T> PageResult<T> empty(PageRequest pageRequest) {
-		return new PageResult<>(List.of(), pageRequest.page(), pageRequest.size(), 0, 0, false);
+		return new PageResult<>(List.of(), pageRequest.page(), pageRequest.size(), 0, 0, false, null);
 	}
 
 	public <R> PageResult<R> map(Function<T, R> mapper) {
 		List<R> mappedContent = content.stream().map(mapper).toList();
-		return new PageResult<>(mappedContent, page, size, totalElements, totalPages, hasNext);
+		return new PageResult<>(mappedContent, page, size, totalElements, totalPages, hasNext, nextCursor);
 	}
 
 	public boolean isFirst() {
 		return page == 0;
 	}
 
+	public boolean isCounted() {
+		return totalElements != NOT_COUNTED;
+	}
+
 	public boolean isLast() {
 		return !hasNext;
 	}
@@ -0,0 +1,7 @@
+package me.chan99k.learningmanager.course;
+
+public record CourseMemberEnrollment(
+	Long memberId,
+	CourseRole courseRole
+) {
+}
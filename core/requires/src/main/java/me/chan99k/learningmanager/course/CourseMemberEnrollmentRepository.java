@@ -0,0 +1,28 @@
+package me.chan99k.learningmanager.course;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 과정 애그리거트를 거치지 않고 과정 멤버를 집합 단위로 등록하는 포트.
+ * <p>
+ * 수천 명 단위의 일괄 등록에서 과정 전체를 읽고 다시 저장하지 않도록, 중복 확인과 등록을 각각 한 번의 왕복(또는 배치)으로 처리한다.
+ */
+public interface CourseMemberEnrollmentRepository {
+
+	/**
+	 * memberIds 중 이미 과정에 등록된 회원 ID 를 조회한다.
+	 */
+	Set<Long> findEnrolledMemberIds(Long courseId, Collection<Long> memberIds);
+
+	/**
+	 * 과정 멤버를 일괄 등록한다. 호출자는 같은 트랜잭션에서 findEnrolledMemberIds 로 중복을 걸러낸 뒤 호출해야 한다.
+	 * <p>
+	 * 중복 확인 이후 다른 요청이 먼저 등록한 회원은 등록하지 않고 건너뛰며, 나머지 회원의 등록은 그대로 진행한다.
+	 *
+	 * @param enrolledBy 등록을 요청한 회원 ID
+	 * @return 이미 등록되어 있어 건너뛴 회원 ID
+	 */
+	Set<Long> enrollAll(Long courseId, List<CourseMemberEnrollment> enrollments, Long enrolledBy);
+}
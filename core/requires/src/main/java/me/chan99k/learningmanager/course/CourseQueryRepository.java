@@ -15,8 +15,20 @@ public interface CourseQueryRepository {
 
 	List<Course> findManagedCoursesByMemberId(Long memberId);
 
+	/**
+	 * 과정 애그리거트를 읽지 않고 회원이 과정의 매니저인지만 확인한다.
+	 */
+	boolean isManagedBy(Long courseId, Long memberId);
+
 	Optional<CourseDetailInfo> findCourseDetailById(Long courseId);
 
 	PageResult<CourseMemberInfo> findCourseMembersByCourseId(Long courseId, PageRequest pageRequest);
 
+	/**
+	 * 회원 ID 오름차순으로 afterMemberId 다음 회원부터 limit 명을 조회한다. (키셋 페이지네이션)
+	 *
+	 * @param afterMemberId 이전 페이지의 마지막 회원 ID, 첫 페이지면 null
+	 */
+	List<CourseMemberInfo> findCourseMembersAfterMemberId(Long courseId, Long afterMemberId, int limit);
+
 }
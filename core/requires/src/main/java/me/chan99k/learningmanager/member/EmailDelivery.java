@@ -0,0 +1,17 @@
+package me.chan99k.learningmanager.member;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아웃박스에서 꺼낸 메일을 실제로 보내는 포트.
+ * <p>
+ * EmailSender 와 달리 발송이 끝날 때까지 기다려 건별 결과를 돌려주므로, 호출자는 실패한 메일만 다시 시도할 수 있다.
+ */
+public interface EmailDelivery {
+
+	/**
+	 * 메일을 보내고, 실패한 메일의 ID 와 실패 사유를 돌려준다. 모두 성공하면 빈 맵을 돌려준다.
+	 */
+	Map<Long, String> deliver(List<EmailOutboxMessage> messages);
+}
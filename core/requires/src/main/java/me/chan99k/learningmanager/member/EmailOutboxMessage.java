@@ -0,0 +1,18 @@
+package me.chan99k.learningmanager.member;
+
+import java.time.Instant;
+
+/**
+ * 발송을 위해 아웃박스에서 꺼낸 메일 한 건.
+ *
+ * @param attempts 이번 시도를 포함한 발송 시도 횟수
+ */
+public record EmailOutboxMessage(
+	Long id,
+	EmailOutboxType type,
+	String recipient,
+	String token,
+	int attempts,
+	Instant createdAt
+) {
+}
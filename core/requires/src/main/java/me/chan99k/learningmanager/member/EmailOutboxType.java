@@ -0,0 +1,9 @@
+package me.chan99k.learningmanager.member;
+
+/**
+ * 아웃박스에 쌓이는 메일 종류. 발송 시점에 종류에 맞는 본문을 만든다.
+ */
+public enum EmailOutboxType {
+	SIGN_UP_CONFIRM,
+	PASSWORD_RESET
+}
@@ -1,6 +1,7 @@
 package me.chan99k.learningmanager.member;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface MemberQueryRepository {
@@ -12,4 +13,9 @@ public interface MemberQueryRepository {
 
 	List<MemberEmailPair> findMembersByEmails(List<Email> emails, int limit);
 
+	/**
+	 * 회원 애그리거트를 구성하지 않고 이메일 주소별 회원 ID 만 조회한다.
+	 */
+	Map<String, Long> findMemberIdsByEmails(List<Email> emails);
+
 }
@@ -0,0 +1,46 @@
+package me.chan99k.learningmanager.session;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+import me.chan99k.learningmanager.session.dto.SessionSummary;
+
+/**
+ * 세션 목록 키셋 페이지네이션의 위치.
+ * (scheduledAt desc, id desc) 순서에서 마지막으로 내려준 세션을 가리키며, 클라이언트에는 불투명 토큰으로만 전달한다.
+ */
+public record SessionCursor(Instant scheduledAt, Long id) {
+
+	private static final String DELIMITER = ":";
+
+	public static SessionCursor of(SessionSummary session) {
+		return new SessionCursor(session.scheduledAt(), session.id());
+	}
+
+	/**
+	 * @return 토큰이 비어 있으면 첫 페이지를 뜻하는 null
+	 */
+	public static SessionCursor decode(String token) {
+		if (token == null || token.isBlank()) {
+			return null;
+		}
+
+		try {
+			String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(DELIMITER);
+			if (parts.length == 3) {
+				Instant scheduledAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+				return new SessionCursor(scheduledAt, Long.parseLong(parts[2]));
+			}
+		} catch (IllegalArgumentException | DateTimeException e) {
+			// Base64, 숫자 형식 오류는 아래에서 같은 메시지로 거부한다
+		}
+		throw new IllegalArgumentException("[System] 유효하지 않은 세션 목록 커서입니다.");
+	}
+
+	public String encode() {
+		String raw = scheduledAt.getEpochSecond() + DELIMITER + scheduledAt.getNano() + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -2,13 +2,19 @@ package me.chan99k.learningmanager.session;
 
 import java.time.Instant;
 import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import me.chan99k.learningmanager.common.PageRequest;
 import me.chan99k.learningmanager.common.PageResult;
+import me.chan99k.learningmanager.session.dto.SessionCalendarItem;
+import me.chan99k.learningmanager.session.dto.SessionCalendarVersion;
+import me.chan99k.learningmanager.session.dto.SessionCheckInInfo;
 import me.chan99k.learningmanager.session.dto.SessionInfo;
+import me.chan99k.learningmanager.session.dto.SessionSummary;
 
 public interface SessionQueryRepository {
 	Optional<Session> findById(Long sessionId);
@@ -21,21 +27,49 @@ public interface SessionQueryRepository {
 
 	Optional<Session> findManagedSessionById(Long sessionId, Long memberId);
 
-	PageResult<Session> findAllWithFilters(SessionType type, SessionLocation location,
+	// === 목록/캘린더 조회 ===
+	// 응답에 필요한 컬럼과 참여자, 하위 세션 개수만 프로젝션으로 읽고 세션 애그리거트는 복원하지 않는다.
+
+	PageResult<SessionSummary> findAllWithFilters(SessionType type, SessionLocation location,
 		Instant startDate, Instant endDate, PageRequest pageRequest);
 
-	PageResult<Session> findByCourseIdWithFilters(Long courseId, SessionType type,
+	PageResult<SessionSummary> findByCourseIdWithFilters(Long courseId, SessionType type,
 		SessionLocation location, Instant startDate, Instant endDate,
 		Boolean includeChildSessions, PageRequest pageRequest);
 
-	PageResult<Session> findByCurriculumIdWithFilters(Long curriculumId, SessionType type,
+	PageResult<SessionSummary> findByCurriculumIdWithFilters(Long curriculumId, SessionType type,
 		SessionLocation location, Instant startDate, Instant endDate,
 		Boolean includeChildSessions, PageRequest pageRequest);
 
-	PageResult<Session> findByMemberIdWithFilters(Long memberId, SessionType type,
+	PageResult<SessionSummary> findByMemberIdWithFilters(Long memberId, SessionType type,
 		SessionLocation location, Instant startDate, Instant endDate, PageRequest pageRequest);
 
-	List<Session> findByYearMonth(YearMonth yearMonth, SessionType type, SessionLocation location,
+	// === 커서(키셋) 페이지네이션 ===
+	// (scheduledAt desc, id desc) 순서에서 after 다음 세션부터 size 개를 읽으며, 앞 페이지 행을 건너뛰지 않는다.
+	// 다음 페이지가 있으면 nextCursor 를 채우고, includeCount 가 false 면 전체 개수를 세지 않는다.
+
+	PageResult<SessionSummary> findAllWithFilters(SessionType type, SessionLocation location,
+		Instant startDate, Instant endDate, SessionCursor after, int size, boolean includeCount);
+
+	PageResult<SessionSummary> findByCourseIdWithFilters(Long courseId, SessionType type,
+		SessionLocation location, Instant startDate, Instant endDate,
+		Boolean includeChildSessions, SessionCursor after, int size, boolean includeCount);
+
+	PageResult<SessionSummary> findByCurriculumIdWithFilters(Long curriculumId, SessionType type,
+		SessionLocation location, Instant startDate, Instant endDate,
+		Boolean includeChildSessions, SessionCursor after, int size, boolean includeCount);
+
+	PageResult<SessionSummary> findByMemberIdWithFilters(Long memberId, SessionType type,
+		SessionLocation location, Instant startDate, Instant endDate,
+		SessionCursor after, int size, boolean includeCount);
+
+	List<SessionCalendarItem> findByYearMonth(YearMonth yearMonth, SessionType type, SessionLocation location,
+		Long courseId, Long curriculumId);
+
+	/**
+	 * findByYearMonth 와 같은 조건의 세션 수와 마지막 수정 시각만 읽는다. 캐시된 캘린더가 여전히 최신인지 확인할 때 사용한다.
+	 */
+	SessionCalendarVersion findCalendarVersion(YearMonth yearMonth, SessionType type, SessionLocation location,
 		Long courseId, Long curriculumId);
 
 	List<Long> findSessionIdsByPeriodAndFilters(
@@ -64,4 +98,15 @@ public interface SessionQueryRepository {
 
 	Map<Long, SessionInfo> findSessionInfoMapByIds(List<Long> sessionIds);
 
+	/**
+	 * 세션 애그리거트(참여자, 하위 세션)를 적재하지 않고, 출석 처리에 필요한 정보와
+	 * 회원의 참여 여부만 단일 쿼리로 조회한다.
+	 */
+	Optional<SessionCheckInInfo> findCheckInInfo(Long sessionId, Long memberId);
+
+	/**
+	 * 주어진 회원 중 세션 참여자인 회원의 ID 만 조회한다. 배치 체크인에서 참여자 검증을 한 번에 처리할 때 사용한다.
+	 */
+	Set<Long> findParticipantMemberIds(Long sessionId, Collection<Long> memberIds);
+
 }
@@ -0,0 +1,22 @@
+package me.chan99k.learningmanager.session.dto;
+
+import java.time.Instant;
+
+import me.chan99k.learningmanager.session.SessionLocation;
+import me.chan99k.learningmanager.session.SessionType;
+
+/**
+ * 세션 캘린더 응답에 필요한 컬럼만 담은 읽기 모델.
+ */
+public record SessionCalendarItem(
+	Long id,
+	String title,
+	Instant scheduledAt,
+	Instant scheduledEndAt,
+	SessionType type,
+	SessionLocation location,
+	String locationDetails,
+	Long courseId,
+	Long curriculumId
+) {
+}
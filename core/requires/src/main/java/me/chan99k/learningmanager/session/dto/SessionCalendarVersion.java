@@ -0,0 +1,12 @@
+package me.chan99k.learningmanager.session.dto;
+
+import java.time.Instant;
+
+/**
+ * 월별 세션 캘린더가 바뀌었는지 판단하는 값. 세션이 추가/삭제되면 count 가, 수정되면 lastModifiedAt 이 바뀐다.
+ */
+public record SessionCalendarVersion(
+	Long count,
+	Instant lastModifiedAt
+) {
+}
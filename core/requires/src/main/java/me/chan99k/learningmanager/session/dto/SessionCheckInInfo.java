@@ -0,0 +1,23 @@
+package me.chan99k.learningmanager.session.dto;
+
+import java.time.Instant;
+
+/**
+ * 출석 체크인/체크아웃과 QR 토큰 발급에 필요한 세션 정보만 담은 경량 프로젝션.
+ * <p>
+ * participant 는 조회 시 전달한 회원이 해당 세션의 참여자인지 여부이다.
+ */
+public record SessionCheckInInfo(
+	Long sessionId,
+	Long parentId,
+	Long courseId,
+	Long curriculumId,
+	String title,
+	Instant scheduledAt,
+	Instant scheduledEndAt,
+	boolean participant
+) {
+	public boolean isRootSession() {
+		return parentId == null;
+	}
+}
@@ -0,0 +1,27 @@
+package me.chan99k.learningmanager.session.dto;
+
+import java.time.Instant;
+
+import me.chan99k.learningmanager.session.SessionLocation;
+import me.chan99k.learningmanager.session.SessionType;
+
+/**
+ * 세션 목록 응답에 필요한 컬럼만 담은 읽기 모델.
+ * <p>
+ * 참여자와 하위 세션은 적재하지 않고 개수만 서브쿼리로 센다.
+ */
+public record SessionSummary(
+	Long id,
+	String title,
+	Instant scheduledAt,
+	Instant scheduledEndAt,
+	SessionType type,
+	SessionLocation location,
+	String locationDetails,
+	Long courseId,
+	Long curriculumId,
+	Long parentId,
+	Long childSessionCount,
+	Long participantCount
+) {
+}
@@ -15,6 +15,8 @@ dependencies {
 
     implementation(catalog.findLibrary("spring-data-commons").get())
 
+    implementation(catalog.findLibrary("caffeine").get())
+
     implementation(catalog.findLibrary("jjwt-api").get())
     runtimeOnly(catalog.findLibrary("jjwt-impl").get())
     runtimeOnly(catalog.findLibrary("jjwt-jackson").get())
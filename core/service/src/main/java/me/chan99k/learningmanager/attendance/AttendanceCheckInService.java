@@ -1,29 +1,32 @@
 package me.chan99k.learningmanager.attendance;
 
 import java.time.Clock;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import me.chan99k.learningmanager.exception.DomainException;
-import me.chan99k.learningmanager.session.Session;
 import me.chan99k.learningmanager.session.SessionProblemCode;
 import me.chan99k.learningmanager.session.SessionQueryRepository;
+import me.chan99k.learningmanager.session.dto.SessionCheckInInfo;
 
 @Service
 @Transactional
-public class AttendanceCheckInService implements AttendanceCheckIn {
-	private final AttendanceQueryRepository attendanceQueryRepository;
+public class AttendanceCheckInService implements AttendanceCheckIn, AttendanceBatchCheckIn {
 	private final AttendanceCommandRepository attendanceCommandRepository;
 	private final SessionQueryRepository sessionQueryRepository;
 	private final Clock clock;
 
 	public AttendanceCheckInService(
-		AttendanceQueryRepository attendanceQueryRepository,
 		AttendanceCommandRepository attendanceCommandRepository,
 		SessionQueryRepository sessionQueryRepository, Clock clock
 	) {
-		this.attendanceQueryRepository = attendanceQueryRepository;
 		this.attendanceCommandRepository = attendanceCommandRepository;
 		this.sessionQueryRepository = sessionQueryRepository;
 		this.clock = clock;
@@ -31,42 +34,91 @@ public class AttendanceCheckInService implements AttendanceCheckIn {
 
 	@Override
 	public AttendanceCheckIn.Response checkIn(Long requestedBy, AttendanceCheckIn.Request request) {
-		// 1. 세션 존재 여부 확인
-		Session session = sessionQueryRepository.findById(request.sessionId())
+		// 1. 세션 존재 여부 확인 - 참여자 목록 전체 대신 참여 여부만 함께 조회
+		SessionCheckInInfo session = sessionQueryRepository.findCheckInInfo(request.sessionId(), requestedBy)
 			.orElseThrow(() -> new DomainException(SessionProblemCode.SESSION_NOT_FOUND));
 
 		// 2. 인가 - 세션 참여자 여부 확인
-		boolean isParticipant = session.getParticipants().stream()
-			.anyMatch(p -> p.getMemberId().equals(requestedBy));
-
-		if (!isParticipant) {
+		if (!session.participant()) {
 			throw new DomainException(SessionProblemCode.NOT_SESSION_PARTICIPANT);
 		}
 
-		Attendance attendance = attendanceQueryRepository
-			.findBySessionIdAndMemberId(request.sessionId(), requestedBy) // 3. 기존 출석이 있는지 확인
-			.orElseGet(() -> Attendance.create(request.sessionId(), requestedBy));
+		// 3. 체크인 - 출석 기록 생성과 중복 체크인 검사를 저장소에서 한 번에 처리
+		Attendance savedAttendance = attendanceCommandRepository.appendCheckIn(
+			session.courseId(), request.sessionId(), requestedBy, AttendanceEvent.checkIn(clock));
+
+		return toResponse(savedAttendance);
 
-		attendance.checkIn(clock); // 5. 체크인
+	}
 
-		Attendance savedAttendance = attendanceCommandRepository.save(attendance);
+	/**
+	 * 배치에 모인 요청은 수 밀리초 안에 들어온 것이므로, 체크인 시각은 배치 처리 시점 하나로 기록한다.
+	 */
+	@Override
+	public Map<Long, Outcome> checkInAll(Long sessionId, Collection<Long> memberIds) {
+		Map<Long, Outcome> outcomes = new LinkedHashMap<>();
+		if (memberIds.isEmpty()) {
+			return outcomes;
+		}
+
+		// 1. 세션 존재 여부 확인 - 출석 통계를 갱신할 과정 ID 도 함께 얻는다
+		Long anyMemberId = memberIds.iterator().next();
+		Optional<SessionCheckInInfo> session = sessionQueryRepository.findCheckInInfo(sessionId, anyMemberId);
+		if (session.isEmpty()) {
+			failAll(outcomes, memberIds, new DomainException(SessionProblemCode.SESSION_NOT_FOUND));
+			return outcomes;
+		}
+
+		// 2. 인가 - 배치 전체의 참여자 여부를 한 번에 확인
+		Set<Long> participantIds = sessionQueryRepository.findParticipantMemberIds(sessionId, memberIds);
+		if (participantIds.isEmpty()) {
+			failAll(outcomes, memberIds, new DomainException(SessionProblemCode.NOT_SESSION_PARTICIPANT));
+			return outcomes;
+		}
 
+		List<Long> eligibleIds = memberIds.stream()
+			.filter(participantIds::contains)
+			.distinct()
+			.toList();
+
+		// 3. 체크인 - 참여자 전원의 이벤트를 한 번에 저장
+		AttendanceCommandRepository.CheckInBatchResult saved = attendanceCommandRepository.appendCheckIns(
+			session.get().courseId(), sessionId, eligibleIds, AttendanceEvent.checkIn(clock));
+
+		for (Long memberId : memberIds) {
+			Attendance attendance = saved.appended().get(memberId);
+			if (!participantIds.contains(memberId)) {
+				outcomes.put(memberId, Outcome.failed(new DomainException(SessionProblemCode.NOT_SESSION_PARTICIPANT)));
+			} else if (saved.failed().containsKey(memberId)) {
+				outcomes.put(memberId, Outcome.failed(saved.failed().get(memberId)));
+			} else if (attendance == null) {
+				outcomes.put(memberId,
+					Outcome.failed(new IllegalStateException(AttendanceProblemCode.ALREADY_CHECKED_IN.getMessage())));
+			} else {
+				outcomes.put(memberId, Outcome.success(toResponse(attendance)));
+			}
+		}
+		return outcomes;
+	}
+
+	private void failAll(Map<Long, Outcome> outcomes, Collection<Long> memberIds, DomainException failure) {
+		memberIds.forEach(memberId -> outcomes.put(memberId, Outcome.failed(failure)));
+	}
+
+	private AttendanceCheckIn.Response toResponse(Attendance attendance) {
 		return new Response(
-			savedAttendance.getId(),
-			savedAttendance.getSessionId(),
-			savedAttendance.getMemberId(),
-			getCheckInTime(savedAttendance), // 체크인 시간 추출
-			savedAttendance.getFinalStatus().name()
+			attendance.getId(),
+			attendance.getSessionId(),
+			attendance.getMemberId(),
+			getCheckInTime(attendance), // 체크인 시간 추출
+			attendance.getFinalStatus().name()
 		);
-
 	}
 
 	private java.time.Instant getCheckInTime(Attendance attendance) {
-		return attendance.getEvents().stream()
-			.filter(event -> event instanceof me.chan99k.learningmanager.attendance.CheckedIn)
-			.map(AttendanceEvent::timestamp)
-			.findFirst() // 최초 입실 시간 반환
-			.orElse(clock.instant());
+		// 스냅샷의 최초 입실 시간을 사용하므로 전체 이벤트 이력을 읽지 않는다
+		java.time.Instant checkInTime = attendance.getCheckInTime();
+		return checkInTime != null ? checkInTime : clock.instant();
 	}
 
 }
@@ -1,28 +1,24 @@
 package me.chan99k.learningmanager.attendance;
 
 import java.time.Clock;
-import java.time.Instant;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import me.chan99k.learningmanager.exception.DomainException;
-import me.chan99k.learningmanager.session.Session;
 import me.chan99k.learningmanager.session.SessionProblemCode;
 import me.chan99k.learningmanager.session.SessionQueryRepository;
+import me.chan99k.learningmanager.session.dto.SessionCheckInInfo;
 
 @Service
 @Transactional
 public class AttendanceCheckOutService implements AttendanceCheckOut {
-	private final AttendanceQueryRepository attendanceQueryRepository;
 	private final AttendanceCommandRepository attendanceCommandRepository;
 	private final SessionQueryRepository sessionQueryRepository;
 	private final Clock clock;
 
-	public AttendanceCheckOutService(AttendanceQueryRepository attendanceQueryRepository,
-		AttendanceCommandRepository attendanceCommandRepository, SessionQueryRepository sessionQueryRepository,
-		Clock clock) {
-		this.attendanceQueryRepository = attendanceQueryRepository;
+	public AttendanceCheckOutService(AttendanceCommandRepository attendanceCommandRepository,
+		SessionQueryRepository sessionQueryRepository, Clock clock) {
 		this.attendanceCommandRepository = attendanceCommandRepository;
 		this.sessionQueryRepository = sessionQueryRepository;
 		this.clock = clock;
@@ -30,40 +26,25 @@ public class AttendanceCheckOutService implements AttendanceCheckOut {
 
 	@Override
 	public Response checkOut(Long requestedBy, Request request) {
-		// 1. 대상 세션 확보
-		Session session = sessionQueryRepository.findById(request.sessionId())
+		// 1. 대상 세션 확보 - 참여자 목록 전체 대신 참여 여부만 함께 조회
+		SessionCheckInInfo session = sessionQueryRepository.findCheckInInfo(request.sessionId(), requestedBy)
 			.orElseThrow(() -> new DomainException(SessionProblemCode.SESSION_NOT_FOUND));
 
 		// 2. 인가 - 세션 참여자 여부 확인
-		boolean isParticipant = session.getParticipants().stream()
-			.anyMatch(p -> p.getMemberId().equals(requestedBy));
-
-		if (!isParticipant) {
+		if (!session.participant()) {
 			throw new DomainException(SessionProblemCode.NOT_SESSION_PARTICIPANT);
 		}
 
-		Attendance attendance = attendanceQueryRepository
-			.findBySessionIdAndMemberId(request.sessionId(), requestedBy)
-			.orElseThrow(() -> new IllegalArgumentException("[System] 출석 정보가 없습니다."));
-
-		attendance.checkOut(clock);
-
-		Attendance saved = attendanceCommandRepository.save(attendance);
+		// 3. 체크아웃 - 체크인 상태 검사와 이벤트 추가를 저장소에서 한 번에 처리
+		CheckedOut checkOut = AttendanceEvent.checkOut(clock);
+		Attendance saved = attendanceCommandRepository.appendCheckOut(request.sessionId(), requestedBy, checkOut);
 
 		return new AttendanceCheckOut.Response(
 			saved.getId(),
 			saved.getSessionId(),
 			saved.getMemberId(),
-			getCheckOutTime(saved), // 체크 아웃 시간 추출
+			checkOut.timestamp(), // 방금 추가한 체크 아웃 이벤트의 시간 (전체 이력을 읽지 않음)
 			saved.getFinalStatus().name()
 		);
 	}
-
-	private Instant getCheckOutTime(Attendance attendance) {
-		return attendance.getEvents().stream()
-			.filter(event -> event instanceof CheckedOut)
-			.map(AttendanceEvent::timestamp)
-			.reduce((first, second) -> second) // 최후의 체크 아웃 이벤트 반환
-			.orElse(clock.instant());
-	}
 }
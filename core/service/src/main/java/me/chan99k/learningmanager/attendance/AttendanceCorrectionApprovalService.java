@@ -6,30 +6,31 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import me.chan99k.learningmanager.exception.DomainException;
+import me.chan99k.learningmanager.session.Session;
 
 @Service
 @Transactional
 public class AttendanceCorrectionApprovalService implements AttendanceCorrectionApproval {
 
-	private final AttendanceQueryRepository attendanceQueryRepository;
+	private final AttendanceLookupMemo attendanceLookupMemo;
 	private final AttendanceCommandRepository attendanceCommandRepository;
 	private final Clock clock;
 
 	public AttendanceCorrectionApprovalService(
-		AttendanceQueryRepository attendanceQueryRepository,
+		AttendanceLookupMemo attendanceLookupMemo,
 		AttendanceCommandRepository attendanceCommandRepository,
 		Clock clock
 	) {
-		this.attendanceQueryRepository = attendanceQueryRepository;
+		this.attendanceLookupMemo = attendanceLookupMemo;
 		this.attendanceCommandRepository = attendanceCommandRepository;
 		this.clock = clock;
 	}
 
 	@Override
 	public Response approve(Long approvedBy, Request request) {
-		// 출석 조회
-		Attendance attendance = attendanceQueryRepository
-			.findById(request.attendanceId())
+		// 출석 조회 (인가 검사에서 이미 조회했다면 재사용)
+		Attendance attendance = attendanceLookupMemo
+			.findAttendanceById(request.attendanceId())
 			.orElseThrow(() -> new DomainException(AttendanceProblemCode.ATTENDANCE_NOT_FOUND));
 
 		// 대기 중인 요청 정보 스냅샷
@@ -38,7 +39,12 @@ public class AttendanceCorrectionApprovalService implements AttendanceCorrection
 		// 승인 (도메인 메서드 호출 - 상태 변경됨)
 		attendance.approveCorrection(approvedBy, clock);
 
-		attendanceCommandRepository.save(attendance);
+		// 최종 상태가 바뀌므로 과정의 출석 통계도 함께 갱신한다 (세션은 인가 검사에서 이미 조회했다면 재사용)
+		Long courseId = attendanceLookupMemo.findSessionById(attendance.getSessionId())
+			.map(Session::getCourseId)
+			.orElse(null);
+
+		attendanceCommandRepository.save(attendance, courseId);
 
 		return new Response(
 			attendance.getId(),
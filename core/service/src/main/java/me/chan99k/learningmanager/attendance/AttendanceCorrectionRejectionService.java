@@ -11,25 +11,25 @@ import me.chan99k.learningmanager.exception.DomainException;
 @Transactional
 public class AttendanceCorrectionRejectionService implements AttendanceCorrectionRejection {
 
-	private final AttendanceQueryRepository attendanceQueryRepository;
+	private final AttendanceLookupMemo attendanceLookupMemo;
 	private final AttendanceCommandRepository attendanceCommandRepository;
 	private final Clock clock;
 
 	public AttendanceCorrectionRejectionService(
-		AttendanceQueryRepository attendanceQueryRepository,
+		AttendanceLookupMemo attendanceLookupMemo,
 		AttendanceCommandRepository attendanceCommandRepository,
 		Clock clock
 	) {
-		this.attendanceQueryRepository = attendanceQueryRepository;
+		this.attendanceLookupMemo = attendanceLookupMemo;
 		this.attendanceCommandRepository = attendanceCommandRepository;
 		this.clock = clock;
 	}
 
 	@Override
 	public Response reject(Long rejectedBy, Request request) {
-		// 출석 조회
-		Attendance attendance = attendanceQueryRepository
-			.findById(request.attendanceId())
+		// 출석 조회 (인가 검사에서 이미 조회했다면 재사용)
+		Attendance attendance = attendanceLookupMemo
+			.findAttendanceById(request.attendanceId())
 			.orElseThrow(() -> new DomainException(AttendanceProblemCode.ATTENDANCE_NOT_FOUND));
 
 		// 거절
@@ -11,22 +11,22 @@ import me.chan99k.learningmanager.exception.DomainException;
 @Transactional
 public class AttendanceCorrectionRequestService implements AttendanceCorrectionRequest {
 
-	private final AttendanceQueryRepository attendanceQueryRepository;
+	private final AttendanceLookupMemo attendanceLookupMemo;
 	private final AttendanceCommandRepository attendanceCommandRepository;
 	private final Clock clock;
 
-	public AttendanceCorrectionRequestService(AttendanceQueryRepository attendanceQueryRepository,
+	public AttendanceCorrectionRequestService(AttendanceLookupMemo attendanceLookupMemo,
 		AttendanceCommandRepository attendanceCommandRepository, Clock clock) {
-		this.attendanceQueryRepository = attendanceQueryRepository;
+		this.attendanceLookupMemo = attendanceLookupMemo;
 		this.attendanceCommandRepository = attendanceCommandRepository;
 		this.clock = clock;
 	}
 
 	@Override
 	public Response request(Long requestedBy, Request request) {
-		// 출석 조회
-		Attendance attendance = attendanceQueryRepository
-			.findById(request.attendanceId())
+		// 출석 조회 (인가 검사에서 이미 조회했다면 재사용)
+		Attendance attendance = attendanceLookupMemo
+			.findAttendanceById(request.attendanceId())
 			.orElseThrow(() -> new DomainException(AttendanceProblemCode.ATTENDANCE_NOT_FOUND));
 
 		// 현재 상태 스냅샷
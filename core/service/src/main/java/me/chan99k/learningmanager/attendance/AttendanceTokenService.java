@@ -7,9 +7,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import me.chan99k.learningmanager.exception.DomainException;
-import me.chan99k.learningmanager.session.Session;
 import me.chan99k.learningmanager.session.SessionProblemCode;
 import me.chan99k.learningmanager.session.SessionQueryRepository;
+import me.chan99k.learningmanager.session.dto.SessionCheckInInfo;
 
 /**
  * 추후 admin 앱으로 분리해야 할 가능성 있음
@@ -29,14 +29,14 @@ public class AttendanceTokenService implements GenerateAttendanceToken {
 	@Override
 	@Transactional(readOnly = true)
 	public Response generate(Long requestedBy, Request request) {
-		Session session = sessionQueryRepository.findById(request.sessionId())
+		SessionCheckInInfo session = sessionQueryRepository.findCheckInInfo(request.sessionId(), requestedBy)
 			.orElseThrow(() -> new DomainException(SessionProblemCode.SESSION_NOT_FOUND));
 
 		if (!session.isRootSession()) {
 			throw new DomainException(AttendanceProblemCode.ONLY_ROOT_SESSION_ALLOWED);
 		}
 
-		Instant checkOutExpiresAt = session.getScheduledEndAt()
+		Instant checkOutExpiresAt = session.scheduledEndAt()
 			.atZone(DEFAULT_ZONE)
 			.toLocalDate()
 			.plusDays(1)
@@ -44,8 +44,8 @@ public class AttendanceTokenService implements GenerateAttendanceToken {
 			.toInstant();
 
 		String token = qrCodeGenerator.generateQrCode(
-			session.getId(),
-			session.getScheduledEndAt()
+			session.sessionId(),
+			session.scheduledEndAt()
 		);
 
 		String checkInUrl = "/api/v1/attendance/check-in/" + token;
@@ -55,12 +55,12 @@ public class AttendanceTokenService implements GenerateAttendanceToken {
 			token,
 			checkInUrl,
 			checkOutUrl,
-			session.getScheduledEndAt(),
+			session.scheduledEndAt(),
 			checkOutExpiresAt,
-			session.getCourseId(),
-			session.getCurriculumId(),
-			session.getId(),
-			session.getTitle()
+			session.courseId(),
+			session.curriculumId(),
+			session.sessionId(),
+			session.title()
 		);
 	}
 }
@@ -1,12 +1,21 @@
 package me.chan99k.learningmanager.attendance;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import me.chan99k.learningmanager.common.PageRequest;
@@ -19,51 +28,88 @@ import me.chan99k.learningmanager.session.dto.SessionInfo;
 @Transactional(readOnly = true)
 public class CourseAttendanceRetrievalService implements CourseAttendanceRetrieval {
 
+	private static final int EXPORT_MEMBER_CHUNK_SIZE = 500;
+	private static final int SESSION_INFO_CHUNK_SIZE = 500;
+
 	private final AttendanceQueryRepository attendanceQueryRepository;
 	private final SessionQueryRepository sessionQueryRepository;
 	private final CourseQueryRepository courseQueryRepository;
+	private final Executor fanOutExecutor;
+	private final boolean concurrentFanOut;
 
 	public CourseAttendanceRetrievalService(AttendanceQueryRepository attendanceQueryRepository,
-		SessionQueryRepository sessionQueryRepository, CourseQueryRepository courseQueryRepository) {
+		SessionQueryRepository sessionQueryRepository, CourseQueryRepository courseQueryRepository,
+		@Qualifier("attendanceQueryExecutor") Executor fanOutExecutor,
+		@Value("${attendance.retrieval.concurrent-fan-out:false}") boolean concurrentFanOut) {
 		this.attendanceQueryRepository = attendanceQueryRepository;
 		this.sessionQueryRepository = sessionQueryRepository;
 		this.courseQueryRepository = courseQueryRepository;
+		this.fanOutExecutor = fanOutExecutor;
+		this.concurrentFanOut = concurrentFanOut;
 	}
 
+	/**
+	 * 조회마다 짧게 읽도록 트랜잭션 없이 실행한다. 동시 조회 모드에서는 각 조회가 다른 스레드에서 돌기 때문에
+	 * 호출 스레드가 트랜잭션(과 커넥션)을 쥔 채 기다리지 않게 하려는 것이다.
+	 */
 	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public Response getAllMembersAttendance(Long requestedBy, AllMembersRequest request) {
-		List<Long> sessionIds = findSessionIds(SessionFilter.from(request));
+		SessionFilter filter = SessionFilter.from(request);
+		return concurrentFanOut
+			? getAllMembersAttendanceConcurrently(request.courseId(), filter)
+			: getAllMembersAttendanceSequentially(request.courseId(), filter);
+	}
+
+	private Response getAllMembersAttendanceSequentially(Long courseId, SessionFilter filter) {
+		List<Long> sessionIds = findSessionIds(filter);
 		if (sessionIds.isEmpty()) {
 			return emptyResponse();
 		}
 
-		List<CourseMemberInfo> courseMembers = findCourseMembers(request.courseId());
-		List<Long> memberIds = courseMembers.stream()
-			.map(CourseMemberInfo::memberId)
-			.toList();
-
-		if (memberIds.isEmpty()) {
+		List<CourseMemberInfo> courseMembers = findCourseMembers(courseId);
+		if (courseMembers.isEmpty()) {
 			return emptyResponse();
 		}
 
 		List<AttendanceQueryRepository.MemberAttendanceResult> results =
-			attendanceQueryRepository.findAllMembersAttendanceWithStats(sessionIds, memberIds);
+			findMembersAttendance(courseId, filter, sessionIds, courseMembers);
 
 		Map<Long, SessionInfo> sessionInfoMap =
 			sessionQueryRepository.findSessionInfoMapByIds(sessionIds);
 
-		Map<Long, String> memberNameMap = courseMembers.stream()
-			.collect(Collectors.toMap(
-				CourseMemberInfo::memberId,
-				CourseMemberInfo::nickname,
-				(existing, replacement) -> existing
-			));
+		return assembleResponse(courseMembers, results, sessionInfoMap);
+	}
 
-		List<MemberAttendanceSummary> summaries = results.stream()
-			.map(result -> buildMemberSummary(result, memberNameMap, sessionInfoMap))
-			.toList();
+	/**
+	 * 세션 ID 와 과정 멤버를 동시에 읽고, 세션 ID 가 나오는 대로 세션 정보를, 둘 다 나오면 출석 집계를 시작한다.
+	 * 전체 지연은 (세션 ID, 멤버 조회 중 느린 쪽) + (출석 집계, 세션 정보 조회 중 느린 쪽) 에 가까워진다.
+	 */
+	private Response getAllMembersAttendanceConcurrently(Long courseId, SessionFilter filter) {
+		CompletableFuture<List<Long>> sessionIdsFuture = supplyAsync(() -> findSessionIds(filter));
+		CompletableFuture<List<CourseMemberInfo>> courseMembersFuture = supplyAsync(() -> findCourseMembers(courseId));
+
+		CompletableFuture<Map<Long, SessionInfo>> sessionInfoFuture = sessionIdsFuture.thenApplyAsync(
+			sessionIds -> sessionIds.isEmpty()
+				? Map.<Long, SessionInfo>of()
+				: sessionQueryRepository.findSessionInfoMapByIds(sessionIds),
+			fanOutExecutor
+		);
+		CompletableFuture<List<AttendanceQueryRepository.MemberAttendanceResult>> resultsFuture =
+			sessionIdsFuture.thenCombineAsync(courseMembersFuture,
+				(sessionIds, courseMembers) -> sessionIds.isEmpty() || courseMembers.isEmpty()
+					? List.<AttendanceQueryRepository.MemberAttendanceResult>of()
+					: findMembersAttendance(courseId, filter, sessionIds, courseMembers),
+				fanOutExecutor
+			);
 
-		return new Response(summaries, calculateCourseStatistics(summaries));
+		List<Long> sessionIds = join(sessionIdsFuture);
+		List<CourseMemberInfo> courseMembers = join(courseMembersFuture);
+		if (sessionIds.isEmpty() || courseMembers.isEmpty()) {
+			return emptyResponse();
+		}
+
+		return assembleResponse(courseMembers, join(resultsFuture), join(sessionInfoFuture));
 	}
 
 	@Override
@@ -88,8 +134,129 @@ public class CourseAttendanceRetrievalService implements CourseAttendanceRetriev
 		return new Response(List.of(summary), calculateCourseStatistics(List.of(summary)));
 	}
 
+	/**
+	 * 멤버를 회원 ID 순으로 EXPORT_MEMBER_CHUNK_SIZE 명씩 키셋 조회하고, 각 묶음의 출석 기록은 커서로 한 건씩 내보낸다.
+	 * 메모리에는 멤버 한 묶음과 세션 정보만 남으므로 과정 인원이 늘어도 사용량이 일정하다.
+	 * <p>
+	 * 응답을 쓰는 동안 DB 커넥션을 붙잡지 않도록 트랜잭션 없이 조회마다 짧게 읽는다.
+	 */
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void exportAllMembersAttendance(Long requestedBy, AllMembersRequest request, Consumer<ExportRow> sink) {
+		List<Long> sessionIds = findSessionIds(SessionFilter.from(request));
+		if (sessionIds.isEmpty()) {
+			return;
+		}
+
+		Map<Long, SessionInfo> sessionInfoMap = findSessionInfoMapInChunks(sessionIds);
+
+		Long afterMemberId = null;
+		List<CourseMemberInfo> members;
+		do {
+			members = courseQueryRepository.findCourseMembersAfterMemberId(
+				request.courseId(), afterMemberId, EXPORT_MEMBER_CHUNK_SIZE);
+			if (members.isEmpty()) {
+				return;
+			}
+
+			List<Long> memberIds = members.stream()
+				.map(CourseMemberInfo::memberId)
+				.toList();
+			Map<Long, String> memberNameMap = members.stream()
+				.collect(Collectors.toMap(CourseMemberInfo::memberId, CourseMemberInfo::nickname,
+					(existing, replacement) -> existing));
+
+			attendanceQueryRepository.forEachAttendanceRecord(
+				sessionIds, memberIds,
+				(memberId, record) -> sink.accept(toExportRow(memberId, record, memberNameMap, sessionInfoMap))
+			);
+
+			afterMemberId = members.get(members.size() - 1).memberId();
+		} while (members.size() == EXPORT_MEMBER_CHUNK_SIZE);
+	}
+
 	// 헬퍼 메서드
 
+	private List<AttendanceQueryRepository.MemberAttendanceResult> findMembersAttendance(
+		Long courseId, SessionFilter filter, List<Long> sessionIds, List<CourseMemberInfo> courseMembers
+	) {
+		List<Long> memberIds = courseMembers.stream()
+			.map(CourseMemberInfo::memberId)
+			.toList();
+
+		// 과정 전체 조회의 통계는 쓰기 시점에 갱신되는 카운터를 읽고, 기간/커리큘럼으로 좁힌 조회만 매번 집계한다
+		return filter.isWholeCourse()
+			? attendanceQueryRepository.findAllMembersAttendanceWithCourseStats(courseId, sessionIds, memberIds)
+			: attendanceQueryRepository.findAllMembersAttendanceWithStats(sessionIds, memberIds);
+	}
+
+	private Response assembleResponse(
+		List<CourseMemberInfo> courseMembers,
+		List<AttendanceQueryRepository.MemberAttendanceResult> results,
+		Map<Long, SessionInfo> sessionInfoMap
+	) {
+		Map<Long, String> memberNameMap = courseMembers.stream()
+			.collect(Collectors.toMap(
+				CourseMemberInfo::memberId,
+				CourseMemberInfo::nickname,
+				(existing, replacement) -> existing
+			));
+
+		List<MemberAttendanceSummary> summaries = results.stream()
+			.map(result -> buildMemberSummary(result, memberNameMap, sessionInfoMap))
+			.toList();
+
+		return new Response(summaries, calculateCourseStatistics(summaries));
+	}
+
+	private <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+		return CompletableFuture.supplyAsync(supplier, fanOutExecutor);
+	}
+
+	/**
+	 * 동시 조회 중 발생한 예외를 순차 조회와 같은 형태로 던지도록 CompletionException 을 벗긴다.
+	 */
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private Map<Long, SessionInfo> findSessionInfoMapInChunks(List<Long> sessionIds) {
+		Map<Long, SessionInfo> sessionInfoMap = new HashMap<>();
+		for (int from = 0; from < sessionIds.size(); from += SESSION_INFO_CHUNK_SIZE) {
+			List<Long> chunk = sessionIds.subList(from, Math.min(from + SESSION_INFO_CHUNK_SIZE, sessionIds.size()));
+			sessionInfoMap.putAll(sessionQueryRepository.findSessionInfoMapByIds(chunk));
+		}
+		return sessionInfoMap;
+	}
+
+	private ExportRow toExportRow(
+		Long memberId,
+		AttendanceQueryRepository.AttendanceRecord record,
+		Map<Long, String> memberNameMap,
+		Map<Long, SessionInfo> sessionInfoMap
+	) {
+		SessionAttendanceInfo session = toSessionAttendanceInfo(record, sessionInfoMap);
+
+		return new ExportRow(
+			memberId,
+			memberNameMap.getOrDefault(memberId, "Unknown"),
+			session.attendanceId(),
+			session.sessionId(),
+			session.sessionTitle(),
+			session.scheduledAt(),
+			session.finalStatus(),
+			session.curriculumId(),
+			session.curriculumTitle()
+		);
+	}
+
 	private List<Long> findSessionIds(SessionFilter filter) {
 		if (filter.startDate() != null && filter.endDate() != null) {
 			return sessionQueryRepository.findSessionIdsByPeriodAndFilters(
@@ -198,6 +365,15 @@ public class CourseAttendanceRetrievalService implements CourseAttendanceRetriev
 		Instant startDate,
 		Instant endDate
 	) {
+		/**
+		 * 기간, 월, 커리큘럼 조건 없이 과정의 모든 세션을 대상으로 하는지 여부
+		 */
+		boolean isWholeCourse() {
+			return curriculumId == null
+				&& (year == null || month == null)
+				&& (startDate == null || endDate == null);
+		}
+
 		static SessionFilter from(AllMembersRequest request) {
 			return new SessionFilter(
 				request.courseId(), request.curriculumId(),
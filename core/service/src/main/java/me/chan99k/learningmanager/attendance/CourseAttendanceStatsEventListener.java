@@ -0,0 +1,30 @@
+package me.chan99k.learningmanager.attendance;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import me.chan99k.learningmanager.session.SessionChangeEvent;
+
+/**
+ * 세션 삭제가 커밋된 뒤에 과정 출석 통계를 재집계 대상으로 표시한다.
+ * <p>
+ * 삭제 트랜잭션 안에서 표시하면 커밋 전에 재집계가 돌아 삭제될 세션의 출석을 다시 세거나,
+ * 롤백된 삭제 때문에 통계만 다시 집계될 수 있다.
+ */
+@Component
+public class CourseAttendanceStatsEventListener {
+
+	private final AttendanceCommandRepository attendanceCommandRepository;
+
+	public CourseAttendanceStatsEventListener(AttendanceCommandRepository attendanceCommandRepository) {
+		this.attendanceCommandRepository = attendanceCommandRepository;
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleSessionDeleted(SessionChangeEvent.Deleted event) {
+		if (event.courseId() != null) {
+			attendanceCommandRepository.invalidateCourseStats(event.courseId());
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package me.chan99k.learningmanager.attendance;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import me.chan99k.learningmanager.session.SessionQueryRepository;
+
+/**
+ * 과정별 재집계는 MongoDB 쓰기가 대부분이라, 세션 ID 조회 때문에 MySQL 커넥션을 쥔 채 재집계하지 않도록 트랜잭션 없이 실행한다.
+ * 한 과정의 재집계가 실패해도 나머지 과정은 계속 처리하며, 실패한 과정은 재집계 대상으로 남아 다음 주기에 다시 시도된다.
+ */
+@Service
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CourseAttendanceStatsRebuildService implements CourseAttendanceStatsRebuild {
+
+	private static final Logger log = LoggerFactory.getLogger(CourseAttendanceStatsRebuildService.class);
+
+	private final AttendanceQueryRepository attendanceQueryRepository;
+	private final AttendanceCommandRepository attendanceCommandRepository;
+	private final SessionQueryRepository sessionQueryRepository;
+
+	public CourseAttendanceStatsRebuildService(AttendanceQueryRepository attendanceQueryRepository,
+		AttendanceCommandRepository attendanceCommandRepository, SessionQueryRepository sessionQueryRepository) {
+		this.attendanceQueryRepository = attendanceQueryRepository;
+		this.attendanceCommandRepository = attendanceCommandRepository;
+		this.sessionQueryRepository = sessionQueryRepository;
+	}
+
+	@Override
+	public int rebuildPending(int limit) {
+		int rebuilt = 0;
+		for (Long courseId : attendanceQueryRepository.findCoursesPendingStatsRebuild(limit)) {
+			try {
+				if (attendanceCommandRepository.rebuildCourseStats(courseId,
+					sessionQueryRepository.findSessionIdsByCourseId(courseId))) {
+					rebuilt++;
+				}
+			} catch (RuntimeException e) {
+				log.warn("[System] 과정 출석 통계 재집계 실패: courseId={}", courseId, e);
+			}
+		}
+		return rebuilt;
+	}
+}
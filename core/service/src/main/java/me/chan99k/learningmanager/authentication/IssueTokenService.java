@@ -4,9 +4,15 @@ import static me.chan99k.learningmanager.authentication.AuthProblemCode.*;
 import static me.chan99k.learningmanager.member.CredentialType.*;
 
 import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import me.chan99k.learningmanager.exception.DomainException;
@@ -14,22 +20,32 @@ import me.chan99k.learningmanager.member.Account;
 import me.chan99k.learningmanager.member.Credential;
 import me.chan99k.learningmanager.member.Email;
 import me.chan99k.learningmanager.member.Member;
+import me.chan99k.learningmanager.member.MemberCommandRepository;
 import me.chan99k.learningmanager.member.MemberQueryRepository;
 
+/**
+ * 비밀번호 검증과 다시 해싱은 BCrypt 실행기에서 수십~수백 ms 가 걸리므로 트랜잭션 밖에서 수행한다.
+ * 해싱을 기다리는 동안 DB 커넥션을 붙잡지 않도록, 조회와 저장은 각 저장소 호출이 자신의 짧은 트랜잭션으로 처리한다.
+ */
 @Service
-@Transactional
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
 public class IssueTokenService implements IssueToken {
 
+	private static final Logger log = LoggerFactory.getLogger(IssueTokenService.class);
+
 	private final MemberQueryRepository memberQueryRepository;
+	private final MemberCommandRepository memberCommandRepository;
 	private final PasswordEncoder passwordEncoder;
 	private final JwtProvider jwtProvider;
 	private final RefreshTokenRepository refreshTokenRepository;
 	private final Duration refreshTokenTtlHours;
 
-	public IssueTokenService(MemberQueryRepository accountQueryRepository, PasswordEncoder passwordEncoder,
+	public IssueTokenService(MemberQueryRepository accountQueryRepository,
+		MemberCommandRepository memberCommandRepository, PasswordEncoder passwordEncoder,
 		JwtProvider jwtProvider, RefreshTokenRepository refreshTokenRepository,
 		@Value("${auth.refresh-token.ttl-hours}") int refreshTokenTtlHours) {
 		this.memberQueryRepository = accountQueryRepository;
+		this.memberCommandRepository = memberCommandRepository;
 		this.passwordEncoder = passwordEncoder;
 		this.jwtProvider = jwtProvider;
 		this.refreshTokenRepository = refreshTokenRepository;
@@ -37,10 +53,10 @@ public class IssueTokenService implements IssueToken {
 	}
 
 	/**
-	 * JPA는 조회만 수행. RefreshToken은 인메모리/Redis에 저장됨.
+	 * RefreshToken은 인메모리/DB 저장소에 저장됨.
+	 * 저장된 비밀번호 해시의 작업 비용이 목표와 다르면 검증에 성공한 이 시점에 다시 해싱해 저장한다.
 	 */
 	@Override
-	@Transactional(readOnly = true)
 	public Response issueToken(Request request) {
 		// 이메일로 Member 조회
 		Email email = Email.of(request.email());
@@ -55,6 +71,9 @@ public class IssueTokenService implements IssueToken {
 		if (!passwordEncoder.matches(request.password(), credential.getSecret())) {
 			throw new DomainException(INVALID_CREDENTIALS);
 		}
+		if (passwordEncoder.upgradeEncoding(credential.getSecret())) {
+			rehashPassword(member, account, request.password());
+		}
 
 		// Access Token 발급
 		String accessToken = jwtProvider.createAccessToken(
@@ -72,4 +91,27 @@ public class IssueTokenService implements IssueToken {
 			jwtProvider.getAccessTokenExpirationSeconds()
 		);
 	}
+
+	/**
+	 * 다시 해싱은 검증이 끝난 뒤의 부가 작업이므로 실패해도 로그인을 실패시키지 않는다.
+	 * 동시에 로그인하거나 회원 정보가 바뀌어 낙관적 락이 충돌하면 저장하지 않고 다음 로그인에서 다시 시도한다.
+	 */
+	private void rehashPassword(Member member, Account account, String rawPassword) {
+		String rehashed;
+		try {
+			rehashed = passwordEncoder.encode(rawPassword);
+		} catch (RejectedExecutionException e) {
+			// 해싱 실행기가 포화 상태면 로그인은 그대로 진행하고 다시 해싱은 다음 로그인으로 미룬다
+			log.info("해싱 실행기가 포화 상태라 비밀번호 다시 해싱을 다음 로그인으로 미룹니다. memberId={}", member.getId());
+			return;
+		}
+		account.changePasswordCredential(rehashed);
+		try {
+			memberCommandRepository.save(member);
+		} catch (OptimisticLockingFailureException e) {
+			log.info("회원 정보가 동시에 변경되어 비밀번호 다시 해싱을 다음 로그인으로 미룹니다. memberId={}", member.getId());
+		} catch (DataAccessException e) {
+			log.warn("비밀번호 다시 해싱 결과를 저장하지 못했습니다. memberId={}", member.getId(), e);
+		}
+	}
 }
@@ -48,8 +48,11 @@ public class RefreshAccessTokenService implements RefreshAccessToken {
 		Member member = memberQueryRepository.findById(refreshToken.getMemberId())
 			.orElseThrow(() -> new DomainException(INVALID_TOKEN));
 
-		// 기존 Refresh Token 폐기 (Rotation)
-		refreshTokenRepository.revokeByToken(request.refreshToken());
+		// 기존 Refresh Token 을 새 토큰으로 교체 (Rotation) - 동시에 같은 토큰으로 갱신하면 한 요청만 성공한다
+		RefreshToken newRefreshToken = RefreshToken.create(member.getId(), refreshTokenTtl);
+		if (!refreshTokenRepository.rotate(request.refreshToken(), newRefreshToken)) {
+			throw new DomainException(REVOKED_TOKEN);
+		}
 
 		// 새 Access Token 발급 (Minimal JWT: 역할은 런타임에 조회)
 		String email = member.getPrimaryEmail().address();
@@ -58,10 +61,6 @@ public class RefreshAccessTokenService implements RefreshAccessToken {
 			email
 		);
 
-		// 새 Refresh Token 발급
-		RefreshToken newRefreshToken = RefreshToken.create(member.getId(), refreshTokenTtl);
-		refreshTokenRepository.save(newRefreshToken);
-
 		return Response.of(
 			newAccessToken,
 			newRefreshToken.getToken(),
@@ -1,9 +1,11 @@
 package me.chan99k.learningmanager.course;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -12,7 +14,6 @@ import org.springframework.transaction.annotation.Transactional;
 import me.chan99k.learningmanager.exception.DomainException;
 import me.chan99k.learningmanager.member.Email;
 import me.chan99k.learningmanager.member.Member;
-import me.chan99k.learningmanager.member.MemberEmailPair;
 import me.chan99k.learningmanager.member.MemberProblemCode;
 import me.chan99k.learningmanager.member.MemberQueryRepository;
 
@@ -25,16 +26,19 @@ public class CourseMemberService implements CourseMemberAddition, CourseMemberRe
 	private final CourseQueryRepository queryRepository;
 	private final CourseCommandRepository commandRepository;
 	private final MemberQueryRepository memberQueryRepository;
+	private final CourseMemberEnrollmentRepository enrollmentRepository;
 
 	public CourseMemberService(
 		@Value("${course.member.bulk.max-size}")
 		int maxBulkSize,
 		CourseQueryRepository queryRepository,
-		CourseCommandRepository commandRepository, MemberQueryRepository memberQueryRepository) {
+		CourseCommandRepository commandRepository, MemberQueryRepository memberQueryRepository,
+		CourseMemberEnrollmentRepository enrollmentRepository) {
 		MAX_BULK_SIZE = maxBulkSize;
 		this.queryRepository = queryRepository;
 		this.commandRepository = commandRepository;
 		this.memberQueryRepository = memberQueryRepository;
+		this.enrollmentRepository = enrollmentRepository;
 	}
 
 	@Override
@@ -51,7 +55,13 @@ public class CourseMemberService implements CourseMemberAddition, CourseMemberRe
 	}
 
 	/**
-	 * 벌크 멤버 추가 로직 + 각 멤버별 상세 결과 수집 , 예외 잡아서 MemberResult로 변환
+	 * 벌크 멤버 추가 로직 + 각 멤버별 상세 결과 수집
+	 * <p>
+	 * 과정 애그리거트를 읽어 멤버 목록을 순회하는 대신, 매니저 확인, 회원 ID 조회, 중복 확인을 각각 쿼리 한 번으로 끝내고
+	 * 등록 가능한 멤버만 배치로 저장한다.
+	 * <p>
+	 * 중복 확인과 저장 사이에 다른 요청이 같은 회원을 먼저 등록하면, 저장 단계에서 건너뛴 회원을 돌려받아 해당 항목만
+	 * COURSE_MEMBER_ALREADY_REGISTERED 로 바꾼다.
 	 */
 	@Override
 	public CourseMemberAddition.Response addMultipleMembers(Long requestedBy, Long courseId,
@@ -60,39 +70,50 @@ public class CourseMemberService implements CourseMemberAddition, CourseMemberRe
 			throw new IllegalArgumentException("과정 멤버 추가 요청은 한번에 최대 " + MAX_BULK_SIZE + "개까지 가능합니다");
 		}
 
-		Course course = queryRepository.findManagedCourseById(courseId, requestedBy)
-			.orElseThrow(() -> new DomainException(CourseProblemCode.NOT_COURSE_MANAGER));
+		if (!queryRepository.isManagedBy(courseId, requestedBy)) {
+			throw new DomainException(CourseProblemCode.NOT_COURSE_MANAGER);
+		}
 
 		// 멤버 조회 로직
-		List<Email> emails = members.stream().map(item -> Email.of(item.email())).toList();
-		List<MemberEmailPair> memberPairs = memberQueryRepository.findMembersByEmails(emails, MAX_BULK_SIZE);
-		Map<String, Member> memberMap = memberPairs.stream()
-			.collect(Collectors.toMap(MemberEmailPair::email, MemberEmailPair::member));
+		List<Email> emails = members.stream().map(item -> Email.of(item.email())).distinct().toList();
+		Map<String, Long> memberIdsByEmail = memberQueryRepository.findMemberIdsByEmails(emails);
+		Set<Long> enrolledMemberIds = new HashSet<>(
+			enrollmentRepository.findEnrolledMemberIds(courseId, memberIdsByEmail.values()));
 
 		// 멤버 추가 로직
 		List<MemberResult> results = new ArrayList<>();
-		int successCount = 0;
+		List<CourseMemberEnrollment> enrollments = new ArrayList<>();
+		Map<Long, Integer> resultIndexByMemberId = new HashMap<>();
 
 		for (MemberAdditionItem item : members) {
-			Member member = memberMap.get(item.email());
-			if (member == null) {
+			Long memberId = memberIdsByEmail.get(item.email());
+			if (memberId == null) {
 				results.add(new MemberResult(item.email(), item.role(), "FAILED", "해당 회원이 존재하지 않습니다"));
 				continue;
 			}
 
-			try {
-				course.addMember(member.getId(), item.role());
-				results.add(new MemberResult(item.email(), item.role(), "SUCCESS", "과정 멤버 추가 성공"));
-				successCount++;
-			} catch (Exception e) {
-				results.add(new MemberResult(item.email(), item.role(), "FAILED", e.getMessage()));
+			// 이미 등록된 회원과 같은 요청 안에서 먼저 등록된 회원을 함께 걸러낸다
+			if (!enrolledMemberIds.add(memberId)) {
+				results.add(new MemberResult(item.email(), item.role(), "FAILED",
+					CourseProblemCode.COURSE_MEMBER_ALREADY_REGISTERED.getMessage()));
+				continue;
 			}
+
+			enrollments.add(new CourseMemberEnrollment(memberId, item.role()));
+			resultIndexByMemberId.put(memberId, results.size());
+			results.add(new MemberResult(item.email(), item.role(), "SUCCESS", "과정 멤버 추가 성공"));
 		}
 
-		commandRepository.save(course);
+		Set<Long> skippedMemberIds = enrollmentRepository.enrollAll(courseId, enrollments, requestedBy);
+		for (Long memberId : skippedMemberIds) {
+			int index = resultIndexByMemberId.get(memberId);
+			MemberResult skipped = results.get(index);
+			results.set(index, new MemberResult(skipped.email(), skipped.role(), "FAILED",
+				CourseProblemCode.COURSE_MEMBER_ALREADY_REGISTERED.getMessage()));
+		}
 
+		int successCount = enrollments.size() - skippedMemberIds.size();
 		return new CourseMemberAddition.Response(members.size(), successCount, members.size() - successCount, results);
-
 	}
 
 	@Override
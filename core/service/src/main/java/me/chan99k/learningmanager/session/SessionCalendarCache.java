@@ -0,0 +1,196 @@
+package me.chan99k.learningmanager.session;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import me.chan99k.learningmanager.session.SessionListRetrieval.SessionCalendar;
+import me.chan99k.learningmanager.session.SessionListRetrieval.SessionCalendarRequest;
+import me.chan99k.learningmanager.session.SessionListRetrieval.SessionCalendarResponse;
+import me.chan99k.learningmanager.session.dto.SessionCalendarVersion;
+
+/**
+ * 과정/커리큘럼, 필터, 월 단위로 묶은 세션 캘린더 캐시.
+ * <p>
+ * 캘린더는 달력 화면을 열 때마다 조회되지만 세션 일정은 드물게 바뀌므로, 월별로 묶은 결과와 ETag 를 함께 보관한다.
+ * 세션 생성/수정/삭제 이벤트가 커밋되면 해당 세션이 걸친 달의 항목만 비운다.
+ * 응답의 세션 상태(예정/진행 중/완료)는 시각에 따라 바뀌므로, 항목은 TTL 과 가장 가까운 상태 전환 시각 중 이른 때 만료된다.
+ * <p>
+ * 이벤트 무효화는 같은 인스턴스 안에서만 일어나므로, 다른 인스턴스에서 바뀐 세션은 조회마다 읽는 버전
+ * (같은 조건의 세션 수와 마지막 수정 시각)이 캐시된 항목의 버전과 달라지는 것으로 알아채고 다시 읽는다.
+ */
+@Component
+public class SessionCalendarCache {
+
+	private final Clock clock;
+	private final Duration ttl;
+	private final boolean enabled;
+	private final Cache<CalendarKey, CachedCalendar> cache;
+	// 무효화마다 증가한다. 조회 도중 무효화가 끼어들었다면 그 조회 결과는 저장하지 않는다.
+	private final AtomicLong generation = new AtomicLong();
+
+	public SessionCalendarCache(
+		Clock clock,
+		@Value("${session.calendar-cache.ttl-seconds:300}") long ttlSeconds,
+		@Value("${session.calendar-cache.max-size:1000}") int maxSize
+	) {
+		this.clock = clock;
+		this.ttl = Duration.ofSeconds(ttlSeconds);
+		this.enabled = maxSize > 0;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(Math.max(maxSize, 0))
+			.expireAfter(new UntilTransition())
+			.ticker(() -> toNanos(clock.instant()))
+			.executor(Runnable::run)
+			.build();
+	}
+
+	/**
+	 * @param versionLoader 캐시된 항목이 있을 때 최신인지 확인하려고 매번 읽는 버전. 전체 조회보다 훨씬 가벼워야 한다.
+	 * @param loader        캐시에 없거나 버전이 달라졌을 때 캘린더 전체를 읽는다
+	 */
+	public SessionCalendar get(YearMonth yearMonth, SessionCalendarRequest request,
+		Supplier<SessionCalendarVersion> versionLoader,
+		Supplier<Map<LocalDate, List<SessionCalendarResponse>>> loader) {
+		if (!enabled) {
+			return calendarOf(loader.get());
+		}
+
+		CalendarKey key = new CalendarKey(yearMonth, request);
+		long observedGeneration = generation.get();
+		// 전체 조회보다 먼저 읽어, 그 사이 바뀐 세션은 다음 조회에서 버전 차이로 드러나게 한다
+		SessionCalendarVersion version = versionLoader.get();
+		CachedCalendar cached = cache.getIfPresent(key);
+		if (cached != null && Objects.equals(cached.version(), version)) {
+			return cached.calendar();
+		}
+
+		Instant now = clock.instant();
+		SessionCalendar calendar = calendarOf(loader.get());
+		CachedCalendar entry = new CachedCalendar(calendar, version, expiresAt(calendar.days(), now));
+		// 무효화는 세대를 올린 뒤 항목을 지우므로, 세대 비교와 저장을 키 단위로 원자적으로 처리하면 낡은 결과가 남지 않는다
+		cache.asMap().compute(key, (k, existing) -> generation.get() == observedGeneration ? entry : existing);
+		return calendar;
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleSessionChange(SessionChangeEvent event) {
+		// 캐시 키의 월은 UTC 기준(조회 범위)과 서버 시간대 기준(일자 묶음) 어느 쪽으로도 요청될 수 있다
+		Set<YearMonth> months = new HashSet<>();
+		for (Instant scheduledAt : event.affectedScheduledAts()) {
+			if (scheduledAt != null) {
+				months.add(YearMonth.from(scheduledAt.atZone(ZoneOffset.UTC)));
+				months.add(YearMonth.from(scheduledAt.atZone(clock.getZone())));
+			}
+		}
+
+		generation.incrementAndGet();
+		cache.asMap().keySet().removeIf(key -> months.contains(key.yearMonth())
+			&& key.covers(event.courseId(), event.curriculumId()));
+	}
+
+	private SessionCalendar calendarOf(Map<LocalDate, List<SessionCalendarResponse>> loaded) {
+		Map<LocalDate, List<SessionCalendarResponse>> days = Collections.unmodifiableMap(new TreeMap<>(loaded));
+		return new SessionCalendar(days, etagOf(days));
+	}
+
+	private Instant expiresAt(Map<LocalDate, List<SessionCalendarResponse>> days, Instant now) {
+		Instant expiresAt = now.plus(ttl);
+		for (List<SessionCalendarResponse> sessions : days.values()) {
+			for (SessionCalendarResponse session : sessions) {
+				// 시작 시각에 진행 중, 종료 시각을 지나면 완료로 바뀐다
+				for (Instant transition : List.of(session.scheduledAt(), session.scheduledEndAt().plusNanos(1))) {
+					if (transition.isAfter(now) && transition.isBefore(expiresAt)) {
+						expiresAt = transition;
+					}
+				}
+			}
+		}
+		return expiresAt;
+	}
+
+	private String etagOf(Map<LocalDate, List<SessionCalendarResponse>> days) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256")
+				.digest(days.toString().getBytes(StandardCharsets.UTF_8));
+			return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("[System] SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
+
+	private record CalendarKey(
+		YearMonth yearMonth,
+		SessionType type,
+		SessionLocation location,
+		Long courseId,
+		Long curriculumId
+	) {
+		CalendarKey(YearMonth yearMonth, SessionCalendarRequest request) {
+			this(yearMonth, request.type(), request.location(), request.courseId(), request.curriculumId());
+		}
+
+		/**
+		 * 과정/커리큘럼 필터가 없는 캘린더는 모든 세션을, 필터가 있으면 같은 소속의 세션만 포함한다.
+		 */
+		boolean covers(Long sessionCourseId, Long sessionCurriculumId) {
+			return (courseId == null || Objects.equals(courseId, sessionCourseId))
+				&& (curriculumId == null || Objects.equals(curriculumId, sessionCurriculumId));
+		}
+	}
+
+	private static long toNanos(Instant instant) {
+		return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+	}
+
+	private record CachedCalendar(SessionCalendar calendar, SessionCalendarVersion version, Instant expiresAt) {
+	}
+
+	/**
+	 * ticker 가 Clock 기준 epoch 나노초를 돌려주므로, 남은 수명은 만료 시각을 같은 단위로 바꿔 빼면 된다.
+	 */
+	private static final class UntilTransition implements Expiry<CalendarKey, CachedCalendar> {
+
+		@Override
+		public long expireAfterCreate(CalendarKey key, CachedCalendar calendar, long currentTime) {
+			return Math.max(0, toNanos(calendar.expiresAt()) - currentTime);
+		}
+
+		@Override
+		public long expireAfterUpdate(CalendarKey key, CachedCalendar calendar, long currentTime,
+			long currentDuration) {
+			return expireAfterCreate(key, calendar, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(CalendarKey key, CachedCalendar calendar, long currentTime,
+			long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -2,6 +2,7 @@ package me.chan99k.learningmanager.session;
 
 import java.time.Clock;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +22,7 @@ public class SessionCreationService implements SessionCreation {
 	private final SessionCommandRepository sessionCommandRepository;
 	private final CourseQueryRepository courseQueryRepository;
 	private final SystemAuthorizationPort systemAuthorizationPort;
+	private final ApplicationEventPublisher eventPublisher;
 	private final Clock clock;
 
 	public SessionCreationService(
@@ -28,12 +30,14 @@ public class SessionCreationService implements SessionCreation {
 		SessionCommandRepository sessionCommandRepository,
 		CourseQueryRepository courseQueryRepository,
 		SystemAuthorizationPort systemAuthorizationPort,
+		ApplicationEventPublisher eventPublisher,
 		Clock clock
 	) {
 		this.sessionQueryRepository = sessionQueryRepository;
 		this.sessionCommandRepository = sessionCommandRepository;
 		this.courseQueryRepository = courseQueryRepository;
 		this.systemAuthorizationPort = systemAuthorizationPort;
+		this.eventPublisher = eventPublisher;
 		this.clock = clock;
 	}
 
@@ -42,7 +46,10 @@ public class SessionCreationService implements SessionCreation {
 		validatePermission(request, request.requestedBy());
 
 		Session session = createSessionByType(request);
-		return sessionCommandRepository.create(session);
+		Session created = sessionCommandRepository.create(session);
+
+		eventPublisher.publishEvent(SessionChangeEvent.created(created));
+		return created;
 	}
 
 	private void validatePermission(Request request, Long memberId) {
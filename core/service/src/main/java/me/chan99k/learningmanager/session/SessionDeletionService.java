@@ -1,5 +1,6 @@
 package me.chan99k.learningmanager.session;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,17 +19,20 @@ public class SessionDeletionService implements SessionDeletion {
 	private final SessionCommandRepository sessionCommandRepository;
 	private final CourseQueryRepository courseQueryRepository;
 	private final SystemAuthorizationPort systemAuthorizationPort;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public SessionDeletionService(
 		SessionQueryRepository sessionQueryRepository,
 		SessionCommandRepository sessionCommandRepository,
 		CourseQueryRepository courseQueryRepository,
-		SystemAuthorizationPort systemAuthorizationPort
+		SystemAuthorizationPort systemAuthorizationPort,
+		ApplicationEventPublisher eventPublisher
 	) {
 		this.sessionQueryRepository = sessionQueryRepository;
 		this.sessionCommandRepository = sessionCommandRepository;
 		this.courseQueryRepository = courseQueryRepository;
 		this.systemAuthorizationPort = systemAuthorizationPort;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -39,6 +43,9 @@ public class SessionDeletionService implements SessionDeletion {
 		validateDeletionConstraints(session);
 
 		sessionCommandRepository.delete(session);
+
+		// 과정 출석 통계 무효화는 커밋 이후 CourseAttendanceStatsEventListener 가 이 이벤트를 받아 수행한다
+		eventPublisher.publishEvent(SessionChangeEvent.deleted(session));
 	}
 
 	private Session getSessionById(Long sessionId) {
@@ -14,16 +14,21 @@ import org.springframework.transaction.annotation.Transactional;
 import me.chan99k.learningmanager.common.PageRequest;
 import me.chan99k.learningmanager.common.PageResult;
 import me.chan99k.learningmanager.common.SortOrder;
+import me.chan99k.learningmanager.session.dto.SessionCalendarItem;
+import me.chan99k.learningmanager.session.dto.SessionSummary;
 
 @Service
 @Transactional(readOnly = true)
 public class SessionListService implements SessionListRetrieval {
 
 	private final SessionQueryRepository sessionQueryRepository;
+	private final SessionCalendarCache sessionCalendarCache;
 	private final Clock clock;
 
-	public SessionListService(SessionQueryRepository sessionQueryRepository, Clock clock) {
+	public SessionListService(SessionQueryRepository sessionQueryRepository,
+		SessionCalendarCache sessionCalendarCache, Clock clock) {
 		this.sessionQueryRepository = sessionQueryRepository;
+		this.sessionCalendarCache = sessionCalendarCache;
 		this.clock = clock;
 	}
 
@@ -31,7 +36,7 @@ public class SessionListService implements SessionListRetrieval {
 	public PageResult<SessionListResponse> getSessionList(SessionListRequest request) {
 		PageRequest pageRequest = createPageRequest(request.page(), request.size(), request.sort());
 
-		PageResult<Session> sessions = sessionQueryRepository.findAllWithFilters(
+		PageResult<SessionSummary> sessions = sessionQueryRepository.findAllWithFilters(
 			request.type(),
 			request.location(),
 			request.startDate(),
@@ -46,7 +51,7 @@ public class SessionListService implements SessionListRetrieval {
 	public PageResult<SessionListResponse> getCourseSessionList(Long courseId, CourseSessionListRequest request) {
 		PageRequest pageRequest = createPageRequest(request.page(), request.size(), request.sort());
 
-		PageResult<Session> sessions = sessionQueryRepository.findByCourseIdWithFilters(
+		PageResult<SessionSummary> sessions = sessionQueryRepository.findByCourseIdWithFilters(
 			courseId,
 			request.type(),
 			request.location(),
@@ -64,7 +69,7 @@ public class SessionListService implements SessionListRetrieval {
 		CurriculumSessionListRequest request) {
 		PageRequest pageRequest = createPageRequest(request.page(), request.size(), request.sort());
 
-		PageResult<Session> sessions = sessionQueryRepository.findByCurriculumIdWithFilters(
+		PageResult<SessionSummary> sessions = sessionQueryRepository.findByCurriculumIdWithFilters(
 			curriculumId,
 			request.type(),
 			request.location(),
@@ -81,7 +86,7 @@ public class SessionListService implements SessionListRetrieval {
 	public PageResult<SessionListResponse> getUserSessionList(Long memberId, UserSessionListRequest request) {
 		PageRequest pageRequest = createPageRequest(request.page(), request.size(), request.sort());
 
-		PageResult<Session> sessions = sessionQueryRepository.findByMemberIdWithFilters(
+		PageResult<SessionSummary> sessions = sessionQueryRepository.findByMemberIdWithFilters(
 			memberId,
 			request.type(),
 			request.location(),
@@ -93,10 +98,78 @@ public class SessionListService implements SessionListRetrieval {
 		return sessions.map(this::toSessionListResponse);
 	}
 
+	@Override
+	public PageResult<SessionListResponse> getSessionList(SessionListRequest request, CursorRequest cursorRequest) {
+		PageResult<SessionSummary> sessions = sessionQueryRepository.findAllWithFilters(
+			request.type(),
+			request.location(),
+			request.startDate(),
+			request.endDate(),
+			SessionCursor.decode(cursorRequest.cursor()),
+			request.size(),
+			cursorRequest.includeCount()
+		);
+
+		return sessions.map(this::toSessionListResponse);
+	}
+
+	@Override
+	public PageResult<SessionListResponse> getCourseSessionList(Long courseId, CourseSessionListRequest request,
+		CursorRequest cursorRequest) {
+		PageResult<SessionSummary> sessions = sessionQueryRepository.findByCourseIdWithFilters(
+			courseId,
+			request.type(),
+			request.location(),
+			request.startDate(),
+			request.endDate(),
+			request.includeChildSessions(),
+			SessionCursor.decode(cursorRequest.cursor()),
+			request.size(),
+			cursorRequest.includeCount()
+		);
+
+		return sessions.map(this::toSessionListResponse);
+	}
+
+	@Override
+	public PageResult<SessionListResponse> getCurriculumSessionList(Long curriculumId,
+		CurriculumSessionListRequest request, CursorRequest cursorRequest) {
+		PageResult<SessionSummary> sessions = sessionQueryRepository.findByCurriculumIdWithFilters(
+			curriculumId,
+			request.type(),
+			request.location(),
+			request.startDate(),
+			request.endDate(),
+			request.includeChildSessions(),
+			SessionCursor.decode(cursorRequest.cursor()),
+			request.size(),
+			cursorRequest.includeCount()
+		);
+
+		return sessions.map(this::toSessionListResponse);
+	}
+
+	@Override
+	public PageResult<SessionListResponse> getUserSessionList(Long memberId, UserSessionListRequest request,
+		CursorRequest cursorRequest) {
+		PageResult<SessionSummary> sessions = sessionQueryRepository.findByMemberIdWithFilters(
+			memberId,
+			request.type(),
+			request.location(),
+			request.startDate(),
+			request.endDate(),
+			SessionCursor.decode(cursorRequest.cursor()),
+			request.size(),
+			cursorRequest.includeCount()
+		);
+
+		return sessions.map(this::toSessionListResponse);
+	}
+
 	@Override
 	public Map<LocalDate, List<SessionCalendarResponse>> getSessionCalendar(YearMonth yearMonth,
 		SessionCalendarRequest request) {
-		List<Session> sessions = sessionQueryRepository.findByYearMonth(
+		List<SessionCalendarItem> sessions = sessionQueryRepository.findByYearMonth(
 			yearMonth,
 			request.type(),
 			request.location(),
@@ -106,11 +179,19 @@ public class SessionListService implements SessionListRetrieval {
 
 		return sessions.stream()
 			.collect(Collectors.groupingBy(
-				session -> session.getScheduledAt().atZone(clock.getZone()).toLocalDate(),
+				session -> session.scheduledAt().atZone(clock.getZone()).toLocalDate(),
 				Collectors.mapping(this::toSessionCalendarResponse, Collectors.toList())
 			));
 	}
 
+	@Override
+	public SessionCalendar getSessionCalendarView(YearMonth yearMonth, SessionCalendarRequest request) {
+		return sessionCalendarCache.get(yearMonth, request,
+			() -> sessionQueryRepository.findCalendarVersion(yearMonth, request.type(), request.location(),
+				request.courseId(), request.curriculumId()),
+			() -> getSessionCalendar(yearMonth, request));
+	}
+
 	private PageRequest createPageRequest(int page, int size, String sort) {
 		if (sort == null || sort.isEmpty()) {
 			return PageRequest.of(page, size);
@@ -125,21 +206,21 @@ public class SessionListService implements SessionListRetrieval {
 		return PageRequest.of(page, size, sortBy, sortOrder);
 	}
 
-	private SessionListResponse toSessionListResponse(Session session) {
+	private SessionListResponse toSessionListResponse(SessionSummary session) {
 		return new SessionListResponse(
-			session.getId(),
-			session.getTitle(),
-			session.getScheduledAt(),
-			session.getScheduledEndAt(),
-			session.getType(),
-			session.getLocation(),
-			session.getLocationDetails(),
-			session.getCourseId(),
-			session.getCurriculumId(),
-			session.getParent() != null ? session.getParent().getId() : null,
-			session.getChildren().size(),
-			session.getParticipants().size(),
-			determineSessionStatus(session.getScheduledAt(), session.getScheduledEndAt())
+			session.id(),
+			session.title(),
+			session.scheduledAt(),
+			session.scheduledEndAt(),
+			session.type(),
+			session.location(),
+			session.locationDetails(),
+			session.courseId(),
+			session.curriculumId(),
+			session.parentId(),
+			session.childSessionCount().intValue(),
+			session.participantCount().intValue(),
+			determineSessionStatus(session.scheduledAt(), session.scheduledEndAt())
 		);
 	}
 
@@ -155,18 +236,18 @@ public class SessionListService implements SessionListRetrieval {
 		}
 	}
 
-	private SessionCalendarResponse toSessionCalendarResponse(Session session) {
+	private SessionCalendarResponse toSessionCalendarResponse(SessionCalendarItem session) {
 		return new SessionCalendarResponse(
-			session.getId(),
-			session.getTitle(),
-			session.getScheduledAt(),
-			session.getScheduledEndAt(),
-			session.getType(),
-			session.getLocation(),
-			session.getLocationDetails(),
-			session.getCourseId(),
-			session.getCurriculumId(),
-			determineSessionStatus(session.getScheduledAt(), session.getScheduledEndAt())
+			session.id(),
+			session.title(),
+			session.scheduledAt(),
+			session.scheduledEndAt(),
+			session.type(),
+			session.location(),
+			session.locationDetails(),
+			session.courseId(),
+			session.curriculumId(),
+			determineSessionStatus(session.scheduledAt(), session.scheduledEndAt())
 		);
 	}
 }
\ No newline at end of file
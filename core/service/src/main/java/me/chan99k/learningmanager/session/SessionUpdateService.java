@@ -1,7 +1,9 @@
 package me.chan99k.learningmanager.session;
 
 import java.time.Clock;
+import java.time.Instant;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ public class SessionUpdateService implements SessionUpdate {
 	private final SessionCommandRepository sessionCommandRepository;
 	private final CourseQueryRepository courseQueryRepository;
 	private final SystemAuthorizationPort systemAuthorizationPort;
+	private final ApplicationEventPublisher eventPublisher;
 	private final Clock clock;
 
 	public SessionUpdateService(
@@ -27,12 +30,14 @@ public class SessionUpdateService implements SessionUpdate {
 		SessionCommandRepository sessionCommandRepository,
 		CourseQueryRepository courseQueryRepository,
 		SystemAuthorizationPort systemAuthorizationPort,
+		ApplicationEventPublisher eventPublisher,
 		Clock clock
 	) {
 		this.sessionQueryRepository = sessionQueryRepository;
 		this.sessionCommandRepository = sessionCommandRepository;
 		this.courseQueryRepository = courseQueryRepository;
 		this.systemAuthorizationPort = systemAuthorizationPort;
+		this.eventPublisher = eventPublisher;
 		this.clock = clock;
 	}
 
@@ -42,9 +47,18 @@ public class SessionUpdateService implements SessionUpdate {
 
 		validateUpdatePermission(session, requestedBy);
 
+		Instant previousScheduledAt = session.getScheduledAt();
 		updateSessionInfo(session, request);
 
 		sessionCommandRepository.save(session);
+
+		eventPublisher.publishEvent(new SessionChangeEvent.Updated(
+			session.getId(),
+			session.getCourseId(),
+			session.getCurriculumId(),
+			previousScheduledAt,
+			session.getScheduledAt()
+		));
 	}
 
 	private Session getSessionById(Long sessionId) {
@@ -7,9 +7,12 @@ import static org.mockito.Mockito.*;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -17,21 +20,19 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import me.chan99k.learningmanager.exception.DomainException;
-import me.chan99k.learningmanager.session.Session;
-import me.chan99k.learningmanager.session.SessionParticipant;
 import me.chan99k.learningmanager.session.SessionProblemCode;
 import me.chan99k.learningmanager.session.SessionQueryRepository;
+import me.chan99k.learningmanager.session.dto.SessionCheckInInfo;
 
 @ExtendWith(MockitoExtension.class)
 class AttendanceCheckInServiceTest {
 
 	private static final Long SESSION_ID = 1L;
+	private static final Long COURSE_ID = 10L;
 	private static final Long MEMBER_ID = 100L;
 	private static final Long NON_PARTICIPANT_ID = 200L;
 	private static final Instant FIXED_TIME = Instant.parse("2024-01-01T10:00:00Z");
 	@Mock
-	private AttendanceQueryRepository attendanceQueryRepository;
-	@Mock
 	private AttendanceCommandRepository attendanceCommandRepository;
 	@Mock
 	private SessionQueryRepository sessionQueryRepository;
@@ -44,14 +45,13 @@ class AttendanceCheckInServiceTest {
 	@DisplayName("[Success] 정상적인 체크인 - 첫 출석")
 	void test01() {
 		// Given
-		Session session = createMockSession();
-		when(sessionQueryRepository.findById(SESSION_ID)).thenReturn(Optional.of(session));
-		when(attendanceQueryRepository.findBySessionIdAndMemberId(SESSION_ID, MEMBER_ID))
-			.thenReturn(Optional.empty());
+		when(sessionQueryRepository.findCheckInInfo(SESSION_ID, MEMBER_ID))
+			.thenReturn(Optional.of(createCheckInInfo(true)));
 		when(clock.instant()).thenReturn(FIXED_TIME);
 
 		Attendance savedAttendance = createMockAttendance();
-		when(attendanceCommandRepository.save(any(Attendance.class))).thenReturn(savedAttendance);
+		when(attendanceCommandRepository.appendCheckIn(COURSE_ID, SESSION_ID, MEMBER_ID, new CheckedIn(FIXED_TIME)))
+			.thenReturn(savedAttendance);
 
 		AttendanceCheckIn.Request request = new AttendanceCheckIn.Request(SESSION_ID);
 
@@ -63,15 +63,36 @@ class AttendanceCheckInServiceTest {
 		assertThat(response.sessionId()).isEqualTo(SESSION_ID);
 		assertThat(response.memberId()).isEqualTo(MEMBER_ID);
 		assertThat(response.status()).isEqualTo("PRESENT");
+		assertThat(response.checkInTime()).isEqualTo(FIXED_TIME);
 
-		verify(attendanceCommandRepository).save(any(Attendance.class));
+		verify(attendanceCommandRepository).appendCheckIn(COURSE_ID, SESSION_ID, MEMBER_ID, new CheckedIn(FIXED_TIME));
+		verify(savedAttendance, never()).getEvents();
+		verify(attendanceCommandRepository, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("[Failure] 이미 체크인한 상태에서 다시 체크인 시도")
+	void test02() {
+		// Given
+		when(sessionQueryRepository.findCheckInInfo(SESSION_ID, MEMBER_ID))
+			.thenReturn(Optional.of(createCheckInInfo(true)));
+		when(clock.instant()).thenReturn(FIXED_TIME);
+		when(attendanceCommandRepository.appendCheckIn(COURSE_ID, SESSION_ID, MEMBER_ID, new CheckedIn(FIXED_TIME)))
+			.thenThrow(new IllegalStateException(AttendanceProblemCode.ALREADY_CHECKED_IN.getMessage()));
+
+		AttendanceCheckIn.Request request = new AttendanceCheckIn.Request(SESSION_ID);
+
+		// When & Then
+		assertThatThrownBy(() -> attendanceCheckInService.checkIn(MEMBER_ID, request))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage(AttendanceProblemCode.ALREADY_CHECKED_IN.getMessage());
 	}
 
 	@Test
 	@DisplayName("[Failure] 존재하지 않는 세션에 체크인 시도")
 	void test03() {
 		// Given
-		when(sessionQueryRepository.findById(SESSION_ID)).thenReturn(Optional.empty());
+		when(sessionQueryRepository.findCheckInInfo(SESSION_ID, MEMBER_ID)).thenReturn(Optional.empty());
 		AttendanceCheckIn.Request request = new AttendanceCheckIn.Request(SESSION_ID);
 
 		// When & Then
@@ -84,8 +105,8 @@ class AttendanceCheckInServiceTest {
 	@DisplayName("[Failure] 세션 참여자가 아닌 사용자의 체크인 시도")
 	void test04() {
 		// Given
-		Session session = createMockSession();
-		when(sessionQueryRepository.findById(SESSION_ID)).thenReturn(Optional.of(session));
+		when(sessionQueryRepository.findCheckInInfo(SESSION_ID, NON_PARTICIPANT_ID))
+			.thenReturn(Optional.of(createCheckInInfo(false)));
 		AttendanceCheckIn.Request request = new AttendanceCheckIn.Request(SESSION_ID);
 
 		// When & Then
@@ -94,21 +115,171 @@ class AttendanceCheckInServiceTest {
 			.hasFieldOrPropertyWithValue("problemCode", SessionProblemCode.NOT_SESSION_PARTICIPANT);
 	}
 
-	private Session createMockSession() {
-		Session session = mock(Session.class);
-		SessionParticipant participant = mock(SessionParticipant.class);
-		when(participant.getMemberId()).thenReturn(MEMBER_ID);
-		when(session.getParticipants()).thenReturn(List.of(participant));
-		return session;
+	@Nested
+	@DisplayName("배치 체크인")
+	class CheckInAllTests {
+
+		@Test
+		@DisplayName("[Success] 참여자 검증과 저장을 배치 전체에 대해 한 번씩만 수행한다")
+		void test01() {
+			// Given
+			Long otherMemberId = 101L;
+			List<Long> memberIds = List.of(MEMBER_ID, otherMemberId);
+			when(sessionQueryRepository.findCheckInInfo(SESSION_ID, MEMBER_ID))
+				.thenReturn(Optional.of(createCheckInInfo(true)));
+			when(sessionQueryRepository.findParticipantMemberIds(SESSION_ID, memberIds))
+				.thenReturn(Set.of(MEMBER_ID, otherMemberId));
+			when(clock.instant()).thenReturn(FIXED_TIME);
+			Attendance first = createMockAttendance(MEMBER_ID);
+			Attendance second = createMockAttendance(otherMemberId);
+			when(attendanceCommandRepository.appendCheckIns(COURSE_ID, SESSION_ID, memberIds, new CheckedIn(FIXED_TIME)))
+				.thenReturn(new AttendanceCommandRepository.CheckInBatchResult(
+					Map.of(MEMBER_ID, first, otherMemberId, second), Map.of()));
+
+			// When
+			Map<Long, AttendanceBatchCheckIn.Outcome> outcomes = attendanceCheckInService.checkInAll(SESSION_ID,
+				memberIds);
+
+			// Then
+			assertThat(outcomes).containsOnlyKeys(MEMBER_ID, otherMemberId);
+			assertThat(outcomes.get(MEMBER_ID).isSuccess()).isTrue();
+			assertThat(outcomes.get(otherMemberId).response().memberId()).isEqualTo(otherMemberId);
+
+			verify(sessionQueryRepository, times(1)).findParticipantMemberIds(SESSION_ID, memberIds);
+			verify(sessionQueryRepository, times(1)).findCheckInInfo(SESSION_ID, MEMBER_ID);
+			verify(attendanceCommandRepository, times(1)).appendCheckIns(any(), any(), any(), any());
+		}
+
+		@Test
+		@DisplayName("[Failure] 참여자가 아닌 회원은 저장 대상에서 제외하고 NOT_SESSION_PARTICIPANT 로 응답한다")
+		void test02() {
+			// Given
+			List<Long> memberIds = List.of(MEMBER_ID, NON_PARTICIPANT_ID);
+			when(sessionQueryRepository.findCheckInInfo(SESSION_ID, MEMBER_ID))
+				.thenReturn(Optional.of(createCheckInInfo(true)));
+			when(sessionQueryRepository.findParticipantMemberIds(SESSION_ID, memberIds))
+				.thenReturn(Set.of(MEMBER_ID));
+			when(clock.instant()).thenReturn(FIXED_TIME);
+			Attendance saved = createMockAttendance(MEMBER_ID);
+			when(attendanceCommandRepository.appendCheckIns(COURSE_ID, SESSION_ID, List.of(MEMBER_ID), new CheckedIn(FIXED_TIME)))
+				.thenReturn(new AttendanceCommandRepository.CheckInBatchResult(Map.of(MEMBER_ID, saved), Map.of()));
+
+			// When
+			Map<Long, AttendanceBatchCheckIn.Outcome> outcomes = attendanceCheckInService.checkInAll(SESSION_ID,
+				memberIds);
+
+			// Then
+			assertThat(outcomes.get(MEMBER_ID).isSuccess()).isTrue();
+			assertThat(outcomes.get(NON_PARTICIPANT_ID).failure())
+				.isInstanceOf(DomainException.class)
+				.hasFieldOrPropertyWithValue("problemCode", SessionProblemCode.NOT_SESSION_PARTICIPANT);
+		}
+
+		@Test
+		@DisplayName("[Failure] 저장 결과에 없는 회원은 이미 체크인한 것으로 응답한다")
+		void test03() {
+			// Given
+			List<Long> memberIds = List.of(MEMBER_ID);
+			when(sessionQueryRepository.findCheckInInfo(SESSION_ID, MEMBER_ID))
+				.thenReturn(Optional.of(createCheckInInfo(true)));
+			when(sessionQueryRepository.findParticipantMemberIds(SESSION_ID, memberIds))
+				.thenReturn(Set.of(MEMBER_ID));
+			when(clock.instant()).thenReturn(FIXED_TIME);
+			when(attendanceCommandRepository.appendCheckIns(COURSE_ID, SESSION_ID, memberIds, new CheckedIn(FIXED_TIME)))
+				.thenReturn(new AttendanceCommandRepository.CheckInBatchResult(Map.of(), Map.of()));
+
+			// When
+			Map<Long, AttendanceBatchCheckIn.Outcome> outcomes = attendanceCheckInService.checkInAll(SESSION_ID,
+				memberIds);
+
+			// Then
+			assertThat(outcomes.get(MEMBER_ID).failure())
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage(AttendanceProblemCode.ALREADY_CHECKED_IN.getMessage());
+		}
+
+		@Test
+		@DisplayName("[Failure] 세션이 없으면 참여자 조회 없이 SESSION_NOT_FOUND 로 응답한다")
+		void test04() {
+			// Given
+			List<Long> memberIds = List.of(MEMBER_ID);
+			when(sessionQueryRepository.findCheckInInfo(SESSION_ID, MEMBER_ID)).thenReturn(Optional.empty());
+
+			// When
+			Map<Long, AttendanceBatchCheckIn.Outcome> outcomes = attendanceCheckInService.checkInAll(SESSION_ID,
+				memberIds);
+
+			// Then
+			assertThat(outcomes.get(MEMBER_ID).failure())
+				.isInstanceOf(DomainException.class)
+				.hasFieldOrPropertyWithValue("problemCode", SessionProblemCode.SESSION_NOT_FOUND);
+			verify(attendanceCommandRepository, never()).appendCheckIns(any(), any(), any(), any());
+			verify(sessionQueryRepository, never()).findParticipantMemberIds(any(), any());
+		}
+
+		@Test
+		@DisplayName("[Failure] 세션은 있지만 참여자가 한 명도 없으면 NOT_SESSION_PARTICIPANT 로 응답한다")
+		void test05() {
+			// Given
+			List<Long> memberIds = List.of(NON_PARTICIPANT_ID);
+			when(sessionQueryRepository.findCheckInInfo(SESSION_ID, NON_PARTICIPANT_ID))
+				.thenReturn(Optional.of(createCheckInInfo(false)));
+			when(sessionQueryRepository.findParticipantMemberIds(SESSION_ID, memberIds)).thenReturn(Set.of());
+
+			// When
+			Map<Long, AttendanceBatchCheckIn.Outcome> outcomes = attendanceCheckInService.checkInAll(SESSION_ID,
+				memberIds);
+
+			// Then
+			assertThat(outcomes.get(NON_PARTICIPANT_ID).failure())
+				.isInstanceOf(DomainException.class)
+				.hasFieldOrPropertyWithValue("problemCode", SessionProblemCode.NOT_SESSION_PARTICIPANT);
+			verify(attendanceCommandRepository, never()).appendCheckIns(any(), any(), any(), any());
+		}
+
+		@Test
+		@DisplayName("[Failure] 쓰기에 실패한 회원만 그 원인으로 응답하고 나머지 회원은 성공한다")
+		void test06() {
+			// Given
+			Long failedMemberId = 101L;
+			List<Long> memberIds = List.of(MEMBER_ID, failedMemberId);
+			when(sessionQueryRepository.findCheckInInfo(SESSION_ID, MEMBER_ID))
+				.thenReturn(Optional.of(createCheckInInfo(true)));
+			when(sessionQueryRepository.findParticipantMemberIds(SESSION_ID, memberIds))
+				.thenReturn(Set.of(MEMBER_ID, failedMemberId));
+			when(clock.instant()).thenReturn(FIXED_TIME);
+			Attendance saved = createMockAttendance(MEMBER_ID);
+			IllegalStateException writeError = new IllegalStateException("[System] 출석 체크인 저장에 실패했습니다.");
+			when(attendanceCommandRepository.appendCheckIns(COURSE_ID, SESSION_ID, memberIds, new CheckedIn(FIXED_TIME)))
+				.thenReturn(new AttendanceCommandRepository.CheckInBatchResult(
+					Map.of(MEMBER_ID, saved), Map.of(failedMemberId, writeError)));
+
+			// When
+			Map<Long, AttendanceBatchCheckIn.Outcome> outcomes = attendanceCheckInService.checkInAll(SESSION_ID,
+				memberIds);
+
+			// Then
+			assertThat(outcomes.get(MEMBER_ID).isSuccess()).isTrue();
+			assertThat(outcomes.get(failedMemberId).failure()).isSameAs(writeError);
+		}
+	}
+
+	private SessionCheckInInfo createCheckInInfo(boolean participant) {
+		return new SessionCheckInInfo(SESSION_ID, null, COURSE_ID, null, "테스트 세션",
+			FIXED_TIME, FIXED_TIME.plusSeconds(7200), participant);
 	}
 
 	private Attendance createMockAttendance() {
+		return createMockAttendance(MEMBER_ID);
+	}
+
+	private Attendance createMockAttendance(Long memberId) {
 		Attendance attendance = mock(Attendance.class);
 		when(attendance.getId()).thenReturn("attendance-id");
 		when(attendance.getSessionId()).thenReturn(SESSION_ID);
-		when(attendance.getMemberId()).thenReturn(MEMBER_ID);
+		when(attendance.getMemberId()).thenReturn(memberId);
 		when(attendance.getFinalStatus()).thenReturn(AttendanceStatus.PRESENT);
-		when(attendance.getEvents()).thenReturn(List.of());
+		when(attendance.getCheckInTime()).thenReturn(FIXED_TIME);
 		return attendance;
 	}
 }
@@ -5,7 +5,6 @@ import static org.mockito.Mockito.*;
 
 import java.time.Clock;
 import java.time.Instant;
-import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -16,10 +15,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import me.chan99k.learningmanager.exception.DomainException;
-import me.chan99k.learningmanager.session.Session;
-import me.chan99k.learningmanager.session.SessionParticipant;
 import me.chan99k.learningmanager.session.SessionProblemCode;
 import me.chan99k.learningmanager.session.SessionQueryRepository;
+import me.chan99k.learningmanager.session.dto.SessionCheckInInfo;
 
 @ExtendWith(MockitoExtension.class)
 class AttendanceCheckOutServiceTest {
@@ -29,8 +27,6 @@ class AttendanceCheckOutServiceTest {
 	private static final Long NON_PARTICIPANT_ID = 200L;
 	private static final Instant FIXED_TIME = Instant.parse("2024-01-01T10:00:00Z");
 	@Mock
-	private AttendanceQueryRepository attendanceQueryRepository;
-	@Mock
 	private AttendanceCommandRepository attendanceCommandRepository;
 	@Mock
 	private SessionQueryRepository sessionQueryRepository;
@@ -43,14 +39,14 @@ class AttendanceCheckOutServiceTest {
 	@DisplayName("[Success] 정상적인 체크아웃")
 	void test01() {
 		// Given
-		Session session = createMockSession();
-		when(sessionQueryRepository.findById(SESSION_ID)).thenReturn(Optional.of(session));
+		when(sessionQueryRepository.findCheckInInfo(SESSION_ID, MEMBER_ID))
+			.thenReturn(Optional.of(createCheckInInfo(true)));
 
-		Attendance existingAttendance = createMockAttendance();
-		when(attendanceQueryRepository.findBySessionIdAndMemberId(SESSION_ID, MEMBER_ID))
-			.thenReturn(Optional.of(existingAttendance));
+		when(clock.instant()).thenReturn(FIXED_TIME);
 
-		when(attendanceCommandRepository.save(existingAttendance)).thenReturn(existingAttendance);
+		Attendance checkedOutAttendance = createMockAttendance();
+		when(attendanceCommandRepository.appendCheckOut(SESSION_ID, MEMBER_ID, new CheckedOut(FIXED_TIME)))
+			.thenReturn(checkedOutAttendance);
 
 		AttendanceCheckOut.Request request = new AttendanceCheckOut.Request(SESSION_ID);
 
@@ -62,16 +58,18 @@ class AttendanceCheckOutServiceTest {
 		assertThat(response.sessionId()).isEqualTo(SESSION_ID);
 		assertThat(response.memberId()).isEqualTo(MEMBER_ID);
 		assertThat(response.status()).isEqualTo("PRESENT");
+		assertThat(response.checkInTime()).isEqualTo(FIXED_TIME);
 
-		verify(attendanceCommandRepository).save(existingAttendance);
-		verify(existingAttendance).checkOut(clock);
+		verify(attendanceCommandRepository).appendCheckOut(SESSION_ID, MEMBER_ID, new CheckedOut(FIXED_TIME));
+		verify(checkedOutAttendance, never()).getEvents();
+		verify(attendanceCommandRepository, never()).save(any());
 	}
 
 	@Test
 	@DisplayName("[Failure] 존재하지 않는 세션에 체크아웃 시도")
 	void test03() {
 		// Given
-		when(sessionQueryRepository.findById(SESSION_ID)).thenReturn(Optional.empty());
+		when(sessionQueryRepository.findCheckInInfo(SESSION_ID, MEMBER_ID)).thenReturn(Optional.empty());
 		AttendanceCheckOut.Request request = new AttendanceCheckOut.Request(SESSION_ID);
 
 		// When & Then
@@ -84,8 +82,8 @@ class AttendanceCheckOutServiceTest {
 	@DisplayName("[Failure] 세션 참여자가 아닌 사용자의 체크아웃 시도")
 	void test04() {
 		// Given
-		Session session = createMockSession();
-		when(sessionQueryRepository.findById(SESSION_ID)).thenReturn(Optional.of(session));
+		when(sessionQueryRepository.findCheckInInfo(SESSION_ID, NON_PARTICIPANT_ID))
+			.thenReturn(Optional.of(createCheckInInfo(false)));
 		AttendanceCheckOut.Request request = new AttendanceCheckOut.Request(SESSION_ID);
 
 		// When & Then
@@ -98,10 +96,10 @@ class AttendanceCheckOutServiceTest {
 	@DisplayName("[Failure] 출석 기록이 없는 상태에서 체크아웃 시도")
 	void test05() {
 		// Given
-		Session session = createMockSession();
-		when(sessionQueryRepository.findById(SESSION_ID)).thenReturn(Optional.of(session));
-		when(attendanceQueryRepository.findBySessionIdAndMemberId(SESSION_ID, MEMBER_ID))
-			.thenReturn(Optional.empty());
+		when(sessionQueryRepository.findCheckInInfo(SESSION_ID, MEMBER_ID))
+			.thenReturn(Optional.of(createCheckInInfo(true)));
+		when(attendanceCommandRepository.appendCheckOut(eq(SESSION_ID), eq(MEMBER_ID), any(CheckedOut.class)))
+			.thenThrow(new IllegalArgumentException("[System] 출석 정보가 없습니다."));
 
 		AttendanceCheckOut.Request request = new AttendanceCheckOut.Request(SESSION_ID);
 
@@ -111,12 +109,9 @@ class AttendanceCheckOutServiceTest {
 			.hasMessage("[System] 출석 정보가 없습니다.");
 	}
 
-	private Session createMockSession() {
-		Session session = mock(Session.class);
-		SessionParticipant participant = mock(SessionParticipant.class);
-		when(participant.getMemberId()).thenReturn(MEMBER_ID);
-		when(session.getParticipants()).thenReturn(List.of(participant));
-		return session;
+	private SessionCheckInInfo createCheckInInfo(boolean participant) {
+		return new SessionCheckInInfo(SESSION_ID, null, null, null, "테스트 세션",
+			FIXED_TIME, FIXED_TIME.plusSeconds(7200), participant);
 	}
 
 	private Attendance createMockAttendance() {
@@ -125,7 +120,6 @@ class AttendanceCheckOutServiceTest {
 		when(attendance.getSessionId()).thenReturn(SESSION_ID);
 		when(attendance.getMemberId()).thenReturn(MEMBER_ID);
 		when(attendance.getFinalStatus()).thenReturn(AttendanceStatus.PRESENT);
-		when(attendance.getEvents()).thenReturn(List.of());
 		return attendance;
 	}
 }
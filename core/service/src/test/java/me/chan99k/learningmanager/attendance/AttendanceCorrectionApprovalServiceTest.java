@@ -16,18 +16,20 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import me.chan99k.learningmanager.exception.DomainException;
+import me.chan99k.learningmanager.session.Session;
 
 @ExtendWith(MockitoExtension.class)
 class AttendanceCorrectionApprovalServiceTest {
 
 	private static final String ATTENDANCE_ID = "attendance-123";
 	private static final Long SESSION_ID = 1L;
+	private static final Long COURSE_ID = 10L;
 	private static final Long MEMBER_ID = 100L;
 	private static final Long APPROVER_ID = 300L;
 	private static final Instant FIXED_TIME = Instant.parse("2024-01-01T10:00:00Z");
 
 	@Mock
-	private AttendanceQueryRepository attendanceQueryRepository;
+	private AttendanceLookupMemo attendanceLookupMemo;
 	@Mock
 	private AttendanceCommandRepository attendanceCommandRepository;
 	@Mock
@@ -39,9 +41,12 @@ class AttendanceCorrectionApprovalServiceTest {
 	@DisplayName("[Success] 출석 수정 요청을 승인한다")
 	void approve_success() {
 		Attendance attendance = createAttendanceWithPendingRequest();
-		when(attendanceQueryRepository.findById(ATTENDANCE_ID)).thenReturn(Optional.of(attendance));
+		Session session = mock(Session.class);
+		when(session.getCourseId()).thenReturn(COURSE_ID);
+		when(attendanceLookupMemo.findAttendanceById(ATTENDANCE_ID)).thenReturn(Optional.of(attendance));
+		when(attendanceLookupMemo.findSessionById(SESSION_ID)).thenReturn(Optional.of(session));
 		when(clock.instant()).thenReturn(FIXED_TIME);
-		when(attendanceCommandRepository.save(any(Attendance.class))).thenReturn(attendance);
+		when(attendanceCommandRepository.save(any(Attendance.class), eq(COURSE_ID))).thenReturn(attendance);
 
 		AttendanceCorrectionApproval.Request request = new AttendanceCorrectionApproval.Request(ATTENDANCE_ID);
 
@@ -51,13 +56,26 @@ class AttendanceCorrectionApprovalServiceTest {
 		assertThat(response.previousStatus()).isEqualTo(AttendanceStatus.PRESENT);
 		assertThat(response.newStatus()).isEqualTo(AttendanceStatus.LATE);
 		assertThat(response.approvedBy()).isEqualTo(APPROVER_ID);
-		verify(attendanceCommandRepository).save(any(Attendance.class));
+		verify(attendanceCommandRepository).save(attendance, COURSE_ID);
+	}
+
+	@Test
+	@DisplayName("[Success] 과정에 속하지 않은 세션이면 출석 통계 없이 저장한다")
+	void approve_success_without_course() {
+		Attendance attendance = createAttendanceWithPendingRequest();
+		when(attendanceLookupMemo.findAttendanceById(ATTENDANCE_ID)).thenReturn(Optional.of(attendance));
+		when(attendanceLookupMemo.findSessionById(SESSION_ID)).thenReturn(Optional.empty());
+		when(clock.instant()).thenReturn(FIXED_TIME);
+
+		service.approve(APPROVER_ID, new AttendanceCorrectionApproval.Request(ATTENDANCE_ID));
+
+		verify(attendanceCommandRepository).save(attendance, null);
 	}
 
 	@Test
 	@DisplayName("[Failure] 존재하지 않는 출석 기록 승인 시 예외가 발생한다")
 	void approve_fail_if_attendance_not_found() {
-		when(attendanceQueryRepository.findById(ATTENDANCE_ID)).thenReturn(Optional.empty());
+		when(attendanceLookupMemo.findAttendanceById(ATTENDANCE_ID)).thenReturn(Optional.empty());
 
 		AttendanceCorrectionApproval.Request request = new AttendanceCorrectionApproval.Request(ATTENDANCE_ID);
 
@@ -70,7 +88,7 @@ class AttendanceCorrectionApprovalServiceTest {
 	@DisplayName("[Failure] 대기 중인 수정 요청이 없으면 예외가 발생한다")
 	void approve_fail_if_no_pending_request() {
 		Attendance attendance = createAttendanceWithoutPendingRequest();
-		when(attendanceQueryRepository.findById(ATTENDANCE_ID)).thenReturn(Optional.of(attendance));
+		when(attendanceLookupMemo.findAttendanceById(ATTENDANCE_ID)).thenReturn(Optional.of(attendance));
 
 		AttendanceCorrectionApproval.Request request = new AttendanceCorrectionApproval.Request(ATTENDANCE_ID);
 
@@ -78,14 +96,14 @@ class AttendanceCorrectionApprovalServiceTest {
 			.isInstanceOf(IllegalStateException.class)
 			.hasMessageContaining("대기 중인 수정 요청이 없습니다");
 
-		verify(attendanceCommandRepository, never()).save(any());
+		verify(attendanceCommandRepository, never()).save(any(), any());
 	}
 
 	@Test
 	@DisplayName("[Failure] 이미 처리된 요청을 다시 승인하면 예외가 발생한다")
 	void approve_fail_if_already_processed() {
 		Attendance attendance = createAttendanceWithAlreadyApprovedRequest();
-		when(attendanceQueryRepository.findById(ATTENDANCE_ID)).thenReturn(Optional.of(attendance));
+		when(attendanceLookupMemo.findAttendanceById(ATTENDANCE_ID)).thenReturn(Optional.of(attendance));
 
 		AttendanceCorrectionApproval.Request request = new AttendanceCorrectionApproval.Request(ATTENDANCE_ID);
 
@@ -93,7 +111,7 @@ class AttendanceCorrectionApprovalServiceTest {
 			.isInstanceOf(IllegalStateException.class)
 			.hasMessageContaining("대기 중인 수정 요청이 없습니다");
 
-		verify(attendanceCommandRepository, never()).save(any());
+		verify(attendanceCommandRepository, never()).save(any(), any());
 	}
 
 	private Attendance createAttendanceWithPendingRequest() {
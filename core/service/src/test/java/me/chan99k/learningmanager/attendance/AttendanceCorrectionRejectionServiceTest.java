@@ -27,7 +27,7 @@ class AttendanceCorrectionRejectionServiceTest {
 	private static final Instant FIXED_TIME = Instant.parse("2024-01-01T10:00:00Z");
 
 	@Mock
-	private AttendanceQueryRepository attendanceQueryRepository;
+	private AttendanceLookupMemo attendanceLookupMemo;
 	@Mock
 	private AttendanceCommandRepository attendanceCommandRepository;
 	@Mock
@@ -39,7 +39,7 @@ class AttendanceCorrectionRejectionServiceTest {
 	@DisplayName("[Success] 출석 수정 요청을 거절한다")
 	void reject_success() {
 		Attendance attendance = createAttendanceWithPendingRequest();
-		when(attendanceQueryRepository.findById(ATTENDANCE_ID)).thenReturn(Optional.of(attendance));
+		when(attendanceLookupMemo.findAttendanceById(ATTENDANCE_ID)).thenReturn(Optional.of(attendance));
 		when(clock.instant()).thenReturn(FIXED_TIME);
 		when(attendanceCommandRepository.save(any(Attendance.class))).thenReturn(attendance);
 
@@ -58,7 +58,7 @@ class AttendanceCorrectionRejectionServiceTest {
 	@Test
 	@DisplayName("[Failure] 존재하지 않는 출석 기록 거절 시 예외가 발생한다")
 	void reject_fail_if_attendance_not_found() {
-		when(attendanceQueryRepository.findById(ATTENDANCE_ID)).thenReturn(Optional.empty());
+		when(attendanceLookupMemo.findAttendanceById(ATTENDANCE_ID)).thenReturn(Optional.empty());
 
 		AttendanceCorrectionRejection.Request request = new AttendanceCorrectionRejection.Request(
 			ATTENDANCE_ID, "거절 사유"
@@ -73,7 +73,7 @@ class AttendanceCorrectionRejectionServiceTest {
 	@DisplayName("[Failure] 대기 중인 수정 요청이 없으면 예외가 발생한다")
 	void reject_fail_if_no_pending_request() {
 		Attendance attendance = createAttendanceWithoutPendingRequest();
-		when(attendanceQueryRepository.findById(ATTENDANCE_ID)).thenReturn(Optional.of(attendance));
+		when(attendanceLookupMemo.findAttendanceById(ATTENDANCE_ID)).thenReturn(Optional.of(attendance));
 
 		AttendanceCorrectionRejection.Request request = new AttendanceCorrectionRejection.Request(
 			ATTENDANCE_ID, "거절 사유"
@@ -90,7 +90,7 @@ class AttendanceCorrectionRejectionServiceTest {
 	@DisplayName("[Failure] 이미 거절된 요청을 다시 거절하면 예외가 발생한다")
 	void reject_fail_if_already_rejected() {
 		Attendance attendance = createAttendanceWithAlreadyRejectedRequest();
-		when(attendanceQueryRepository.findById(ATTENDANCE_ID)).thenReturn(Optional.of(attendance));
+		when(attendanceLookupMemo.findAttendanceById(ATTENDANCE_ID)).thenReturn(Optional.of(attendance));
 
 		AttendanceCorrectionRejection.Request request = new AttendanceCorrectionRejection.Request(
 			ATTENDANCE_ID, "다시 거절"
@@ -27,7 +27,7 @@ class AttendanceCorrectionRequestServiceTest {
 	private static final Instant FIXED_TIME = Instant.parse("2024-01-01T10:00:00Z");
 
 	@Mock
-	private AttendanceQueryRepository attendanceQueryRepository;
+	private AttendanceLookupMemo attendanceLookupMemo;
 	@Mock
 	private AttendanceCommandRepository attendanceCommandRepository;
 	@Mock
@@ -39,7 +39,7 @@ class AttendanceCorrectionRequestServiceTest {
 	@DisplayName("[Success] 출석 수정 요청을 성공적으로 생성한다")
 	void request_success() {
 		Attendance attendance = createAttendanceWithCheckIn();
-		when(attendanceQueryRepository.findById(ATTENDANCE_ID)).thenReturn(Optional.of(attendance));
+		when(attendanceLookupMemo.findAttendanceById(ATTENDANCE_ID)).thenReturn(Optional.of(attendance));
 		when(clock.instant()).thenReturn(FIXED_TIME);
 		when(attendanceCommandRepository.save(any(Attendance.class))).thenReturn(attendance);
 
@@ -59,7 +59,7 @@ class AttendanceCorrectionRequestServiceTest {
 	@Test
 	@DisplayName("[Failure] 존재하지 않는 출석 기록에 요청하면 예외가 발생한다")
 	void request_fail_if_attendance_not_found() {
-		when(attendanceQueryRepository.findById(ATTENDANCE_ID)).thenReturn(Optional.empty());
+		when(attendanceLookupMemo.findAttendanceById(ATTENDANCE_ID)).thenReturn(Optional.empty());
 
 		AttendanceCorrectionRequest.Request request = new AttendanceCorrectionRequest.Request(
 			ATTENDANCE_ID, AttendanceStatus.LATE, "요청 사유"
@@ -74,7 +74,7 @@ class AttendanceCorrectionRequestServiceTest {
 	@DisplayName("[Failure] 이미 대기 중인 수정 요청이 있으면 예외가 발생한다")
 	void request_fail_if_pending_request_exists() {
 		Attendance attendance = createAttendanceWithPendingRequest();
-		when(attendanceQueryRepository.findById(ATTENDANCE_ID)).thenReturn(Optional.of(attendance));
+		when(attendanceLookupMemo.findAttendanceById(ATTENDANCE_ID)).thenReturn(Optional.of(attendance));
 
 		AttendanceCorrectionRequest.Request request = new AttendanceCorrectionRequest.Request(
 			ATTENDANCE_ID, AttendanceStatus.ABSENT, "결석 처리 요청"
@@ -91,7 +91,7 @@ class AttendanceCorrectionRequestServiceTest {
 	@DisplayName("[Failure] 현재 상태와 동일한 상태로 변경 요청하면 예외가 발생한다")
 	void request_fail_if_same_status() {
 		Attendance attendance = createAttendanceWithCheckIn();
-		when(attendanceQueryRepository.findById(ATTENDANCE_ID)).thenReturn(Optional.of(attendance));
+		when(attendanceLookupMemo.findAttendanceById(ATTENDANCE_ID)).thenReturn(Optional.of(attendance));
 
 		// 현재 상태가 PRESENT인데 PRESENT로 변경 요청
 		AttendanceCorrectionRequest.Request request = new AttendanceCorrectionRequest.Request(
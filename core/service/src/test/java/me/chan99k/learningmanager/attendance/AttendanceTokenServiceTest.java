@@ -14,8 +14,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import me.chan99k.learningmanager.exception.DomainException;
-import me.chan99k.learningmanager.session.Session;
 import me.chan99k.learningmanager.session.SessionQueryRepository;
+import me.chan99k.learningmanager.session.dto.SessionCheckInInfo;
 
 @ExtendWith(MockitoExtension.class)
 class AttendanceTokenServiceTest {
@@ -36,8 +36,8 @@ class AttendanceTokenServiceTest {
 	@Test
 	@DisplayName("[Success] 루트 세션에 대해 토큰 생성 성공")
 	void generateToken_success() {
-		Session session = createRootSession();
-		when(sessionQueryRepository.findById(SESSION_ID)).thenReturn(Optional.of(session));
+		SessionCheckInInfo session = createRootSession();
+		when(sessionQueryRepository.findCheckInInfo(SESSION_ID, MEMBER_ID)).thenReturn(Optional.of(session));
 		when(qrCodeGenerator.generateQrCode(eq(SESSION_ID), any(Instant.class)))
 			.thenReturn("SESSION_1_1733698800000");
 
@@ -54,7 +54,7 @@ class AttendanceTokenServiceTest {
 	@Test
 	@DisplayName("[Failure] 존재하지 않는 세션")
 	void generateToken_sessionNotFound() {
-		when(sessionQueryRepository.findById(SESSION_ID)).thenReturn(Optional.empty());
+		when(sessionQueryRepository.findCheckInInfo(SESSION_ID, MEMBER_ID)).thenReturn(Optional.empty());
 		var request = new GenerateAttendanceToken.Request(SESSION_ID);
 
 		assertThatThrownBy(() -> attendanceTokenService.generate(MEMBER_ID, request))
@@ -64,29 +64,22 @@ class AttendanceTokenServiceTest {
 	@Test
 	@DisplayName("[Failure] 하위 세션에 대해 토큰 생성 시도")
 	void generateToken_childSessionNotAllowed() {
-		Session childSession = createChildSession();
-		when(sessionQueryRepository.findById(SESSION_ID)).thenReturn(Optional.of(childSession));
+		SessionCheckInInfo childSession = createChildSession();
+		when(sessionQueryRepository.findCheckInInfo(SESSION_ID, MEMBER_ID)).thenReturn(Optional.of(childSession));
 		var request = new GenerateAttendanceToken.Request(SESSION_ID);
 
 		assertThatThrownBy(() -> attendanceTokenService.generate(MEMBER_ID, request))
 			.isInstanceOf(DomainException.class);
 	}
 
-	private Session createRootSession() {
-		Session session = mock(Session.class);
-		when(session.getId()).thenReturn(SESSION_ID);
-		when(session.isRootSession()).thenReturn(true);
-		when(session.getScheduledEndAt()).thenReturn(SESSION_END);
-		when(session.getTitle()).thenReturn("Spring Boot 스터디 1회차");
-		when(session.getCourseId()).thenReturn(COURSE_ID);
-		when(session.getCurriculumId()).thenReturn(null);
-		return session;
+	private SessionCheckInInfo createRootSession() {
+		return new SessionCheckInInfo(SESSION_ID, null, COURSE_ID, null, "Spring Boot 스터디 1회차",
+			SESSION_END.minusSeconds(7200), SESSION_END, false);
 	}
 
-	private Session createChildSession() {
-		Session session = mock(Session.class);
-		when(session.isRootSession()).thenReturn(false);  // 하위 세션임
-		return session;
+	private SessionCheckInInfo createChildSession() {
+		return new SessionCheckInInfo(SESSION_ID, 99L, COURSE_ID, null, "Spring Boot 스터디 1회차 - 실습",  // 하위 세션임
+			SESSION_END.minusSeconds(3600), SESSION_END, false);
 	}
 
-}
\ No newline at end of file
+}
@@ -5,15 +5,22 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -44,7 +51,6 @@ class CourseAttendanceRetrievalServiceTest {
 	@Mock
 	private CourseQueryRepository courseQueryRepository;
 
-	@InjectMocks
 	private CourseAttendanceRetrievalService service;
 
 	private List<CourseMemberInfo> mockCourseMembers;
@@ -53,6 +59,9 @@ class CourseAttendanceRetrievalServiceTest {
 
 	@BeforeEach
 	void setUp() {
+		service = new CourseAttendanceRetrievalService(
+			attendanceQueryRepository, sessionQueryRepository, courseQueryRepository, Runnable::run, false);
+
 		Instant joinedAt = Instant.parse("2025-01-01T00:00:00Z");
 		mockCourseMembers = List.of(
 			new CourseMemberInfo(MEMBER_ID_1, "홍길동", "hong@test.com", CourseRole.MENTEE, joinedAt),
@@ -113,7 +122,7 @@ class CourseAttendanceRetrievalServiceTest {
 				.thenReturn(sessionIds);
 			when(courseQueryRepository.findCourseMembersByCourseId(eq(COURSE_ID), any(PageRequest.class)))
 				.thenReturn(mockMemberPageResult);
-			when(attendanceQueryRepository.findAllMembersAttendanceWithStats(sessionIds,
+			when(attendanceQueryRepository.findAllMembersAttendanceWithCourseStats(COURSE_ID, sessionIds,
 				List.of(MEMBER_ID_1, MEMBER_ID_2)))
 				.thenReturn(mockResults);
 			when(sessionQueryRepository.findSessionInfoMapByIds(sessionIds))
@@ -147,8 +156,9 @@ class CourseAttendanceRetrievalServiceTest {
 			// Mock 호출 검증
 			verify(sessionQueryRepository).findSessionIdsByCourseId(COURSE_ID);
 			verify(courseQueryRepository).findCourseMembersByCourseId(eq(COURSE_ID), any(PageRequest.class));
-			verify(attendanceQueryRepository).findAllMembersAttendanceWithStats(sessionIds,
+			verify(attendanceQueryRepository).findAllMembersAttendanceWithCourseStats(COURSE_ID, sessionIds,
 				List.of(MEMBER_ID_1, MEMBER_ID_2));
+			verify(attendanceQueryRepository, never()).findAllMembersAttendanceWithStats(any(), any());
 		}
 
 		@Test
@@ -172,6 +182,7 @@ class CourseAttendanceRetrievalServiceTest {
 
 			verify(courseQueryRepository, never()).findCourseMembersByCourseId(any(), any());
 			verify(attendanceQueryRepository, never()).findAllMembersAttendanceWithStats(any(), any());
+			verify(attendanceQueryRepository, never()).findAllMembersAttendanceWithCourseStats(any(), any(), any());
 		}
 
 		@Test
@@ -234,6 +245,7 @@ class CourseAttendanceRetrievalServiceTest {
 			assertThat(response.members()).hasSize(1);
 			verify(sessionQueryRepository).findSessionIdsByCurriculumId(CURRICULUM_ID);
 			verify(sessionQueryRepository, never()).findSessionIdsByCourseId(any());
+			verify(attendanceQueryRepository, never()).findAllMembersAttendanceWithCourseStats(any(), any(), any());
 		}
 
 		@Test
@@ -274,6 +286,97 @@ class CourseAttendanceRetrievalServiceTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("getAllMembersAttendance - 동시 조회 모드")
+	class GetAllMembersAttendanceConcurrentlyTest {
+
+		private ExecutorService executor;
+		private CourseAttendanceRetrievalService concurrentService;
+
+		@BeforeEach
+		void setUpConcurrentService() {
+			executor = Executors.newFixedThreadPool(4);
+			concurrentService = new CourseAttendanceRetrievalService(
+				attendanceQueryRepository, sessionQueryRepository, courseQueryRepository, executor, true);
+		}
+
+		@AfterEach
+		void tearDown() {
+			executor.shutdownNow();
+		}
+
+		@Test
+		@DisplayName("성공 - 세션 ID 조회와 멤버 조회를 겹쳐 실행한다")
+		void overlapsIndependentQueries() {
+			// Given: 세션 ID 조회는 멤버 조회가 시작되어야 끝나므로, 순차 실행이면 시간 초과로 실패한다
+			List<Long> sessionIds = List.of(SESSION_ID_1, SESSION_ID_2);
+			var request = new CourseAttendanceRetrieval.AllMembersRequest(
+				COURSE_ID, null, null, null, null, null
+			);
+			CountDownLatch membersStarted = new CountDownLatch(1);
+
+			when(sessionQueryRepository.findSessionIdsByCourseId(COURSE_ID)).thenAnswer(invocation -> {
+				assertThat(membersStarted.await(2, TimeUnit.SECONDS)).isTrue();
+				return sessionIds;
+			});
+			when(courseQueryRepository.findCourseMembersByCourseId(eq(COURSE_ID), any(PageRequest.class)))
+				.thenAnswer(invocation -> {
+					membersStarted.countDown();
+					return mockMemberPageResult;
+				});
+			when(attendanceQueryRepository.findAllMembersAttendanceWithCourseStats(COURSE_ID, sessionIds,
+				List.of(MEMBER_ID_1, MEMBER_ID_2)))
+				.thenReturn(List.of(new AttendanceQueryRepository.MemberAttendanceResult(
+					MEMBER_ID_1,
+					List.of(
+						new AttendanceQueryRepository.AttendanceRecord("att1", SESSION_ID_1, AttendanceStatus.PRESENT)),
+					new AttendanceQueryRepository.AttendanceStats(1, 1, 0, 0, 0, 100.0)
+				)));
+			when(sessionQueryRepository.findSessionInfoMapByIds(sessionIds)).thenReturn(mockSessionInfoMap);
+
+			// When
+			var response = concurrentService.getAllMembersAttendance(REQUESTED_BY, request);
+
+			// Then
+			assertThat(response.members()).hasSize(1);
+			assertThat(response.members().get(0).memberName()).isEqualTo("홍길동");
+			assertThat(response.members().get(0).sessions().get(0).sessionTitle()).isEqualTo("스프링 부트 기초");
+		}
+
+		@Test
+		@DisplayName("세션이 없는 경우 출석 집계 없이 빈 결과 반환")
+		void emptyWhenNoSessions() {
+			var request = new CourseAttendanceRetrieval.AllMembersRequest(
+				COURSE_ID, null, null, null, null, null
+			);
+			when(sessionQueryRepository.findSessionIdsByCourseId(COURSE_ID)).thenReturn(List.of());
+			lenient().when(courseQueryRepository.findCourseMembersByCourseId(eq(COURSE_ID), any(PageRequest.class)))
+				.thenReturn(mockMemberPageResult);
+
+			var response = concurrentService.getAllMembersAttendance(REQUESTED_BY, request);
+
+			assertThat(response.members()).isEmpty();
+			verifyNoInteractions(attendanceQueryRepository);
+			verify(sessionQueryRepository, never()).findSessionInfoMapByIds(any());
+		}
+
+		@Test
+		@DisplayName("실패 - 동시 조회 중 발생한 예외는 감싸지 않고 그대로 던진다")
+		void rethrowsCause() {
+			var request = new CourseAttendanceRetrieval.AllMembersRequest(
+				COURSE_ID, null, null, null, null, null
+			);
+			when(sessionQueryRepository.findSessionIdsByCourseId(COURSE_ID))
+				.thenThrow(new IllegalStateException("mysql down"));
+			lenient().when(courseQueryRepository.findCourseMembersByCourseId(eq(COURSE_ID), any(PageRequest.class)))
+				.thenReturn(mockMemberPageResult);
+
+			assertThatThrownBy(() -> concurrentService.getAllMembersAttendance(REQUESTED_BY, request))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("mysql down");
+		}
+	}
+
 	@Nested
 	@DisplayName("getMemberAttendance")
 	class GetMemberAttendanceTest {
@@ -382,4 +485,84 @@ class CourseAttendanceRetrievalServiceTest {
 			verify(sessionQueryRepository).findSessionIdsByPeriodAndFilters(startDate, endDate, COURSE_ID, null);
 		}
 	}
+
+	@Nested
+	@DisplayName("exportAllMembersAttendance")
+	class ExportAllMembersAttendanceTest {
+
+		@Test
+		@DisplayName("성공 - 출석 기록을 회원 순서대로 한 행씩 내보낸다")
+		void success() {
+			List<Long> sessionIds = List.of(SESSION_ID_1, SESSION_ID_2);
+			var request = new CourseAttendanceRetrieval.AllMembersRequest(
+				COURSE_ID, null, null, null, null, null
+			);
+
+			when(sessionQueryRepository.findSessionIdsByCourseId(COURSE_ID)).thenReturn(sessionIds);
+			when(sessionQueryRepository.findSessionInfoMapByIds(sessionIds)).thenReturn(mockSessionInfoMap);
+			when(courseQueryRepository.findCourseMembersAfterMemberId(COURSE_ID, null, 500))
+				.thenReturn(mockCourseMembers);
+			doAnswer(invocation -> {
+				BiConsumer<Long, AttendanceQueryRepository.AttendanceRecord> consumer = invocation.getArgument(2);
+				consumer.accept(MEMBER_ID_1,
+					new AttendanceQueryRepository.AttendanceRecord("att1", SESSION_ID_1, AttendanceStatus.PRESENT));
+				consumer.accept(MEMBER_ID_2,
+					new AttendanceQueryRepository.AttendanceRecord("att3", SESSION_ID_2, AttendanceStatus.LATE));
+				return null;
+			}).when(attendanceQueryRepository)
+				.forEachAttendanceRecord(eq(sessionIds), eq(List.of(MEMBER_ID_1, MEMBER_ID_2)), any());
+
+			List<CourseAttendanceRetrieval.ExportRow> rows = new ArrayList<>();
+			service.exportAllMembersAttendance(REQUESTED_BY, request, rows::add);
+
+			assertThat(rows).extracting(
+					CourseAttendanceRetrieval.ExportRow::memberName,
+					CourseAttendanceRetrieval.ExportRow::sessionTitle,
+					CourseAttendanceRetrieval.ExportRow::finalStatus)
+				.containsExactly(
+					tuple("홍길동", "스프링 부트 기초", AttendanceStatus.PRESENT),
+					tuple("김철수", "JPA 심화", AttendanceStatus.LATE));
+			verify(courseQueryRepository, never()).findCourseMembersByCourseId(any(), any());
+			verify(courseQueryRepository, times(1)).findCourseMembersAfterMemberId(any(), any(), anyInt());
+		}
+
+		@Test
+		@DisplayName("성공 - 멤버 한 묶음이 가득 차면 마지막 회원 ID 다음부터 이어서 조회한다")
+		void success_nextChunk() {
+			List<Long> sessionIds = List.of(SESSION_ID_1);
+			var request = new CourseAttendanceRetrieval.AllMembersRequest(
+				COURSE_ID, null, null, null, null, null
+			);
+			Instant joinedAt = Instant.parse("2025-01-01T00:00:00Z");
+			List<CourseMemberInfo> firstChunk = LongStream.rangeClosed(1, 500)
+				.mapToObj(id -> new CourseMemberInfo(id, "회원" + id, id + "@test.com", CourseRole.MENTEE, joinedAt))
+				.toList();
+
+			when(sessionQueryRepository.findSessionIdsByCourseId(COURSE_ID)).thenReturn(sessionIds);
+			when(sessionQueryRepository.findSessionInfoMapByIds(sessionIds))
+				.thenReturn(Map.of(SESSION_ID_1, mockSessionInfoMap.get(SESSION_ID_1)));
+			when(courseQueryRepository.findCourseMembersAfterMemberId(COURSE_ID, null, 500)).thenReturn(firstChunk);
+			when(courseQueryRepository.findCourseMembersAfterMemberId(COURSE_ID, 500L, 500)).thenReturn(List.of());
+
+			service.exportAllMembersAttendance(REQUESTED_BY, request, row -> {
+			});
+
+			verify(attendanceQueryRepository, times(1)).forEachAttendanceRecord(eq(sessionIds), any(), any());
+			verify(courseQueryRepository).findCourseMembersAfterMemberId(COURSE_ID, 500L, 500);
+		}
+
+		@Test
+		@DisplayName("성공 - 세션이 없으면 멤버를 조회하지 않는다")
+		void success_emptySessions() {
+			var request = new CourseAttendanceRetrieval.AllMembersRequest(
+				COURSE_ID, null, null, null, null, null
+			);
+			when(sessionQueryRepository.findSessionIdsByCourseId(COURSE_ID)).thenReturn(List.of());
+
+			service.exportAllMembersAttendance(REQUESTED_BY, request, row -> {
+			});
+
+			verifyNoInteractions(courseQueryRepository, attendanceQueryRepository);
+		}
+	}
 }
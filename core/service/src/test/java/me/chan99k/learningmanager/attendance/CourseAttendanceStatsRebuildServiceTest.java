@@ -0,0 +1,64 @@
+package me.chan99k.learningmanager.attendance;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import me.chan99k.learningmanager.session.SessionQueryRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CourseAttendanceStatsRebuildService 테스트")
+class CourseAttendanceStatsRebuildServiceTest {
+
+	@Mock
+	AttendanceQueryRepository attendanceQueryRepository;
+	@Mock
+	AttendanceCommandRepository attendanceCommandRepository;
+	@Mock
+	SessionQueryRepository sessionQueryRepository;
+
+	private CourseAttendanceStatsRebuildService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new CourseAttendanceStatsRebuildService(attendanceQueryRepository, attendanceCommandRepository,
+			sessionQueryRepository);
+	}
+
+	@Test
+	@DisplayName("[Success] 재집계 대상 과정마다 과정의 세션 전체로 통계를 다시 집계한다")
+	void test01() {
+		when(attendanceQueryRepository.findCoursesPendingStatsRebuild(10)).thenReturn(List.of(1L, 2L));
+		when(sessionQueryRepository.findSessionIdsByCourseId(1L)).thenReturn(List.of(11L, 12L));
+		when(sessionQueryRepository.findSessionIdsByCourseId(2L)).thenReturn(List.of());
+		when(attendanceCommandRepository.rebuildCourseStats(1L, List.of(11L, 12L))).thenReturn(true);
+		when(attendanceCommandRepository.rebuildCourseStats(2L, List.of())).thenReturn(false);
+
+		int rebuilt = service.rebuildPending(10);
+
+		assertThat(rebuilt).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("[Failure] 한 과정의 재집계가 실패해도 나머지 과정은 계속 재집계한다")
+	void test02() {
+		when(attendanceQueryRepository.findCoursesPendingStatsRebuild(10)).thenReturn(List.of(1L, 2L));
+		when(sessionQueryRepository.findSessionIdsByCourseId(1L)).thenThrow(new IllegalStateException("db down"));
+		when(sessionQueryRepository.findSessionIdsByCourseId(2L)).thenReturn(List.of(21L));
+		when(attendanceCommandRepository.rebuildCourseStats(2L, List.of(21L))).thenReturn(true);
+
+		int rebuilt = service.rebuildPending(10);
+
+		assertThat(rebuilt).isEqualTo(1);
+		verify(attendanceCommandRepository, never()).rebuildCourseStats(eq(1L), anyList());
+	}
+}
@@ -6,6 +6,7 @@ import static org.mockito.BDDMockito.*;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,13 +16,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import me.chan99k.learningmanager.exception.DomainException;
 import me.chan99k.learningmanager.member.Account;
 import me.chan99k.learningmanager.member.AccountStatus;
 import me.chan99k.learningmanager.member.Credential;
+import me.chan99k.learningmanager.member.CredentialType;
 import me.chan99k.learningmanager.member.Email;
 import me.chan99k.learningmanager.member.Member;
+import me.chan99k.learningmanager.member.MemberCommandRepository;
 import me.chan99k.learningmanager.member.MemberQueryRepository;
 import me.chan99k.learningmanager.member.MemberStatus;
 import me.chan99k.learningmanager.member.Nickname;
@@ -41,6 +45,8 @@ class IssueTokenServiceTest {
 	@Mock
 	MemberQueryRepository memberQueryRepository;
 	@Mock
+	MemberCommandRepository memberCommandRepository;
+	@Mock
 	PasswordEncoder passwordEncoder;
 	@Mock
 	JwtProvider jwtProvider;
@@ -53,6 +59,7 @@ class IssueTokenServiceTest {
 	void setUp() {
 		issueTokenService = new IssueTokenService(
 			memberQueryRepository,
+			memberCommandRepository,
 			passwordEncoder,
 			jwtProvider,
 			refreshTokenRepository,
@@ -206,4 +213,79 @@ class IssueTokenServiceTest {
 			assertThat(response.expiresIn()).isEqualTo(ACCESS_TOKEN_EXPIRATION_SECONDS);
 		}
 	}
+
+	@Nested
+	@DisplayName("비밀번호 해시 비용 변경")
+	class RehashTest {
+
+		private static final String REHASHED_PASSWORD = "rehashed-password";
+
+		private Member givenValidLogin() {
+			Member member = createTestMember();
+			given(memberQueryRepository.findByEmail(Email.of(TEST_EMAIL)))
+				.willReturn(Optional.of(member));
+			given(passwordEncoder.matches(TEST_PASSWORD, HASHED_PASSWORD))
+				.willReturn(true);
+			given(jwtProvider.createAccessToken(eq(MEMBER_ID), eq(TEST_EMAIL)))
+				.willReturn(ACCESS_TOKEN);
+			return member;
+		}
+
+		@Test
+		@DisplayName("저장된 해시의 비용이 목표와 다르면 로그인 성공 시 다시 해싱해 저장한다")
+		void rehashes_password_when_cost_differs() {
+			Member member = givenValidLogin();
+			given(passwordEncoder.upgradeEncoding(HASHED_PASSWORD)).willReturn(true);
+			given(passwordEncoder.encode(TEST_PASSWORD)).willReturn(REHASHED_PASSWORD);
+
+			issueTokenService.issueToken(new IssueToken.Request(TEST_EMAIL, TEST_PASSWORD));
+
+			then(memberCommandRepository).should().save(member);
+			Credential credential = member.findAccountByEmail(Email.of(TEST_EMAIL))
+				.findCredentialByType(CredentialType.PASSWORD);
+			assertThat(credential.getSecret()).isEqualTo(REHASHED_PASSWORD);
+		}
+
+		@Test
+		@DisplayName("해시 비용이 목표와 같으면 다시 해싱하지 않는다")
+		void does_not_rehash_when_cost_matches() {
+			givenValidLogin();
+			given(passwordEncoder.upgradeEncoding(HASHED_PASSWORD)).willReturn(false);
+
+			issueTokenService.issueToken(new IssueToken.Request(TEST_EMAIL, TEST_PASSWORD));
+
+			then(passwordEncoder).should(never()).encode(any());
+			then(memberCommandRepository).shouldHaveNoInteractions();
+		}
+
+		@Test
+		@DisplayName("다시 해싱할 때 해싱 실행기가 포화 상태여도 로그인은 성공한다")
+		void issues_token_even_if_rehash_rejected() {
+			givenValidLogin();
+			given(passwordEncoder.upgradeEncoding(HASHED_PASSWORD)).willReturn(true);
+			given(passwordEncoder.encode(TEST_PASSWORD)).willThrow(new RejectedExecutionException("saturated"));
+
+			IssueToken.Response response = issueTokenService.issueToken(
+				new IssueToken.Request(TEST_EMAIL, TEST_PASSWORD));
+
+			assertThat(response.accessToken()).isEqualTo(ACCESS_TOKEN);
+			then(memberCommandRepository).shouldHaveNoInteractions();
+		}
+
+		@Test
+		@DisplayName("다시 해싱한 비밀번호 저장이 동시 변경과 충돌해도 로그인은 성공한다")
+		void issues_token_even_if_rehash_save_conflicts() {
+			Member member = givenValidLogin();
+			given(passwordEncoder.upgradeEncoding(HASHED_PASSWORD)).willReturn(true);
+			given(passwordEncoder.encode(TEST_PASSWORD)).willReturn(REHASHED_PASSWORD);
+			given(memberCommandRepository.save(member))
+				.willThrow(new OptimisticLockingFailureException("version mismatch"));
+
+			IssueToken.Response response = issueTokenService.issueToken(
+				new IssueToken.Request(TEST_EMAIL, TEST_PASSWORD));
+
+			assertThat(response.accessToken()).isEqualTo(ACCESS_TOKEN);
+			then(refreshTokenRepository).should().save(any(RefreshToken.class));
+		}
+	}
 }
@@ -130,6 +130,8 @@ class RefreshAccessTokenServiceTest {
 				.willReturn(Optional.of(validToken));
 			given(memberQueryRepository.findById(MEMBER_ID))
 				.willReturn(Optional.of(member));
+			given(refreshTokenRepository.rotate(eq(ORIGINAL_TOKEN), any(RefreshToken.class)))
+				.willReturn(true);
 			given(jwtProvider.createAccessToken(eq(MEMBER_ID), eq(TEST_EMAIL)))
 				.willReturn(NEW_ACCESS_TOKEN);
 			given(jwtProvider.getAccessTokenExpirationSeconds())
@@ -206,14 +208,16 @@ class RefreshAccessTokenServiceTest {
 		}
 
 		@Test
-		@DisplayName("토큰 갱신 시 기존 토큰을 폐기한다 (Token Rotation)")
-		void revokes_original_token_on_refresh() {
+		@DisplayName("토큰 갱신 시 기존 토큰을 새 토큰으로 교체한다 (Token Rotation)")
+		void rotates_original_token_on_refresh() {
 			RefreshToken validToken = createValidRefreshToken();
 			Member member = createTestMember();
 			given(refreshTokenRepository.findByToken(ORIGINAL_TOKEN))
 				.willReturn(Optional.of(validToken));
 			given(memberQueryRepository.findById(MEMBER_ID))
 				.willReturn(Optional.of(member));
+			given(refreshTokenRepository.rotate(eq(ORIGINAL_TOKEN), any(RefreshToken.class)))
+				.willReturn(true);
 			given(jwtProvider.createAccessToken(eq(MEMBER_ID), eq(TEST_EMAIL)))
 				.willReturn(NEW_ACCESS_TOKEN);
 			given(jwtProvider.getAccessTokenExpirationSeconds())
@@ -222,7 +226,30 @@ class RefreshAccessTokenServiceTest {
 			RefreshAccessToken.Request request = new RefreshAccessToken.Request(ORIGINAL_TOKEN);
 			refreshAccessTokenService.refresh(request);
 
-			then(refreshTokenRepository).should().revokeByToken(ORIGINAL_TOKEN);
+			then(refreshTokenRepository).should().rotate(eq(ORIGINAL_TOKEN), any(RefreshToken.class));
+			then(refreshTokenRepository).should(never()).revokeByToken(any());
+			then(refreshTokenRepository).should(never()).save(any());
+		}
+
+		@Test
+		@DisplayName("다른 요청이 먼저 교체한 토큰이면 REVOKED_TOKEN 예외를 던지고 Access Token 을 발급하지 않는다")
+		void throws_exception_when_rotation_lost() {
+			RefreshToken validToken = createValidRefreshToken();
+			Member member = createTestMember();
+			given(refreshTokenRepository.findByToken(ORIGINAL_TOKEN))
+				.willReturn(Optional.of(validToken));
+			given(memberQueryRepository.findById(MEMBER_ID))
+				.willReturn(Optional.of(member));
+			given(refreshTokenRepository.rotate(eq(ORIGINAL_TOKEN), any(RefreshToken.class)))
+				.willReturn(false);
+
+			RefreshAccessToken.Request request = new RefreshAccessToken.Request(ORIGINAL_TOKEN);
+
+			assertThatThrownBy(() -> refreshAccessTokenService.refresh(request))
+				.isInstanceOf(DomainException.class)
+				.extracting("problemCode")
+				.isEqualTo(AuthProblemCode.REVOKED_TOKEN);
+			then(jwtProvider).shouldHaveNoInteractions();
 		}
 
 		@Test
@@ -234,6 +261,8 @@ class RefreshAccessTokenServiceTest {
 				.willReturn(Optional.of(validToken));
 			given(memberQueryRepository.findById(MEMBER_ID))
 				.willReturn(Optional.of(member));
+			given(refreshTokenRepository.rotate(eq(ORIGINAL_TOKEN), any(RefreshToken.class)))
+				.willReturn(true);
 			given(jwtProvider.createAccessToken(eq(MEMBER_ID), eq(TEST_EMAIL)))
 				.willReturn(NEW_ACCESS_TOKEN);
 			given(jwtProvider.getAccessTokenExpirationSeconds())
@@ -243,7 +272,7 @@ class RefreshAccessTokenServiceTest {
 			refreshAccessTokenService.refresh(request);
 
 			ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
-			then(refreshTokenRepository).should().save(captor.capture());
+			then(refreshTokenRepository).should().rotate(eq(ORIGINAL_TOKEN), captor.capture());
 
 			RefreshToken savedToken = captor.getValue();
 			assertThat(savedToken.getMemberId()).isEqualTo(MEMBER_ID);
@@ -4,7 +4,10 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,7 +19,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import me.chan99k.learningmanager.exception.DomainException;
 import me.chan99k.learningmanager.member.Email;
 import me.chan99k.learningmanager.member.Member;
-import me.chan99k.learningmanager.member.MemberEmailPair;
 import me.chan99k.learningmanager.member.MemberProblemCode;
 import me.chan99k.learningmanager.member.MemberQueryRepository;
 
@@ -36,6 +38,8 @@ class CourseMemberServiceTest {
 	@Mock
 	private MemberQueryRepository memberQueryRepository;
 	@Mock
+	private CourseMemberEnrollmentRepository enrollmentRepository;
+	@Mock
 	private Course course;
 	@Mock
 	private Member memberToAdd;
@@ -46,7 +50,8 @@ class CourseMemberServiceTest {
 			100,
 			courseQueryRepository,
 			courseCommandRepository,
-			memberQueryRepository
+			memberQueryRepository,
+			enrollmentRepository
 		);
 		lenient().when(memberToAdd.getId()).thenReturn(memberToAddId);
 	}
@@ -108,12 +113,10 @@ class CourseMemberServiceTest {
 			new CourseMemberAddition.MemberAdditionItem("notfound@example.com", CourseRole.MENTEE)
 		);
 
-		MemberEmailPair successPair = new MemberEmailPair(memberToAdd, "success@example.com");
-		List<MemberEmailPair> foundPairs = List.of(successPair);
-
-		given(courseQueryRepository.findManagedCourseById(courseId, managerId)).willReturn(Optional.of(course));
-		given(memberQueryRepository.findMembersByEmails(any(), eq(100))).willReturn(foundPairs);
-		given(memberToAdd.getId()).willReturn(memberToAddId);
+		given(courseQueryRepository.isManagedBy(courseId, managerId)).willReturn(true);
+		given(memberQueryRepository.findMemberIdsByEmails(any()))
+			.willReturn(Map.of("success@example.com", memberToAddId));
+		given(enrollmentRepository.findEnrolledMemberIds(eq(courseId), any())).willReturn(Set.of());
 
 		CourseMemberAddition.Response response = courseMemberService.addMultipleMembers(managerId, courseId, members);
 
@@ -125,36 +128,97 @@ class CourseMemberServiceTest {
 		assertThat(response.results().get(1).status()).isEqualTo("FAILED");
 		assertThat(response.results().get(1).message()).isEqualTo("해당 회원이 존재하지 않습니다");
 
-		then(course).should().addMember(memberToAddId, CourseRole.MENTEE);
-		then(courseCommandRepository).should().save(course);
+		then(enrollmentRepository).should().enrollAll(courseId,
+			List.of(new CourseMemberEnrollment(memberToAddId, CourseRole.MENTEE)), managerId);
+		then(courseQueryRepository).should(never()).findManagedCourseById(any(), any());
+		then(courseCommandRepository).shouldHaveNoInteractions();
 	}
 
 	@Test
-	@DisplayName("[Failure] 벌크 요청에서 도메인 규칙 위반 시 실패 정보가 반환된다")
-	void addMultipleMembers_Fail_DomainRuleViolation() {
+	@DisplayName("[Failure] 벌크 요청에서 이미 등록되었거나 요청 안에서 중복된 멤버는 실패 정보가 반환된다")
+	void addMultipleMembers_Fail_AlreadyRegistered() {
+		Long newMemberId = 30L;
 		List<CourseMemberAddition.MemberAdditionItem> members = List.of(
-			new CourseMemberAddition.MemberAdditionItem(memberToAddEmail, CourseRole.MENTEE)
+			new CourseMemberAddition.MemberAdditionItem(memberToAddEmail, CourseRole.MENTEE),
+			new CourseMemberAddition.MemberAdditionItem("new@example.com", CourseRole.MENTOR),
+			new CourseMemberAddition.MemberAdditionItem("new@example.com", CourseRole.MENTEE)
 		);
 
-		MemberEmailPair memberPair = new MemberEmailPair(memberToAdd, memberToAddEmail);
-		List<MemberEmailPair> foundPairs = List.of(memberPair);
+		given(courseQueryRepository.isManagedBy(courseId, managerId)).willReturn(true);
+		given(memberQueryRepository.findMemberIdsByEmails(
+			List.of(Email.of(memberToAddEmail), Email.of("new@example.com"))))
+			.willReturn(Map.of(memberToAddEmail, memberToAddId, "new@example.com", newMemberId));
+		given(enrollmentRepository.findEnrolledMemberIds(eq(courseId), any())).willReturn(Set.of(memberToAddId));
 
-		given(courseQueryRepository.findManagedCourseById(courseId, managerId)).willReturn(Optional.of(course));
-		given(memberQueryRepository.findMembersByEmails(any(), eq(100))).willReturn(foundPairs);
-		given(memberToAdd.getId()).willReturn(memberToAddId);
-		doThrow(new IllegalArgumentException("이미 과정에 참여 중인 회원입니다"))
-			.when(course).addMember(memberToAddId, CourseRole.MENTEE);
+		CourseMemberAddition.Response response = courseMemberService.addMultipleMembers(managerId, courseId, members);
+
+		assertThat(response.totalCount()).isEqualTo(3);
+		assertThat(response.successCount()).isEqualTo(1);
+		assertThat(response.failureCount()).isEqualTo(2);
+		assertThat(response.results()).extracting(CourseMemberAddition.MemberResult::status)
+			.containsExactly("FAILED", "SUCCESS", "FAILED");
+		assertThat(response.results().get(0).message())
+			.isEqualTo(CourseProblemCode.COURSE_MEMBER_ALREADY_REGISTERED.getMessage());
+		assertThat(response.results().get(2).message())
+			.isEqualTo(CourseProblemCode.COURSE_MEMBER_ALREADY_REGISTERED.getMessage());
+
+		then(enrollmentRepository).should().enrollAll(courseId,
+			List.of(new CourseMemberEnrollment(newMemberId, CourseRole.MENTOR)), managerId);
+	}
+
+	@Test
+	@DisplayName("[Failure] 중복 확인 뒤 다른 요청이 먼저 등록해 저장 단계에서 건너뛴 멤버는 실패 정보가 반환된다")
+	void addMultipleMembers_Fail_RegisteredConcurrently() {
+		Long newMemberId = 30L;
+		List<CourseMemberAddition.MemberAdditionItem> members = List.of(
+			new CourseMemberAddition.MemberAdditionItem(memberToAddEmail, CourseRole.MENTEE),
+			new CourseMemberAddition.MemberAdditionItem("new@example.com", CourseRole.MENTOR)
+		);
+
+		given(courseQueryRepository.isManagedBy(courseId, managerId)).willReturn(true);
+		given(memberQueryRepository.findMemberIdsByEmails(any()))
+			.willReturn(Map.of(memberToAddEmail, memberToAddId, "new@example.com", newMemberId));
+		given(enrollmentRepository.findEnrolledMemberIds(eq(courseId), any())).willReturn(Set.of());
+		given(enrollmentRepository.enrollAll(eq(courseId), any(), eq(managerId))).willReturn(Set.of(memberToAddId));
 
 		CourseMemberAddition.Response response = courseMemberService.addMultipleMembers(managerId, courseId, members);
 
-		assertThat(response.totalCount()).isEqualTo(1);
-		assertThat(response.successCount()).isZero();
+		assertThat(response.successCount()).isEqualTo(1);
 		assertThat(response.failureCount()).isEqualTo(1);
-		assertThat(response.results()).hasSize(1);
-		assertThat(response.results().get(0).status()).isEqualTo("FAILED");
-		assertThat(response.results().get(0).message()).isEqualTo("이미 과정에 참여 중인 회원입니다");
+		assertThat(response.results()).extracting(CourseMemberAddition.MemberResult::status)
+			.containsExactly("FAILED", "SUCCESS");
+		assertThat(response.results().get(0).message())
+			.isEqualTo(CourseProblemCode.COURSE_MEMBER_ALREADY_REGISTERED.getMessage());
+	}
 
-		then(courseCommandRepository).should().save(course);
+	@Test
+	@DisplayName("[Failure] 벌크 요청에서 과정 매니저가 아니면 DomainException이 발생한다")
+	void addMultipleMembers_Fail_NotManager() {
+		List<CourseMemberAddition.MemberAdditionItem> members = List.of(
+			new CourseMemberAddition.MemberAdditionItem(memberToAddEmail, CourseRole.MENTEE)
+		);
+
+		given(courseQueryRepository.isManagedBy(courseId, managerId)).willReturn(false);
+
+		assertThatThrownBy(() -> courseMemberService.addMultipleMembers(managerId, courseId, members))
+			.isInstanceOf(DomainException.class)
+			.hasFieldOrPropertyWithValue("problemCode", CourseProblemCode.NOT_COURSE_MANAGER);
+
+		then(memberQueryRepository).shouldHaveNoInteractions();
+		then(enrollmentRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("[Failure] 벌크 요청이 최대 크기를 넘으면 IllegalArgumentException이 발생한다")
+	void addMultipleMembers_Fail_ExceedsMaxSize() {
+		List<CourseMemberAddition.MemberAdditionItem> members = IntStream.rangeClosed(1, 101)
+			.mapToObj(i -> new CourseMemberAddition.MemberAdditionItem("m" + i + "@example.com", CourseRole.MENTEE))
+			.toList();
+
+		assertThatThrownBy(() -> courseMemberService.addMultipleMembers(managerId, courseId, members))
+			.isInstanceOf(IllegalArgumentException.class);
+
+		then(courseQueryRepository).shouldHaveNoInteractions();
 	}
 
 	@Test
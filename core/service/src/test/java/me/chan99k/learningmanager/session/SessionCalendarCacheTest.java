@@ -0,0 +1,248 @@
+package me.chan99k.learningmanager.session;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import me.chan99k.learningmanager.session.SessionListRetrieval.SessionCalendar;
+import me.chan99k.learningmanager.session.SessionListRetrieval.SessionCalendarRequest;
+import me.chan99k.learningmanager.session.SessionListRetrieval.SessionCalendarResponse;
+import me.chan99k.learningmanager.session.SessionListRetrieval.SessionStatus;
+import me.chan99k.learningmanager.session.dto.SessionCalendarVersion;
+
+@DisplayName("SessionCalendarCache 테스트")
+class SessionCalendarCacheTest {
+
+	private static final Instant NOW = Instant.parse("2025-03-10T00:00:00Z");
+	private static final YearMonth MARCH = YearMonth.of(2025, 3);
+	private static final Long COURSE_ID = 10L;
+	private static final Long CURRICULUM_ID = 20L;
+	private static final long TTL_SECONDS = 300L;
+
+	private MutableClock clock;
+	private SessionCalendarCache cache;
+	private AtomicInteger loadCount;
+	private SessionCalendarVersion version;
+
+	@BeforeEach
+	void setUp() {
+		clock = new MutableClock(NOW);
+		cache = new SessionCalendarCache(clock, TTL_SECONDS, 100);
+		loadCount = new AtomicInteger();
+		version = new SessionCalendarVersion(1L, NOW.minusSeconds(3600));
+	}
+
+	private Supplier<Map<LocalDate, List<SessionCalendarResponse>>> loader(SessionCalendarResponse... sessions) {
+		return () -> {
+			loadCount.incrementAndGet();
+			return sessions.length == 0
+				? Map.of()
+				: Map.of(LocalDate.ofInstant(sessions[0].scheduledAt(), clock.getZone()), List.of(sessions));
+		};
+	}
+
+	private SessionCalendarResponse session(Long id, Instant scheduledAt) {
+		return new SessionCalendarResponse(id, "세션-" + id, scheduledAt, scheduledAt.plusSeconds(3600),
+			SessionType.ONLINE, SessionLocation.ZOOM, null, COURSE_ID, CURRICULUM_ID, SessionStatus.UPCOMING);
+	}
+
+	private SessionCalendarRequest courseRequest() {
+		return new SessionCalendarRequest(null, null, COURSE_ID, null);
+	}
+
+	@Nested
+	@DisplayName("조회")
+	class GetTests {
+
+		@Test
+		@DisplayName("[Success] 같은 달, 같은 필터는 한 번만 읽고 같은 ETag 를 돌려준다")
+		void test01() {
+			Instant scheduledAt = NOW.plusSeconds(86400 * 5);
+
+			SessionCalendar first = cache.get(MARCH, courseRequest(), () -> version,
+				loader(session(1L, scheduledAt)));
+			SessionCalendar second = cache.get(MARCH, courseRequest(), () -> version,
+				loader(session(1L, scheduledAt)));
+
+			assertThat(second).isSameAs(first);
+			assertThat(loadCount).hasValue(1);
+		}
+
+		@Test
+		@DisplayName("[Success] 필터가 다르면 별도 항목으로 캐싱한다")
+		void test02() {
+			cache.get(MARCH, courseRequest(), () -> version, loader());
+			cache.get(MARCH, new SessionCalendarRequest(SessionType.OFFLINE, null, COURSE_ID, null), () -> version,
+				loader());
+
+			assertThat(loadCount).hasValue(2);
+		}
+
+		@Test
+		@DisplayName("[Success] 내용이 같으면 다시 읽어도 ETag 가 같고, 다르면 달라진다")
+		void test03() {
+			Instant scheduledAt = NOW.plusSeconds(86400 * 5);
+			SessionCalendar original = cache.get(MARCH, courseRequest(), () -> version,
+				loader(session(1L, scheduledAt)));
+
+			SessionCalendarCache otherCache = new SessionCalendarCache(clock, TTL_SECONDS, 100);
+			SessionCalendar same = otherCache.get(MARCH, courseRequest(), () -> version,
+				loader(session(1L, scheduledAt)));
+			SessionCalendar changed = otherCache.get(MARCH, new SessionCalendarRequest(null, null, null, null),
+				() -> version, loader(session(2L, scheduledAt)));
+
+			assertThat(same.etag()).isEqualTo(original.etag());
+			assertThat(changed.etag()).isNotEqualTo(original.etag());
+		}
+
+		@Test
+		@DisplayName("[Success] 가장 가까운 세션 시작 시각이 지나면 상태가 바뀌므로 TTL 전이라도 다시 읽는다")
+		void test04() {
+			Instant scheduledAt = NOW.plusSeconds(60);
+			cache.get(MARCH, courseRequest(), () -> version, loader(session(1L, scheduledAt)));
+
+			clock.set(scheduledAt);
+			cache.get(MARCH, courseRequest(), () -> version, loader(session(1L, scheduledAt)));
+
+			assertThat(loadCount).hasValue(2);
+		}
+
+		@Test
+		@DisplayName("[Success] TTL 이 지나면 다시 읽는다")
+		void test05() {
+			cache.get(MARCH, courseRequest(), () -> version, loader());
+
+			clock.set(NOW.plusSeconds(TTL_SECONDS));
+			cache.get(MARCH, courseRequest(), () -> version, loader());
+
+			assertThat(loadCount).hasValue(2);
+		}
+
+		@Test
+		@DisplayName("[Success] 이벤트가 오지 않아도 세션 수나 마지막 수정 시각이 바뀌면 다시 읽는다")
+		void test06() {
+			cache.get(MARCH, courseRequest(), () -> version, loader());
+
+			version = new SessionCalendarVersion(1L, NOW);
+			cache.get(MARCH, courseRequest(), () -> version, loader());
+			version = new SessionCalendarVersion(2L, NOW);
+			cache.get(MARCH, courseRequest(), () -> version, loader());
+			cache.get(MARCH, courseRequest(), () -> version, loader());
+
+			assertThat(loadCount).hasValue(3);
+		}
+
+		@Test
+		@DisplayName("[Success] 최대 크기가 0 이면 캐싱하지 않는다")
+		void test07() {
+			SessionCalendarCache disabledCache = new SessionCalendarCache(clock, TTL_SECONDS, 0);
+			disabledCache.get(MARCH, courseRequest(), () -> version, loader());
+			disabledCache.get(MARCH, courseRequest(), () -> version, loader());
+
+			assertThat(loadCount).hasValue(2);
+		}
+	}
+
+	@Nested
+	@DisplayName("세션 변경 이벤트")
+	class InvalidationTests {
+
+		@Test
+		@DisplayName("[Success] 같은 달, 같은 과정의 세션이 생성되면 과정 캘린더와 전체 캘린더를 비운다")
+		void test01() {
+			SessionCalendarRequest allRequest = new SessionCalendarRequest(null, null, null, null);
+			cache.get(MARCH, courseRequest(), () -> version, loader());
+			cache.get(MARCH, allRequest, () -> version, loader());
+
+			cache.handleSessionChange(
+				new SessionChangeEvent.Created(1L, COURSE_ID, CURRICULUM_ID, NOW.plusSeconds(86400)));
+			cache.get(MARCH, courseRequest(), () -> version, loader());
+			cache.get(MARCH, allRequest, () -> version, loader());
+
+			assertThat(loadCount).hasValue(4);
+		}
+
+		@Test
+		@DisplayName("[Success] 다른 과정이나 다른 달의 세션 변경은 캐시를 유지한다")
+		void test02() {
+			cache.get(MARCH, courseRequest(), () -> version, loader());
+
+			cache.handleSessionChange(new SessionChangeEvent.Deleted(1L, 99L, null, NOW.plusSeconds(86400)));
+			cache.handleSessionChange(
+				new SessionChangeEvent.Deleted(2L, COURSE_ID, null, Instant.parse("2025-05-15T00:00:00Z")));
+			cache.get(MARCH, courseRequest(), () -> version, loader());
+
+			assertThat(loadCount).hasValue(1);
+		}
+
+		@Test
+		@DisplayName("[Success] 일정이 다른 달로 옮겨지면 이전 달과 새 달을 모두 비운다")
+		void test03() {
+			YearMonth april = YearMonth.of(2025, 4);
+			cache.get(MARCH, courseRequest(), () -> version, loader());
+			cache.get(april, courseRequest(), () -> version, loader());
+
+			cache.handleSessionChange(new SessionChangeEvent.Updated(
+				1L, COURSE_ID, null, NOW.plusSeconds(86400), Instant.parse("2025-04-15T00:00:00Z")));
+			cache.get(MARCH, courseRequest(), () -> version, loader());
+			cache.get(april, courseRequest(), () -> version, loader());
+
+			assertThat(loadCount).hasValue(4);
+		}
+
+		@Test
+		@DisplayName("[Success] 조회 도중 무효화가 일어나면 그 조회 결과는 캐싱하지 않는다")
+		void test04() {
+			cache.get(MARCH, courseRequest(), () -> version, () -> {
+				loadCount.incrementAndGet();
+				cache.handleSessionChange(
+					new SessionChangeEvent.Created(1L, COURSE_ID, null, NOW.plusSeconds(86400)));
+				return Map.of();
+			});
+			cache.get(MARCH, courseRequest(), () -> version, loader());
+
+			assertThat(loadCount).hasValue(2);
+		}
+	}
+
+	private static class MutableClock extends Clock {
+
+		private Instant instant;
+
+		MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		void set(Instant instant) {
+			this.instant = instant;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneId.of("Asia/Seoul");
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
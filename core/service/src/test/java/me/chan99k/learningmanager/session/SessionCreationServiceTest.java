@@ -18,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import me.chan99k.learningmanager.authorization.SystemAuthorizationPort;
 import me.chan99k.learningmanager.course.Course;
@@ -46,6 +47,9 @@ class SessionCreationServiceTest {
 	@Mock
 	private SystemAuthorizationPort systemAuthorizationPort;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private SessionCreationService sessionCreationService;
 
@@ -81,6 +85,7 @@ class SessionCreationServiceTest {
 		// then
 		assertThat(result).isEqualTo(mockSession);
 		verify(sessionCommandRepository).create(any(Session.class));
+		verify(eventPublisher).publishEvent(any(SessionChangeEvent.Created.class));
 	}
 
 	@Test
@@ -103,6 +108,7 @@ class SessionCreationServiceTest {
 		assertThatThrownBy(() -> sessionCreationService.createSession(request))
 			.isInstanceOf(DomainException.class)
 			.hasFieldOrPropertyWithValue("problemCode", MemberProblemCode.ADMIN_ONLY_ACTION);
+		verifyNoInteractions(eventPublisher);
 	}
 
 	@Test
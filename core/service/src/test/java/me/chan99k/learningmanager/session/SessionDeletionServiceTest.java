@@ -13,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import me.chan99k.learningmanager.authorization.SystemAuthorizationPort;
 import me.chan99k.learningmanager.course.Course;
@@ -40,6 +41,9 @@ class SessionDeletionServiceTest {
 	@Mock
 	private SystemAuthorizationPort systemAuthorizationPort;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@Mock
 	private Session session;
 
@@ -61,6 +65,7 @@ class SessionDeletionServiceTest {
 		sessionDeletionService.deleteSession(managerId, sessionId);
 
 		verify(sessionCommandRepository).delete(session);
+		verify(eventPublisher).publishEvent(any(SessionChangeEvent.Deleted.class));
 	}
 
 	@Test
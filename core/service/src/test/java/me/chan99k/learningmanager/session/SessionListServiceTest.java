@@ -16,13 +16,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import me.chan99k.learningmanager.common.PageRequest;
 import me.chan99k.learningmanager.common.PageResult;
 import me.chan99k.learningmanager.common.SortOrder;
+import me.chan99k.learningmanager.session.dto.SessionCalendarItem;
+import me.chan99k.learningmanager.session.dto.SessionCalendarVersion;
+import me.chan99k.learningmanager.session.dto.SessionSummary;
 
 @ExtendWith(MockitoExtension.class)
 class SessionListServiceTest {
@@ -33,7 +35,6 @@ class SessionListServiceTest {
 	@Mock
 	private Clock clock;
 
-	@InjectMocks
 	private SessionListService sessionListService;
 
 	@BeforeEach
@@ -41,13 +42,16 @@ class SessionListServiceTest {
 		Instant fixedInstant = Instant.parse("2024-03-15T12:00:00Z");
 		lenient().when(clock.instant()).thenReturn(fixedInstant);
 		lenient().when(clock.getZone()).thenReturn(ZoneId.of("Asia/Seoul"));
+
+		sessionListService = new SessionListService(
+			sessionQueryRepository, new SessionCalendarCache(clock, 300, 100), clock);
 	}
 
 	@Test
 	@DisplayName("전체 세션 목록 조회 - 성공")
 	void getSessionList_Success() {
 		// given
-		var session = createMockSession(1L, "테스트 세션", SessionType.ONLINE, SessionLocation.ZOOM);
+		var session = createSummary(1L, "테스트 세션", SessionType.ONLINE, SessionLocation.ZOOM);
 		var pageRequest = PageRequest.of(0, 20, "scheduledAt", SortOrder.DESC);
 		var sessions = PageResult.of(List.of(session), pageRequest, 1);
 
@@ -74,12 +78,36 @@ class SessionListServiceTest {
 		);
 	}
 
+	@Test
+	@DisplayName("전체 세션 목록 조회 - 프로젝션의 부모 ID 와 참여자, 하위 세션 개수를 그대로 응답한다")
+	void getSessionList_UsesSummaryCounts() {
+		// given
+		var session = new SessionSummary(2L, "하위 세션", Instant.parse("2024-03-20T10:00:00Z"),
+			Instant.parse("2024-03-20T12:00:00Z"), SessionType.OFFLINE, SessionLocation.SITE, "A동 301호",
+			100L, 200L, 1L, 3L, 12L);
+		var pageRequest = PageRequest.of(0, 20);
+
+		when(sessionQueryRepository.findAllWithFilters(any(), any(), any(), any(), any(PageRequest.class)))
+			.thenReturn(PageResult.of(List.of(session), pageRequest, 1));
+
+		var request = new SessionListRetrieval.SessionListRequest(0, 20, null, null, null, null, null);
+
+		// when
+		var response = sessionListService.getSessionList(request).content().get(0);
+
+		// then
+		assertThat(response.parentId()).isEqualTo(1L);
+		assertThat(response.childSessionCount()).isEqualTo(3);
+		assertThat(response.participantCount()).isEqualTo(12);
+		assertThat(response.locationDetails()).isEqualTo("A동 301호");
+	}
+
 	@Test
 	@DisplayName("과정별 세션 목록 조회 - 성공")
 	void getCourseSessionList_Success() {
 		// given
 		Long courseId = 100L;
-		var session = createMockSessionWithCustomValues(1L, "과정 세션", SessionType.OFFLINE, SessionLocation.SITE,
+		var session = createSummaryWithCustomValues(1L, "과정 세션", SessionType.OFFLINE, SessionLocation.SITE,
 			courseId, null);
 		var pageRequest = PageRequest.of(0, 10, "title", SortOrder.ASC);
 		var sessions = PageResult.of(List.of(session), pageRequest, 1);
@@ -115,7 +143,7 @@ class SessionListServiceTest {
 	void getCurriculumSessionList_Success() {
 		// given
 		Long curriculumId = 200L;
-		var session = createMockSessionWithCustomValues(1L, "커리큘럼 세션", SessionType.ONLINE, SessionLocation.GOOGLE_MEET,
+		var session = createSummaryWithCustomValues(1L, "커리큘럼 세션", SessionType.ONLINE, SessionLocation.GOOGLE_MEET,
 			null, curriculumId);
 		var pageRequest = PageRequest.of(1, 5, "scheduledAt", SortOrder.ASC);
 		var sessions = PageResult.of(List.of(session), pageRequest, 1);
@@ -152,7 +180,7 @@ class SessionListServiceTest {
 		// given
 		Instant futureStart = Instant.now().plusSeconds(3600);
 		Instant futureEnd = futureStart.plusSeconds(7200);
-		var session = createMockSessionWithTime(1L, "미래 세션", futureStart, futureEnd);
+		var session = createSummaryWithTime(1L, "미래 세션", futureStart, futureEnd);
 		var pageRequest = PageRequest.of(0, 20, "scheduledAt", SortOrder.DESC);
 		var sessions = PageResult.of(List.of(session), pageRequest, 1);
 
@@ -175,7 +203,7 @@ class SessionListServiceTest {
 		Instant fixedNow = clock.instant();
 		Instant pastStart = fixedNow.minusSeconds(7200);
 		Instant pastEnd = fixedNow.minusSeconds(3600);
-		var session = createMockSessionWithTime(1L, "과거 세션", pastStart, pastEnd);
+		var session = createSummaryWithTime(1L, "과거 세션", pastStart, pastEnd);
 		var pageRequest = PageRequest.of(0, 20, "scheduledAt", SortOrder.DESC);
 		var sessions = PageResult.of(List.of(session), pageRequest, 1);
 
@@ -198,7 +226,7 @@ class SessionListServiceTest {
 		Instant fixedNow = clock.instant();
 		Instant ongoingStart = fixedNow.minusSeconds(3600);
 		Instant ongoingEnd = fixedNow.plusSeconds(3600);
-		var session = createMockSessionWithTime(1L, "진행 중 세션", ongoingStart, ongoingEnd);
+		var session = createSummaryWithTime(1L, "진행 중 세션", ongoingStart, ongoingEnd);
 		var pageRequest = PageRequest.of(0, 20, "scheduledAt", SortOrder.DESC);
 		var sessions = PageResult.of(List.of(session), pageRequest, 1);
 
@@ -218,7 +246,7 @@ class SessionListServiceTest {
 	@DisplayName("페이징 파라미터 정규화 - 잘못된 값들")
 	void normalizeRequestParameters() {
 		// given
-		var session = createMockSession(1L, "테스트", SessionType.ONLINE, SessionLocation.ZOOM);
+		var session = createSummary(1L, "테스트", SessionType.ONLINE, SessionLocation.ZOOM);
 		var pageRequest = PageRequest.of(0, 20, "scheduledAt", SortOrder.DESC);
 		var sessions = PageResult.of(List.of(session), pageRequest, 1);
 
@@ -244,7 +272,7 @@ class SessionListServiceTest {
 	void getUserSessionList_Success() {
 		// given
 		Long memberId = 300L;
-		var session = createMockSession(1L, "사용자 세션", SessionType.ONLINE, SessionLocation.ZOOM);
+		var session = createSummary(1L, "사용자 세션", SessionType.ONLINE, SessionLocation.ZOOM);
 		var pageRequest = PageRequest.of(0, 20, "scheduledAt", SortOrder.DESC);
 		var sessions = PageResult.of(List.of(session), pageRequest, 1);
 
@@ -275,6 +303,72 @@ class SessionListServiceTest {
 		);
 	}
 
+	@Test
+	@DisplayName("커서 기반 전체 세션 목록 조회 - 커서를 해석해 키셋 조회에 넘기고 다음 커서를 유지한다")
+	void getSessionList_WithCursor() {
+		// given
+		var session = createSummary(1L, "커서 세션", SessionType.ONLINE, SessionLocation.ZOOM);
+		var cursor = new SessionCursor(Instant.parse("2024-03-01T10:00:00Z"), 50L);
+		var sessions = PageResult.ofCursor(List.of(session), 20, true, "next-token", null);
+
+		when(sessionQueryRepository.findAllWithFilters(any(), any(), any(), any(), any(SessionCursor.class),
+			anyInt(), anyBoolean()))
+			.thenReturn(sessions);
+
+		var request = new SessionListRetrieval.SessionListRequest(0, 20, null, null, null, null, null);
+
+		// when
+		PageResult<SessionListRetrieval.SessionListResponse> result = sessionListService.getSessionList(
+			request, new SessionListRetrieval.CursorRequest(cursor.encode(), false));
+
+		// then
+		assertThat(result.content()).hasSize(1);
+		assertThat(result.nextCursor()).isEqualTo("next-token");
+		assertThat(result.hasNext()).isTrue();
+		assertThat(result.isCounted()).isFalse();
+
+		verify(sessionQueryRepository).findAllWithFilters(
+			eq(null), eq(null), eq(null), eq(null), eq(cursor), eq(20), eq(false)
+		);
+	}
+
+	@Test
+	@DisplayName("커서 기반 사용자별 세션 목록 조회 - 첫 페이지는 커서 없이 조회한다")
+	void getUserSessionList_WithoutCursor() {
+		// given
+		Long memberId = 300L;
+		when(sessionQueryRepository.findByMemberIdWithFilters(any(), any(), any(), any(), any(), any(),
+			anyInt(), anyBoolean()))
+			.thenReturn(PageResult.ofCursor(List.of(), 10, false, null, 0L));
+
+		var request = new SessionListRetrieval.UserSessionListRequest(0, 10, null, null, null, null, null);
+
+		// when
+		PageResult<SessionListRetrieval.SessionListResponse> result = sessionListService.getUserSessionList(
+			memberId, request, new SessionListRetrieval.CursorRequest(null, true));
+
+		// then
+		assertThat(result.content()).isEmpty();
+		assertThat(result.nextCursor()).isNull();
+		assertThat(result.totalElements()).isZero();
+
+		verify(sessionQueryRepository).findByMemberIdWithFilters(
+			eq(memberId), eq(null), eq(null), eq(null), eq(null), isNull(), eq(10), eq(true)
+		);
+	}
+
+	@Test
+	@DisplayName("커서 기반 세션 목록 조회 - 해석할 수 없는 커서는 거부한다")
+	void getSessionList_InvalidCursor() {
+		var request = new SessionListRetrieval.SessionListRequest(0, 20, null, null, null, null, null);
+
+		assertThatThrownBy(() -> sessionListService.getSessionList(
+			request, new SessionListRetrieval.CursorRequest("not-a-cursor", false)))
+			.isInstanceOf(IllegalArgumentException.class);
+
+		verifyNoInteractions(sessionQueryRepository);
+	}
+
 	@Test
 	@DisplayName("세션 캘린더 조회 - 성공")
 	void getSessionCalendar_Success() {
@@ -283,7 +377,7 @@ class SessionListServiceTest {
 		LocalDate sessionDate = LocalDate.of(2024, 1, 15);
 		Instant sessionDateTime = sessionDate.atStartOfDay().toInstant(ZoneOffset.UTC);
 
-		var session = createMockSessionWithTime(1L, "캘린더 세션",
+		var session = createCalendarItem(1L, "캘린더 세션",
 			sessionDateTime, sessionDateTime.plusSeconds(3600));
 
 		when(sessionQueryRepository.findByYearMonth(any(), any(), any(), any(), any()))
@@ -337,42 +431,78 @@ class SessionListServiceTest {
 		);
 	}
 
-	private Session createMockSession(Long id, String title, SessionType type, SessionLocation location) {
-		return createMockSessionWithTime(id, title, Instant.now().plusSeconds(3600), Instant.now().plusSeconds(7200));
+	@Test
+	@DisplayName("세션 캘린더 뷰 조회 - 같은 달 재조회는 캐시에서 같은 ETag 로 반환한다")
+	void getSessionCalendarView_Cached() {
+		// given
+		YearMonth yearMonth = YearMonth.of(2024, 4);
+		Instant scheduledAt = Instant.parse("2024-04-10T01:00:00Z");
+		var session = createCalendarItem(1L, "캘린더 세션", scheduledAt, scheduledAt.plusSeconds(3600));
+
+		when(sessionQueryRepository.findByYearMonth(any(), any(), any(), any(), any()))
+			.thenReturn(List.of(session));
+		when(sessionQueryRepository.findCalendarVersion(yearMonth, null, null, 100L, null))
+			.thenReturn(new SessionCalendarVersion(1L, scheduledAt.minusSeconds(86400)));
+
+		var request = new SessionListRetrieval.SessionCalendarRequest(null, null, 100L, null);
+
+		// when
+		var first = sessionListService.getSessionCalendarView(yearMonth, request);
+		var second = sessionListService.getSessionCalendarView(yearMonth, request);
+
+		// then
+		assertThat(first.days()).containsOnlyKeys(LocalDate.of(2024, 4, 10));
+		assertThat(first.etag()).startsWith("\"").endsWith("\"");
+		assertThat(second.etag()).isEqualTo(first.etag());
+		assertThat(second.matches(first.etag())).isTrue();
+		verify(sessionQueryRepository, times(1)).findByYearMonth(any(), any(), any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("세션 캘린더 뷰 조회 - 다른 인스턴스에서 세션이 바뀌어 버전이 달라지면 다시 읽는다")
+	void getSessionCalendarView_VersionChanged() {
+		// given
+		YearMonth yearMonth = YearMonth.of(2024, 4);
+		Instant scheduledAt = Instant.parse("2024-04-10T01:00:00Z");
+		var before = createCalendarItem(1L, "캘린더 세션", scheduledAt, scheduledAt.plusSeconds(3600));
+		var after = createCalendarItem(1L, "이름이 바뀐 세션", scheduledAt, scheduledAt.plusSeconds(3600));
+
+		when(sessionQueryRepository.findByYearMonth(any(), any(), any(), any(), any()))
+			.thenReturn(List.of(before))
+			.thenReturn(List.of(after));
+		when(sessionQueryRepository.findCalendarVersion(yearMonth, null, null, 100L, null))
+			.thenReturn(new SessionCalendarVersion(1L, scheduledAt.minusSeconds(86400)))
+			.thenReturn(new SessionCalendarVersion(1L, scheduledAt.minusSeconds(3600)));
+
+		var request = new SessionListRetrieval.SessionCalendarRequest(null, null, 100L, null);
+
+		// when
+		var first = sessionListService.getSessionCalendarView(yearMonth, request);
+		var second = sessionListService.getSessionCalendarView(yearMonth, request);
+
+		// then
+		assertThat(second.etag()).isNotEqualTo(first.etag());
+		assertThat(second.days().get(LocalDate.of(2024, 4, 10)).get(0).title()).isEqualTo("이름이 바뀐 세션");
+		verify(sessionQueryRepository, times(2)).findByYearMonth(any(), any(), any(), any(), any());
+	}
+
+	private SessionSummary createSummary(Long id, String title, SessionType type, SessionLocation location) {
+		return createSummaryWithTime(id, title, Instant.now().plusSeconds(3600), Instant.now().plusSeconds(7200));
+	}
+
+	private SessionSummary createSummaryWithTime(Long id, String title, Instant scheduledAt, Instant scheduledEndAt) {
+		return new SessionSummary(id, title, scheduledAt, scheduledEndAt, SessionType.ONLINE, SessionLocation.ZOOM,
+			null, 100L, 200L, null, 0L, 0L);
 	}
 
-	private Session createMockSessionWithTime(Long id, String title, Instant scheduledAt, Instant scheduledEndAt) {
-		Session session = mock(Session.class, withSettings().lenient());
-		when(session.getId()).thenReturn(id);
-		when(session.getTitle()).thenReturn(title);
-		when(session.getScheduledAt()).thenReturn(scheduledAt);
-		when(session.getScheduledEndAt()).thenReturn(scheduledEndAt);
-		when(session.getType()).thenReturn(SessionType.ONLINE);
-		when(session.getLocation()).thenReturn(SessionLocation.ZOOM);
-		when(session.getLocationDetails()).thenReturn(null);
-		when(session.getCourseId()).thenReturn(100L);
-		when(session.getCurriculumId()).thenReturn(200L);
-		when(session.getParent()).thenReturn(null);
-		when(session.getChildren()).thenReturn(List.of());
-		when(session.getParticipants()).thenReturn(List.of());
-		return session;
+	private SessionSummary createSummaryWithCustomValues(Long id, String title, SessionType type,
+		SessionLocation location, Long courseId, Long curriculumId) {
+		return new SessionSummary(id, title, Instant.now().plusSeconds(3600), Instant.now().plusSeconds(7200),
+			type, location, null, courseId, curriculumId, null, 0L, 0L);
 	}
 
-	private Session createMockSessionWithCustomValues(Long id, String title, SessionType type, SessionLocation location,
-		Long courseId, Long curriculumId) {
-		Session session = mock(Session.class, withSettings().lenient());
-		when(session.getId()).thenReturn(id);
-		when(session.getTitle()).thenReturn(title);
-		when(session.getScheduledAt()).thenReturn(Instant.now().plusSeconds(3600));
-		when(session.getScheduledEndAt()).thenReturn(Instant.now().plusSeconds(7200));
-		when(session.getType()).thenReturn(type);
-		when(session.getLocation()).thenReturn(location);
-		when(session.getLocationDetails()).thenReturn(null);
-		when(session.getCourseId()).thenReturn(courseId);
-		when(session.getCurriculumId()).thenReturn(curriculumId);
-		when(session.getParent()).thenReturn(null);
-		when(session.getChildren()).thenReturn(List.of());
-		when(session.getParticipants()).thenReturn(List.of());
-		return session;
+	private SessionCalendarItem createCalendarItem(Long id, String title, Instant scheduledAt, Instant scheduledEndAt) {
+		return new SessionCalendarItem(id, title, scheduledAt, scheduledEndAt, SessionType.ONLINE,
+			SessionLocation.ZOOM, null, 100L, 200L);
 	}
 }
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import me.chan99k.learningmanager.authorization.SystemAuthorizationPort;
 import me.chan99k.learningmanager.course.Course;
@@ -45,6 +46,9 @@ class SessionUpdateServiceTest {
 	@Mock
 	private SystemAuthorizationPort systemAuthorizationPort;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@Mock
 	private Session session;
 
@@ -70,8 +74,11 @@ class SessionUpdateServiceTest {
 		);
 
 		// given
+		Instant previousScheduledAt = scheduledAt.minusSeconds(86400);
 		when(sessionQueryRepository.findById(sessionId)).thenReturn(Optional.of(session));
+		when(session.getId()).thenReturn(sessionId);
 		when(session.getCourseId()).thenReturn(courseId);
+		when(session.getScheduledAt()).thenReturn(previousScheduledAt, scheduledAt);
 		when(courseQueryRepository.findManagedCourseById(courseId, managerId)).thenReturn(Optional.of(course));
 
 		// when
@@ -82,6 +89,8 @@ class SessionUpdateServiceTest {
 		verify(session).changeInfo("Updated Session Title", SessionType.ONLINE, clock);
 		verify(session).changeLocation(SessionLocation.ZOOM, null, clock);
 		verify(sessionCommandRepository).save(session);
+		verify(eventPublisher).publishEvent(new SessionChangeEvent.Updated(
+			sessionId, courseId, null, previousScheduledAt, scheduledAt));
 	}
 
 	@Test
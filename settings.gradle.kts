@@ -25,3 +25,7 @@ include(
     ":support:logging",
     ":support:monitoring"
 )
+
+include(
+    ":benchmarks"
+)